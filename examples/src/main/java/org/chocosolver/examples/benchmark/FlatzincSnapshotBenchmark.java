@@ -0,0 +1,108 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.benchmark;
+
+import org.chocosolver.parser.Level;
+import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.Snapshot;
+import org.chocosolver.solver.Model;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the time to build a model from a FlatZinc file and from its binary {@link Snapshot}.
+ * <br/>
+ * A random FlatZinc file is generated in a temporary directory, made of linear inequalities and tables.
+ * It is parsed once to save the snapshot, then the best time of several parsings and loadings is reported,
+ * together with the size of both files.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class FlatzincSnapshotBenchmark {
+
+    private static final int VARS = 20_000;
+    private static final int LINEARS = 50_000;
+    private static final int TABLES = 500;
+    private static final int TUPLES = 1_000;
+    private static final int RUNS = 5;
+
+    private static void fzn(Path path) throws IOException {
+        Random rnd = new Random(0);
+        try (Writer w = new BufferedWriter(new FileWriter(path.toFile()))) {
+            for (int i = 1; i <= VARS; i++) {
+                w.write("var 0..9: x" + i + " :: output_var;\n");
+            }
+            for (int c = 0; c < LINEARS; c++) {
+                w.write(String.format("constraint int_lin_le([%d,%d,%d],[x%d,x%d,x%d],%d);\n",
+                        1 + rnd.nextInt(5), -1 - rnd.nextInt(5), 1 + rnd.nextInt(5),
+                        1 + rnd.nextInt(VARS), 1 + rnd.nextInt(VARS), 1 + rnd.nextInt(VARS), 10 + rnd.nextInt(20)));
+            }
+            for (int c = 0; c < TABLES; c++) {
+                w.write(String.format("constraint tableChoco([x%d,x%d,x%d],[", 1 + rnd.nextInt(VARS),
+                        1 + rnd.nextInt(VARS), 1 + rnd.nextInt(VARS)));
+                for (int t = 0; t < TUPLES * 3; t++) {
+                    w.write((t > 0 ? "," : "") + rnd.nextInt(10));
+                }
+                w.write("]);\n");
+            }
+            w.write("solve satisfy;\n");
+        }
+    }
+
+    private interface Building {
+        void run(Model model, Datas datas, InputStream is) throws IOException;
+    }
+
+    private static double time(Path path, Building building) throws IOException {
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < RUNS; r++) {
+            Model model = new Model();
+            Datas datas = new Datas(model, Level.SILENT, false);
+            long start = System.nanoTime();
+            try (InputStream is = new FileInputStream(path.toFile())) {
+                building.run(model, datas, is);
+            }
+            best = Math.min(best, (System.nanoTime() - start) / 1e9);
+        }
+        return best;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("choco-fzn");
+        Path fzn = dir.resolve("random.fzn");
+        Path snp = dir.resolve("random" + Snapshot.EXTENSION);
+        fzn(fzn);
+        Flatzinc parser = new Flatzinc();
+        Model model = new Model();
+        Datas datas = new Datas(model, Level.SILENT, false);
+        try (InputStream is = new FileInputStream(fzn.toFile());
+             Snapshot snapshot = new Snapshot(new FileOutputStream(snp.toFile()))) {
+            datas.setSnapshot(snapshot);
+            parser.parse(model, datas, is);
+        }
+        out.printf("variables: %d, constraints: %d%n", model.getNbVars(), model.getNbCstrs());
+        out.println("file;size (MB);time (s)");
+        out.printf("%s;%.1f;%.3f%n", fzn.getFileName(), Files.size(fzn) / 1e6,
+                time(fzn, parser::parse));
+        out.printf("%s;%.1f;%.3f%n", snp.getFileName(), Files.size(snp) / 1e6,
+                time(snp, Snapshot::load));
+        Files.delete(fzn);
+        Files.delete(snp);
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.benchmark;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.move.MoveBinaryHBFS;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the two ways HBFS reaches an open right branch again, on Golomb rulers:
+ * <ul>
+ *     <li>by replaying the decisions that lead to it (with {@link EnvironmentBuilder#fromFlat()}),</li>
+ *     <li>by restoring a checkpoint when it is expected to be cheaper (with {@link EnvironmentBuilder#fromUnified()}).</li>
+ * </ul>
+ * The best value, the number of nodes, the time and the costs measured by {@link MoveBinaryHBFS} are reported.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class HBFSCheckpointBenchmark {
+
+    private static final int[] SIZES = {8, 9, 10};
+    private static final String TIME_LIMIT = "60s";
+
+    private static Model golomb(EnvironmentBuilder builder, int m) {
+        Model model = new Model(builder.build(), "Golomb " + m);
+        int ub = (m < 31) ? (1 << (m + 1)) - 1 : 9999;
+        IntVar[] ticks = model.intVarArray("a", m, 0, ub, false);
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, ub, false);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+                model.arithm(diffs[k], "-", ticks[m - 1], "<=", -((m - 1 - j + i) * (m - j + i)) / 2).post();
+                model.arithm(diffs[k], "<=", ticks[m - 1], "-", ((m - 1 - j + i) * (m - j + i)) / 2).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(ticks));
+        solver.setHBFS(.05, .1, 32);
+        solver.limitTime(TIME_LIMIT);
+        return model;
+    }
+
+    private static void run(String name, EnvironmentBuilder builder, int m) {
+        Model model = golomb(builder, m);
+        Solver solver = model.getSolver();
+        int best = -1;
+        while (solver.solve()) {
+            best = ((IntVar) model.getObjective()).getValue();
+        }
+        MoveBinaryHBFS move = (MoveBinaryHBFS) solver.getMove();
+        out.printf("%d;%s;%d;%s;%d;%.3f;%d;%.3f;%d;%.3f%n", m, name, best, solver.getSearchState(),
+                solver.getNodeCount(), solver.getTimeCount(),
+                move.getRecomputedDecisions(), move.getRecomputationTime() / 1e9,
+                move.getRestoredCheckpoints(), move.getRestorationTime() / 1e9);
+    }
+
+    public static void main(String[] args) {
+        out.println("m;env;best;state;nodes;time (s);replayed decisions;replay (s);restored checkpoints;checkpoints (s)");
+        for (int m : SIZES) {
+            run("flat", new EnvironmentBuilder().fromFlat(), m);
+            run("unified", new EnvironmentBuilder().fromUnified(), m);
+        }
+    }
+}
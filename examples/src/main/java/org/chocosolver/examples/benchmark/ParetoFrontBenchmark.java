@@ -0,0 +1,99 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.benchmark;
+
+import org.chocosolver.solver.objective.IParetoFront;
+import org.chocosolver.solver.objective.ListParetoFront;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the linear scan of a {@link ListParetoFront} with the indexed front
+ * returned by {@link IParetoFront#make(int)} (skyline for 2 objectives, ND-tree otherwise),
+ * as used by {@link org.chocosolver.solver.objective.ParetoMaximizer}.
+ * <br/>
+ * Points are drawn on the hyperplane <i>sum(x) = C</i>, so they are mutually non-dominated and the front grows
+ * to the number of points inserted.
+ * Then, random dominated points (as found by the search) and tightest point queries (as done by the propagator)
+ * are run on the front.
+ * The time to build the front and to run the queries is reported.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParetoFrontBenchmark {
+
+    private static final int C = 1_000_000;
+
+    private static int[] onHyperplane(Random rnd, int n, int sum) {
+        int[] cuts = new int[n + 1];
+        for (int j = 1; j < n; j++) {
+            cuts[j] = rnd.nextInt(sum + 1);
+        }
+        cuts[n] = sum;
+        Arrays.sort(cuts);
+        int[] point = new int[n];
+        for (int j = 0; j < n; j++) {
+            point[j] = cuts[j + 1] - cuts[j];
+        }
+        return point;
+    }
+
+    private static void run(String name, Supplier<IParetoFront<Integer>> factory, int n, int size, int queries) {
+        IParetoFront<Integer> front = factory.get();
+        Random rnd = new Random(0);
+        long start = System.nanoTime();
+        for (int k = 0; k < size; k++) {
+            front.add(onHyperplane(rnd, n, C), k, t -> {
+            });
+        }
+        long build = System.nanoTime() - start;
+        int[] dp = new int[n];
+        long checksum = 0;
+        start = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            int[] point = onHyperplane(rnd, n, C - n - rnd.nextInt(C / 100));
+            if (front.dominates(point)) {
+                checksum++;
+            }
+            // the domains of the objectives: dp = (ub_1, ..., lb_i, ..., ub_m)
+            System.arraycopy(point, 0, dp, 0, n);
+            for (int i = 0; i < n; i++) {
+                int lb = dp[i];
+                dp[i] = lb / 2;
+                checksum += front.tightestPoint(dp, i);
+                dp[i] = lb;
+            }
+        }
+        long query = System.nanoTime() - start;
+        out.printf("%d;%d;%s;%d;%.3f;%.3f;%d%n", n, size, name, front.size(),
+                build / 1e9, query / 1e9, checksum);
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ?
+                Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray() :
+                new int[]{1_000, 10_000, 40_000};
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        out.println("objectives;points;front;size;build (s);queries (s);checksum");
+        for (int n = 2; n <= 4; n++) {
+            for (int size : sizes) {
+                int m = n;
+                run("scan", ListParetoFront::new, n, size, queries);
+                run("index", () -> IParetoFront.make(m), n, size, queries);
+            }
+        }
+    }
+}
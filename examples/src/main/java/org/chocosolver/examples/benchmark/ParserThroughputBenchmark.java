@@ -0,0 +1,170 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.benchmark;
+
+import org.chocosolver.parser.Tokenizer;
+import org.chocosolver.parser.dimacs.DIMACSParser;
+import org.chocosolver.parser.mps.MPSParser;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static java.lang.System.out;
+
+/**
+ * Measures the reading throughput, in MB/s, of DIMACS CNF and MPS files.
+ * <br/>
+ * Random instances are generated in a temporary directory, plain and gzipped.
+ * For each file, three readings are timed:
+ * <ol>
+ *     <li>a line-based reading, splitting each line into Strings, as the parsers used to do,</li>
+ *     <li>a reading with {@link Tokenizer}, parsing each number without creating Strings,</li>
+ *     <li>the reading by the parser, including the creation of the model (clauses go to the SAT solver).</li>
+ * </ol>
+ * The throughput is given relatively to the size of the uncompressed file.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParserThroughputBenchmark {
+
+    private static final int VARS = 100_000;
+    private static final int CLAUSES = 1_000_000;
+    private static final int COLUMNS = 20_000;
+    private static final int ROWS = 2_000;
+    private static final int RUNS = 3;
+
+    private static void cnf(Path path) throws IOException {
+        Random rnd = new Random(0);
+        try (Writer w = new BufferedWriter(new FileWriter(path.toFile()))) {
+            w.write("c random 3-SAT\np cnf " + VARS + " " + CLAUSES + "\n");
+            for (int c = 0; c < CLAUSES; c++) {
+                for (int k = 0; k < 3; k++) {
+                    int v = 1 + rnd.nextInt(VARS);
+                    w.write(Integer.toString(rnd.nextBoolean() ? v : -v));
+                    w.write(' ');
+                }
+                w.write("0\n");
+            }
+        }
+    }
+
+    private static void mps(Path path) throws IOException {
+        Random rnd = new Random(0);
+        try (Writer w = new BufferedWriter(new FileWriter(path.toFile()))) {
+            w.write("NAME          RANDOM\nROWS\n N  COST\n");
+            for (int r = 0; r < ROWS; r++) {
+                w.write(" L  R" + r + "\n");
+            }
+            w.write("COLUMNS\n    MARKER                 'MARKER'                 'INTORG'\n");
+            for (int c = 0; c < COLUMNS; c++) {
+                w.write(String.format("    X%-8d  COST      %d\n", c, 1 + rnd.nextInt(20)));
+                for (int k = 0; k < 4; k++) {
+                    w.write(String.format("    X%-8d  R%-8d  %d\n", c, rnd.nextInt(ROWS), 1 + rnd.nextInt(9)));
+                }
+            }
+            w.write("    MARKER                 'MARKER'                 'INTEND'\nRHS\n");
+            for (int r = 0; r < ROWS; r++) {
+                w.write(String.format("    RHS       R%-8d  %d\n", r, 10 + rnd.nextInt(50)));
+            }
+            w.write("BOUNDS\n");
+            for (int c = 0; c < COLUMNS; c++) {
+                w.write(String.format(" UP BND       X%-8d  %d\n", c, 1 + rnd.nextInt(3)));
+            }
+            w.write("ENDATA\n");
+        }
+    }
+
+    private static Path gzip(Path path) throws IOException {
+        Path gz = Paths.get(path + ".gz");
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            Files.copy(path, os);
+        }
+        return gz;
+    }
+
+    private static long split(Path path) throws IOException {
+        long sum = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(path.toFile()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] values = Arrays.stream(line.split("\\s+")).filter(v -> v.length() > 0).toArray(String[]::new);
+                for (String v : values) {
+                    if (v.matches("-?\\d+")) {
+                        sum += Integer.parseInt(v);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static long tokenize(Path path) throws IOException {
+        long sum = 0;
+        try (Tokenizer tk = new Tokenizer(path.toString())) {
+            while (tk.nextLine()) {
+                while (tk.next()) {
+                    if (tk.isInteger()) {
+                        sum += tk.intValue();
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private interface Reading {
+        void run() throws Exception;
+    }
+
+    private static void time(String name, Path path, long bytes, Reading reading) throws Exception {
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < RUNS; r++) {
+            long start = System.nanoTime();
+            reading.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1e9);
+        }
+        out.printf("%s;%s;%.1f;%.3f;%.1f%n", path.getFileName(), name, bytes / 1e6, best, bytes / 1e6 / best);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("choco-parsers");
+        Path cnf = dir.resolve("random.cnf");
+        Path mps = dir.resolve("random.mps");
+        cnf(cnf);
+        mps(mps);
+        out.println("file;reading;size (MB);time (s);throughput (MB/s)");
+        for (Path path : new Path[]{cnf, mps}) {
+            long bytes = Files.size(path);
+            for (Path file : new Path[]{path, gzip(path)}) {
+                if (file == path) {
+                    time("split", file, bytes, () -> split(file));
+                }
+                time("tokenizer", file, bytes, () -> tokenize(file));
+                if (path == cnf) {
+                    time("DIMACSParser", file, bytes, () -> new DIMACSParser().model(new Model(Settings.prod().setEnableSAT(true)), file.toString()));
+                } else {
+                    time("MPSParser", file, bytes, () -> new MPSParser().model(new Model(), file.toString(),
+                            false, -999, 999, false, false));
+                }
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.benchmark;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the chunked, the flat and the unified trails (see {@link EnvironmentBuilder#fromUnified()}).
+ * <br/>
+ * Two workloads are timed for each trail:
+ * <ol>
+ *     <li>random modifications of stored ints, longs and booleans interleaved with pushes and pops of worlds,</li>
+ *     <li>the enumeration of all the solutions of the n-queens problem.</li>
+ * </ol>
+ * The best time of several runs is reported.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TrailBenchmark {
+
+    private static final int OBJECTS = 10_000;
+    private static final int DEPTH = 50;
+    private static final int DIVES = 20_000;
+    private static final int QUEENS = 11;
+    private static final int RUNS = 5;
+
+    private static long updates(IEnvironment env) {
+        Random rnd = new Random(0);
+        IStateInt[] ints = new IStateInt[OBJECTS];
+        IStateLong[] longs = new IStateLong[OBJECTS];
+        IStateBool[] bools = new IStateBool[OBJECTS];
+        for (int i = 0; i < OBJECTS; i++) {
+            ints[i] = env.makeInt(0);
+            longs[i] = env.makeLong(0L);
+            bools[i] = env.makeBool(false);
+        }
+        long sum = 0;
+        for (int d = 0; d < DIVES; d++) {
+            int depth = 1 + rnd.nextInt(DEPTH);
+            for (int w = 0; w < depth; w++) {
+                env.worldPush();
+                for (int k = 0; k < 8; k++) {
+                    int i = rnd.nextInt(OBJECTS);
+                    ints[i].add(1);
+                    longs[i].set(longs[i].get() + w);
+                    bools[i].set(!bools[i].get());
+                }
+            }
+            sum += ints[d % OBJECTS].get();
+            env.worldPopUntil(0);
+        }
+        return sum;
+    }
+
+    private static long queens(IEnvironment env) {
+        Model model = new Model(env, "queens", Settings.init());
+        IntVar[] vars = model.intVarArray("Q", QUEENS, 1, QUEENS, false);
+        for (int i = 0; i < QUEENS - 1; i++) {
+            for (int j = i + 1; j < QUEENS; j++) {
+                int k = j - i;
+                vars[i].ne(vars[j]).post();
+                vars[i].ne(vars[j].add(k)).post();
+                vars[i].ne(vars[j].sub(k)).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(vars));
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+
+    private interface Workload {
+        long run(IEnvironment env);
+    }
+
+    private static void time(String name, Supplier<EnvironmentBuilder> builder, Workload workload) {
+        double best = Double.MAX_VALUE;
+        long res = 0;
+        for (int r = 0; r < RUNS; r++) {
+            IEnvironment env = builder.get().build();
+            long start = System.nanoTime();
+            res = workload.run(env);
+            best = Math.min(best, (System.nanoTime() - start) / 1e9);
+        }
+        out.printf("%s;%d;%.3f%n", name, res, best);
+    }
+
+    public static void main(String[] args) {
+        out.println("trail;result;time (s)");
+        Workload[] workloads = {TrailBenchmark::updates, TrailBenchmark::queens};
+        for (Workload workload : workloads) {
+            time("chunk", () -> new EnvironmentBuilder().fromChunk(), workload);
+            time("flat", () -> new EnvironmentBuilder().fromFlat(), workload);
+            time("unified", () -> new EnvironmentBuilder().fromUnified(), workload);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.integer;
+
+import org.chocosolver.parser.xcsp.XCSPParser;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
+import org.chocosolver.solver.constraints.extension.hybrid.ISupportable;
+import org.chocosolver.solver.constraints.extension.hybrid.PropHybridTable;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static java.lang.System.out;
+import static org.chocosolver.solver.constraints.extension.hybrid.HybridTuples.*;
+
+/**
+ * Measures the time spent filtering table constraints on extension-heavy models.
+ * <br/>
+ * Three kinds of models are run:
+ * <ol>
+ *     <li>random overlapping tables, as found in product configuration models,
+ *     solved with Compact-Table ("CT+") and with STR2 ("STR2+"),</li>
+ *     <li>the same scopes with basic smart tuples (<code>any()</code>, <code>ne(v)</code>, <code>le(v)</code>, ...),
+ *     solved with Compact-Table for smart tables and with the STR2 adaptation to hybrid tuples,</li>
+ *     <li>the XCSP3 instances given as arguments, if any.</li>
+ * </ol>
+ * Each model is solved, looking for all solutions, within a time limit,
+ * and the number of nodes and the resolution time are reported.
+ * Generated models are solved with a static search, so that both algorithms explore the same tree.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class CompactTableBenchmark {
+
+    private static final int N = 40;
+    private static final int D = 12;
+    private static final int ARITY = 4;
+    private static final String LIMIT = "20s";
+
+    private static int[][] scopes(Random rnd, int m) {
+        int[][] scopes = new int[m][ARITY];
+        for (int c = 0; c < m; c++) {
+            for (int j = 0; j < ARITY; j++) {
+                // consecutive variables overlap, like options of a same component
+                scopes[c][j] = (c + j * (1 + rnd.nextInt(3))) % N;
+            }
+        }
+        return scopes;
+    }
+
+    private static IntVar[] scope(IntVar[] vars, int[] scope) {
+        IntVar[] s = new IntVar[scope.length];
+        for (int j = 0; j < scope.length; j++) {
+            s[j] = vars[scope[j]];
+        }
+        return s;
+    }
+
+    private static void run(String name, Consumer<Model> builder) {
+        Model model = new Model(name);
+        builder.accept(model);
+        Solver solver = model.getSolver();
+        solver.limitTime(LIMIT);
+        long start = System.nanoTime();
+        while (solver.solve()) ;
+        long time = System.nanoTime() - start;
+        out.printf("%s;%d;%d;%.3f%n", name, solver.getSolutionCount(), solver.getNodeCount(), time / 1e9);
+    }
+
+    private static void table(Model model, Random rnd, int m, int nbTuples, String algo) {
+        IntVar[] vars = model.intVarArray("x", N, 0, D - 1);
+        for (int[] scope : scopes(rnd, m)) {
+            Tuples tuples = new Tuples(true);
+            for (int t = 0; t < nbTuples; t++) {
+                int[] tuple = new int[ARITY];
+                for (int j = 0; j < ARITY; j++) {
+                    tuple[j] = rnd.nextInt(D);
+                }
+                tuples.add(tuple);
+            }
+            model.table(scope(vars, scope), tuples, algo).post();
+        }
+        // the same search tree for all the algorithms
+        model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+    }
+
+    private static void smartTable(Model model, Random rnd, int m, int nbTuples, boolean str) {
+        IntVar[] vars = model.intVarArray("x", N, 0, D - 1);
+        for (int[] scope : scopes(rnd, m)) {
+            HybridTuples tuples = new HybridTuples();
+            for (int t = 0; t < nbTuples; t++) {
+                ISupportable[] tuple = new ISupportable[ARITY];
+                for (int j = 0; j < ARITY; j++) {
+                    int v = rnd.nextInt(D);
+                    switch (rnd.nextInt(4)) {
+                        case 0:
+                            tuple[j] = any();
+                            break;
+                        case 1:
+                            tuple[j] = ne(v);
+                            break;
+                        case 2:
+                            tuple[j] = le(v);
+                            break;
+                        default:
+                            tuple[j] = eq(v);
+                            break;
+                    }
+                }
+                tuples.add(tuple);
+            }
+            IntVar[] s = scope(vars, scope);
+            if (str) {
+                new Constraint(ConstraintsName.TABLE, new PropHybridTable(s, tuples)).post();
+            } else {
+                model.table(s, tuples).post();
+            }
+        }
+        model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+    }
+
+    public static void main(String[] args) throws Exception {
+        out.println("model;solutions;nodes;time (s)");
+        for (int nbTuples : new int[]{1_000, 5_000}) {
+            for (String algo : new String[]{"CT+", "STR2+"}) {
+                run("table-" + nbTuples + "-" + algo, m -> table(m, new Random(0), N, nbTuples, algo));
+            }
+        }
+        for (int nbTuples : new int[]{50, 200}) {
+            run("smart-" + nbTuples + "-CT", m -> smartTable(m, new Random(0), N, nbTuples, false));
+            run("smart-" + nbTuples + "-STR2", m -> smartTable(m, new Random(0), N, nbTuples, true));
+        }
+        for (String instance : args) {
+            run(instance, m -> {
+                try {
+                    new XCSPParser().model(m, instance);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.integer;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.util.Random;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the filtering algorithms of the cumulative constraint when the time horizon grows.
+ * <br/>
+ * The same random instance, with precedences between tasks, is scaled by a time unit factor
+ * (1, 60 and 1440, like days expressed in days, hours and minutes), so that the search trees are comparable.
+ * The makespan is minimized within a time limit, and the best makespan, the number of nodes and
+ * the resolution time are reported for each filter.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class CumulativeHorizonBenchmark {
+
+    private static final int N = 60;
+    private static final String LIMIT = "20s";
+
+    private static void run(int unit, Cumulative.Filter... filters) {
+        Random rnd = new Random(0);
+        Model model = new Model();
+        int horizon = 0;
+        int[] durations = new int[N];
+        for (int i = 0; i < N; i++) {
+            durations[i] = (1 + rnd.nextInt(10)) * unit;
+            horizon += durations[i];
+        }
+        IntVar[] starts = model.intVarArray("s", N, 0, horizon, true);
+        Task[] tasks = new Task[N];
+        IntVar[] heights = new IntVar[N];
+        IntVar[] ends = new IntVar[N];
+        for (int i = 0; i < N; i++) {
+            tasks[i] = new Task(starts[i], durations[i]);
+            heights[i] = model.intVar(1 + rnd.nextInt(4));
+            ends[i] = tasks[i].getEnd();
+            if (i > 0 && rnd.nextInt(3) == 0) {
+                model.arithm(ends[rnd.nextInt(i)], "<=", starts[i]).post();
+            }
+        }
+        model.cumulative(tasks, heights, model.intVar(6), false, filters).post();
+        IntVar makespan = model.intVar("makespan", 0, horizon, true);
+        model.max(makespan, ends).post();
+        model.setObjective(Model.MINIMIZE, makespan);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.lastConflict(Search.minDomLBSearch(starts)));
+        solver.limitTime(LIMIT);
+        long start = System.nanoTime();
+        int best = -1;
+        while (solver.solve()) {
+            best = makespan.getValue() / unit;
+        }
+        long time = System.nanoTime() - start;
+        StringBuilder name = new StringBuilder();
+        for (Cumulative.Filter f : filters) {
+            name.append(f).append('+');
+        }
+        name.setLength(name.length() - 1);
+        out.printf("%s;%d;%d;%d;%.3f%n", name, unit, best, solver.getNodeCount(), time / 1e9);
+    }
+
+    public static void main(String[] args) {
+        out.println("filters;time unit;best makespan (in days);nodes;time (s)");
+        for (int unit : new int[]{1, 60, 1440}) {
+            run(unit, Cumulative.Filter.TIME, Cumulative.Filter.NRJ);
+            run(unit, Cumulative.Filter.SWEEP, Cumulative.Filter.NRJ);
+            run(unit, Cumulative.Filter.DEFAULT);
+            run(unit, Cumulative.Filter.PROFILE, Cumulative.Filter.NRJ);
+            run(unit, Cumulative.Filter.TTEF, Cumulative.Filter.NRJ);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.integer;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+import static java.lang.System.out;
+
+/**
+ * Places many rectangles in a warehouse divided into bays with a single diffN constraint.
+ * <br/>
+ * Each rectangle can only be placed in its own bay, so the number of pairs of rectangles that may overlap
+ * grows linearly with the number of rectangles.
+ * The time to post the constraint (which builds the overlap graph), the time to find a first placement
+ * and the number of failures are reported for warehouses of increasing size,
+ * with and without the forbidden-region sweep (see {@link Settings#setEnableSweepInDiffN(boolean)}).
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DiffNBenchmark {
+
+    private static final int PER_BAY = 4;
+    private static final int BAY = 12;
+
+    private static void run(int bays, boolean sweep) {
+        Random rnd = new Random(0);
+        int n = bays * bays * PER_BAY;
+        Model model = new Model(Settings.init().setEnableSweepInDiffN(sweep));
+        IntVar[] x = new IntVar[n];
+        IntVar[] y = new IntVar[n];
+        IntVar[] w = new IntVar[n];
+        IntVar[] h = new IntVar[n];
+        IntVar[] decisions = new IntVar[2 * n];
+        for (int bx = 0, i = 0; bx < bays; bx++) {
+            for (int by = 0; by < bays; by++) {
+                for (int k = 0; k < PER_BAY; k++, i++) {
+                    w[i] = model.intVar(3 + rnd.nextInt(4));
+                    h[i] = model.intVar(3 + rnd.nextInt(4));
+                    x[i] = model.intVar("x" + i, BAY * bx, BAY * (bx + 1) - w[i].getValue());
+                    y[i] = model.intVar("y" + i, BAY * by, BAY * (by + 1) - h[i].getValue());
+                    decisions[2 * i] = x[i];
+                    decisions[2 * i + 1] = y[i];
+                }
+            }
+        }
+        long start = System.nanoTime();
+        model.diffN(x, y, w, h, false).post();
+        long post = System.nanoTime() - start;
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(decisions));
+        solver.limitTime("60s");
+        start = System.nanoTime();
+        boolean found = solver.solve();
+        long solve = System.nanoTime() - start;
+        out.printf("%d;%b;%b;%.3f;%.3f;%d%n", n, sweep, found, post / 1e9, solve / 1e9, solver.getFailCount());
+    }
+
+    public static void main(String[] args) {
+        out.println("rectangles;sweep;solved;post (s);solve (s);fails");
+        for (int bays : new int[]{10, 25, 50}) {
+            run(bays, false);
+            run(bays, true);
+        }
+    }
+}
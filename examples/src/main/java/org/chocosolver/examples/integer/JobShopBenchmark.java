@@ -0,0 +1,123 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.integer;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the disjunctive constraint with a cumulative constraint of capacity 1 on random job-shop instances.
+ * <br/>
+ * Each job is a sequence of operations, one on each machine, in a random order.
+ * For each instance, the time spent in the initial propagation is reported, then the makespan is minimized
+ * within a time limit and the best makespan, the number of nodes and the resolution time are reported.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class JobShopBenchmark {
+
+    private static final String LIMIT = "30s";
+
+    private static Model model(int jobs, int machines, long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        int[][] durations = new int[jobs][machines];
+        int[][] order = new int[jobs][machines];
+        int horizon = 0;
+        for (int j = 0; j < jobs; j++) {
+            for (int k = 0; k < machines; k++) {
+                durations[j][k] = 1 + rnd.nextInt(99);
+                horizon += durations[j][k];
+                order[j][k] = k;
+            }
+            for (int k = machines - 1; k > 0; k--) {
+                int r = rnd.nextInt(k + 1);
+                int tmp = order[j][k];
+                order[j][k] = order[j][r];
+                order[j][r] = tmp;
+            }
+        }
+        Model model = new Model((disjunctive ? "disjunctive-" : "cumulative-") + jobs + "x" + machines);
+        Task[][] tasks = new Task[machines][jobs];
+        IntVar[] ends = new IntVar[jobs];
+        IntVar[] starts = new IntVar[jobs * machines];
+        for (int j = 0; j < jobs; j++) {
+            IntVar previous = null;
+            for (int k = 0; k < machines; k++) {
+                int mc = order[j][k];
+                IntVar s = model.intVar("s_" + j + "_" + k, 0, horizon, true);
+                Task t = new Task(s, durations[j][k]);
+                tasks[mc][j] = t;
+                starts[j * machines + k] = s;
+                if (previous != null) {
+                    model.arithm(previous, "<=", s).post();
+                }
+                previous = t.getEnd();
+            }
+            ends[j] = previous;
+        }
+        for (int mc = 0; mc < machines; mc++) {
+            if (disjunctive) {
+                model.disjunctive(tasks[mc]).post();
+            } else {
+                IntVar one = model.intVar(1);
+                IntVar[] heights = new IntVar[jobs];
+                Arrays.fill(heights, one);
+                model.cumulative(tasks[mc], heights, one).post();
+            }
+        }
+        IntVar makespan = model.intVar("makespan", 0, horizon, true);
+        model.max(makespan, ends).post();
+        model.setObjective(Model.MINIMIZE, makespan);
+        model.getSolver().setSearch(Search.lastConflict(Search.minDomLBSearch(starts)));
+        return model;
+    }
+
+    private static void run(int jobs, int machines, long seed, boolean disjunctive) {
+        Model model = model(jobs, machines, seed, disjunctive);
+        long start = System.nanoTime();
+        try {
+            model.getSolver().propagate();
+        } catch (ContradictionException e) {
+            throw new IllegalStateException(e);
+        }
+        long root = System.nanoTime() - start;
+        // a fresh model for the resolution
+        model = model(jobs, machines, seed, disjunctive);
+        Solver solver = model.getSolver();
+        solver.limitTime(LIMIT);
+        start = System.nanoTime();
+        int best = -1;
+        while (solver.solve()) {
+            best = ((IntVar) model.getObjective()).getValue();
+        }
+        long time = System.nanoTime() - start;
+        out.printf("%s;%.3f;%d;%d;%.3f%n", model.getName(), root / 1e6, best, solver.getNodeCount(), time / 1e9);
+    }
+
+    public static void main(String[] args) {
+        out.println("model;root propagation (ms);best makespan;nodes;time (s)");
+        for (int[] size : new int[][]{{10, 10}, {20, 15}, {100, 20}}) {
+            for (boolean disjunctive : new boolean[]{true, false}) {
+                run(size[0], size[1], 0, disjunctive);
+            }
+        }
+    }
+}
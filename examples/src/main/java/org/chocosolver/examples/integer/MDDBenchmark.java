@@ -0,0 +1,78 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.integer;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MDDBuilder;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the construction of an MDD by insertion then compaction with the streaming {@link MDDBuilder}
+ * on a large table.
+ * <br/>
+ * The table holds the tuples of <i>N</i> variables in [0, D) whose sum is a multiple of <i>M</i>.
+ * For each construction, the time, the number of cells of the diagram and the number of solutions
+ * found with the mddc constraint are reported.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class MDDBenchmark {
+
+    private static final int N = 5;
+    private static final int D = 24;
+    private static final int M = 7;
+
+    private static Tuples table() {
+        Tuples tuples = new Tuples();
+        int[] t = new int[N];
+        long card = (long) Math.pow(D, N);
+        for (long k = 0; k < card; k++) {
+            int sum = 0;
+            for (int i = N - 1; i >= 0; i--) {
+                sum += t[i];
+            }
+            if (sum % M == 0) {
+                tuples.add(t.clone());
+            }
+            for (int i = N - 1; i >= 0 && ++t[i] == D; i--) {
+                t[i] = 0;
+            }
+        }
+        return tuples;
+    }
+
+    private static void run(String name, Tuples tuples, boolean stream) {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", N, 0, D - 1, false);
+        long start = System.nanoTime();
+        MultivaluedDecisionDiagram mdd = stream ?
+                new MDDBuilder(vars).addTuples(tuples).build() :
+                new MultivaluedDecisionDiagram(vars, tuples, MultivaluedDecisionDiagram.Compact.ONCE, true);
+        long time = System.nanoTime() - start;
+        model.mddc(vars, mdd).post();
+        model.arithm(vars[0], "<", 2).post();
+        model.getSolver().findAllSolutions();
+        out.printf("%s;%d;%.3f;%d;%d%n", name, tuples.nbTuples(), time / 1e9, mdd.getDiagram().length,
+                model.getSolver().getSolutionCount());
+    }
+
+    public static void main(String[] args) {
+        Tuples tuples = table();
+        out.println("construction;tuples;time (s);cells;solutions");
+        run("insert and compact", tuples, false);
+        run("stream", tuples, true);
+    }
+}
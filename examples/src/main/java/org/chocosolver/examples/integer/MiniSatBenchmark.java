@@ -0,0 +1,108 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.integer;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.util.ESat;
+
+import java.io.FileNotFoundException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+import static java.lang.System.out;
+
+/**
+ * Times the propagation and search loop of {@link MiniSat}.
+ * <br/>
+ * Each instance is either a DIMACS file given as argument or, when none is given,
+ * a random 3-SAT formula close to the satisfiability threshold (4.26 clauses per variable).
+ * The best time of several runs is reported.
+ * <br/>
+ * The benchmark only relies on the public API of {@link MiniSat},
+ * so it can be run against the array-based state and against the previous one, where assignments,
+ * reasons and watch lists were stored in objects.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class MiniSatBenchmark {
+
+    private static final int[] VARIABLES = {125, 150, 175};
+    private static final int FORMULAS = 20;
+    private static final double RATIO = 4.26;
+    private static final int RUNS = 5;
+
+    private interface Instance {
+        void load(MiniSat sat) throws FileNotFoundException;
+    }
+
+    private static void random(MiniSat sat, int nbVars, long seed) {
+        Random rnd = new Random(seed);
+        for (int i = 0; i < nbVars; i++) {
+            sat.newVariable();
+        }
+        TIntArrayList clause = new TIntArrayList(3);
+        for (int c = 0; c < (int) (RATIO * nbVars); c++) {
+            clause.resetQuick();
+            while (clause.size() < 3) {
+                int v = rnd.nextInt(nbVars);
+                if (!clause.contains(MiniSat.makeLiteral(v, true)) && !clause.contains(MiniSat.makeLiteral(v, false))) {
+                    clause.add(MiniSat.makeLiteral(v, rnd.nextBoolean()));
+                }
+            }
+            sat.addClause(clause);
+        }
+    }
+
+    private static void time(String name, Instance instance) throws FileNotFoundException {
+        PrintStream stdout = System.out;
+        // MiniSat prints the model it finds
+        PrintStream silent = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        });
+        double best = Double.MAX_VALUE;
+        ESat res = ESat.UNDEFINED;
+        for (int r = 0; r < RUNS; r++) {
+            MiniSat sat = new MiniSat() {
+            };
+            instance.load(sat);
+            System.setOut(silent);
+            long start = System.nanoTime();
+            try {
+                res = sat.solve();
+            } finally {
+                System.setOut(stdout);
+            }
+            best = Math.min(best, (System.nanoTime() - start) / 1e9);
+        }
+        out.printf("%s;%s;%.3f%n", name, res, best);
+    }
+
+    public static void main(String[] args) throws FileNotFoundException {
+        out.println("instance;result;time (s)");
+        if (args.length > 0) {
+            for (String file : args) {
+                time(file, sat -> sat.parse(file));
+            }
+        } else {
+            for (int nbVars : VARIABLES) {
+                for (int f = 0; f < FORMULAS; f++) {
+                    long seed = f;
+                    time("3sat-" + nbVars + "-" + f, sat -> random(sat, nbVars, seed));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples.real;
+
+import org.chocosolver.examples.AbstractProblem;
+import org.chocosolver.parser.SetUpException;
+import org.chocosolver.solver.Solver;
+
+import java.util.function.Supplier;
+
+import static java.lang.System.out;
+
+/**
+ * Compares the Ibex contractors with the pure-Java HC4 and BC ones
+ * (see {@link org.chocosolver.solver.Settings#setEnableIbex(boolean)}) on the real examples.
+ * Each run is limited in time, the number of solutions found, nodes and the resolution time are reported.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ContractorBenchmark {
+
+    private static void run(String name, Supplier<AbstractProblem> problem, boolean noIbex, String limit) {
+        AbstractProblem p = problem.get();
+        try {
+            p.setUp(noIbex ? new String[]{"-noibex"} : new String[0]);
+            p.buildModel();
+            p.configureSearch();
+            Solver solver = p.getModel().getSolver();
+            solver.limitTime(limit);
+            p.solve();
+            out.printf("%s;%s;%d;%d;%.3f%n", name, noIbex ? "HC4+BC" : "Ibex",
+                    solver.getSolutionCount(), solver.getNodeCount(), solver.getTimeCount());
+        } catch (SetUpException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsatisfiedLinkError | NoClassDefFoundError e) {
+            out.printf("%s;%s;Ibex is not available%n", name, "Ibex");
+        }
+    }
+
+    public static void main(String[] args) {
+        String limit = args.length > 0 ? args[0] : "30s";
+        out.println("problem;contractor;solutions;nodes;time (s)");
+        for (boolean noIbex : new boolean[]{false, true}) {
+            run("CycloHexan", CycloHexan::new, noIbex, limit);
+            run("SantaClaude", SantaClaude::new, noIbex, limit);
+        }
+    }
+}
@@ -11,10 +11,12 @@ package org.chocosolver.examples.real;
 
 import org.chocosolver.examples.AbstractProblem;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
+import org.kohsuke.args4j.Option;
 
 import java.util.Random;
 
@@ -31,6 +33,9 @@ import static org.chocosolver.util.tools.ArrayUtils.append;
  */
 public class SantaClaude extends AbstractProblem {
 
+    @Option(name = "-noibex", usage = "Propagate the functions with HC4 and BC instead of Ibex.", required = false)
+    boolean noIbex = false;
+
     int n_gifts = 20;
     int n_kids = 10;
     int max_price = 25;
@@ -44,7 +49,7 @@ public class SantaClaude extends AbstractProblem {
 
     @Override
     public void buildModel() {
-        model = new Model();
+        model = new Model(Settings.init().setEnableIbex(!noIbex));
         Random rand = new Random(29091981);
         double precision = 1.e-6;
 
@@ -245,13 +245,17 @@ constraint
     {
     String name = $IDENTIFIER.text;
     datas.incCstrCounter(name);
-    FConstraint.valueOf(name).build(mModel, datas, name, exps, $anns.anns);
+    datas.postpone(mModel, FConstraint.valueOf(name), name, exps, $anns.anns);
     }
 	;
 
 solve_goal
 	:   SOLVE anns=annotations res=resolution SC
 	{
+    datas.postConstraints(mModel);
+    if (datas.getSnapshot() != null) {
+        datas.getSnapshot().solve($anns.anns,$res.rtype,$res.exp);
+    }
     FGoal.define_goal(mModel, $anns.anns,$res.rtype,$res.exp);
     }
 	;
@@ -175,6 +175,9 @@ public abstract class RegParser implements IParser {
     @Option(name = "-dfx", usage = "Force default explanation algorithm.")
     public boolean dftexp = false;
 
+    @Option(name = "-adapt", usage = "Adapt propagator priorities to their measured cost and yield (default: false).")
+    public boolean adapt = false;
+
     @Option(name = "--cp-profiler", usage = "Connect to CP-Profiler. Two comma-separated values are expected: the execution id and the port.")
     public String cpProfiler = null;
 
@@ -265,6 +268,7 @@ public abstract class RegParser implements IParser {
             valsel = new SearchParams.ValSelConf(valH, best, bestRate, last);
         }
         createSettings();
+        defaultSettings.setAdaptPropagatorPriority(adapt);
         Runtime.getRuntime().addShutdownHook(statOnKill);
         return true;
     }
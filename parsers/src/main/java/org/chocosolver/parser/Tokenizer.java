@@ -0,0 +1,336 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A line-aware tokenizer working on bytes, for large text instance files.
+ * <p>
+ * The file is read by large blocks from a {@link FileChannel} (or from a gzip stream when the file name ends
+ * with ".gz") into a single buffer, and tokens are delimited in place: numbers are parsed directly from the
+ * bytes, a String is only created on demand with {@link #token()}.
+ * Tokens are separated by spaces or tabs, and lines by '\n'.
+ * </p>
+ * Typical usage:
+ * <pre>{@code
+ * try (Tokenizer tk = new Tokenizer(path)) {
+ *     while (tk.nextLine()) {
+ *         while (tk.next()) {
+ *             int v = tk.intValue();
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class Tokenizer implements Closeable {
+
+    private static final int BUFFER = 1 << 20;
+    private static final double[] POW10 = new double[23];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] buf;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean started;
+    // current token, in [start, end)
+    private int start;
+    private int end;
+
+    /**
+     * Open a file, decompressed on the fly if its name ends with ".gz".
+     *
+     * @param path path of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public Tokenizer(String path) throws IOException {
+        this(path.endsWith(".gz") ?
+                Channels.newChannel(new GZIPInputStream(new FileInputStream(path), 1 << 16)) :
+                FileChannel.open(Paths.get(path), StandardOpenOption.READ));
+    }
+
+    /**
+     * @param channel the channel to read bytes from, closed with this
+     */
+    public Tokenizer(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER);
+        this.buf = buffer.array();
+    }
+
+    /**
+     * Read more bytes, keeping those from <i>keep</i>.
+     *
+     * @return <i>false</i> if the end of the file is reached
+     */
+    private boolean fill(int keep) throws IOException {
+        if (eof) {
+            return false;
+        }
+        int kept = limit - keep;
+        if (keep > 0) {
+            System.arraycopy(buf, keep, buf, 0, kept);
+            pos -= keep;
+            start -= Math.min(start, keep);
+            end -= Math.min(end, keep);
+        } else if (kept == buf.length) {
+            throw new ParserException("Token too long");
+        }
+        buffer.clear().position(kept);
+        int r;
+        do {
+            r = channel.read(buffer);
+        } while (r == 0);
+        if (r < 0) {
+            eof = true;
+        }
+        limit = buffer.position();
+        return r > 0;
+    }
+
+    /**
+     * @return the next byte, without consuming it, or -1 at the end of the file
+     * @throws IOException if an I/O error occurs
+     */
+    public int peek() throws IOException {
+        if (pos == limit && !fill(pos)) {
+            return -1;
+        }
+        return buf[pos];
+    }
+
+    /**
+     * Move to the beginning of the next line, the first call moves to the first line.
+     *
+     * @return <i>false</i> if the end of the file is reached
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean nextLine() throws IOException {
+        if (started) {
+            while (true) {
+                if (pos == limit && !fill(pos)) {
+                    return false;
+                }
+                if (buf[pos++] == '\n') {
+                    break;
+                }
+            }
+        }
+        started = true;
+        return peek() >= 0;
+    }
+
+    /**
+     * Read the next token of the current line.
+     *
+     * @return <i>false</i> if there is no more token on this line
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean next() throws IOException {
+        started = true;
+        while (true) {
+            if (pos == limit && !fill(pos)) {
+                return false;
+            }
+            byte b = buf[pos];
+            if (b == '\n') {
+                return false;
+            }
+            if (!isBlank(b)) {
+                break;
+            }
+            pos++;
+        }
+        start = pos;
+        while (true) {
+            if (pos == limit && !fill(start)) {
+                break;
+            }
+            byte b = buf[pos];
+            if (b == '\n' || isBlank(b)) {
+                break;
+            }
+            pos++;
+        }
+        end = pos;
+        return true;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * @return the current token
+     */
+    public String token() {
+        return new String(buf, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param s an ASCII string
+     * @return <i>true</i> if the current token is <i>s</i>
+     */
+    public boolean is(String s) {
+        if (s.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (buf[start + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <i>true</i> if the current token is made of digits, possibly preceded by '-'
+     */
+    public boolean isInteger() {
+        int i = start;
+        if (i < end && buf[i] == '-') {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (buf[i] < '0' || buf[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the current token as an int
+     * @throws ParserException if the token is not an int
+     */
+    public int intValue() {
+        int i = start;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            i++;
+        }
+        if (i == end || end - i > 10) {
+            throw new ParserException("Not an int: " + token());
+        }
+        for (; i < end; i++) {
+            if (buf[i] < '0' || buf[i] > '9') {
+                throw new ParserException("Not an int: " + token());
+            }
+        }
+        long v = digits();
+        if (v != (int) v) {
+            throw new ParserException("Not an int: " + token());
+        }
+        return (int) v;
+    }
+
+    /**
+     * @return the value of the current token, made of at most 18 digits possibly preceded by a sign
+     */
+    private long digits() {
+        int i = start;
+        boolean neg = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            neg = buf[i++] == '-';
+        }
+        long v = 0;
+        for (; i < end; i++) {
+            v = v * 10 + (buf[i] - '0');
+        }
+        return neg ? -v : v;
+    }
+
+    /**
+     * @return the current token as a double
+     * @throws NumberFormatException if the token is not a double
+     */
+    public double doubleValue() {
+        // fast path, exact for less than 16 significant digits and small exponents
+        int i = start;
+        boolean neg = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            neg = buf[i++] == '-';
+        }
+        long m = 0;
+        int digits = 0;
+        int exp = 0;
+        for (; i < end && buf[i] >= '0' && buf[i] <= '9'; i++, digits++) {
+            m = m * 10 + (buf[i] - '0');
+        }
+        if (i < end && buf[i] == '.') {
+            for (i++; i < end && buf[i] >= '0' && buf[i] <= '9'; i++, digits++, exp--) {
+                m = m * 10 + (buf[i] - '0');
+            }
+        }
+        if (digits > 0 && i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean eneg = false;
+            if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+                eneg = buf[i++] == '-';
+            }
+            int e = 0;
+            int ed = 0;
+            for (; i < end && buf[i] >= '0' && buf[i] <= '9' && ed < 4; i++, ed++) {
+                e = e * 10 + (buf[i] - '0');
+            }
+            exp += eneg ? -e : e;
+            if (ed == 0) {
+                digits = 0;
+            }
+        }
+        if (i == end && digits > 0 && digits <= 15 && -22 <= exp && exp <= 22) {
+            double v = exp < 0 ? m / POW10[-exp] : m * POW10[exp];
+            return neg ? -v : v;
+        }
+        return Double.parseDouble(token());
+    }
+
+    /**
+     * @return the current token as an Integer when made of digits and small enough, as a Double otherwise
+     */
+    public Number numberValue() {
+        if (isInteger() && end - start <= 11) {
+            long v = digits();
+            if (v == (int) v) {
+                return (int) v;
+            }
+        }
+        return doubleValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
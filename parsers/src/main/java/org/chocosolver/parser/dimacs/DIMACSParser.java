@@ -10,75 +10,78 @@
 package org.chocosolver.parser.dimacs;
 
 import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.Tokenizer;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 
-import java.io.*;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * DIMACS CNF file parser.
  * <br/>
  * Based on <a href="https://people.sc.fsu.edu/~jburkardt/data/cnf/cnf.html">DIMACS CNF file format</a>.
+ * The file, possibly gzipped, is read with a {@link Tokenizer} and clauses are posted as soon as they are read.
  *
  * @author Charles Prud'homme
  * @since 04/03/2021
  */
 public class DIMACSParser {
-    private static final String TAG_COMM = "c";
-    private static final String TAG_PROB = "p";
+    private static final char TAG_COMM = 'c';
+    private static final char TAG_PROB = 'p';
+    private static final char TAG_END = '%';
     private static final String TAG_CNF = "cnf";
     private BoolVar[] literals;
 
-    public void model(Model model, String instance) throws FileNotFoundException {
-        Reader reader = new FileReader(instance);
-        try (BufferedReader br = new BufferedReader(reader)) {
-            String line;
-            int nvars, nclauses = 0;
-            while ((line = br.readLine()) != null) {
-                if (line.startsWith(TAG_COMM)) continue;
-                if (line.startsWith(TAG_PROB)) {
-                    String[] values = Arrays.stream(line.split("\\s+"))
-                            .filter(v -> v.length() > 0)
-                            .toArray(String[]::new);
-                    if (!values[1].equals(TAG_CNF)) {
+    public void model(Model model, String instance) throws IOException {
+        try (Tokenizer tk = new Tokenizer(instance)) {
+            int nclauses = 0;
+            boolean header = false;
+            while (tk.nextLine()) {
+                if (tk.peek() == TAG_COMM) continue;
+                if (tk.peek() == TAG_PROB) {
+                    if (!(tk.next() && tk.next() && tk.is(TAG_CNF))) {
                         throw new ParserException("Not a CNF file");
                     }
-                    nvars = Integer.parseInt(values[2]);
-                    nclauses = Integer.parseInt(values[3]);
-                    literals = IntStream.range(0, nvars)
-                            .mapToObj(i -> model.boolVar(Integer.toString(i)))
-                            .toArray(BoolVar[]::new);
+                    tk.next();
+                    int nvars = tk.intValue();
+                    tk.next();
+                    nclauses = tk.intValue();
+                    literals = new BoolVar[nvars];
+                    for (int i = 0; i < nvars; i++) {
+                        literals[i] = model.boolVar(Integer.toString(i));
+                    }
+                    header = true;
                     break;
                 }
             }
-            List<BoolVar> lits = new ArrayList<>();
-            while ((line = br.readLine()) != null) {
-                if (line.startsWith(TAG_COMM)) continue;
-                int[] ls = Arrays.stream(line.split("\\s+"))
-                        .filter(v -> v.length() > 0)
-                        .mapToInt(Integer::parseInt)
-                        .toArray();
-                int i = 0, j = 0;
-                while (j < ls.length && (i = ls[j++]) != 0) {
-                    lits.add(i > 0 ?
-                            literals[i - 1] :
-                            literals[-i - 1].not());
-                }
-                if (i == 0 && lits.size() > 0) {
-                    nclauses--;
-                    model.addClausesBoolOrArrayEqualTrue(lits.toArray(new BoolVar[0]));
-                    lits.clear();
+            if (!header) {
+                throw new ParserException("No problem line found");
+            }
+            // a clause may span several lines, and a line may contain several clauses
+            BoolVar[] lits = new BoolVar[16];
+            int size = 0;
+            while (tk.nextLine() && tk.peek() != TAG_END) {
+                if (tk.peek() == TAG_COMM) continue;
+                while (tk.next()) {
+                    int i = tk.intValue();
+                    if (i == 0) {
+                        if (size > 0) {
+                            nclauses--;
+                            model.addClausesBoolOrArrayEqualTrue(Arrays.copyOf(lits, size));
+                            size = 0;
+                        }
+                    } else {
+                        if (size == lits.length) {
+                            lits = Arrays.copyOf(lits, size * 2);
+                        }
+                        lits[size++] = i > 0 ? literals[i - 1] : literals[-i - 1].not();
+                    }
                 }
             }
             if (nclauses != 0) {
                 throw new ParserException("Missing clauses");
             }
-        } catch (IOException e) {
-            e.printStackTrace();
         }
     }
 
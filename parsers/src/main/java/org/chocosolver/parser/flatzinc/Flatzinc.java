@@ -12,8 +12,10 @@ package org.chocosolver.parser.flatzinc;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.chocosolver.parser.Level;
+import org.chocosolver.parser.ParserException;
 import org.chocosolver.parser.RegParser;
 import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.Snapshot;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.Settings;
@@ -39,8 +41,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -74,6 +80,10 @@ public class Flatzinc extends RegParser {
             "(default: OUTPUT, i.e., restricted to the variables declared in output).")
     protected CompleteSearch ocs = CompleteSearch.OUTPUT;
 
+    @Option(name = "-snapshot", usage = "Save a binary snapshot of the model in the given file.\n" +
+            "A file whose name ends with '" + Snapshot.EXTENSION + "' is loaded as a snapshot, without parsing.")
+    protected String snapshot = null;
+
     //***********************************************************************************
     // VARIABLES
     //***********************************************************************************
@@ -143,46 +153,87 @@ public class Flatzinc extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            Model m = models.get(i);
-            Solver s = m.getSolver();
-            try {
-                long ptime = -System.currentTimeMillis();
-                FileInputStream fileInputStream = new FileInputStream(instance);
-                parse(m, datas[i], fileInputStream);
-                fileInputStream.close();
-                if(logFilePath != null) {
-                    s.log().remove(System.out);
-                    s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
+        if (models.size() == 1) {
+            buildModel(0);
+            return;
+        }
+        // each worker reads and parses its own copy of the instance, concurrently
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(() -> IntStream.range(0, models.size())
+                    .parallel()
+                    .forEach(this::buildModel)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Error(e.getMessage());
+        } catch (ExecutionException e) {
+            throw new Error(e.getCause().getMessage(), e.getCause());
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Parse the instance file into the <i>i</i>-th model of the portfolio.
+     *
+     * @param i index of the model to build
+     */
+    private void buildModel(int i) {
+        Model m = portfolio.getModels().get(i);
+        Solver s = m.getSolver();
+        try {
+            long ptime = -System.currentTimeMillis();
+            try (FileInputStream fileInputStream = new FileInputStream(instance)) {
+                if (instance.endsWith(Snapshot.EXTENSION)) {
+                    Snapshot.load(m, datas[i], fileInputStream);
+                } else if (i == 0 && snapshot != null) {
+                    // only the first model is recorded, the others are built identically
+                    Path path = Paths.get(snapshot);
+                    try (Snapshot snap = new Snapshot(Files.newOutputStream(path))) {
+                        datas[i].setSnapshot(snap);
+                        parse(m, datas[i], fileInputStream);
+                    } catch (IOException | RuntimeException | Error e) {
+                        // do not leave a partial snapshot behind
+                        Files.deleteIfExists(path);
+                        throw e;
+                    } finally {
+                        datas[i].setSnapshot(null);
+                    }
                 } else {
-                    s.logWithANSI(ansi);
-                }
-                if (level.isLoggable(Level.INFO)) {
-                    s.log().white().printf(String.format("File parsed in %d ms%n", (ptime + System.currentTimeMillis())));
+                    parse(m, datas[i], fileInputStream);
                 }
-                if (level.is(Level.JSON)) {
-                    s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
-                    s.log().printf(Locale.US,
-                            "{\t\"name\":\"%s\",\n" +
-                                    "\t\"variables\": %d,\n" +
-                                    "\t\"constraints\": %d,\n" +
-                                    "\t\"policy\": \"%s\",\n" +
-                                    "\t\"parsing time\": %.3f,\n" +
-                                    "\t\"building time\": %.3f,\n" +
-                                    "\t\"memory\": %d,\n" +
-                                    "\t\"stats\":[",
-                            instance,
-                            m.getNbVars(),
-                            m.getNbCstrs(),
-                            m.getSolver().getObjectiveManager().getPolicy(),
-                            (ptime + System.currentTimeMillis()) / 1000f,
-                            s.getReadingTimeCount(),
-                            m.getEstimatedMemory()
-                            );
-                }
-            } catch (IOException e) {
-                throw new Error(e.getMessage());
             }
+            if (logFilePath != null) {
+                s.log().remove(System.out);
+                s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
+            } else {
+                s.logWithANSI(ansi);
+            }
+            if (level.isLoggable(Level.INFO)) {
+                s.log().white().printf(String.format("File parsed in %d ms%n", (ptime + System.currentTimeMillis())));
+            }
+            if (level.is(Level.JSON)) {
+                s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
+                s.log().printf(Locale.US,
+                        "{\t\"name\":\"%s\",\n" +
+                                "\t\"variables\": %d,\n" +
+                                "\t\"constraints\": %d,\n" +
+                                "\t\"policy\": \"%s\",\n" +
+                                "\t\"parsing time\": %.3f,\n" +
+                                "\t\"building time\": %.3f,\n" +
+                                "\t\"memory\": %d,\n" +
+                                "\t\"stats\":[",
+                        instance,
+                        m.getNbVars(),
+                        m.getNbCstrs(),
+                        m.getSolver().getObjectiveManager().getPolicy(),
+                        (ptime + System.currentTimeMillis()) / 1000f,
+                        s.getReadingTimeCount(),
+                        m.getEstimatedMemory()
+                );
+            }
+        } catch (IOException e) {
+            throw new Error(e.getMessage());
         }
     }
 
@@ -197,6 +248,10 @@ public class Flatzinc extends RegParser {
         parser.setTrimParseTree(false);
         //parser.setProfile(true);
         parser.flatzinc_model(target, data);
+        if (data.getSnapshot() != null && parser.getNumberOfSyntaxErrors() > 0) {
+            // the parser recovers from syntax errors, but the recorded model would be partial
+            throw new ParserException("Syntax errors, no snapshot is recorded");
+        }
         /*ParseInfo parseInfo = parser.getParseInfo();
         ATN atn = parser.getATN();
         for (DecisionInfo di : parseInfo.getDecisionInfo()) {
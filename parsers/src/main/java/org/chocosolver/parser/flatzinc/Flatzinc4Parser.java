@@ -1338,7 +1338,7 @@ public class Flatzinc4Parser extends Parser {
 
 			    String name = (((ConstraintContext)_localctx).IDENTIFIER!=null?((ConstraintContext)_localctx).IDENTIFIER.getText():null);
 			    datas.incCstrCounter(name);
-			    FConstraint.valueOf(name).build(mModel, datas, name, exps, ((ConstraintContext)_localctx).anns.anns);
+			    datas.postpone(mModel, FConstraint.valueOf(name), name, exps, ((ConstraintContext)_localctx).anns.anns);
 			    
 			}
 		}
@@ -1385,6 +1385,10 @@ public class Flatzinc4Parser extends Parser {
 			setState(306);
 			match(SC);
 
+			    datas.postConstraints(mModel);
+			    if (datas.getSnapshot() != null) {
+			        datas.getSnapshot().solve(((Solve_goalContext)_localctx).anns.anns,((Solve_goalContext)_localctx).res.rtype,((Solve_goalContext)_localctx).res.exp);
+			    }
 			    FGoal.define_goal(mModel, ((Solve_goalContext)_localctx).anns.anns,((Solve_goalContext)_localctx).res.rtype,((Solve_goalContext)_localctx).res.exp);
 			    
 			}
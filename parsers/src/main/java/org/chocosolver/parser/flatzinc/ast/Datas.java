@@ -14,6 +14,7 @@ import org.chocosolver.parser.Exit;
 import org.chocosolver.parser.Level;
 import org.chocosolver.parser.flatzinc.ast.declaration.DArray;
 import org.chocosolver.parser.flatzinc.ast.declaration.Declaration;
+import org.chocosolver.parser.flatzinc.ast.expression.EAnnotation;
 import org.chocosolver.parser.flatzinc.ast.expression.EArray;
 import org.chocosolver.parser.flatzinc.ast.expression.ESetBounds;
 import org.chocosolver.parser.flatzinc.ast.expression.ESetList;
@@ -28,6 +29,7 @@ import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * An object to maintain a link between the model and the solver, during the parsing phase.
@@ -49,6 +51,8 @@ public class Datas {
     private final List<Declaration.DType> output_arrays_types;
     private final List<Variable[]> output_arrays_vars;
     private final HashMap<String, Integer> cstrCounter;
+    // constraints waiting to be built, null when they are built as soon as parsed
+    private List<Postponed> postponed;
 
     private Level level = Level.COMPET;
     private boolean oss = false;
@@ -57,6 +61,12 @@ public class Datas {
 
     private Model model;
     private Solution solution;
+    // time (in seconds) spent reading the file, preparing the constraints and posting them
+    private double parseTime;
+    private double prepareTime;
+    private double postTime;
+    // records the parsed items, may be null
+    private Snapshot snapshot;
 
     //***********************************************************************************
     // VARIABLES
@@ -78,6 +88,7 @@ public class Datas {
         this.level = theLevel;
         this.model = model;
         this.oss = oss;
+        this.postponed = new ArrayList<>();
     }
 
     //***********************************************************************************
@@ -318,6 +329,9 @@ public class Datas {
 
     private void outputStatistics(Solver solver) {
         solver.log().printf(Locale.US, "%%%%%%mzn-stat: initTime=%.3f%n", solver.getReadingTimeCount());
+        solver.log().printf(Locale.US, "%%%%%%mzn-stat: parseTime=%.3f%n", parseTime);
+        solver.log().printf(Locale.US, "%%%%%%mzn-stat: prepareTime=%.3f%n", prepareTime);
+        solver.log().printf(Locale.US, "%%%%%%mzn-stat: postTime=%.3f%n", postTime);
         solver.log().printf(Locale.US, "%%%%%%mzn-stat: solveTime=%.3f%n", solver.getTimeCount());
         solver.log().printf("%%%%%%mzn-stat: solutions=%d%n", solver.getSolutionCount());
         solver.log().printf("%%%%%%mzn-stat: variables=%d%n", solver.getModel().getNbVars());
@@ -340,6 +354,65 @@ public class Datas {
         solver.log().println("%%%mzn-stat-end");
     }
 
+    /**
+     * Build a parsed constraint, or postpone it until {@link #postConstraints(Model)} is called
+     * when this was created with a model.
+     */
+    public void postpone(Model model, FConstraint fc, String id, List<Expression> exps, List<EAnnotation> annotations) {
+        if (snapshot != null) {
+            snapshot.constraint(id, exps, annotations);
+        }
+        if (postponed == null) {
+            fc.build(model, this, id, exps, annotations);
+        } else {
+            postponed.add(new Postponed(fc, id, exps, annotations));
+        }
+    }
+
+    /**
+     * Build the postponed constraints in two phases.
+     * First, the data that only depends on parameters (like tuples or automata) is prepared in parallel,
+     * see {@link FConstraint#prepare(List)}.
+     * Then, the constraints are built and posted sequentially, in the order of the file,
+     * since a {@link Model} is not thread-safe and the order of the constraints impacts the resolution.
+     *
+     * @param model the model to post constraints in
+     */
+    public void postConstraints(Model model) {
+        if (postponed == null || postponed.isEmpty()) {
+            return;
+        }
+        long time = System.nanoTime();
+        parseTime = (time - model.getCreationTime()) / 1e9;
+        Object[] prepared = new Object[postponed.size()];
+        IntStream.range(0, prepared.length).parallel()
+                .forEach(i -> prepared[i] = postponed.get(i).fc.prepare(postponed.get(i).exps));
+        long time2 = System.nanoTime();
+        prepareTime = (time2 - time) / 1e9;
+        for (int i = 0; i < prepared.length; i++) {
+            Postponed p = postponed.get(i);
+            p.fc.build(model, this, p.id, p.exps, p.annotations, prepared[i]);
+            // release the expressions as soon as possible
+            postponed.set(i, null);
+            prepared[i] = null;
+        }
+        postponed.clear();
+        postTime = (System.nanoTime() - time2) / 1e9;
+    }
+
+    /**
+     * Record the items of the model in a snapshot while parsing.
+     *
+     * @param snapshot a snapshot, or <i>null</i> to stop recording
+     */
+    public void setSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
     public void incCstrCounter(String name) {
         if (level.isLoggable(Level.INFO)) {
             this.cstrCounter.compute(name, (s, c) -> c == null ? 1 : c + 1);
@@ -349,4 +422,18 @@ public class Datas {
     public Map<String, Integer> cstrCounter() {
         return this.cstrCounter;
     }
+
+    private static final class Postponed {
+        final FConstraint fc;
+        final String id;
+        final List<Expression> exps;
+        final List<EAnnotation> annotations;
+
+        Postponed(FConstraint fc, String id, List<Expression> exps, List<EAnnotation> annotations) {
+            this.fc = fc;
+            this.id = id;
+            this.exps = exps;
+            this.annotations = annotations;
+        }
+    }
 }
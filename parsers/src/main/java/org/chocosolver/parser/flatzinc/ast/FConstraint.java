@@ -11,6 +11,8 @@ package org.chocosolver.parser.flatzinc.ast;
 
 import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.parser.flatzinc.ast.expression.EAnnotation;
+import org.chocosolver.parser.flatzinc.ast.expression.EArray;
+import org.chocosolver.parser.flatzinc.ast.expression.EIdentifier;
 import org.chocosolver.parser.flatzinc.ast.expression.ESetBounds;
 import org.chocosolver.parser.flatzinc.ast.expression.Expression;
 import org.chocosolver.parser.flatzinc.ast.propagators.PropBoolSumEq0Reif;
@@ -24,6 +26,7 @@ import org.chocosolver.solver.variables.*;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.VariableUtils;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -1571,6 +1574,16 @@ public enum FConstraint {
         }
     },
     regularChoco {
+        @Override
+        public Object prepare(List<Expression> exps) {
+            return fzn_regular.prepare(exps);
+        }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations, Object prepared) {
+            fzn_regular.build(model, datas, id, exps, annotations, prepared);
+        }
+
         @Override
         public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
             fzn_regular.build(model, datas, id, exps, annotations);
@@ -1578,11 +1591,9 @@ public enum FConstraint {
     },
     fzn_regular {
         @Override
-        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
-
+        public Object prepare(List<Expression> exps) {
             //        array[int] of var int: x, int: Q, int: S,
             //        array[int,int] of int: d, int: q0, set of int: F
-            IntVar[] vars = exps.get(0).toIntVarArray(model);
             int Q = exps.get(1).intValue();
             int S = exps.get(2).intValue();
             int[] d = exps.get(3).toIntArray();
@@ -1603,10 +1614,19 @@ public enum FConstraint {
             }
             //        auto.removeDeadTransitions();
             //        auto.minimize();
+            return auto;
+        }
 
-            model.regularDec(vars, auto);//.post();
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations, Object prepared) {
+            IntVar[] vars = exps.get(0).toIntVarArray(model);
+            model.regularDec(vars, (FiniteAutomaton) prepared);//.post();
 //            model.regular(vars, auto).post();
+        }
 
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
+            build(model, datas, id, exps, annotations, prepare(exps));
         }
     },
     sortChoco {
@@ -1663,6 +1683,16 @@ public enum FConstraint {
         }
     },
     tableChoco {
+        @Override
+        public Object prepare(List<Expression> exps) {
+            return choco_fzn_table.prepare(exps);
+        }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations, Object prepared) {
+            choco_fzn_table.build(model, datas, id, exps, annotations, prepared);
+        }
+
         @Override
         public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
             choco_fzn_table.build(model, datas, id, exps, annotations);
@@ -1670,23 +1700,33 @@ public enum FConstraint {
     },
     choco_fzn_table {
         @Override
-        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
-
+        public Object prepare(List<Expression> exps) {
             // array[int] of var int: x, array[int, int] of int: t
-            IntVar[] x = exps.get(0).toIntVarArray(model);
             int[] f_t = exps.get(1).toIntArray();
-            int d2 = x.length;
+            int d2 = size(exps.get(0));
             int[][] t = matrixfy(f_t, d2);
             Tuples tuples = new Tuples(true);
             for (int[] couple : t) {
                 tuples.add(couple);
             }
+            return tuples;
+        }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations, Object prepared) {
+            IntVar[] x = exps.get(0).toIntVarArray(model);
+            Tuples tuples = (Tuples) prepared;
             if (x.length == 2) {
                 model.table(x[0], x[1], tuples).post();
             } else {
                 model.table(x, tuples).post();
             }
         }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
+            build(model, datas, id, exps, annotations, prepare(exps));
+        }
     },
     value_precede_chain_intChoco {
         @Override
@@ -2526,6 +2566,36 @@ public enum FConstraint {
 
     public abstract void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations);
 
+    /**
+     * Compute, from parameters only, the data needed to build the constraint, like tuples or an automaton.
+     * This method does not access the model, it may be called concurrently for different constraints.
+     *
+     * @param exps the arguments of the constraint
+     * @return the prepared data, or <i>null</i> if there is nothing to prepare
+     * @see #build(Model, Datas, String, List, List, Object)
+     */
+    public Object prepare(List<Expression> exps) {
+        return null;
+    }
+
+    /**
+     * Build the constraint from data previously computed by {@link #prepare(List)}.
+     * By default, the prepared data is ignored.
+     */
+    public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations, Object prepared) {
+        build(model, datas, id, exps, annotations);
+    }
+
+    /**
+     * @return the number of elements of an array expression, without creating any variable
+     */
+    static int size(Expression e) {
+        if (e instanceof EArray) {
+            return ((EArray) e).what.size();
+        }
+        return Array.getLength(((EIdentifier) e).object);
+    }
+
     public int[][] matrixfy(int[] es, int d) {
         int d1 = es.length / d;
         int[][] t = new int[d1][d];
@@ -29,6 +29,9 @@ import org.chocosolver.solver.variables.Variable;
 public final class FParameter {
 
     public static void make_parameter(Datas datas, Declaration type, String identifier, Expression expression) {
+        if (datas.getSnapshot() != null) {
+            datas.getSnapshot().parameter(type, identifier, expression);
+        }
         switch (type.typeOf) {
             case BOOL:
                 buildBool(identifier, (EBool) expression, datas);
@@ -41,6 +41,9 @@ public final class FVariable {
 
     public static void make_variable(Datas datas, Declaration type, String identifier, List<EAnnotation> annotations,
                                      Expression expression, Model aModel) {
+        if (datas.getSnapshot() != null) {
+            datas.getSnapshot().variable(type, identifier, annotations, expression);
+        }
         // value is always null, except for ARRAY, it can be defined
         // see Flatzinc specifications for more informations.
         switch (type.typeOf) {
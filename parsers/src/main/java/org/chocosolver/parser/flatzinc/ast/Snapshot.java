@@ -0,0 +1,456 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc.ast;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.declaration.*;
+import org.chocosolver.parser.flatzinc.ast.expression.*;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A binary snapshot of a FlatZinc model, to load it again without lexing and parsing the text file.
+ * <p>
+ * The items of the model (parameters, variables, constraints and solve goal) are recorded as they are parsed,
+ * when a snapshot is attached to the {@link Datas} with {@link Datas#setSnapshot(Snapshot)}.
+ * Then, {@link #load(Model, Datas, InputStream)} replays them, in the same order, through the same builders
+ * than the parser: the loaded model is identical to the parsed one.
+ * </p>
+ * <p>
+ * Integers are written as variable-length quantities and identifiers are written once,
+ * then referred to by their rank.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class Snapshot implements Closeable {
+
+    /**
+     * Extension of snapshot files
+     */
+    public static final String EXTENSION = ".fznb";
+
+    private static final int MAGIC = 0x465A4E42; // FZNB
+    private static final int VERSION = 1;
+    private static final byte PARAMETER = 1;
+    private static final byte VARIABLE = 2;
+    private static final byte CONSTRAINT = 3;
+    private static final byte SOLVE = 4;
+    // an array of integers, written as a block, it follows the ordinals of Expression.EType
+    private static final int INTS = Expression.EType.values().length;
+
+    private final DataOutputStream out;
+    private final HashMap<String, Integer> names = new HashMap<>();
+
+    /**
+     * Create a snapshot written in <i>os</i>, closed with this.
+     *
+     * @param os the output stream
+     * @throws IOException if an I/O error occurs
+     */
+    public Snapshot(OutputStream os) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    void parameter(Declaration type, String id, Expression exp) {
+        try {
+            out.writeByte(PARAMETER);
+            write(type);
+            writeName(id);
+            write(exp);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void variable(Declaration type, String id, List<EAnnotation> annotations, Expression exp) {
+        try {
+            out.writeByte(VARIABLE);
+            write(type);
+            writeName(id);
+            write(annotations);
+            out.writeBoolean(exp != null);
+            if (exp != null) {
+                write(exp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void constraint(String name, List<Expression> exps, List<EAnnotation> annotations) {
+        try {
+            out.writeByte(CONSTRAINT);
+            writeName(name);
+            write(exps);
+            write(annotations);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Record the solve goal, the last item of a model.
+     */
+    public void solve(List<EAnnotation> annotations, ResolutionPolicy policy, Expression exp) {
+        try {
+            out.writeByte(SOLVE);
+            write(annotations);
+            writeVarInt(policy.ordinal());
+            out.writeBoolean(exp != null);
+            if (exp != null) {
+                write(exp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    //***********************************************************************************
+    // WRITING
+    //***********************************************************************************
+
+    private void writeVarInt(int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    private void writeInt(int v) throws IOException {
+        // zigzag, so that small negative values are short too
+        writeVarInt((v << 1) ^ (v >> 31));
+    }
+
+    private void writeInts(int[] values) throws IOException {
+        writeVarInt(values.length);
+        for (int v : values) {
+            writeInt(v);
+        }
+    }
+
+    private void writeName(String name) throws IOException {
+        Integer rank = names.get(name);
+        if (rank == null) {
+            names.put(name, names.size() + 1);
+            writeVarInt(0);
+            out.writeUTF(name);
+        } else {
+            writeVarInt(rank);
+        }
+    }
+
+    private void write(List<? extends Expression> exps) throws IOException {
+        writeVarInt(exps.size());
+        for (Expression e : exps) {
+            write(e);
+        }
+    }
+
+    private void write(Expression exp) throws IOException {
+        if (exp.getTypeOf() == Expression.EType.ARR && isIntArray((EArray) exp)) {
+            out.writeByte(INTS);
+            writeVarInt(((EArray) exp).what.size());
+            for (Expression e : ((EArray) exp).what) {
+                writeInt(e.intValue());
+            }
+            return;
+        }
+        out.writeByte(exp.getTypeOf().ordinal());
+        switch (exp.getTypeOf()) {
+            case ANN:
+                writeName(((EAnnotation) exp).id.value);
+                write(((EAnnotation) exp).exps);
+                break;
+            case ARR:
+                write(((EArray) exp).what);
+                break;
+            case BOO:
+                out.writeBoolean(exp.boolValue());
+                break;
+            case IDA:
+                writeName(((EIdArray) exp).name);
+                writeInt(((EIdArray) exp).index);
+                break;
+            case IDE:
+                writeName(((EIdentifier) exp).value);
+                break;
+            case INT:
+                writeInt(exp.intValue());
+                break;
+            case SET_B:
+                writeInt(((ESetBounds) exp).getLow());
+                writeInt(((ESetBounds) exp).getUpp());
+                break;
+            case SET_L:
+                writeInts(((ESetList) exp).enumVal());
+                break;
+            case STR:
+                out.writeUTF(((EString) exp).st);
+                break;
+            case FLT:
+                out.writeFloat(exp.floatValue());
+                break;
+        }
+    }
+
+    private static boolean isIntArray(EArray array) {
+        for (Expression e : array.what) {
+            if (e.getTypeOf() != Expression.EType.INT) {
+                return false;
+            }
+        }
+        return !array.what.isEmpty();
+    }
+
+    private void write(Declaration type) throws IOException {
+        out.writeByte(type.typeOf.ordinal());
+        switch (type.typeOf) {
+            case ARRAY:
+                DArray array = (DArray) type;
+                writeVarInt(array.getDimension());
+                for (int i = 0; i < array.getDimension(); i++) {
+                    write(array.getIndex(i));
+                }
+                write(array.getWhat());
+                break;
+            case SET:
+                write(((DSet) type).getWhat());
+                break;
+            case INT2:
+                writeInt(((DInt2) type).getLow());
+                writeInt(((DInt2) type).getUpp());
+                break;
+            case INTN:
+                writeInts(((DManyInt) type).getValues());
+                break;
+            default:
+                break;
+        }
+    }
+
+    //***********************************************************************************
+    // READING
+    //***********************************************************************************
+
+    /**
+     * Load a snapshot into a model, as if the FlatZinc file was parsed.
+     *
+     * @param model the model to build
+     * @param datas the data of the model
+     * @param is    the input stream of the snapshot
+     * @throws IOException     if an I/O error occurs
+     * @throws ParserException if the input stream is not a snapshot, or does not end with the solve item
+     */
+    public static void load(Model model, Datas datas, InputStream is) throws IOException {
+        try {
+            new Reader(new DataInputStream(new BufferedInputStream(is, 1 << 16)), datas).load(model);
+        } catch (EOFException e) {
+            throw new ParserException("Truncated FlatZinc snapshot", e);
+        }
+    }
+
+    private static final class Reader {
+        private static final Declaration.DType[] DTYPES = Declaration.DType.values();
+        private static final Expression.EType[] ETYPES = Expression.EType.values();
+        private final DataInputStream in;
+        private final Datas datas;
+        private final List<String> names = new ArrayList<>();
+
+        Reader(DataInputStream in, Datas datas) {
+            this.in = in;
+            this.datas = datas;
+        }
+
+        void load(Model model) throws IOException {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new ParserException("Not a FlatZinc snapshot");
+            }
+            while (true) {
+                int item = in.read();
+                if (item < 0) {
+                    throw new ParserException("Truncated FlatZinc snapshot: no solve item");
+                }
+                switch (item) {
+                    case PARAMETER: {
+                        Declaration type = readDeclaration();
+                        String id = readName();
+                        FParameter.make_parameter(datas, type, id, readExpression());
+                    }
+                    break;
+                    case VARIABLE: {
+                        Declaration type = readDeclaration();
+                        String id = readName();
+                        List<EAnnotation> annotations = readAnnotations();
+                        Expression exp = in.readBoolean() ? readExpression() : null;
+                        FVariable.make_variable(datas, type, id, annotations, exp, model);
+                    }
+                    break;
+                    case CONSTRAINT: {
+                        String name = readName();
+                        List<Expression> exps = readExpressions();
+                        List<EAnnotation> annotations = readAnnotations();
+                        datas.incCstrCounter(name);
+                        datas.postpone(model, FConstraint.valueOf(name), name, exps, annotations);
+                    }
+                    break;
+                    case SOLVE: {
+                        List<EAnnotation> annotations = readAnnotations();
+                        ResolutionPolicy policy = ResolutionPolicy.values()[readVarInt()];
+                        Expression exp = in.readBoolean() ? readExpression() : null;
+                        datas.postConstraints(model);
+                        if (datas.getSnapshot() != null) {
+                            datas.getSnapshot().solve(annotations, policy, exp);
+                        }
+                        FGoal.define_goal(model, annotations, policy, exp);
+                        // the solve item ends the model
+                        if (in.read() >= 0) {
+                            throw new ParserException("Corrupted FlatZinc snapshot: items after the solve item");
+                        }
+                    }
+                    return;
+                    default:
+                        throw new ParserException("Corrupted FlatZinc snapshot");
+                }
+            }
+        }
+
+        private int readVarInt() throws IOException {
+            int v = 0;
+            for (int s = 0; ; s += 7) {
+                int b = in.readUnsignedByte();
+                v |= (b & 0x7F) << s;
+                if ((b & 0x80) == 0) {
+                    return v;
+                }
+            }
+        }
+
+        private int readInt() throws IOException {
+            int v = readVarInt();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        private List<EInt> readEInts() throws IOException {
+            int n = readVarInt();
+            List<EInt> values = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                values.add(EInt.make(readInt()));
+            }
+            return values;
+        }
+
+        private String readName() throws IOException {
+            int rank = readVarInt();
+            if (rank == 0) {
+                String name = in.readUTF();
+                names.add(name);
+                return name;
+            }
+            return names.get(rank - 1);
+        }
+
+        private List<Expression> readExpressions() throws IOException {
+            int n = readVarInt();
+            List<Expression> exps = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                exps.add(readExpression());
+            }
+            return exps;
+        }
+
+        private List<EAnnotation> readAnnotations() throws IOException {
+            int n = readVarInt();
+            List<EAnnotation> annotations = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                annotations.add((EAnnotation) readExpression());
+            }
+            return annotations;
+        }
+
+        private Expression readExpression() throws IOException {
+            int type = in.readUnsignedByte();
+            if (type == INTS) {
+                return new EArray(new ArrayList<>(readEInts()));
+            }
+            switch (ETYPES[type]) {
+                case ANN:
+                    EIdentifier id = new EIdentifier(datas, readName());
+                    return new EAnnotation(id, readExpressions());
+                case ARR:
+                    List<Expression> what = readExpressions();
+                    return what.isEmpty() ? new EArray() : new EArray(what);
+                case BOO:
+                    return EBool.make(in.readBoolean());
+                case IDA:
+                    String name = readName();
+                    return new EIdArray(datas, name, readInt());
+                case IDE:
+                    return new EIdentifier(datas, readName());
+                case INT:
+                    return EInt.make(readInt());
+                case SET_B:
+                    EInt low = EInt.make(readInt());
+                    return new ESetBounds(low, EInt.make(readInt()));
+                case SET_L:
+                    return new ESetList(readEInts());
+                case STR:
+                    return new EString(in.readUTF());
+                case FLT:
+                    return EFloat.make(in.readFloat());
+                default:
+                    throw new ParserException("Corrupted FlatZinc snapshot");
+            }
+        }
+
+        private Declaration readDeclaration() throws IOException {
+            switch (DTYPES[in.readUnsignedByte()]) {
+                case BOOL:
+                    return DBool.me;
+                case FLOAT:
+                    return DFloat.me;
+                case INT:
+                    return DInt.me;
+                case SETOFINT:
+                    return DSetOfInt.me;
+                case ARRAY:
+                    int n = readVarInt();
+                    List<Declaration> indices = new ArrayList<>(n);
+                    for (int i = 0; i < n; i++) {
+                        indices.add(readDeclaration());
+                    }
+                    return new DArray(indices, readDeclaration());
+                case SET:
+                    return new DSet(readDeclaration());
+                case INT2:
+                    EInt low = EInt.make(readInt());
+                    return new DInt2(low, EInt.make(readInt()));
+                case INTN:
+                    return new DManyInt(readEInts());
+                default:
+                    throw new ParserException("Corrupted FlatZinc snapshot");
+            }
+        }
+    }
+}
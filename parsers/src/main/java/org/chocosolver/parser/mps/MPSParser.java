@@ -10,6 +10,7 @@
 package org.chocosolver.parser.mps;
 
 import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.Tokenizer;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
@@ -17,13 +18,12 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.chocosolver.util.tools.VariableUtils;
 
-import java.io.*;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.zip.GZIPInputStream;
 
 /**
  * <p> Project: choco-parsers.
@@ -44,8 +44,8 @@ public class MPSParser {
     private static final String TAG_ENDATA = "ENDATA";
     private static final String TAG_MARKER = "'MARKER'";
     private static final String TAG_INTORG = "'INTORG'";
-
-    private static final int CACHING = 12 * 5;
+    // the sections, the first four are mandatory
+    private static final String[] TAGS = {TAG_NAME, TAG_ROWS, TAG_COLUMNS, TAG_RHS, TAG_RANGES, TAG_BOUNDS, TAG_ENDATA};
 
     private HashMap<String, String> ope4eq;
     private HashMap<String, List<Number>> coeffs4eq;
@@ -78,117 +78,114 @@ public class MPSParser {
         this.POS_INF = pinf;
         this.NEG_INF = ninf;
 
-        Reader reader = null;
-        GZIPInputStream gzis = null;
-        if (instance.endsWith("mps.gz")) {
-            FileInputStream fin = new FileInputStream(instance);
-            gzis = new GZIPInputStream(fin);
-            reader = new InputStreamReader(gzis);
-        } else {
-            reader = new FileReader(instance);
-        }
-        try (BufferedReader br = new BufferedReader(reader)) {
-            readName(br);
-            readRows(br);
-            readColumns(br);
-            readRHS(br);
-            // optional tags
-            br.reset();
-            String line = br.readLine();
-            while (line != null && !line.startsWith(TAG_ENDATA)) {
-                if (line.startsWith(TAG_RANGES)) {
-                    readRanges(br);
-                }
-                if (line.startsWith(TAG_BOUNDS)) {
-                    readBounds(br);
-                }
-                br.mark(CACHING);
-                line = br.readLine();
-            }
+        try (Tokenizer tk = new Tokenizer(instance)) {
+            read(tk);
         }
         build(model, maximize, ibex, noeq);
-        reader.close();
-        if(gzis != null) {
-            gzis.close();
-        }
     }
 
-    private void readName(BufferedReader br) throws IOException {
-        String line = br.readLine();
-        // read NAME
-        while (line != null && !line.startsWith(TAG_NAME)) {
-            line = br.readLine();
-        }
-        if (line == null) {
-            throw new ParserException("No tag \"NAME\" found");
-        }
-        br.mark(CACHING);
-        line = br.readLine();
-        assert line.startsWith(TAG_ROWS);
-    }
-
-    private void readRows(BufferedReader br) throws IOException {
-        br.reset();
-        String line = br.readLine();
-        if (line == null || !line.startsWith(TAG_ROWS)) {
-            throw new ParserException("No tag \"ROWS\" found");
-        }
-        line = br.readLine();
-        String[] values;
-        // read the next one, which contains the name of the first constraint
-        while (line != null && !line.startsWith(TAG_COLUMNS)) {
-            // Fields start in column 2, 5, 15, 25, 40 and 50
-            values = Arrays.stream(line.split(" ")).filter(v -> v.length() > 0).toArray(String[]::new);
-            switch (values[0]) {
-                case "N":
+    /**
+     * Read the sections of the file line by line.
+     * A line starting with a blank belongs to the last section declared, lines starting with '*' are comments.
+     */
+    private void read(Tokenizer tk) throws IOException {
+        String section = null;
+        boolean isInt = false;
+        boolean[] found = new boolean[TAGS.length];
+        while (tk.nextLine()) {
+            int first = tk.peek();
+            if (first == '*' || !tk.next()) {
+                continue;
+            }
+            if (first != ' ' && first != '\t') {
+                section = null;
+                for (int t = 0; t < TAGS.length; t++) {
+                    if (tk.is(TAGS[t])) {
+                        // the mandatory sections are expected in order
+                        for (int u = 0; u < Math.min(t, 4); u++) {
+                            if (!found[u]) {
+                                throw new ParserException("No tag \"" + TAGS[u] + "\" found");
+                            }
+                        }
+                        found[t] = true;
+                        section = TAGS[t];
+                    }
+                }
+                if (TAG_ENDATA.equals(section)) {
+                    return;
+                }
+                continue;
+            }
+            if (section == null) {
+                continue;
+            }
+            switch (section) {
+                case TAG_ROWS:
+                    readRow(tk);
                     break;
-                case "E":
-                    ope4eq.put(values[1], "=");
+                case TAG_COLUMNS:
+                    String vnam = tk.token();
+                    tk.next();
+                    if (tk.is(TAG_MARKER)) {
+                        tk.next();
+                        isInt = tk.is(TAG_INTORG);
+                    } else {
+                        if (!decVars.containsKey(vnam)) {
+                            decVars.put(vnam, null);
+                            allvars.add(vnam);
+                        }
+                        do {
+                            String cnam = tk.token();
+                            tk.next();
+                            addElement(cnam, vnam, tk.numberValue(), isInt);
+                        } while (tk.next());
+                    }
                     break;
-                case "L":
-                    ope4eq.put(values[1], "<=");
+                case TAG_RHS:
+                    while (tk.next()) {
+                        String cnam = tk.token();
+                        tk.next();
+                        rhs4eq.putIfAbsent(cnam, tk.numberValue());
+                    }
+                    break;
+                case TAG_RANGES:
+                    while (tk.next()) {
+                        String cnam = tk.token();
+                        tk.next();
+                        range4eq.putIfAbsent(cnam, tk.numberValue());
+                    }
                     break;
-                case "G":
-                    ope4eq.put(values[1], ">=");
+                case TAG_BOUNDS:
+                    readBound(tk);
                     break;
-                default:
-                    throw new ParserException("Unknown identifier \"" + values[0] + "\"");
             }
-            br.mark(CACHING);
-            line = br.readLine();
+        }
+        for (int u = 0; u < 4; u++) {
+            if (!found[u]) {
+                throw new ParserException("No tag \"" + TAGS[u] + "\" found");
+            }
         }
     }
 
-    private void readColumns(BufferedReader br) throws IOException {
-        br.reset();
-        String line = br.readLine();
-        if (line == null || !line.startsWith(TAG_COLUMNS)) {
-            throw new ParserException("No tag \"COLUMNS\" found");
+    private void readRow(Tokenizer tk) throws IOException {
+        if (tk.is("N")) {
+            return;
         }
-        line = br.readLine();
-        boolean isInt = false;
-        String[] values;
-        // read the next one, which contains the first instruction
-        while (line != null && !line.startsWith(TAG_RHS)) {
-            values = Arrays.stream(line.split(" ")).filter(v -> v.length() > 0).toArray(String[]::new);
-            if (values[1].equals(TAG_MARKER)) {
-                isInt = values[2].equals(TAG_INTORG);
-            } else {
-                if (!decVars.containsKey(values[0])) {
-                    decVars.put(values[0], null);
-                    allvars.add(values[0]);
-                }
-                addElement(values[1], values[0], values[2], isInt);
-                if (values.length == 5) {
-                    addElement(values[3], values[0], values[4], isInt);
-                }
-            }
-            br.mark(CACHING);
-            line = br.readLine();
+        String ope;
+        if (tk.is("E")) {
+            ope = "=";
+        } else if (tk.is("L")) {
+            ope = "<=";
+        } else if (tk.is("G")) {
+            ope = ">=";
+        } else {
+            throw new ParserException("Unknown identifier \"" + tk.token() + "\"");
         }
+        tk.next();
+        ope4eq.put(tk.token(), ope);
     }
 
-    private void addElement(String cnam, String vnam, String coeff, boolean isInt) {
+    private void addElement(String cnam, String vnam, Number coeff, boolean isInt) {
         List<Number> coeffs = coeffs4eq.get(cnam);
         ArrayList<String> vars = vars4eq.get(cnam);
         if (coeffs == null) {
@@ -197,11 +194,7 @@ public class MPSParser {
             coeffs4eq.put(cnam, coeffs);
             vars4eq.put(cnam, vars);
         }
-        if (coeff.matches("-?\\d+")) {
-            coeffs.add(Integer.parseInt(coeff));
-        } else {
-            coeffs.add(Double.parseDouble(coeff));
-        }
+        coeffs.add(coeff);
         vars.add(vnam);
         Boolean vint = varsIsInt.get(vnam);
         if (vint == null) {
@@ -212,149 +205,61 @@ public class MPSParser {
         }
     }
 
-    private void readRHS(BufferedReader br) throws IOException {
-        br.reset();
-        String line = br.readLine();
-        if (line == null || !line.startsWith(TAG_RHS)) {
-            throw new ParserException("No tag \"RHS\" found");
-        }
-        line = br.readLine();
-        String[] values;
-        while (line != null
-                && !line.startsWith(TAG_RANGES)
-                && !line.startsWith(TAG_BOUNDS)
-                && !line.startsWith(TAG_ENDATA)) {
-            values = Arrays.stream(line.split(" ")).filter(v -> v.length() > 0).toArray(String[]::new);
-            addRhs(values[1], values[2]);
-            if (values.length == 5) {
-                addRhs(values[3], values[4]);
-            }
-            br.mark(CACHING);
-            line = br.readLine();
-        }
-    }
-
-    private void addRhs(String cnam, String rhsv) {
-        Number rhs = rhs4eq.get(cnam);
-        if (rhs == null) {
-            if (rhsv.matches("-?\\d+")) {
-                rhs = Integer.parseInt(rhsv);
-            } else {
-                rhs = Double.parseDouble(rhsv);
-            }
-            rhs4eq.put(cnam, rhs);
-        }
-    }
-
-    private void readRanges(BufferedReader br) throws IOException {
-        br.reset();
-        String line = br.readLine();
-        if (line == null || !line.startsWith(TAG_RANGES)) {
-            throw new ParserException("No tag \"RANGES\" found");
-        }
-        line = br.readLine();
-        String[] values;
-        while (line != null
-                && !line.startsWith(TAG_BOUNDS)
-                && !line.startsWith(TAG_ENDATA)) {
-            values = Arrays.stream(line.split(" ")).filter(v -> v.length() > 0).toArray(String[]::new);
-            addRange(values[1], values[2]);
-            if (values.length > 3) {
-                addRange(values[3], values[4]);
-            }
-            br.mark(CACHING);
-            line = br.readLine();
+    private void readBound(Tokenizer tk) throws IOException {
+        String type = tk.token();
+        tk.next();
+        tk.next();
+        String var = tk.token();
+        Number[] bounds = varsDom.computeIfAbsent(var, k -> new Number[]{0, POS_INF});
+        Number val = tk.next() ? tk.numberValue() : null;
+        if (val == null && (type.equals("LO") || type.equals("UP") || type.equals("FX"))) {
+            throw new ParserException("Missing bound for \"" + var + "\"");
         }
-    }
-
-    private void addRange(String cnam, String range) {
-        Number rng = range4eq.get(cnam);
-        if (rng == null) {
-            if (range.matches("-?\\d+")) {
-                rng = Integer.parseInt(range);
-            } else {
-                rng = Double.parseDouble(range);
-            }
-            range4eq.put(cnam, rng);
-        }
-    }
-
-    private void readBounds(BufferedReader br) throws IOException {
-        br.reset();
-        String line = br.readLine();
-        if (line == null || !line.startsWith(TAG_BOUNDS)) {
-            throw new ParserException("No tag \"BOUNDS\" found");
-        }
-        line = br.readLine();
-        String[] values;
-        while (line != null
-                && !line.startsWith(TAG_ENDATA)) {
-            values = Arrays.stream(line.split(" ")).filter(v -> v.length() > 0).toArray(String[]::new);
-            String var = values[2];
-            Number[] bounds = varsDom.computeIfAbsent(var, k -> new Number[]{0, POS_INF});
-            String val = values.length > 3 ? values[3] : "--";
-            switch (values[0]) {
-                case "LO":
-                    if (val.matches("-?\\d+")) {
-                        bounds[0] = Integer.parseInt(val);
-                    } else {
-                        bounds[0] = Double.parseDouble(val);
-                    }
-                    break;
-                case "UP":
-                    if (val.matches("-?\\d+")) {
-                        bounds[1] = Integer.parseInt(val);
-                    } else {
-                        bounds[1] = Double.parseDouble(val);
-                    }
-                    break;
-                case "FX":
-                    if (val.matches("-?\\d+")) {
-                        bounds[0] = bounds[1] = Integer.parseInt(val);
-                    } else {
-                        bounds[0] = bounds[1] = Double.parseDouble(val);
-                    }
-                    break;
-                case "FR":
-                    bounds[0] = NEG_INF;
-                    bounds[1] = POS_INF;
-                    break;
-                case "MI":
-                    bounds[0] = NEG_INF;
-                    bounds[1] = 0;
-                    break;
-                case "PL":
-                    bounds[0] = 0;
-                    bounds[1] = POS_INF;
-                    break;
-                case "BV":
-                    varsIsInt.put(var, true);
-                    bounds[0] = 0;
-                    bounds[1] = 1;
-                    break;
-                case "UI":
-                    varsIsInt.put(var, true);
-                    if (val.matches("-?\\d+")) {
-                        bounds[1] = Integer.parseInt(val);
-                    } else {
-                        throw new ParserException("UI refers to double instead of int");
-                    }
-                    break;
-                case "LI":
-                    varsIsInt.put(var, true);
-                    if (val.matches("-?\\d+")) {
-                        bounds[0] = Integer.parseInt(val);
-                    } else {
-                        throw new ParserException("LI refers to double instead of int");
-                    }
-                    break;
-                case "SC":
-                    throw new ParserException("semi-continuous not supported");
-                default:
-                    throw new ParserException("Unknown identifier \"" + values[0] + "\"");
-            }
-            br.mark(CACHING);
-            line = br.readLine();
+        switch (type) {
+            case "LO":
+                bounds[0] = val;
+                break;
+            case "UP":
+                bounds[1] = val;
+                break;
+            case "FX":
+                bounds[0] = bounds[1] = val;
+                break;
+            case "FR":
+                bounds[0] = NEG_INF;
+                bounds[1] = POS_INF;
+                break;
+            case "MI":
+                bounds[0] = NEG_INF;
+                bounds[1] = 0;
+                break;
+            case "PL":
+                bounds[0] = 0;
+                bounds[1] = POS_INF;
+                break;
+            case "BV":
+                varsIsInt.put(var, true);
+                bounds[0] = 0;
+                bounds[1] = 1;
+                break;
+            case "UI":
+                varsIsInt.put(var, true);
+                if (!(val instanceof Integer)) {
+                    throw new ParserException("UI refers to double instead of int");
+                }
+                bounds[1] = val;
+                break;
+            case "LI":
+                varsIsInt.put(var, true);
+                if (!(val instanceof Integer)) {
+                    throw new ParserException("LI refers to double instead of int");
+                }
+                bounds[0] = val;
+                break;
+            case "SC":
+                throw new ParserException("semi-continuous not supported");
+            default:
+                throw new ParserException("Unknown identifier \"" + type + "\"");
         }
     }
 
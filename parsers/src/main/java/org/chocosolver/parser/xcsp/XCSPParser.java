@@ -14,6 +14,7 @@ import gnu.trove.map.hash.TObjectIntHashMap;
 import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.ColumnarTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
@@ -45,6 +46,7 @@ import org.xcsp.parser.entries.XVariables;
 
 import java.io.File;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -67,6 +69,8 @@ public class XCSPParser implements XCallbacks2 {
     private static final String S_LIST_OUT = "</list>";
     private static final String S_VALU_IN = "<values>";
     private static final String S_VALU_OUT = "</values>";
+    // above this number of tuples, tuples are filtered in parallel
+    private static final int PARALLEL_FILTERING = 1 << 14;
 
     /**
      * Mapping between XCSP vars and Choco vars
@@ -77,6 +81,12 @@ public class XCSPParser implements XCallbacks2 {
     protected TIntObjectHashMap<String> intToSymbol;
     protected int unusedSymbol = 0;
     private ArrayList<IntVar> ovars;
+    /**
+     * Tables already built, by array of tuples.
+     * The XCSP3 parser gives the same array to all the extension constraints of a group,
+     * so their tuples are filtered and stored only once.
+     */
+    IdentityHashMap<Object, List<SharedTable>> tables;
     /**
      * The model to feed
      */
@@ -85,12 +95,7 @@ public class XCSPParser implements XCallbacks2 {
     Implem implem;
 
     public void model(Model model, String instance) throws Exception {
-        this.model = model;
-        this.mvars = new HashMap<>();
-        this.symbolics = new HashSet<>();
-        this.symbolToInt = new TObjectIntHashMap<>();
-        this.intToSymbol = new TIntObjectHashMap<>();
-        this.implem = new Implem(this);
+        init(model);
         File file = new File(instance);
         if (file.exists()) {
             loadInstance(instance);
@@ -99,6 +104,27 @@ public class XCSPParser implements XCallbacks2 {
         }
     }
 
+    /**
+     * Prepare the parser to feed <i>model</i>.
+     *
+     * @param model the model to feed
+     */
+    void init(Model model) {
+        this.model = model;
+        this.mvars = new HashMap<>();
+        this.symbolics = new HashSet<>();
+        this.symbolToInt = new TObjectIntHashMap<>();
+        this.intToSymbol = new TIntObjectHashMap<>();
+        this.tables = new IdentityHashMap<>();
+        this.implem = new Implem(this);
+    }
+
+    @Override
+    public void endConstraints() {
+        // all extension constraints are posted, shared tables are no longer looked up
+        tables = null;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /////////////////////////////////////////// VARIABLES //////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -408,38 +434,136 @@ public class XCSPParser implements XCallbacks2 {
 
     @Override
     public void buildCtrExtension(String id, XVariables.XVarSymbolic[] list, String[][] tuples, boolean positive, Set<Types.TypeFlag> flags) {
-        //noinspection StatementWithEmptyBody
-        if (flags.contains(Types.TypeFlag.UNCLEAN_TUPLES)) {
-            // do you have to clean the tuples, so as to remove those that cannot be built from variable domains ?
+        table(tuples, () -> Arrays.stream(tuples)
+                        .map(t -> Arrays.stream(t).mapToInt(e -> symbolToInt.get(e)).toArray())
+                        .toArray(int[][]::new),
+                vars(list), positive, flags);
+    }
+
+    @Override
+    public void buildCtrExtension(String id, XVariables.XVarInteger[] list, int[][] tuples, boolean positive, Set<Types.TypeFlag> flags) {
+        table(tuples, () -> tuples, vars(list), positive, flags);
+    }
+
+    /**
+     * Post a table constraint whose tuples are shared with the previous tables built from the same array of tuples,
+     * when no filtering is needed or when the variables have the same domains.
+     * Tuples that cannot be built from the domains are filtered out, in parallel for large tables,
+     * and the remaining ones are kept in a {@link ColumnarTuples} store shared by the table constraints.
+     *
+     * @param key      the array of tuples given by the XCSP3 parser
+     * @param supplier the tuples, as integers
+     * @param vars     the scope of the table
+     * @param positive <i>true</i> for supports, <i>false</i> for conflicts
+     * @param flags    flags of the tuples
+     */
+    private void table(Object key, Supplier<int[][]> supplier, IntVar[] vars, boolean positive, Set<Types.TypeFlag> flags) {
+        boolean starred = flags.contains(Types.TypeFlag.STARRED_TUPLES);
+        if (starred && !positive) {
+            // can you manage tables with symbol * ?
+            throw new ParserException("Negative tables with symbol * are not supported");
+        }
+        boolean unclean = flags.contains(Types.TypeFlag.UNCLEAN_TUPLES);
+        List<SharedTable> candidates = tables.computeIfAbsent(key, k -> new ArrayList<>(1));
+        SharedTable table = null;
+        for (int i = 0; i < candidates.size() && table == null; i++) {
+            if (candidates.get(i).accepts(vars, unclean)) {
+                table = candidates.get(i);
+            }
         }
-        Tuples mTuples = new Tuples(Arrays.stream(tuples)
-                .map(t -> Arrays.stream(t).mapToInt(e -> symbolToInt.get(e)).toArray())
-                .toArray(int[][]::new), positive);
-        if (flags.contains(Types.TypeFlag.STARRED_TUPLES)) {
-            if (!positive) {
-                // can you manage tables with symbol * ?
-                throw new ParserException("Negative tables with symbol * are not supported");
+        if (table == null) {
+            int[][] tuples = supplier.get();
+            if (unclean) {
+                tuples = filter(tuples, vars, starred);
             }
+            table = new SharedTable(unclean ? vars : null,
+                    tuples.length == 0 ? null : ColumnarTuples.of(vars.length, Arrays.asList(tuples)));
+            candidates.add(table);
+        }
+        if (table.store == null) {
+            // no tuple can be built from the domains
+            if (positive) {
+                model.falseConstraint().post();
+            }
+            return;
+        }
+        Tuples mTuples = new Tuples(table.store, positive);
+        if (starred) {
             mTuples.setUniversalValue(STAR_INT);
         }
-        model.table(vars(list), mTuples).post();
+        model.table(vars, mTuples).post();
     }
 
-    @Override
-    public void buildCtrExtension(String id, XVariables.XVarInteger[] list, int[][] tuples, boolean positive, Set<Types.TypeFlag> flags) {
-        //noinspection StatementWithEmptyBody
-        if (flags.contains(Types.TypeFlag.UNCLEAN_TUPLES)) {
-            // do you have to clean the tuples, so as to remove those that cannot be built from variable domains ?
+    /**
+     * @return the tuples whose values all belong to the domains of <i>vars</i>
+     */
+    private static int[][] filter(int[][] tuples, IntVar[] vars, boolean starred) {
+        Stream<int[]> stream = Arrays.stream(tuples);
+        if (tuples.length >= PARALLEL_FILTERING) {
+            // domains are only read
+            stream = stream.parallel();
+        }
+        return stream.filter(t -> {
+            for (int i = 0; i < vars.length; i++) {
+                if (!(starred && t[i] == STAR_INT) && !vars[i].contains(t[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }).toArray(int[][]::new);
+    }
+
+    /**
+     * Tuples filtered for a scope, or not filtered at all.
+     */
+    static final class SharedTable {
+        // the scope the tuples are filtered for, null if they are not
+        final IntVar[] scope;
+        final long hash;
+        // null if no tuple remains
+        final ColumnarTuples store;
+
+        SharedTable(IntVar[] scope, ColumnarTuples store) {
+            this.scope = scope;
+            this.hash = scope == null ? 0 : hash(scope);
+            this.store = store;
+        }
+
+        private static long hash(IntVar[] vars) {
+            long h = 1;
+            for (IntVar v : vars) {
+                h = 31 * (31 * (31 * h + v.getLB()) + v.getUB()) + v.getDomainSize();
+            }
+            return h;
         }
-        Tuples mTuples = new Tuples(tuples, positive);
-        if (flags.contains(Types.TypeFlag.STARRED_TUPLES)) {
-            if (!positive) {
-                // can you manage tables with symbol * ?
-                throw new ParserException("Negative tables with symbol * are not supported");
+
+        boolean accepts(IntVar[] vars, boolean unclean) {
+            if (scope == null || !unclean) {
+                return scope == null && !unclean;
             }
-            mTuples.setUniversalValue(STAR_INT);
+            if (scope.length != vars.length || hash != hash(vars)) {
+                return false;
+            }
+            for (int i = 0; i < vars.length; i++) {
+                if (scope[i] != vars[i] && !sameDomain(scope[i], vars[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameDomain(IntVar a, IntVar b) {
+            if (a.getDomainSize() != b.getDomainSize()) {
+                return false;
+            }
+            int ub = a.getUB();
+            for (int va = a.getLB(), vb = b.getLB(); va <= ub; va = a.nextValue(va), vb = b.nextValue(vb)) {
+                if (va != vb) {
+                    return false;
+                }
+            }
+            return true;
         }
-        model.table(vars(list), mTuples).post();
     }
 
     @Override
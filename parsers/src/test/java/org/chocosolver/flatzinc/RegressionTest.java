@@ -11,6 +11,8 @@ package org.chocosolver.flatzinc;
 
 import org.chocosolver.parser.SetUpException;
 import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.parser.flatzinc.ast.Snapshot;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.SearchState;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -21,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -89,4 +92,29 @@ public class RegressionTest {
             Assert.assertEquals(fzn.getModel().getSolver().getObjectiveManager().getBestSolutionValue(), bst, "Unexpected best solution");
         }
     }
+
+    @Test(groups = "mzn", dataProvider = "instances", timeOut = 60000, priority = 1)
+    public void testSnapshots(String path, int solutions, Integer bst, int nodes, int failures) throws SetUpException, IOException {
+        String file = this.getClass().getResource(path).getFile();
+        Path snapshot = Files.createTempFile("regression", Snapshot.EXTENSION);
+        try {
+            // the first run saves the snapshot, the second one loads it
+            for (String[] args : new String[][]{
+                    {file, "-snapshot", snapshot.toString(), "-lvl", "SILENT", "-p", "1"},
+                    {snapshot.toString(), "-lvl", "SILENT", "-p", "1"}}) {
+                Flatzinc fzn = new Flatzinc();
+                fzn.setUp(args);
+                fzn.createSolver();
+                fzn.buildModel();
+                fzn.configureSearch();
+                fzn.solve();
+                Solver solver = fzn.getModel().getSolver();
+                Assert.assertEquals(solver.getSolutionCount(), solutions, "Unexpected number of solutions");
+                Assert.assertEquals(solver.getNodeCount(), nodes, "Unexpected number of nodes");
+                Assert.assertEquals(solver.getFailCount(), failures, "Unexpected number of failures");
+            }
+        } finally {
+            Files.delete(snapshot);
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TokenizerTest {
+
+    private static final String TEXT = "c comment\n" +
+            "p cnf 3 2\n" +
+            "1 -2 0\n" +
+            "  2.5e3\t-0.125 +7 abc\r\n" +
+            "\n" +
+            "-2147483648 1e400 12345678901 0.1\n" +
+            "last";
+
+    @DataProvider
+    public Object[][] channels() {
+        byte[] bytes = TEXT.getBytes(StandardCharsets.US_ASCII);
+        // a channel that reads one byte at a time, so that tokens overlap the buffer refills
+        ReadableByteChannel slow = new ReadableByteChannel() {
+            int p = 0;
+
+            @Override
+            public int read(ByteBuffer dst) {
+                if (p == bytes.length) {
+                    return -1;
+                }
+                dst.put(bytes[p++]);
+                return 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        return new Object[][]{
+                {Channels.newChannel(new ByteArrayInputStream(bytes))},
+                {slow}
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "channels")
+    public void testTokens(ReadableByteChannel channel) throws IOException {
+        try (Tokenizer tk = new Tokenizer(channel)) {
+            Assert.assertTrue(tk.nextLine());
+            Assert.assertEquals(tk.peek(), 'c');
+            Assert.assertTrue(tk.nextLine());
+            Assert.assertTrue(tk.next());
+            Assert.assertTrue(tk.is("p"));
+            Assert.assertTrue(tk.next());
+            Assert.assertTrue(tk.is("cnf"));
+            Assert.assertFalse(tk.is("cn"));
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.intValue(), 3);
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.intValue(), 2);
+            Assert.assertFalse(tk.next());
+            Assert.assertTrue(tk.nextLine());
+            int[] ints = {1, -2, 0};
+            for (int v : ints) {
+                Assert.assertTrue(tk.next());
+                Assert.assertTrue(tk.isInteger());
+                Assert.assertEquals(tk.intValue(), v);
+            }
+            Assert.assertFalse(tk.next());
+            Assert.assertTrue(tk.nextLine());
+            Assert.assertEquals(tk.peek(), ' ');
+            Assert.assertTrue(tk.next());
+            Assert.assertFalse(tk.isInteger());
+            Assert.assertEquals(tk.doubleValue(), 2500.);
+            Assert.assertEquals(tk.numberValue(), 2500.);
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.doubleValue(), -0.125);
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.intValue(), 7);
+            Assert.assertEquals(tk.numberValue(), 7.);
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.token(), "abc");
+            Assert.assertFalse(tk.next());
+            Assert.assertTrue(tk.nextLine());
+            Assert.assertFalse(tk.next());
+            Assert.assertTrue(tk.nextLine());
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.intValue(), Integer.MIN_VALUE);
+            Assert.assertEquals(tk.numberValue(), Integer.MIN_VALUE);
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.doubleValue(), Double.POSITIVE_INFINITY);
+            Assert.assertTrue(tk.next());
+            Assert.assertThrows(ParserException.class, tk::intValue);
+            Assert.assertEquals(tk.numberValue(), 12345678901.);
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.doubleValue(), 0.1);
+            Assert.assertTrue(tk.nextLine());
+            Assert.assertTrue(tk.next());
+            Assert.assertEquals(tk.token(), "last");
+            Assert.assertFalse(tk.next());
+            Assert.assertFalse(tk.nextLine());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDoubles() {
+        String[] values = {"0", "-0", "1.5", "-17.25e-3", "3E+2", ".5", "5.", "123456789012345678", "1e-300",
+                "0.30000000000000004", "-1.7976931348623157E308", "4.9e-324", "NaN", "Infinity"};
+        for (String v : values) {
+            byte[] bytes = v.getBytes(StandardCharsets.US_ASCII);
+            try (Tokenizer tk = new Tokenizer(Channels.newChannel(new ByteArrayInputStream(bytes)))) {
+                Assert.assertTrue(tk.next());
+                Assert.assertEquals(Double.doubleToLongBits(tk.doubleValue()),
+                        Double.doubleToLongBits(Double.parseDouble(v)), v);
+            } catch (IOException e) {
+                Assert.fail(v, e);
+            }
+        }
+    }
+}
@@ -9,12 +9,17 @@
  */
 package org.chocosolver.parser.flatzinc;
 
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Snapshot;
 import org.chocosolver.solver.Model;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 /*
  * User : CPRUDHOM
@@ -400,4 +405,55 @@ public class FlatzincModelTest {
         }
         Assert.assertEquals(model.getSolver().getSolutionCount(), 0);
     }
+
+    private static byte[] snapshot(String fzn) throws IOException {
+        Flatzinc parser = new Flatzinc(false, false, 1);
+        parser.createSettings();
+        parser.createSolver();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Snapshot snap = new Snapshot(bytes)) {
+            parser.datas[0].setSnapshot(snap);
+            parser.parse(parser.getModel(), parser.datas[0], new ByteArrayInputStream(fzn.getBytes()));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Model load(byte[] bytes) throws IOException {
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSettings();
+        fzn.createSolver();
+        Snapshot.load(fzn.getModel(), fzn.datas[0], new ByteArrayInputStream(bytes));
+        return fzn.getModel();
+    }
+
+    @Test(groups = "1s")
+    public void testSnapshot() throws IOException {
+        byte[] bytes = snapshot("array[1 .. 3] of var 1 .. 3: q::output_array([1..3]);\n" +
+                "constraint fzn_all_different_int(q);\n" +
+                "solve satisfy;");
+        Model model = load(bytes);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 6);
+    }
+
+    @Test(groups = "1s")
+    public void testTruncatedSnapshot() throws IOException {
+        byte[] bytes = snapshot("var 1 .. 2: a::output_var;\n" +
+                "constraint int_ne(a, 1);\n" +
+                "solve satisfy;");
+        for (int n = 0; n < bytes.length; n++) {
+            try {
+                load(Arrays.copyOf(bytes, n));
+                Assert.fail("a snapshot of " + n + " bytes out of " + bytes.length + " is loaded");
+            } catch (ParserException ignored) {
+            }
+        }
+    }
+
+    @Test(groups = "1s", expectedExceptions = ParserException.class)
+    public void testTrailingSnapshot() throws IOException {
+        byte[] bytes = snapshot("var 1 .. 2: a::output_var;\n" +
+                "constraint int_ne(a, 1);\n" +
+                "solve satisfy;");
+        load(Arrays.copyOf(bytes, bytes.length + 1));
+    }
 }
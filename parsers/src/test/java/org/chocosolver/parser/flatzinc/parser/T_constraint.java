@@ -9,11 +9,13 @@
  */
 package org.chocosolver.parser.flatzinc.parser;
 
+import org.chocosolver.parser.Level;
 import org.chocosolver.parser.flatzinc.Flatzinc4Parser;
 import org.chocosolver.parser.flatzinc.ast.Datas;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Arithmetic;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -82,5 +84,25 @@ public class T_constraint extends GrammarTest {
 //        Assert.assertTrue(c instanceof Sum);
     }
 
-
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPostponed() throws IOException {
+        map = new Datas(mSolver, Level.SILENT, false);
+        map.register("x", mSolver.intVar("x", 0, 2, true));
+        map.register("y", mSolver.intVar("y", 0, 2, true));
+        map.register("z", mSolver.intVar("z", 0, 2, true));
+        Flatzinc4Parser fp = parser("constraint tableChoco([x,y],[0,1,1,2,2,0]);\n" +
+                "constraint int_le(y,z);\n" +
+                "constraint tableChoco([y,z,x],[1,1,0,2,2,1,2,1,1]);\n", mSolver, map);
+        fp.constraint();
+        fp.constraint();
+        fp.constraint();
+        Assert.assertEquals(mSolver.getCstrs().length, 0);
+        map.postConstraints(mSolver);
+        Constraint[] cstrs = mSolver.getCstrs();
+        Assert.assertEquals(cstrs.length, 3);
+        Assert.assertEquals(cstrs[0].getName(), ConstraintsName.TABLE);
+        Assert.assertTrue(cstrs[1] instanceof Arithmetic);
+        Assert.assertEquals(cstrs[2].getName(), ConstraintsName.TABLE);
+        Assert.assertEquals(mSolver.getSolver().findAllSolutions().size(), 2);
+    }
 }
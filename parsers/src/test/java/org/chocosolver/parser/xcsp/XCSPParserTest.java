@@ -0,0 +1,132 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.xcsp;
+
+import org.chocosolver.solver.Model;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.xcsp.common.Types;
+import org.xcsp.common.domains.Domains;
+import org.xcsp.parser.entries.XVariables;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class XCSPParserTest {
+
+    private static Model parse(String xml) throws Exception {
+        Path file = Files.createTempFile("instance", ".xml");
+        try {
+            Files.write(file, xml.getBytes());
+            Model model = new Model();
+            new XCSPParser().model(model, file.toString());
+            return model;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGroupOfTables() throws Exception {
+        // tuples with 3 or 4 are out of the domains of x, the conflict (5,5) is out of the domains too
+        Model model = parse("<instance format=\"XCSP3\" type=\"CSP\">\n" +
+                "  <variables>\n" +
+                "    <array id=\"x\" size=\"[4]\"> 0..2 </array>\n" +
+                "    <var id=\"y\"> 3 4 </var>\n" +
+                "  </variables>\n" +
+                "  <constraints>\n" +
+                "    <group>\n" +
+                "      <extension>\n" +
+                "        <list> %0 %1 </list>\n" +
+                "        <supports> (0,1)(1,2)(2,0)(3,0)(0,4) </supports>\n" +
+                "      </extension>\n" +
+                "      <args> x[0] x[1] </args>\n" +
+                "      <args> x[1] x[2] </args>\n" +
+                "      <args> x[2] x[3] </args>\n" +
+                "    </group>\n" +
+                "    <extension>\n" +
+                "      <list> x[3] y </list>\n" +
+                "      <conflicts> (0,3)(5,5) </conflicts>\n" +
+                "    </extension>\n" +
+                "  </constraints>\n" +
+                "</instance>\n");
+        Assert.assertEquals(model.getNbCstrs(), 4);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 5);
+    }
+
+    private static XVariables.XVarInteger var(XCSPParser parser, String id, int... values) {
+        XVariables.XVarInteger x = (XVariables.XVarInteger) XVariables.XVar.build(id, Types.TypeVar.integer, new Domains.Dom(values));
+        parser.buildVarInteger(x, values);
+        return x;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUncleanTuplesSameDomains() {
+        Model model = new Model();
+        XCSPParser parser = new XCSPParser();
+        parser.init(model);
+        XVariables.XVarInteger[] x = new XVariables.XVarInteger[4];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = var(parser, "x" + i, 0, 1, 2);
+        }
+        int[][] tuples = {{0, 1}, {1, 2}, {2, 0}, {3, 0}, {0, 4}};
+        for (int i = 0; i < x.length - 1; i++) {
+            parser.buildCtrExtension("c" + i, new XVariables.XVarInteger[]{x[i], x[i + 1]}, tuples, true,
+                    EnumSet.of(Types.TypeFlag.UNCLEAN_TUPLES));
+        }
+        Assert.assertEquals(model.getNbCstrs(), 3);
+        // the tuples are filtered once and shared by the three tables
+        List<XCSPParser.SharedTable> tables = parser.tables.get(tuples);
+        Assert.assertEquals(tables.size(), 1);
+        Assert.assertEquals(tables.get(0).store.nbTuples(), 3);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUncleanTuplesDifferentDomains() {
+        Model model = new Model();
+        XCSPParser parser = new XCSPParser();
+        parser.init(model);
+        XVariables.XVarInteger x0 = var(parser, "x0", 0, 1, 2);
+        XVariables.XVarInteger x1 = var(parser, "x1", 0, 1, 2);
+        XVariables.XVarInteger y0 = var(parser, "y0", 0, 3);
+        XVariables.XVarInteger y1 = var(parser, "y1", 0, 4);
+        XVariables.XVarInteger z0 = var(parser, "z0", 7, 8);
+        XVariables.XVarInteger z1 = var(parser, "z1", 7, 8);
+        int[][] tuples = {{0, 1}, {1, 2}, {2, 0}, {3, 0}, {0, 4}};
+        parser.buildCtrExtension("c0", new XVariables.XVarInteger[]{x0, x1}, tuples, true,
+                EnumSet.of(Types.TypeFlag.UNCLEAN_TUPLES));
+        parser.buildCtrExtension("c1", new XVariables.XVarInteger[]{y0, y1}, tuples, true,
+                EnumSet.of(Types.TypeFlag.UNCLEAN_TUPLES));
+        parser.buildCtrExtension("c2", new XVariables.XVarInteger[]{x1, x0}, tuples, false,
+                EnumSet.noneOf(Types.TypeFlag.class));
+        parser.buildCtrExtension("c3", new XVariables.XVarInteger[]{z0, z1}, tuples, false,
+                EnumSet.of(Types.TypeFlag.UNCLEAN_TUPLES));
+        List<XCSPParser.SharedTable> tables = parser.tables.get(tuples);
+        Assert.assertEquals(tables.size(), 4);
+        Assert.assertEquals(tables.get(0).store.nbTuples(), 3);
+        Assert.assertEquals(tables.get(1).store.nbTuples(), 2);
+        // clean tuples are kept as given
+        Assert.assertEquals(tables.get(2).store.nbTuples(), 5);
+        // no conflict remains, nothing is posted
+        Assert.assertNull(tables.get(3).store);
+        Assert.assertEquals(model.getNbCstrs(), 3);
+        // 3 supports for x, none of them is a conflict of (x1,x0), 2 supports for y, z is free
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 3 * 2 * 4);
+    }
+}
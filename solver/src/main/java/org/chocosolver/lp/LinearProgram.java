@@ -11,13 +11,19 @@ package org.chocosolver.lp;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Optional;
+import java.util.Map;
 
 /**
- * <p>A linear program, equipped with a Simplex method.</p>
- * <p>This is based on "Introduction to Algorithms, Third Edition",
- * By Thomas H. Cormen, Charles E. Leiserson, Ronald L. Rivest and Clifford Stein,
- * 29.3 The simplex algorithm.</p>
+ * <p>A linear program, equipped with a (bounded) revised Simplex method.</p>
+ * <p>The constraints are stored as sparse rows, and a compressed column copy is built on demand.
+ * The basis inverse is never stored explicitly: the basis is factorized as a sparse LU,
+ * which is updated in product form after each pivot and periodically refactorized.
+ * The variables are bounded, by default in [0, +&infin;).
+ * A first call to {@link #simplex()} runs a two-phase primal Simplex, with Devex pricing.
+ * The final basis is kept, so that, after a modification of the bounds, of the objective function
+ * or after adding some constraints, the next call warm-starts from it,
+ * running the dual Simplex when the basis is no longer primal feasible.
+ * </p>
  * <p>There are various ways to declare a LP.
  * Either, by giving it as a standard form providing the A nxm-matrix, the m-vector b and the n-vector c.
  * <pre> {@code
@@ -28,7 +34,8 @@ import java.util.Optional;
  * }</pre>
  * <p>
  * Or, by declaring the variables first and then adding some constraints and the objective function.
- * In that case, all the variables must be declared first and have to be nonnegative (&ge; 0).
+ * In that case, all the variables must be declared first and are nonnegative (&ge; 0) unless
+ * their bounds are modified with {@link #setBounds(int, double, double)}.
  * <pre> {@code
  *  LinearProgram lp = new LinearProgram(false);
  *  lp.makeVariables(2);
@@ -49,157 +56,6 @@ import java.util.Optional;
  */
 public class LinearProgram {
 
-    private static class Slack {
-        // number of non-basic variables
-        private final int n;
-        // number of basic variables
-        private final int m;
-        // a mxn matrix
-        private final double[][] A;
-        // an m-vector
-        private final double[] b;
-        // an n-vector
-        private final double[] c;
-        // an m-vector, the basic variables
-        private final int[] B;
-        // an n-vector, the non-basic variables
-        private final int[] N;
-        // an integer
-        private double v;
-
-        /**
-         * Slack form of a linear program
-         *
-         * @param a an m.n matrix
-         * @param b an m-vector
-         * @param c an n-vector
-         */
-        public Slack(double[][] a, double[] b, double[] c) {
-            this.m = b.length;
-            this.n = c.length;
-            this.A = new double[a.length][];
-            for(int i = 0; i < a.length; i++){
-                this.A[i] = a[i].clone();
-            }
-            this.b = b.clone();
-            this.c = c.clone();
-            this.N = new int[n];
-            this.B = new int[m];
-            this.v = 0;
-            initialBasicSolution();
-        }
-
-        /**
-         * Slack form of a linear program with N and B already defined
-         *
-         * @param a an m.n matrix
-         * @param b an m-vector
-         * @param c an n-vector
-         * @param N an n-vector
-         * @param B an m-vector
-         * @param v a double
-         */
-        public Slack(double[][] a, double[] b, double[] c, int[] N, int[] B, double v) {
-            this.m = b.length;
-            this.n = c.length;
-            //clone?
-            this.A = a;
-            this.b = b;
-            this.c = c;
-            this.N = N;
-            this.B = B;
-            this.v = v;
-        }
-
-        /**
-         * Initialize N and B wrt basic solution
-         */
-        private void initialBasicSolution() {
-            this.v = 0;
-            for (int i = 0; i < n; i++) {
-                this.N[i] = i;
-            }
-            for (int i = 0; i < m; i++) {
-                this.B[i] = i + n;
-            }
-        }
-
-        /**
-         * The method takes as input a slack form and it modifies in-place A, b, c, v, N and B.
-         *
-         * @param l index of the leaving variable
-         * @param e index of the entering variable
-         */
-        void pivot(int l, int e, boolean trace) {
-            if (trace) System.out.printf("[pivot] e: x%d, l: x%d\n", B[l], N[e]);
-            // Compute the coefficients of the equation for new basic variable x_e
-            b[l] /= A[l][e];
-            for (int j = 0; j < n; j++) {
-                if (j != e) {
-                    A[l][j] /= A[l][e];
-                }
-            }
-            A[l][e] = 1 / A[l][e];
-            // Compute the coefficients of the remaining constraints
-            for (int i = 0; i < m; i++) {
-                if (i != l) {
-                    b[i] -= A[i][e] * b[l];
-                    for (int j = 0; j < n; j++) {
-                        if (j != e) {
-                            A[i][j] = A[i][j] - A[i][e] * A[l][j];
-                        }
-                    }
-                    A[i][e] *= -A[l][e];
-                }
-            }
-            // Compute the objective function
-            v += c[e] * b[l];
-            for (int j = 0; j < n; j++) {
-                if (j != e) {
-                    c[j] -= c[e] * A[l][j];
-                }
-            }
-            c[e] *= -A[l][e];
-
-            // Update basic and non-basic variables set
-            int x = N[e];
-            N[e] = B[l];
-            B[l] = x;
-        }
-
-        private void setValues(double[] x) {
-            for (int i = 0; i < m; ++i) {
-                if (B[i] < n) x[B[i]] = b[i];
-            }
-        }
-
-        @Override
-        public String toString() {
-            StringBuilder st = new StringBuilder();
-            st.append("z = ").append(v);
-            for (int i = 0; i < n; i++) {
-                st.append(c[i] >= 0. ? " + " : " - ")
-                        .append(String.format("%.4f", Math.abs(c[i])))
-                        .append(" * x").append(N[i]);
-            }
-            st.append("\n");
-            for (int j = 0; j < m; j++) {
-                st.append("x")
-                        .append(B[j])
-                        .append(" = ")
-                        .append(b[j]);
-                for (int i = 0; i < n; i++) {
-                    st.append(A[j][i] <= 0. ? " + " : " - ")
-                            .append(String.format("%.4f", Math.abs(A[j][i])))
-                            .append(" * x")
-                            .append(N[i]);
-                }
-                st.append("\n");
-            }
-            return st.toString();
-        }
-    }
-
     public enum Status {
         UNKNOWN,
         FEASIBLE,
@@ -207,16 +63,35 @@ public class LinearProgram {
         UNBOUNDED
     }
 
+    // primal and dual feasibility tolerance
+    private static final double EPS = 1e-9;
+    // smallest pivot accepted
+    private static final double PIVOT = 1e-9;
+    // maximum number of eta matrices before refactorizing the basis
+    private static final int REFACTOR = 100;
+    // number of consecutive degenerate pivots before switching to Bland's rule
+    private static final int DEGENERACY = 50;
+    // status of a nonbasic variable at its lower bound
+    private static final int AT_LB = -1;
+    // status of a nonbasic variable at its upper bound
+    private static final int AT_UB = -2;
+
     // number of variables
     int n;
     // number of constraints
     int m;
-    // a mxn matrix
-    private double[][] A;
+    // the constraints, row-wise: column indices of the nonzero coefficients
+    private int[][] rowIdx;
+    // the constraints, row-wise: nonzero coefficients
+    private double[][] rowVal;
     // an m-vector
     private double[] b;
     // an n-vector
     private double[] c;
+    // lower bounds of the variables
+    private double[] lb;
+    // upper bounds of the variables
+    private double[] ub;
     // an n-vector
     double[] x;
     double z;
@@ -225,6 +100,52 @@ public class LinearProgram {
     // trace the resolution
     final boolean trace;
 
+    // the constraints, column-wise, built on demand
+    private int[] colStart;
+    private int[] colRow;
+    private double[] colVal;
+    private boolean colDirty = true;
+
+    // Columns are: the variables in [0, n), the artificial variable n and the slack variables in [n + 1, n + 1 + m).
+    // rows in which the artificial variable has a -1 coefficient
+    private int[] artRows = new int[0];
+    private int artSize;
+    // upper bound of the artificial variable, +inf during phase 1, 0 otherwise
+    private double artUb;
+
+    // for each row, the basic variable
+    private int[] head = new int[0];
+    // for each column, its position in the basis or AT_LB/AT_UB
+    private int[] pos = new int[0];
+    // for each column, its value
+    private double[] val = new double[0];
+    // set to true when the current basis can be used to warm-start the next resolution
+    private boolean warm;
+
+    // eta file: pivot row, first entry, indices and values of each eta matrix
+    private int nbEtas;
+    // number of eta matrices resulting from the last refactorization
+    private int nbFactors;
+    private int[] etaRow = new int[16];
+    private int[] etaStart = new int[17];
+    private int[] etaIdx = new int[64];
+    private double[] etaVal = new double[64];
+
+    // work arrays
+    private double[] work = new double[0];
+    private double[] price = new double[0];
+    private double[] dj = new double[0];
+    private double[] alphaRow = new double[0];
+    private double[] rho = new double[0];
+    // Devex reference weights
+    private double[] weight = new double[0];
+    // number of consecutive degenerate pivots
+    private int degenerate;
+
+    // dual values and reduced costs of the last optimal solution
+    private double[] y = new double[0];
+    private double[] d = new double[0];
+
     /**
      * Create a LinearProgram instance that takes a linear program in standard form as input.
      *
@@ -235,16 +156,19 @@ public class LinearProgram {
      */
     public LinearProgram(double[][] matA, double[] vecB, double[] vecC, boolean trace) {
         super();
-        this.m = vecB.length;
         this.n = vecC.length;
-        this.A = new double[matA.length][];
-        for (int i = 0; i < matA.length; i++) {
-            this.A[i] = matA[i].clone();
-        }
-        this.b = vecB.clone();
         this.c = vecC.clone();
+        this.lb = new double[n];
+        this.ub = new double[n];
+        Arrays.fill(ub, Double.POSITIVE_INFINITY);
         this.x = new double[n];
         this.trace = trace;
+        this.rowIdx = new int[Math.max(vecB.length, 4)][];
+        this.rowVal = new double[rowIdx.length][];
+        this.b = new double[rowIdx.length];
+        for (int i = 0; i < vecB.length; i++) {
+            addRow(matA[i], vecB[i], 1.);
+        }
     }
 
     /**
@@ -281,10 +205,8 @@ public class LinearProgram {
      * @return the index of the variable
      */
     public int makeVariable() {
-        if (m > 0) {
-            throw new UnsupportedOperationException("Some constraints are already declared");
-        }
-        return n++;
+        makeVariables(1);
+        return n - 1;
     }
 
     /**
@@ -294,7 +216,14 @@ public class LinearProgram {
         if (m > 0) {
             throw new UnsupportedOperationException("Some constraints are already declared");
         }
+        int o = this.n;
         this.n += n;
+        this.c = Arrays.copyOf(c, this.n);
+        this.lb = Arrays.copyOf(lb, this.n);
+        this.ub = Arrays.copyOf(ub, this.n);
+        Arrays.fill(ub, o, this.n, Double.POSITIVE_INFINITY);
+        this.colDirty = true;
+        this.warm = false;
     }
 
     private void checkLength(double[] a) {
@@ -321,19 +250,68 @@ public class LinearProgram {
         }
     }
 
+    /**
+     * Set the bounds of the <i>j</i>th variable.
+     * The lower bound must be finite, the upper bound can be {@link Double#POSITIVE_INFINITY}.
+     * If the lower bound is greater than the upper bound, the next call to {@link #simplex()}
+     * returns {@link Status#INFEASIBLE}.
+     *
+     * @param j   index of the variable
+     * @param low the lower bound
+     * @param upp the upper bound
+     */
+    public void setBounds(int j, double low, double upp) {
+        if (Double.isInfinite(low)) {
+            throw new UnsupportedOperationException("The lower bound of a variable must be finite");
+        }
+        lb[j] = low;
+        ub[j] = upp;
+    }
+
+    /**
+     * @param j index of the variable
+     * @return the lower bound of the <i>j</i>th variable
+     */
+    public double lowerBound(int j) {
+        return lb[j];
+    }
+
+    /**
+     * @param j index of the variable
+     * @return the upper bound of the <i>j</i>th variable
+     */
+    public double upperBound(int j) {
+        return ub[j];
+    }
+
     /**
      * Drop the last declared constraint
      */
     public void dropLast() {
-        // decrease capacity of A
-        double[][] At = this.A;
-        A = new double[this.m - 1][this.n];
-        System.arraycopy(At, 0, this.A, 0, m -1);
-        // decrease capacity of b
-        double[] bt = this.b;
-        this.b = new double[this.m - 1];
-        System.arraycopy(bt, 0, this.b, 0, m - 1);
+        int i = m - 1;
+        if (warm) {
+            int s = slack(i);
+            int p = pos[s];
+            if (p >= 0) {
+                // the slack variable leaves the basis with its row
+                head[p] = head[i];
+                pos[head[p]] = p;
+            } else {
+                warm = false;
+            }
+        }
+        int k = 0;
+        for (int l = 0; l < artSize; l++) {
+            if (artRows[l] != i) {
+                artRows[k++] = artRows[l];
+            }
+        }
+        artSize = k;
+        rowIdx[i] = null;
+        rowVal[i] = null;
+        b[i] = 0.;
         m--;
+        colDirty = true;
     }
 
     /**
@@ -344,19 +322,7 @@ public class LinearProgram {
      */
     public void addLeq(double[] ci, double b) {
         checkLength(ci);
-        // increase capacity of A
-        double[][] At = this.A;
-        A = new double[this.m + 1][this.n];
-        System.arraycopy(At, 0, this.A, 0, m);
-        // then add the new constraint
-        System.arraycopy(ci, 0, this.A[m], 0, n);
-        // increase capacity of b
-        double[] bt = this.b;
-        this.b = new double[this.m + 1];
-        System.arraycopy(bt, 0, this.b, 0, m);
-        // and add the new rhs
-        this.b[m] = b;
-        m++;
+        addRow(ci, b, 1.);
     }
 
     /**
@@ -366,15 +332,11 @@ public class LinearProgram {
      * @param b   the right-hand side value
      */
     public void addLeq(HashMap<Integer, Double> map, double b) {
-        double[] ci = new double[n];
-        map.forEach((v, c) -> ci[v] = c);
-        addLeq(ci, b);
+        addRow(map, b, 1.);
     }
 
     public void addLeq(int var, double c, double b) {
-        double[] ci = new double[n];
-        ci[var] = c;
-        addLeq(ci, b);
+        addRow(new int[]{var}, new double[]{c}, b);
     }
 
     /**
@@ -385,11 +347,8 @@ public class LinearProgram {
      * @implNote the (&ge;)-inequality is turned into a (&le;)-inequality constraint
      */
     public void addGeq(double[] ci, double b) {
-        addLeq(ci, b);
-        for (int i = 0; i < n; i++) {
-            this.A[m - 1][i] *= -1;
-        }
-        this.b[m - 1] *= -1;
+        checkLength(ci);
+        addRow(ci, b, -1.);
     }
 
     /**
@@ -399,15 +358,11 @@ public class LinearProgram {
      * @param b   the right-hand side value
      */
     public void addGeq(HashMap<Integer, Double> map, double b) {
-        double[] ci = new double[n];
-        map.forEach((v, c) -> ci[v] = c);
-        addGeq(ci, b);
+        addRow(map, b, -1.);
     }
 
     public void addGeq(int var, double c, double b) {
-        double[] ci = new double[n];
-        ci[var] = c;
-        addGeq(ci, b);
+        addRow(new int[]{var}, new double[]{-c}, -b);
     }
 
     /**
@@ -430,15 +385,71 @@ public class LinearProgram {
      * @param b   the right-hand side value
      */
     public void addEq(HashMap<Integer, Double> map, double b) {
-        double[] ci = new double[n];
-        map.forEach((v, c) -> ci[v] = c);
-        addEq(ci, b);
+        addLeq(map, b);
+        addGeq(map, b);
     }
 
     public void addEq(int var, double c, double b) {
-        double[] ci = new double[n];
-        ci[var] = c;
-        addEq(ci, b);
+        addLeq(var, c, b);
+        addGeq(var, c, b);
+    }
+
+    private void addRow(double[] ci, double rhs, double sign) {
+        int k = 0;
+        for (int j = 0; j < n; j++) {
+            if (ci[j] != 0.) k++;
+        }
+        int[] idx = new int[k];
+        double[] coe = new double[k];
+        k = 0;
+        for (int j = 0; j < n; j++) {
+            if (ci[j] != 0.) {
+                idx[k] = j;
+                coe[k++] = sign * ci[j];
+            }
+        }
+        addRow(idx, coe, sign * rhs);
+    }
+
+    private void addRow(Map<Integer, Double> map, double rhs, double sign) {
+        int k = 0;
+        for (double v : map.values()) {
+            if (v != 0.) k++;
+        }
+        int[] idx = new int[k];
+        double[] coe = new double[k];
+        k = 0;
+        for (Map.Entry<Integer, Double> e : map.entrySet()) {
+            if (e.getValue() != 0.) {
+                if (e.getKey() >= n) {
+                    throw new ArrayIndexOutOfBoundsException(e.getKey());
+                }
+                idx[k] = e.getKey();
+                coe[k++] = sign * e.getValue();
+            }
+        }
+        addRow(idx, coe, sign * rhs);
+    }
+
+    private void addRow(int[] idx, double[] coe, double rhs) {
+        if (m == rowIdx.length) {
+            int cap = Math.max(4, m * 3 / 2 + 1);
+            rowIdx = Arrays.copyOf(rowIdx, cap);
+            rowVal = Arrays.copyOf(rowVal, cap);
+            b = Arrays.copyOf(b, cap);
+        }
+        rowIdx[m] = idx;
+        rowVal[m] = coe;
+        b[m] = rhs;
+        m++;
+        colDirty = true;
+        if (warm) {
+            // the slack variable of the new row enters the basis
+            ensureCapacity();
+            int s = slack(m - 1);
+            head[m - 1] = s;
+            pos[s] = m - 1;
+        }
     }
 
     /**
@@ -447,190 +458,866 @@ public class LinearProgram {
      * Otherwise, the optimal solution of this linear program is computed and values of the variables
      * can be read calling {@link #value(int)}.
      * </p>
+     * <p>When possible, the resolution starts from the basis of the previous call.
+     * </p>
      *
      * @return the resolution status
      */
     public Status simplex() {
-        // slack form of the LP
-        Optional<Slack> opt = initialize();
-        if (opt.isPresent()) {
-            Slack slack = opt.get();
-            if (Status.FEASIBLE.equals(status = solve(slack))) {
-                if (this.x.length != n) {
-                    this.x = new double[n];
+        this.status = Status.UNKNOWN;
+        if (this.x.length != n) {
+            this.x = new double[n];
+        }
+        Arrays.fill(this.x, 0.);
+        this.z = 0.;
+        for (int j = 0; j < n; j++) {
+            if (lb[j] > ub[j] + EPS) {
+                return status = Status.INFEASIBLE;
+            }
+        }
+        buildColumns();
+        ensureCapacity();
+        Status st = Status.UNKNOWN;
+        if (warm) {
+            if (trace) System.out.println("Warm start");
+            st = warmStart();
+        }
+        if (st == Status.UNKNOWN) {
+            if (trace) System.out.println("Cold start");
+            st = coldStart();
+        }
+        warm = st == Status.FEASIBLE;
+        if (warm) {
+            for (int j = 0; j < n; j++) {
+                x[j] = val[j];
+                z += c[j] * x[j];
+            }
+            computeDuals(false);
+            y = Arrays.copyOf(price, m);
+            d = Arrays.copyOf(dj, n);
+        }
+        return status = st;
+    }
+
+    /**
+     * Solve the linear program from the slack basis.
+     * If this basis is not feasible, an artificial variable is first introduced
+     * and its value minimized (phase 1).
+     *
+     * @return the status of the resolution
+     */
+    private Status coldStart() {
+        nbEtas = 0;
+        nbFactors = 0;
+        degenerate = 0;
+        if (artSize > 0) {
+            artSize = 0;
+            colDirty = true;
+            buildColumns();
+        }
+        artUb = Double.POSITIVE_INFINITY;
+        for (int j = 0; j <= n; j++) {
+            pos[j] = AT_LB;
+        }
+        for (int i = 0; i < m; i++) {
+            head[i] = slack(i);
+            pos[slack(i)] = i;
+        }
+        recompute();
+        int k = -1;
+        double min = -EPS;
+        for (int i = 0; i < m; i++) {
+            double v = val[slack(i)];
+            if (v < -EPS) {
+                if (artSize == artRows.length) {
+                    artRows = Arrays.copyOf(artRows, Math.max(4, artSize * 2));
+                }
+                artRows[artSize++] = i;
+                if (v < min) {
+                    min = v;
+                    k = i;
+                }
+            }
+        }
+        if (k >= 0) {
+            if (trace) System.out.println("Formulate an auxiliary linear program, adding x0");
+            colDirty = true;
+            buildColumns();
+            // the artificial variable enters the basis, in place of the most infeasible slack variable
+            loadColumn(n, work);
+            double theta = -min;
+            for (int l = 0; l < artSize; l++) {
+                val[slack(artRows[l])] += theta;
+            }
+            val[n] = theta;
+            int s = slack(k);
+            val[s] = 0.;
+            pos[s] = AT_LB;
+            head[k] = n;
+            pos[n] = k;
+            addEta(work, k);
+            Status st = primal(true);
+            if (st == Status.UNKNOWN) {
+                return st;
+            }
+            if (st != Status.FEASIBLE || val[n] > Math.sqrt(EPS)) {
+                return Status.INFEASIBLE;
+            }
+        }
+        artUb = 0.;
+        if (pos[n] < 0) {
+            val[n] = 0.;
+        }
+        return primal(false);
+    }
+
+    /**
+     * Solve the linear program from the basis of the previous resolution.
+     *
+     * @return the status of the resolution, {@link Status#UNKNOWN} if a cold start is needed
+     */
+    private Status warmStart() {
+        degenerate = 0;
+        refactor();
+        recompute();
+        if (primalFeasible()) {
+            return primal(false);
+        }
+        // put nonbasic boxed variables at their dual feasible bound
+        computeDuals(false);
+        for (int j = 0; j < nbCols(); j++) {
+            if (pos[j] < 0 && upper(j) < Double.POSITIVE_INFINITY) {
+                if (dj[j] > EPS) {
+                    pos[j] = AT_UB;
+                } else if (dj[j] < -EPS) {
+                    pos[j] = AT_LB;
                 }
-                slack.setValues(x);
-                this.z = slack.v;
             }
         }
-        return status;
+        recompute();
+        if (!dualFeasible()) {
+            return Status.UNKNOWN;
+        }
+        Status st = dualSimplex();
+        if (st == Status.FEASIBLE) {
+            st = primal(false);
+        }
+        return st;
     }
 
     /**
-     * Main loop of the simplex.
+     * Primal simplex, from a primal feasible basis.
      *
-     * @param lipr a linear program, under slack form
+     * @param phase1 set to <i>true</i> to minimize the artificial variable
      * @return the status of the resolution
      */
-    private Status solve(Slack lipr) {
-        if (trace) System.out.printf("%s", lipr);
-        int e = enteringVariable(lipr);
-        while (e < Integer.MAX_VALUE) {
-            int l = leavingVariable(lipr, e);
-            if (l < 0) {
+    private Status primal(boolean phase1) {
+        int limit = iterationLimit();
+        boolean clean = nbEtas == nbFactors;
+        boolean fresh = false;
+        Arrays.fill(weight, 0, nbCols(), 1.);
+        while (limit-- > 0) {
+            if (nbEtas - nbFactors >= REFACTOR) {
+                refactor();
+                recompute();
+                fresh = false;
+            }
+            if (!fresh) {
+                computeDuals(phase1);
+                fresh = true;
+            }
+            int q = entering();
+            if (q < 0) {
+                if (clean) {
+                    return Status.FEASIBLE;
+                }
+                // refactorize before claiming optimality
+                refactor();
+                recompute();
+                clean = true;
+                fresh = false;
+                if (!primalFeasible()) {
+                    return Status.UNKNOWN;
+                }
+                continue;
+            }
+            clean = false;
+            loadColumn(q, work);
+            ftran(work);
+            double dir = pos[q] == AT_LB ? 1. : -1.;
+            double theta = upper(q) - lower(q);
+            int r = -1;
+            boolean toUpper = false;
+            boolean bland = degenerate > DEGENERACY;
+            for (int i = 0; i < m; i++) {
+                double a = work[i];
+                if (Math.abs(a) <= PIVOT) continue;
+                double delta = -dir * a;
+                int jb = head[i];
+                double t;
+                boolean up;
+                if (delta < 0.) {
+                    t = (val[jb] - lower(jb)) / -delta;
+                    up = false;
+                } else {
+                    double u = upper(jb);
+                    if (u == Double.POSITIVE_INFINITY) continue;
+                    t = (u - val[jb]) / delta;
+                    up = true;
+                }
+                if (t < 0.) t = 0.;
+                if (t < theta - EPS) {
+                    theta = t;
+                    r = i;
+                    toUpper = up;
+                } else if (t <= theta + EPS && r >= 0
+                        && (bland ? jb < head[r] : Math.abs(a) > Math.abs(work[r]))) {
+                    theta = Math.min(theta, t);
+                    r = i;
+                    toUpper = up;
+                }
+            }
+            if (theta == Double.POSITIVE_INFINITY) {
                 return Status.UNBOUNDED;
             }
-            lipr.pivot(l, e, trace);
-            e = enteringVariable(lipr);
-            if (trace) System.out.printf("%s", lipr);
+            degenerate = theta <= EPS ? degenerate + 1 : 0;
+            if (theta > 0.) {
+                for (int i = 0; i < m; i++) {
+                    if (work[i] != 0.) {
+                        val[head[i]] -= dir * work[i] * theta;
+                    }
+                }
+                val[q] += dir * theta;
+            }
+            if (r < 0) {
+                // bound flip, the reduced costs remain unchanged
+                if (trace) System.out.printf("[flip] x%d\n", q);
+                pos[q] = pos[q] == AT_LB ? AT_UB : AT_LB;
+                val[q] = pos[q] == AT_LB ? lower(q) : upper(q);
+            } else {
+                if (trace) System.out.printf("[pivot] e: x%d, l: x%d\n", q, head[r]);
+                updateDuals(r, q);
+                pivot(r, q, toUpper);
+            }
         }
-        return Status.FEASIBLE;
+        return Status.UNKNOWN;
     }
 
     /**
-     * Determines that the linear program is infeasible
-     * or returns a slack form for which the basic solution is feasible
+     * Dual simplex, from a dual feasible basis.
      *
-     * @return optional slack form of the linear program defined is this
+     * @return {@link Status#FEASIBLE} when the basis becomes primal feasible,
+     * {@link Status#INFEASIBLE} if the linear program is infeasible
      */
-    private Optional<Slack> initialize() {
-        this.status = Status.UNKNOWN;
-        Arrays.fill(this.x, 0.);
-        this.z = 0.;
-        int k = argmin(b);
-        if (b[k] >= 0) {
-            if (trace) System.out.println("Initial basic solution feasible");
-            return Optional.of(new Slack(A, b, c));
-        }
-        if (trace) System.out.println("Formulate an auxiliary linear program, adding x0");
-        int x0 = 0;
-        Slack laux = auxiliaryLinearProgram(A, b, c);
-        if (trace) System.out.print(laux);
-        laux.pivot(k, x0, trace);
-        // The basic solution is now feasible for laux
-        this.status = Status.INFEASIBLE;
-        if (Status.FEASIBLE.equals(solve(laux))) {
-            double[] x = new double[laux.n];
-            laux.setValues(x);
-            if (x[x0] == 0.) { // if the optimal solution to laux sets x0 to 0
-                // Since this solution has x0 = 0, we know that our initial problem was feasible
-                this.status = Status.FEASIBLE;
-                for (int i = 0; i < laux.m; i++) {
-                    if (laux.B[i] == x0) { // if x0 is basic
-                        // perform one (degenerate) pivot to make it nonbasic
-                        // using any e in N such that a0e != 0
-                        int e = -1;
-                        for (int j = 0; j < laux.n; j++) {
-                            if (laux.A[i][j] != 0) {
-                                e = j;
-                                break;
-                            }
-                        }
-                        if (e == -1) throw new UnsupportedOperationException();
-                        if (trace) System.out.println("Perform one (degenerate) pivot to make it nonbasic");
-                        laux.pivot(i, e, trace);
-                        break;
-                    }
+    private Status dualSimplex() {
+        int limit = iterationLimit();
+        while (limit-- > 0) {
+            if (nbEtas - nbFactors >= REFACTOR) {
+                refactor();
+                recompute();
+            }
+            // the leaving variable is the most infeasible basic one
+            int r = -1;
+            double worst = EPS;
+            boolean toUpper = false;
+            for (int i = 0; i < m; i++) {
+                int jb = head[i];
+                double v = val[jb];
+                if (lower(jb) - v > worst) {
+                    worst = lower(jb) - v;
+                    r = i;
+                    toUpper = false;
+                } else if (v - upper(jb) > worst) {
+                    worst = v - upper(jb);
+                    r = i;
+                    toUpper = true;
+                }
+            }
+            if (r < 0) {
+                return Status.FEASIBLE;
+            }
+            computeDuals(false);
+            Arrays.fill(work, 0, m, 0.);
+            work[r] = 1.;
+            btran(work);
+            computeAlphaRow(work);
+            int q = -1;
+            double best = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < nbCols(); j++) {
+                double a = alphaRow[j];
+                if (pos[j] >= 0 || Math.abs(a) <= PIVOT || lower(j) >= upper(j)) continue;
+                boolean atLb = pos[j] == AT_LB;
+                if (toUpper ? (atLb ? a < 0. : a > 0.) : (atLb ? a > 0. : a < 0.)) continue;
+                double ratio = Math.abs(dj[j]) / Math.abs(a);
+                if (ratio < best - EPS) {
+                    best = ratio;
+                    q = j;
+                } else if (ratio <= best + EPS && Math.abs(a) > Math.abs(alphaRow[q])) {
+                    best = Math.min(best, ratio);
+                    q = j;
                 }
-                // from the final slack form of laux
-                if (isFeasible()) {
-                    if (trace) System.out.println("Modified final slack form");
-                    return Optional.of(finalSlack(laux, this.c));
+            }
+            if (q < 0) {
+                return Status.INFEASIBLE;
+            }
+            int jl = head[r];
+            loadColumn(q, work);
+            ftran(work);
+            double target = toUpper ? upper(jl) : lower(jl);
+            double t = (val[jl] - target) / work[r];
+            for (int i = 0; i < m; i++) {
+                if (work[i] != 0.) {
+                    val[head[i]] -= work[i] * t;
                 }
             }
+            val[q] += t;
+            if (trace) System.out.printf("[dual pivot] e: x%d, l: x%d\n", q, jl);
+            pivot(r, q, toUpper);
         }
-        return Optional.empty();
+        return Status.UNKNOWN;
     }
 
     /**
-     * Determine the index of the constraint with the smallest b.
+     * Update the reduced costs and the Devex reference weights, before pivoting on row <i>r</i> and column <i>q</i>,
+     * given the updated column of <i>q</i> in {@link #work}.
+     */
+    private void updateDuals(int r, int q) {
+        Arrays.fill(rho, 0, m, 0.);
+        rho[r] = 1.;
+        btran(rho);
+        computeAlphaRow(rho);
+        double arq = work[r];
+        double ratio = dj[q] / arq;
+        double wq = weight[q];
+        for (int j = 0; j < nbCols(); j++) {
+            double a = alphaRow[j];
+            if (pos[j] < 0 && a != 0.) {
+                dj[j] -= ratio * a;
+                a /= arq;
+                weight[j] = Math.max(weight[j], a * a * wq);
+            }
+        }
+        int jl = head[r];
+        dj[jl] = -ratio;
+        weight[jl] = Math.max(wq / (arq * arq), 1.);
+        dj[q] = 0.;
+    }
+
+    /**
+     * Replace the basic variable of row <i>r</i> by <i>q</i>, given the updated column of <i>q</i> in {@link #work}.
+     */
+    private void pivot(int r, int q, boolean toUpper) {
+        int jl = head[r];
+        pos[jl] = toUpper ? AT_UB : AT_LB;
+        val[jl] = toUpper ? upper(jl) : lower(jl);
+        head[r] = q;
+        pos[q] = r;
+        addEta(work, r);
+    }
+
+    /**
+     * Choose the entering variable, the one with the largest weighted reduced cost (Devex pricing),
+     * or, after too many degenerate pivots, the one with the smallest index (Bland's rule).
      *
-     * @param b right-hand side coefficients
-     * @return the index of the smallest b
+     * @return the index of the entering variable, -1 if the current basis is optimal
      */
-    private int argmin(double[] b) {
-        int k = 0;
-        double bk = b[k];
-        for (int i = 1; i < m; i++) {
-            if (bk > b[i]) {
-                bk = b[i];
-                k = i;
+    private int entering() {
+        boolean bland = degenerate > DEGENERACY;
+        int q = -1;
+        double best = 0.;
+        for (int j = 0; j < nbCols(); j++) {
+            if (pos[j] >= 0 || lower(j) >= upper(j)) continue;
+            double g = pos[j] == AT_LB ? dj[j] : -dj[j];
+            if (g > EPS) {
+                if (bland) return j;
+                g = g * g / weight[j];
+                if (g > best) {
+                    q = j;
+                    best = g;
+                }
             }
         }
-        return k;
+        return q;
     }
 
     /**
-     * Form the auxiliary linear program by adding -x0 to the LHS of each constraint
-     * and setting the objective function to -x0.
+     * Compute the dual values in {@link #price} and the reduced costs in {@link #dj}.
      *
-     * @return the resulting slack form of L_aux
+     * @param phase1 set to <i>true</i> to consider the phase 1 objective function
      */
-    private static Slack auxiliaryLinearProgram(double[][] A, double[] b, double[] c) {
-        int n = c.length;
-        int m = b.length;
-        double[][] A2 = new double[m][n + 1];
+    private void computeDuals(boolean phase1) {
+        for (int i = 0; i < m; i++) {
+            price[i] = cost(head[i], phase1);
+        }
+        btran(price);
+        for (int j = 0; j < nbCols(); j++) {
+            dj[j] = cost(j, phase1);
+        }
         for (int i = 0; i < m; i++) {
-            System.arraycopy(A[i], 0, A2[i], 1, n);
-            A2[i][0] = -1;
+            double yi = price[i];
+            if (yi != 0.) {
+                int[] idx = rowIdx[i];
+                double[] coe = rowVal[i];
+                for (int k = 0; k < idx.length; k++) {
+                    dj[idx[k]] -= yi * coe[k];
+                }
+                dj[slack(i)] -= yi;
+            }
+        }
+        for (int l = 0; l < artSize; l++) {
+            dj[n] += price[artRows[l]];
         }
-        double[] c2 = new double[n + 1];
-        c2[0] = -1;
-        return new Slack(A2, b, c2);
     }
 
     /**
-     * remove x0 from the constraints and restore the original objective function of L,
-     * but replace each basic variable in this objective function by the right-hand side of its associated constraint.
-     *
-     * @param laux the auxiliary linear program to transform
-     * @return final slack form of laux
-     */
-    private static Slack finalSlack(Slack laux, double[] oriC) {
-        int n = laux.n - 1;
-        int m = laux.m;
-        // since x0 = 0, we can just remove it from the set of constraints
-        double[][] A2 = new double[m][n];
+     * Compute in {@link #alphaRow} the product of <i>rho</i> by the constraint matrix.
+     */
+    private void computeAlphaRow(double[] rho) {
+        Arrays.fill(alphaRow, 0, nbCols(), 0.);
+        for (int i = 0; i < m; i++) {
+            double ri = rho[i];
+            if (ri != 0.) {
+                int[] idx = rowIdx[i];
+                double[] coe = rowVal[i];
+                for (int k = 0; k < idx.length; k++) {
+                    alphaRow[idx[k]] += ri * coe[k];
+                }
+                alphaRow[slack(i)] += ri;
+            }
+        }
+        for (int l = 0; l < artSize; l++) {
+            alphaRow[n] -= rho[artRows[l]];
+        }
+    }
+
+    /**
+     * Refactorize the basis.
+     * <p>
+     * The columns of the basic variables that are not slack variables are factorized as B = LU,
+     * with a right-looking sparse Gaussian elimination. At each step, the pivot column is the one
+     * with the fewest nonzero coefficients and the pivot row is chosen, among the ones whose coefficient is
+     * not too small compared to the largest one (threshold partial pivoting), as the one with the fewest nonzero
+     * coefficients (Markowitz). Rows whose slack variable is basic are never pivot rows.
+     * The factors are then stored in the eta file: L<sup>-1</sup> as column etas in pivot order,
+     * followed by U<sup>-1</sup> as column etas in reverse pivot order, so that {@link #ftran(double[])}
+     * and {@link #btran(double[])} apply them seamlessly.
+     * A variable that cannot enter (singular basis) is made nonbasic at its lower bound,
+     * and the slack variable of the unpivoted row remains basic.
+     * </p>
+     */
+    private void refactor() {
+        nbEtas = 0;
+        // rows that cannot be pivot rows: already pivoted, or whose slack variable is basic
+        boolean[] done = new boolean[m];
+        int[] cols = new int[m];
+        int k = 0;
         for (int i = 0; i < m; i++) {
-            for (int j = 0, k = 0; j <= n; j++) {
-                if (laux.N[j] > 0) {
-                    A2[i][k++] = laux.A[i][j];
+            int j = head[i];
+            if (j > n) {
+                done[j - n - 1] = true;
+            } else {
+                cols[k++] = j;
+            }
+            head[i] = slack(i);
+        }
+        // the active submatrix, column-wise, and the U factor, column-wise
+        int[][] aIdx = new int[k][];
+        double[][] aVal = new double[k][];
+        int[] aLen = new int[k];
+        int[][] uIdx = new int[k][];
+        double[][] uVal = new double[k][];
+        int[] uLen = new int[k];
+        // number of nonzero coefficients in rows that are not done, per column
+        int[] colCount = new int[k];
+        // columns with a nonzero coefficient, per row
+        int[][] rCols = new int[m][];
+        int[] rLen = new int[m];
+        // number of nonzero coefficients in active columns, per row
+        int[] rowCount = new int[m];
+        for (int l = 0; l < k; l++) {
+            int j = cols[l];
+            int len = colStart[j + 1] - colStart[j];
+            aIdx[l] = Arrays.copyOfRange(colRow, colStart[j], colStart[j + 1] + 4);
+            aVal[l] = Arrays.copyOfRange(colVal, colStart[j], colStart[j + 1] + 4);
+            aLen[l] = len;
+            uIdx[l] = new int[4];
+            uVal[l] = new double[4];
+            for (int e = 0; e < len; e++) {
+                int i = aIdx[l][e];
+                rowCount[i]++;
+                if (!done[i]) colCount[l]++;
+                rLen[i] = push(rCols, i, rLen[i], l);
+            }
+        }
+        // 0: active, 1: pivoted, 2: dropped
+        byte[] state = new byte[k];
+        int[] seqCol = new int[k];
+        int[] seqRow = new int[k];
+        double[] seqPiv = new double[k];
+        int nbPiv = 0;
+        double[] mult = new double[m];
+        int[] stamp = new int[m];
+        int left = k;
+        while (left > 0) {
+            // the pivot column
+            int l = -1;
+            for (int c = 0; c < k; c++) {
+                if (state[c] == 0 && (l < 0 || colCount[c] < colCount[l])) {
+                    l = c;
+                }
+            }
+            // the pivot row
+            double max = 0.;
+            for (int e = 0; e < aLen[l]; e++) {
+                if (!done[aIdx[l][e]]) max = Math.max(max, Math.abs(aVal[l][e]));
+            }
+            int r = -1;
+            double piv = 0.;
+            if (max > PIVOT) {
+                for (int e = 0; e < aLen[l]; e++) {
+                    int i = aIdx[l][e];
+                    double a = aVal[l][e];
+                    if (!done[i] && Math.abs(a) >= .1 * max && (r < 0 || rowCount[i] < rowCount[r])) {
+                        r = i;
+                        piv = a;
+                    }
+                }
+            }
+            left--;
+            if (r < 0) {
+                // singular: the variable leaves the basis
+                state[l] = 2;
+                pos[cols[l]] = AT_LB;
+                for (int e = 0; e < aLen[l]; e++) {
+                    rowCount[aIdx[l][e]]--;
+                }
+                continue;
+            }
+            state[l] = 1;
+            done[r] = true;
+            seqCol[nbPiv] = l;
+            seqRow[nbPiv] = r;
+            seqPiv[nbPiv++] = piv;
+            // L eta, and multipliers
+            int size = beginEta(r, aLen[l]);
+            etaIdx[size] = r;
+            etaVal[size++] = 1.;
+            for (int e = 0; e < aLen[l]; e++) {
+                int i = aIdx[l][e];
+                rowCount[i]--;
+                if (i != r) {
+                    mult[i] = aVal[l][e] / piv;
+                    stamp[i] = nbPiv;
+                    etaIdx[size] = i;
+                    etaVal[size++] = -mult[i];
+                }
+            }
+            if (size - etaStart[nbEtas] > 1) {
+                endEta(size);
+            }
+            // update the other active columns with a nonzero coefficient in row r
+            for (int t = 0; t < rLen[r]; t++) {
+                int c = rCols[r][t];
+                if (state[c] != 0) continue;
+                colCount[c]--;
+                // move the coefficient of row r to U
+                int[] ci = aIdx[c];
+                double[] cv = aVal[c];
+                double arc = 0.;
+                for (int e = 0; e < aLen[c]; e++) {
+                    if (ci[e] == r) {
+                        arc = cv[e];
+                        ci[e] = ci[--aLen[c]];
+                        cv[e] = cv[aLen[c]];
+                        break;
+                    }
+                }
+                rowCount[r]--;
+                if (uLen[c] == uIdx[c].length) {
+                    uIdx[c] = Arrays.copyOf(uIdx[c], uLen[c] * 2);
+                    uVal[c] = Arrays.copyOf(uVal[c], uLen[c] * 2);
+                }
+                uIdx[c][uLen[c]] = r;
+                uVal[c][uLen[c]++] = arc;
+                if (arc == 0.) continue;
+                // eliminate
+                for (int e = 0; e < aLen[c]; e++) {
+                    int i = ci[e];
+                    if (stamp[i] == nbPiv) {
+                        cv[e] -= mult[i] * arc;
+                        stamp[i] = -nbPiv;
+                    }
+                }
+                for (int e = 0; e < aLen[l]; e++) {
+                    int i = aIdx[l][e];
+                    if (i == r) continue;
+                    if (stamp[i] == nbPiv) {
+                        // fill-in
+                        if (aLen[c] == ci.length) {
+                            ci = aIdx[c] = Arrays.copyOf(ci, aLen[c] * 2);
+                            cv = aVal[c] = Arrays.copyOf(cv, aLen[c] * 2);
+                        }
+                        ci[aLen[c]] = i;
+                        cv[aLen[c]++] = -mult[i] * arc;
+                        rLen[i] = push(rCols, i, rLen[i], c);
+                        rowCount[i]++;
+                        if (!done[i]) colCount[c]++;
+                    } else {
+                        stamp[i] = nbPiv;
+                    }
                 }
             }
         }
-        double[] b2 = new double[m];
-        System.arraycopy(laux.b, 0, b2, 0, m);
-        // We then restore the original objective function,
-        double[] ct = new double[n + m + 1];
-        System.arraycopy(oriC, 0, ct, 1, n);
-        // with appropriate substitutions made to include only nonbasic variables
-        double z = 0.;
-        for (int j = 0; j < laux.m; j++) {
-            // for every nonbasic variables
-            int nx = laux.B[j];
-            if (nx <= n) {
-                double cx = ct[nx];
-                ct[nx] = 0.;
-                // do the substitutions
-                z += cx * laux.b[j];
-                for (int i = 0; i < laux.n; i++) {
-                    ct[laux.N[i]] -= cx * laux.A[j][i];
+        // U etas, in reverse pivot order
+        for (int p = nbPiv - 1; p >= 0; p--) {
+            int l = seqCol[p];
+            int r = seqRow[p];
+            double piv = seqPiv[p];
+            head[r] = cols[l];
+            if (uLen[l] == 0 && piv == 1.) continue;
+            int size = beginEta(r, uLen[l] + 1);
+            etaIdx[size] = r;
+            etaVal[size++] = 1. / piv;
+            for (int e = 0; e < uLen[l]; e++) {
+                etaIdx[size] = uIdx[l][e];
+                etaVal[size++] = -uVal[l][e] / piv;
+            }
+            endEta(size);
+        }
+        for (int i = 0; i < m; i++) {
+            pos[head[i]] = i;
+        }
+        nbFactors = nbEtas;
+    }
+
+    private static int push(int[][] lists, int i, int len, int v) {
+        if (lists[i] == null) {
+            lists[i] = new int[4];
+        } else if (len == lists[i].length) {
+            lists[i] = Arrays.copyOf(lists[i], len * 2);
+        }
+        lists[i][len] = v;
+        return len + 1;
+    }
+
+    /**
+     * Put nonbasic variables at their bound and compute the value of basic variables.
+     */
+    private void recompute() {
+        for (int i = 0; i < m; i++) {
+            work[i] = b[i];
+        }
+        for (int j = 0; j < nbCols(); j++) {
+            if (pos[j] < 0) {
+                if (pos[j] == AT_UB && upper(j) == Double.POSITIVE_INFINITY) {
+                    pos[j] = AT_LB;
+                }
+                double v = val[j] = pos[j] == AT_LB ? lower(j) : upper(j);
+                if (v != 0.) {
+                    if (j <= n) {
+                        for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+                            work[colRow[k]] -= colVal[k] * v;
+                        }
+                    } else {
+                        work[j - n - 1] -= v;
+                    }
                 }
             }
         }
-        double[] c2 = new double[n];
-        int[] N2 = new int[n];
-        for (int i = 0, j = 0; i < laux.n; i++) {
-            if (laux.N[i] > 0) {
-                c2[j] = ct[laux.N[i]];
-                N2[j++] = laux.N[i] - 1;
+        ftran(work);
+        for (int i = 0; i < m; i++) {
+            val[head[i]] = work[i];
+        }
+    }
+
+    private boolean primalFeasible() {
+        for (int i = 0; i < m; i++) {
+            int jb = head[i];
+            if (val[jb] < lower(jb) - EPS || val[jb] > upper(jb) + EPS) {
+                return false;
             }
         }
-        int[] B2 = new int[m];
-        for (int i = 0; i < laux.m; i++) {
-            B2[i] = laux.B[i] - 1;
+        return true;
+    }
+
+    private boolean dualFeasible() {
+        computeDuals(false);
+        for (int j = 0; j < nbCols(); j++) {
+            if (pos[j] < 0 && lower(j) < upper(j)
+                    && (pos[j] == AT_LB ? dj[j] > EPS : dj[j] < -EPS)) {
+                return false;
+            }
         }
-        return new Slack(A2, b2, c2, N2, B2, z);
+        return true;
+    }
+
+    /**
+     * Solve B.v = a, in place.
+     */
+    private void ftran(double[] v) {
+        for (int k = 0; k < nbEtas; k++) {
+            int r = etaRow[k];
+            double t = v[r];
+            if (t != 0.) {
+                v[r] = 0.;
+                for (int e = etaStart[k]; e < etaStart[k + 1]; e++) {
+                    v[etaIdx[e]] += etaVal[e] * t;
+                }
+            }
+        }
+    }
+
+    /**
+     * Solve v.B = a, in place.
+     */
+    private void btran(double[] v) {
+        for (int k = nbEtas - 1; k >= 0; k--) {
+            double s = 0.;
+            for (int e = etaStart[k]; e < etaStart[k + 1]; e++) {
+                s += etaVal[e] * v[etaIdx[e]];
+            }
+            v[etaRow[k]] = s;
+        }
+    }
+
+    /**
+     * Append to the eta file the elementary matrix of a pivot on row <i>r</i> of the updated column <i>alpha</i>.
+     */
+    private void addEta(double[] alpha, int r) {
+        int size = beginEta(r, m);
+        double p = alpha[r];
+        for (int i = 0; i < m; i++) {
+            if (i == r) {
+                etaIdx[size] = i;
+                etaVal[size++] = 1. / p;
+            } else if (alpha[i] != 0.) {
+                etaIdx[size] = i;
+                etaVal[size++] = -alpha[i] / p;
+            }
+        }
+        endEta(size);
+    }
+
+    /**
+     * Prepare a new eta matrix, with pivot row <i>r</i> and at most <i>nnz</i> entries.
+     *
+     * @return the position of its first entry
+     */
+    private int beginEta(int r, int nnz) {
+        if (nbEtas == etaRow.length) {
+            etaRow = Arrays.copyOf(etaRow, nbEtas * 2);
+            etaStart = Arrays.copyOf(etaStart, nbEtas * 2 + 1);
+        }
+        int size = etaStart[nbEtas];
+        if (size + nnz > etaIdx.length) {
+            int cap = Math.max(etaIdx.length * 2, size + nnz);
+            etaIdx = Arrays.copyOf(etaIdx, cap);
+            etaVal = Arrays.copyOf(etaVal, cap);
+        }
+        etaRow[nbEtas] = r;
+        return size;
+    }
+
+    private void endEta(int size) {
+        etaStart[++nbEtas] = size;
+    }
+
+    /**
+     * Copy the <i>j</i>th column of the constraint matrix in <i>v</i>.
+     */
+    private void loadColumn(int j, double[] v) {
+        Arrays.fill(v, 0, m, 0.);
+        if (j <= n) {
+            for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+                v[colRow[k]] = colVal[k];
+            }
+        } else {
+            v[j - n - 1] = 1.;
+        }
+    }
+
+    /**
+     * Build the compressed column copy of the constraint matrix, if needed.
+     * The artificial variable is stored as the last column.
+     */
+    private void buildColumns() {
+        if (!colDirty) {
+            return;
+        }
+        colStart = new int[n + 2];
+        for (int i = 0; i < m; i++) {
+            for (int j : rowIdx[i]) {
+                colStart[j + 1]++;
+            }
+        }
+        colStart[n + 1] = artSize;
+        for (int j = 0; j <= n; j++) {
+            colStart[j + 1] += colStart[j];
+        }
+        colRow = new int[colStart[n + 1]];
+        colVal = new double[colStart[n + 1]];
+        int[] next = Arrays.copyOf(colStart, n + 1);
+        for (int i = 0; i < m; i++) {
+            int[] idx = rowIdx[i];
+            double[] coe = rowVal[i];
+            for (int k = 0; k < idx.length; k++) {
+                int e = next[idx[k]]++;
+                colRow[e] = i;
+                colVal[e] = coe[k];
+            }
+        }
+        for (int l = 0; l < artSize; l++) {
+            int e = next[n]++;
+            colRow[e] = artRows[l];
+            colVal[e] = -1.;
+        }
+        colDirty = false;
+    }
+
+    private void ensureCapacity() {
+        int size = nbCols();
+        if (pos.length < size) {
+            int cap = size + m / 2 + 4;
+            pos = Arrays.copyOf(pos, cap);
+            val = Arrays.copyOf(val, cap);
+            dj = new double[cap];
+            alphaRow = new double[cap];
+            weight = new double[cap];
+        }
+        if (head.length < m) {
+            int cap = m + m / 2 + 4;
+            head = Arrays.copyOf(head, cap);
+            work = new double[cap];
+            rho = new double[cap];
+            price = new double[cap];
+        }
+    }
+
+    private int iterationLimit() {
+        return 100 * (n + m) + 1000;
+    }
+
+    private int nbCols() {
+        return n + 1 + m;
+    }
+
+    private int slack(int i) {
+        return n + 1 + i;
+    }
+
+    private double lower(int j) {
+        return j < n ? lb[j] : 0.;
+    }
+
+    private double upper(int j) {
+        return j < n ? ub[j] : (j == n ? artUb : Double.POSITIVE_INFINITY);
+    }
+
+    private double cost(int j, boolean phase1) {
+        if (phase1) {
+            return j == n ? -1. : 0.;
+        }
+        return j < n ? c[j] : 0.;
     }
 
     /**
@@ -671,74 +1358,79 @@ public class LinearProgram {
     }
 
     /**
-     * Choose the entering variable with c > 0
-     * and break ties by always choosing the variable
-     * with the smallest index (Bland's rule).
+     * Return the dual value of the ith constraint, in the last optimal solution (of the maximization problem).
+     * <p>
+     * If this is not feasible, returns {@code 0.}.
+     * </p>
      *
-     * @return a value between [0, n) if an entering variable is found, {@link Integer#MAX_VALUE} otherwise.
+     * @param i index of the constraint
+     * @return the dual value of the ith constraint
      */
-    private static int enteringVariable(Slack s) {
-        int j = Integer.MAX_VALUE;
-        for (int i = 0; i < s.n; i++) {
-            if (s.c[i] > 0. && s.N[i] < j) {
-                j = i;
-            }
-        }
-        return j;
+    public double dual(int i) {
+        if (isFeasible() && i < y.length) {
+            return y[i];
+        } else return 0.;
     }
 
-
     /**
-     * Choose the leaving variable, the one with the smallest ratio b(i) / A(i,e).
-     * Ties are broken with index value (Bland's rule)
+     * Return the reduced cost of the ith variable, in the last optimal solution (of the maximization problem),
+     * that is, the rate at which the objective increases when the variable increases.
+     * <p>
+     * If this is not feasible, returns {@code 0.}.
+     * </p>
      *
-     * @param s the slack
-     * @param e index of the entering variable
-     * @return index of the leaving variable
-     */
-    private static int leavingVariable(Slack s, int e) {
-        double min_v = Double.POSITIVE_INFINITY;
-        int l = -1;
-        for (int i = 0; i < s.m; i++) {
-            if (s.A[i][e] > 0) {
-                double d = s.b[i] / s.A[i][e];
-                if (min_v > d) {
-                    l = i;
-                    min_v = d;
-                }
-            }
-        }
-        return l;
+     * @param i index of the variable
+     * @return the reduced cost of the ith variable
+     */
+    public double reducedCost(int i) {
+        if (isFeasible() && i < d.length) {
+            return d[i];
+        } else return 0.;
     }
 
     @Override
     public String toString() {
-        return toLP(A, b, c, 0.);
-    }
-
-    private static String toLP(double[][] A, double[] b, double[] c, double v) {
         StringBuilder st = new StringBuilder();
         st.append("Maximize").append('\n');
-        st.append("\\ v = ").append(v).append("\n");
+        st.append("\\ v = ").append(0.).append("\n");
         st.append(" obj:");
-        for (int i = 0; i < c.length; i++) {
+        for (int i = 0; i < n; i++) {
             st.append(c[i] >= 0 ? " +" : " ")
                     .append(c[i])
                     .append(" x")
                     .append(i + 1);
         }
         st.append("\nSubject to\n");
-        for (int j = 0; j < b.length; j++) {
+        double[] row = new double[n];
+        for (int j = 0; j < m; j++) {
+            Arrays.fill(row, 0.);
+            for (int k = 0; k < rowIdx[j].length; k++) {
+                row[rowIdx[j][k]] = rowVal[j][k];
+            }
             st.append(" c").append(j + 1).append(": ");
-            st.append(A[j][0]).append(" x1");
-            for (int i = 1; i < c.length; i++) {
-                st.append(A[j][i] >= 0 ? " +" : " ")
-                        .append(A[j][i])
+            st.append(row[0]).append(" x1");
+            for (int i = 1; i < n; i++) {
+                st.append(row[i] >= 0 ? " +" : " ")
+                        .append(row[i])
                         .append(" x")
                         .append(i + 1);
             }
             st.append(" <= ").append(b[j]).append('\n');
         }
+        boolean bounded = false;
+        for (int i = 0; i < n; i++) {
+            if (lb[i] != 0. || ub[i] != Double.POSITIVE_INFINITY) {
+                if (!bounded) {
+                    st.append("Bounds\n");
+                    bounded = true;
+                }
+                st.append(' ').append(lb[i]).append(" <= x").append(i + 1);
+                if (ub[i] != Double.POSITIVE_INFINITY) {
+                    st.append(" <= ").append(ub[i]);
+                }
+                st.append('\n');
+            }
+        }
         st.append("End");
         return st.toString();
     }
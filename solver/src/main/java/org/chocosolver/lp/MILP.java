@@ -38,6 +38,8 @@ import static org.chocosolver.lp.LinearProgram.Status.FEASIBLE;
  */
 public class MILP extends LinearProgram {
 
+    // tolerance on integral values
+    private static final double INTEGRALITY = 1e-6;
     // bits set to true indicate integer variables
     private final BitSet integers;
     // bits set to true indicate Boolean variables
@@ -105,7 +107,7 @@ public class MILP extends LinearProgram {
         }
         integers.set(this.n);
         booleans.set(this.n);
-        return n++;
+        return makeVariable();
     }
 
 
@@ -118,7 +120,7 @@ public class MILP extends LinearProgram {
         }
         integers.set(this.n, this.n + n);
         booleans.set(this.n, this.n + n);
-        this.n += n;
+        makeVariables(n);
     }
 
     /**
@@ -132,7 +134,7 @@ public class MILP extends LinearProgram {
             throw new UnsupportedOperationException("Some constraints are already declared");
         }
         integers.set(this.n);
-        return n++;
+        return makeVariable();
     }
 
 
@@ -144,7 +146,7 @@ public class MILP extends LinearProgram {
             throw new UnsupportedOperationException("Some constraints are already declared");
         }
         integers.set(this.n, this.n + n);
-        this.n += n;
+        makeVariables(n);
     }
 
 
@@ -169,19 +171,7 @@ public class MILP extends LinearProgram {
      */
     private boolean isIntegral(int i) {
         assert integers.get(i) : "non integer variable";
-        return Math.rint(x[i]) == x[i] && (!booleans.get(i) || !(x[i] > 1.));
-    }
-
-
-    /**
-     * Drop the last <code>m</code> declared constraints.
-     *
-     * @param m number of constraints to drop
-     */
-    private void dropUntil(int m) {
-        while (this.m > m) {
-            dropLast();
-        }
+        return Math.abs(Math.rint(x[i]) - x[i]) <= INTEGRALITY;
     }
 
     /**
@@ -210,26 +200,28 @@ public class MILP extends LinearProgram {
      * @implNote This method assumes that the objective is to be maximized
      */
     public Status branchAndBound(Score score) {
-        // 1. add equations to bound Boolean variables
-        int lastm = this.m;
+        // 1. bound Boolean variables
+        double[] lastub = new double[n];
         for (int i = booleans.nextSetBit(0); i > -1; i = booleans.nextSetBit(i + 1)) {
-            addLeq(i, 1., 1.);
+            lastub[i] = upperBound(i);
+            setBounds(i, lowerBound(i), Math.min(lastub[i], 1.));
         }
         // 2. check if the Simplex returns an integral solution (or claims that no solution exists)
         Status relaxProb = simplex();
         if (!relaxProb.equals(FEASIBLE)) {
             // 2a. if no solution exists, terminate
-            // remove Boolean bounds
-            dropUntil(lastm);
+            // restore Boolean bounds
+            restoreBooleans(lastub);
             return relaxProb;
         }
         if (isIntegral()) {
             // 2b. if solution is integral, thus optimal, terminate
-            // remove Boolean bounds
-            dropUntil(lastm);
+            // restore Boolean bounds
+            restoreBooleans(lastub);
+            snap(x);
             return relaxProb;
         }
-        System.out.printf("%s\n", Arrays.toString(x));
+        if (trace) System.out.printf("%s\n", Arrays.toString(x));
         // 3. look for integral optimal solution
         double bestObjective = Double.NEGATIVE_INFINITY;
         double[] bestX = null;
@@ -244,11 +236,10 @@ public class MILP extends LinearProgram {
                 case 2:
                     // if the top decision cannot be refuted, then remove it
                     branchings.removeLast();
-                    dropLast();
+                    branch.undo(this);
                     continue;
                 case 1:
                     // if the top decision can be refuted, then refute it
-                    dropLast();
                     break;
                 default:
                 case 0:
@@ -273,6 +264,7 @@ public class MILP extends LinearProgram {
                 // if the solution is integral (and better), then store it
                 bestObjective = currentObjectiveValue;
                 bestX = this.x.clone();
+                snap(bestX);
                 if (trace) System.out.println("Integral better solution found");
                 continue;
             }
@@ -289,11 +281,33 @@ public class MILP extends LinearProgram {
             // if no solution were found
             this.status = Status.INFEASIBLE;
         }
-        // remove Boolean bounds
-        dropUntil(lastm);
+        // restore Boolean bounds
+        restoreBooleans(lastub);
         return status;
     }
 
+    /**
+     * Restore the upper bound of Boolean variables.
+     *
+     * @param lastub upper bounds before the resolution
+     */
+    private void restoreBooleans(double[] lastub) {
+        for (int i = booleans.nextSetBit(0); i > -1; i = booleans.nextSetBit(i + 1)) {
+            setBounds(i, lowerBound(i), lastub[i]);
+        }
+    }
+
+    /**
+     * Round the values of integer variables, which are integral up to {@link #INTEGRALITY}.
+     *
+     * @param values the values of the variables
+     */
+    private void snap(double[] values) {
+        for (int i = integers.nextSetBit(0); i > -1; i = integers.nextSetBit(i + 1)) {
+            values[i] = Math.rint(values[i]);
+        }
+    }
+
     /**
      * Partition heuristic, compute a score for all integer variables not integral and select the one with the smallest score
      * to partition the problem.
@@ -319,11 +333,11 @@ public class MILP extends LinearProgram {
             }
         }
         if (idx > -1) {
-            int val = (int) value(idx);
+            int val = (int) Math.floor(value(idx));
             if (booleans.get(idx)) {
                 val = 0;
             }
-            branchings.addLast(new Branching(idx, val));
+            branchings.addLast(new Branching(idx, val, lowerBound(idx), upperBound(idx)));
         }
     }
 
@@ -337,24 +351,29 @@ public class MILP extends LinearProgram {
     /**
      * Class to define branching object.
      * <br/>
-     * A Branching object reduces the domain of a variable <i>var</i> with respect to an integer value <i>val</i>.
+     * A Branching object reduces the domain of a variable <i>var</i> with respect to an integer value <i>val</i>,
+     * by modifying its bounds, so that the simplex can be warm-started from the previous basis.
      * <br/>
      * It has four states, denoted by <i>branch</i>:
      * <ul>
      *     <li>0: the branching is created, but not applied</li>
-     *     <li>1: (var &le; val) is added to the MILP</li>
-     *     <li>2: (var &ge; val +1) is added to the MILP</li>
+     *     <li>1: the upper bound of var is set to val</li>
+     *     <li>2: the lower bound of var is set to val + 1</li>
      *     <li>3: the branching is unavailable</li>
      * </ul>
      */
     private static class Branching {
         private final int var;
         private final int val;
+        private final double lb;
+        private final double ub;
         private int branch;
 
-        public Branching(int var, int val) {
+        public Branching(int var, int val, double lb, double ub) {
             this.var = var;
             this.val = val;
+            this.lb = lb;
+            this.ub = ub;
             this.branch = 0;
         }
 
@@ -366,14 +385,18 @@ public class MILP extends LinearProgram {
             branch++;
             switch (branch) {
                 case 1:
-                    milp.addLeq(var, 1, val);
+                    milp.setBounds(var, lb, val);
                     break;
                 case 2:
-                    milp.addGeq(var, 1, val + 1);
+                    milp.setBounds(var, val + 1, ub);
                     break;
             }
         }
 
+        void undo(MILP milp) {
+            milp.setBounds(var, lb, ub);
+        }
+
         @Override
         public String toString() {
             String st = "";
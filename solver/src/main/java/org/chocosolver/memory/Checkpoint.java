@@ -0,0 +1,120 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+/**
+ * A copy of the state of an environment, relatively to a given world.
+ * <p>
+ * It stores the current value of each backtrackable object modified above that world
+ * (ints and booleans, longs and doubles are all encoded as longs),
+ * and the actions that redo the operations saved above that world
+ * (see {@link org.chocosolver.memory.structure.IRedoableOperation}).
+ * </p>
+ * <p>
+ * Restoring a checkpoint, in a world above the one it refers to, brings back the state it copied
+ * in O(size) and without replaying anything. All the modifications are trailed as usual,
+ * so popping the current world undoes them.
+ * The backtrackable objects left unchanged, since the checkpoint was taken, in the world the checkpoint refers to
+ * and below are expected to stay unchanged.
+ * </p>
+ *
+ * @author agent
+ * @see IEnvironment#checkpoint(int)
+ * @since 18/10/2026
+ */
+public final class Checkpoint {
+
+    /**
+     * The world this checkpoint refers to.
+     */
+    private final int world;
+
+    /**
+     * Backtrackable objects, among {@link IStateInt}, {@link IStateBool}, {@link IStateLong} and {@link IStateDouble}.
+     */
+    private final Object[] targets;
+
+    /**
+     * Their values, encoded as longs.
+     */
+    private final long[] values;
+
+    /**
+     * Actions that redo the operations, in the order they were saved.
+     */
+    private final Runnable[] redos;
+
+    /**
+     * Create a checkpoint.
+     *
+     * @param world   the world it refers to
+     * @param targets backtrackable objects
+     * @param values  values of <i>targets</i>, booleans as 0 or 1, doubles as their raw long bits
+     * @param redos   actions that redo the operations, in the order they were saved
+     */
+    public Checkpoint(int world, Object[] targets, long[] values, Runnable[] redos) {
+        this.world = world;
+        this.targets = targets;
+        this.values = values;
+        this.redos = redos;
+    }
+
+    /**
+     * @return the world this checkpoint refers to
+     */
+    public int getWorld() {
+        return world;
+    }
+
+    /**
+     * @return the number of values and operations this checkpoint restores
+     */
+    public int size() {
+        return targets.length + redos.length;
+    }
+
+    /**
+     * Leave <i>target</i> unchanged when this checkpoint is restored.
+     * This is useful for backtrackable objects which do not describe the state of the model (for instance, the search).
+     *
+     * @param target a backtrackable object
+     */
+    public void ignore(Object target) {
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == target) {
+                targets[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Bring back the state copied in this checkpoint.
+     * This should be called in a world strictly above the one this checkpoint refers to.
+     */
+    public void restore() {
+        // operations first: they may modify backtrackable objects as a side effect,
+        // which are then set back to the copied values
+        for (Runnable redo : redos) {
+            redo.run();
+        }
+        for (int i = 0; i < targets.length; i++) {
+            Object t = targets[i];
+            if (t instanceof IStateInt) {
+                ((IStateInt) t).set((int) values[i]);
+            } else if (t instanceof IStateBool) {
+                ((IStateBool) t).set(values[i] != 0);
+            } else if (t instanceof IStateLong) {
+                ((IStateLong) t).set(values[i]);
+            } else if (t != null) {
+                ((IStateDouble) t).set(Double.longBitsToDouble(values[i]));
+            }
+        }
+    }
+}
@@ -203,4 +203,19 @@ public class EnvironmentBuilder {
         setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
         return this;
     }
+
+    /**
+     * Build an environment where ints, booleans, longs, doubles and operations share a single trail
+     * @return {@code this}
+     * @see UnifiedTrail
+     */
+    public EnvironmentBuilder fromUnified(){
+        UnifiedTrail trail = new UnifiedTrail(worldsize, worldnumber, loadfactor);
+        setTrail((IStoredBoolTrail) trail);
+        setTrail((IStoredIntTrail) trail);
+        setTrail((IStoredDoubleTrail) trail);
+        setTrail((IStoredLongTrail) trail);
+        setTrail((IOperationTrail) trail);
+        return this;
+    }
 }
\ No newline at end of file
@@ -175,4 +175,55 @@ public interface IEnvironment  {
      * @return the timestamp
      */
     int getTimeStamp();
+
+    /**
+     * Copy the state reached since <i>worldIndex</i>, so that it can be restored later on
+     * without replaying what led to it.
+     * This is only possible when this environment records all its modifications in a single trail,
+     * and when each operation saved above <i>worldIndex</i> can be redone.
+     * By default, no checkpoint can be taken.
+     *
+     * @param worldIndex the world the checkpoint refers to, lower than or equal to the current one
+     * @return a checkpoint, or <i>null</i> if the state cannot be copied
+     * @see Checkpoint#restore()
+     */
+    default Checkpoint checkpoint(int worldIndex) {
+        return null;
+    }
+
+    /**
+     * Return the number of entries currently stored in the trails of this environment.
+     * @return a positive number, 0 if the environment does not keep track of it
+     */
+    default long getTrailOccupancy() {
+        return 0;
+    }
+
+    /**
+     * Return the highest number of entries stored in the trails of this environment.
+     * It is observed each time a backtrack follows a world push, that is, at the bottom of each dive.
+     * @return a positive number, 0 if the environment does not keep track of it
+     */
+    default long getPeakTrailOccupancy() {
+        return 0;
+    }
+
+    /**
+     * Return the number of entries the trails of this environment can store without growing.
+     * @return a positive number, 0 if the environment does not keep track of it
+     */
+    default long getTrailAllocation() {
+        return 0;
+    }
+
+    /**
+     * Release the memory allocated by the trails above what the current world needs,
+     * when the allocation exceeds <i>ratio</i> times the highest occupancy observed since the previous call.
+     * This is typically called on restarts, where only a few worlds remain.
+     * @param ratio how much the allocation can exceed the recent occupancy
+     * @return <i>true</i> if the trails were compacted, <i>false</i> if the environment does not support it
+     */
+    default boolean compact(double ratio) {
+        return false;
+    }
 }
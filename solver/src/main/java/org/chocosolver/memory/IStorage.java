@@ -53,5 +53,33 @@ public interface IStorage  {
 
     void worldCommit(int worldIndex);
 
+    /**
+     * Returns the number of entries currently stored in this trail.
+     *
+     * @return a positive number
+     */
+    default int used() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of entries this trail can store without growing.
+     *
+     * @return a positive number
+     */
+    default int allocated() {
+        return 0;
+    }
+
+    /**
+     * Release the memory allocated above what is needed to store the entries of the worlds
+     * lower than or equal to <i>worldIndex</i>.
+     * Worlds above <i>worldIndex</i> are expected to be popped.
+     *
+     * @param worldIndex current world index
+     */
+    default void compact(int worldIndex) {
+    }
+
 }
 
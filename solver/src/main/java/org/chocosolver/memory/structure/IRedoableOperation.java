@@ -0,0 +1,31 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+/**
+ * An operation whose modifications can be redone when a {@link org.chocosolver.memory.Checkpoint} is restored.
+ * <p>
+ * A checkpoint cannot copy the state an operation undoes, so it asks the operation,
+ * while it is trailed, what is needed to redo its modifications.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public interface IRedoableOperation extends IOperation {
+
+    /**
+     * Called when a checkpoint is taken while this operation is trailed.
+     *
+     * @return an action, run when the checkpoint is restored, that redoes the modifications undone by this operation
+     * and saves this operation again in the environment, or <i>null</i> if they cannot be redone
+     */
+    Runnable redo();
+}
@@ -12,7 +12,6 @@ package org.chocosolver.memory.structure;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.IStateLong;
 
 import java.lang.reflect.Array;
 
@@ -40,7 +39,7 @@ public class S64BitSet implements IStateBitSet {
     /**
      * The internal field corresponding to the serialField "bits".
      */
-    protected IStateLong[] words;
+    protected StoredLongArray words;
 
     /**
      * The number of words in the logical size of this BitSet.
@@ -74,9 +73,9 @@ public class S64BitSet implements IStateBitSet {
      * Every public method must preserve these invariants.
      */
     private void checkInvariants() {
-        assert (wordsInUse.get() == 0 || words[wordsInUse.get() - 1].get() != 0);
-        assert (wordsInUse.get() >= 0 && wordsInUse.get() <= words.length);
-        assert (wordsInUse.get() == words.length || words[wordsInUse.get()].get() == 0);
+        assert (wordsInUse.get() == 0 || words.get(wordsInUse.get() - 1) != 0);
+        assert (wordsInUse.get() >= 0 && wordsInUse.get() <= words.length());
+        assert (wordsInUse.get() == words.length() || words.get(wordsInUse.get()) == 0);
     }
 
     /**
@@ -89,7 +88,7 @@ public class S64BitSet implements IStateBitSet {
         int i;
         int n = wordsInUse.get();
         for (i = n - 1; i >= 0; i--)
-            if (words[i].get() != 0)
+            if (words.get(i) != 0)
                 break;
         if (i + 1 < n) {
             wordsInUse.set(i + 1); // The new logical size
@@ -128,8 +127,7 @@ public class S64BitSet implements IStateBitSet {
     }
 
     private void initWords(int nbits) {
-        words = new IStateLong[wordIndex(nbits - 1) + 1];
-        for (int i = 0; i < words.length; i++) words[i] = this.environment.makeLong(0);
+        words = new StoredLongArray(environment, wordIndex(nbits - 1) + 1, 0L);
         if (CHECK) checkInvariants();
     }
 
@@ -140,14 +138,10 @@ public class S64BitSet implements IStateBitSet {
      * @param wordsRequired the minimum acceptable number of words.
      */
     public void ensureCapacity(int wordsRequired) {
-        if (words.length < wordsRequired) {
+        if (words.length() < wordsRequired) {
             // Allocate larger of doubled size or required size
-            int request = Math.max(2 * words.length, wordsRequired);
-            int oldSize = words.length;
-            words = copyOf(words, request);
-            for (int i = oldSize; i < request; i++) {
-                words[i] = environment.makeLong(0);
-            }
+            int request = Math.max(2 * words.length(), wordsRequired);
+            words.ensureCapacity(request, 0L);
         }
     }
 
@@ -210,7 +204,7 @@ public class S64BitSet implements IStateBitSet {
         int wordIndex = wordIndex(bitIndex);
         expandTo(wordIndex);
 
-        words[wordIndex].set(words[wordIndex].get() | (1L << bitIndex)); // Restores invariants
+        words.set(wordIndex, words.get(wordIndex) | (1L << bitIndex)); // Restores invariants
 
         if (CHECK) checkInvariants();
     }
@@ -256,18 +250,18 @@ public class S64BitSet implements IStateBitSet {
         long lastWordMask = WORD_MASK >>> -toIndex;
         if (startWordIndex == endWordIndex) {
             // Case 1: One word
-            words[startWordIndex].set(words[startWordIndex].get() | (firstWordMask & lastWordMask));
+            words.set(startWordIndex, words.get(startWordIndex) | (firstWordMask & lastWordMask));
         } else {
             // Case 2: Multiple words
             // Handle first word
-            words[startWordIndex].set(words[startWordIndex].get() | firstWordMask);
+            words.set(startWordIndex, words.get(startWordIndex) | firstWordMask);
 
             // Handle intermediate words, if any
             for (int i = startWordIndex + 1; i < endWordIndex; i++)
-                words[i].set(WORD_MASK);
+                words.set(i, WORD_MASK);
 
             // Handle last word (restores invariants)
-            words[endWordIndex].set(words[endWordIndex].get() | lastWordMask);
+            words.set(endWordIndex, words.get(endWordIndex) | lastWordMask);
         }
 
         if (CHECK) checkInvariants();
@@ -288,7 +282,7 @@ public class S64BitSet implements IStateBitSet {
         if (wordIndex >= n)
             return;
 
-        words[wordIndex].set(words[wordIndex].get() & ~(1L << bitIndex));
+        words.set(wordIndex, words.get(wordIndex) & ~(1L << bitIndex));
 
         //if(wordIndex == n-1)
         recalculateWordsInUse();
@@ -327,18 +321,18 @@ public class S64BitSet implements IStateBitSet {
         long lastWordMask = WORD_MASK >>> -toIndex;
         if (startWordIndex == endWordIndex) {
             // Case 1: One word
-            words[startWordIndex].set(words[startWordIndex].get() & ~(firstWordMask & lastWordMask));
+            words.set(startWordIndex, words.get(startWordIndex) & ~(firstWordMask & lastWordMask));
         } else {
             // Case 2: Multiple words
             // Handle first word
-            words[startWordIndex].set(words[startWordIndex].get() & ~firstWordMask);
+            words.set(startWordIndex, words.get(startWordIndex) & ~firstWordMask);
 
             // Handle intermediate words, if any
             for (int i = startWordIndex + 1; i < endWordIndex; i++)
-                words[i].set(0);
+                words.set(i, 0);
 
             // Handle last word
-            words[endWordIndex].set(words[endWordIndex].get() & ~lastWordMask);
+            words.set(endWordIndex, words.get(endWordIndex) & ~lastWordMask);
         }
 
         //if(endWordIndex < wiu)
@@ -355,8 +349,8 @@ public class S64BitSet implements IStateBitSet {
         /*while (wordsInUse.get() > 0)
             wordsInUse.set(wordsInUse.get() - 1);
         words[wordsInUse.get()].set(0);      */
-        for (IStateLong word : words) {
-            word.set(0);
+        for (int i = words.length() - 1; i >= 0; i--) {
+            words.set(i, 0L);
         }
         wordsInUse.set(0);
         if (CHECK) checkInvariants();
@@ -379,7 +373,7 @@ public class S64BitSet implements IStateBitSet {
 
         int wordIndex = bitIndex >> ADDRESS_BITS_PER_WORD; //wordIndex(bitIndex);
         return (wordIndex < wordsInUse.get())
-                && ((words[wordIndex].get() & (1L << bitIndex)) != 0);
+                && ((words.get(wordIndex) & (1L << bitIndex)) != 0);
     }
 
     /**
@@ -411,14 +405,14 @@ public class S64BitSet implements IStateBitSet {
         if (u >= wiu)
             return -1;
 
-        long word = words[u].get() & (WORD_MASK << fromIndex);
+        long word = words.get(u) & (WORD_MASK << fromIndex);
 
         while (true) {
             if (word != 0)
                 return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
             if (++u == wiu)
                 return -1;
-            word = words[u].get();
+            word = words.get(u);
         }
     }
 
@@ -443,14 +437,14 @@ public class S64BitSet implements IStateBitSet {
         if (u >= wiu)
             return fromIndex;
 
-        long word = ~words[u].get() & (WORD_MASK << fromIndex);
+        long word = ~words.get(u) & (WORD_MASK << fromIndex);
 
         while (true) {
             if (word != 0)
                 return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
             if (++u == wiu)
                 return wiu * BITS_PER_WORD;
-            word = ~words[u].get();
+            word = ~words.get(u);
         }
     }
 
@@ -484,14 +478,14 @@ public class S64BitSet implements IStateBitSet {
         if (u >= wordsInUse.get())
             return length() - 1;
 
-        long word = words[u].get() & (WORD_MASK >>> -(fromIndex + 1));
+        long word = words.get(u) & (WORD_MASK >>> -(fromIndex + 1));
 
         while (true) {
             if (word != 0)
                 return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
             if (u-- == 0)
                 return -1;
-            word = words[u].get();
+            word = words.get(u);
         }
     }
 
@@ -517,14 +511,14 @@ public class S64BitSet implements IStateBitSet {
         if (u >= wordsInUse.get())
             return fromIndex;
 
-        long word = ~words[u].get() & (WORD_MASK >>> -(fromIndex + 1));
+        long word = ~words.get(u) & (WORD_MASK >>> -(fromIndex + 1));
 
         while (true) {
             if (word != 0)
                 return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
             if (u-- == 0)
                 return -1;
-            word = ~words[u].get();
+            word = ~words.get(u);
         }
     }
 
@@ -542,7 +536,7 @@ public class S64BitSet implements IStateBitSet {
             return 0;
 
         return BITS_PER_WORD * (wiu - 1) +
-                (BITS_PER_WORD - Long.numberOfLeadingZeros(words[wiu - 1].get()));
+                (BITS_PER_WORD - Long.numberOfLeadingZeros(words.get(wiu - 1)));
     }
 
     /**
@@ -567,14 +561,14 @@ public class S64BitSet implements IStateBitSet {
     public int cardinality() {
         int sum = 0;
         for (int i = wordsInUse.get() - 1; i >= 0; i--)
-            sum += Long.bitCount(words[i].get());
+            sum += Long.bitCount(words.get(i));
         return sum;
     }
 
     public int hashCode() {
         long h = 1234;
         for (int i = wordsInUse.get(); --i >= 0; )
-            h ^= words[i].get() * (i + 1);
+            h ^= words.get(i) * (i + 1);
 
         return (int) ((h >> 32) ^ h);
     }
@@ -587,7 +581,7 @@ public class S64BitSet implements IStateBitSet {
      * @return the number of bits currently in this bit set.
      */
     public int size() {
-        return words.length * BITS_PER_WORD;
+        return words.length() * BITS_PER_WORD;
     }
 
     @Override
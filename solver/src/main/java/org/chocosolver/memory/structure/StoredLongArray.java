@@ -0,0 +1,212 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable array of longs, stored in a single <code>long[]</code>.
+ * <p>
+ * Contrary to an array of {@link org.chocosolver.memory.IStateLong}, the cells are not individual objects.
+ * Each cell is stamped with the world in which it was last saved, so that its former value is recorded
+ * at most once per world in a word-level trail owned by this array.
+ * The trail is registered to the environment through a single {@link IOperation},
+ * at most once per world, which restores all the cells modified in that world upon backtrack.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class StoredLongArray {
+
+    /**
+     * The backtrackable environment.
+     */
+    private final IEnvironment environment;
+
+    /**
+     * Current values.
+     */
+    private long[] values;
+
+    /**
+     * For each cell, the world in which its former value was last saved.
+     */
+    private int[] stamps;
+
+    /**
+     * Trail: index of the modified cells.
+     */
+    private int[] trailIdx;
+
+    /**
+     * Trail: former values of the modified cells.
+     */
+    private long[] trailVal;
+
+    /**
+     * Trail: former stamps of the modified cells.
+     */
+    private int[] trailStamp;
+
+    /**
+     * Number of entries in the trail.
+     */
+    private int trailSize;
+
+    /**
+     * For each world in which this array was modified, the trail size when it starts.
+     */
+    private int[] marks;
+
+    /**
+     * For each world in which this array was modified, the previous world in which it was modified.
+     */
+    private int[] markWorlds;
+
+    /**
+     * Number of worlds in which this array was modified.
+     */
+    private int nbMarks;
+
+    /**
+     * Last world in which this array was modified.
+     */
+    private int savedWorld;
+
+    /**
+     * Undo operation, shared among worlds.
+     * Its modifications are redone by setting back all the cells.
+     */
+    private final IOperation restore = new IRedoableOperation() {
+        @Override
+        public void undo() {
+            restore();
+        }
+
+        @Override
+        public Runnable redo() {
+            final long[] copy = values.clone();
+            return () -> {
+                for (int i = 0; i < copy.length; i++) {
+                    set(i, copy[i]);
+                }
+            };
+        }
+    };
+
+    /**
+     * Creates a backtrackable array of <i>size</i> longs, all set to <i>init</i>.
+     *
+     * @param environment backtrackable environment
+     * @param size        number of cells
+     * @param init        initial value of each cell
+     */
+    public StoredLongArray(IEnvironment environment, int size, long init) {
+        this.environment = environment;
+        this.values = new long[size];
+        Arrays.fill(values, init);
+        this.stamps = new int[size];
+        Arrays.fill(stamps, -1);
+        this.trailIdx = new int[16];
+        this.trailVal = new long[16];
+        this.trailStamp = new int[16];
+        this.marks = new int[8];
+        this.markWorlds = new int[8];
+        this.savedWorld = -1;
+    }
+
+    /**
+     * @return the number of cells
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * @param i index of the cell
+     * @return the current value of the <i>i</i>-th cell
+     */
+    public long get(int i) {
+        return values[i];
+    }
+
+    /**
+     * Modifies the value of the <i>i</i>-th cell and stores if needed its former value.
+     *
+     * @param i index of the cell
+     * @param v new value
+     */
+    public void set(int i, long v) {
+        if (v != values[i]) {
+            int wi = environment.getWorldIndex();
+            if (stamps[i] < wi) {
+                save(i, wi);
+            }
+            values[i] = v;
+        }
+    }
+
+    /**
+     * Ensures that this array has at least <i>size</i> cells.
+     * New cells are set to <i>init</i>.
+     *
+     * @param size minimum number of cells
+     * @param init initial value of new cells
+     */
+    public void ensureCapacity(int size, long init) {
+        int oldSize = values.length;
+        if (oldSize < size) {
+            values = Arrays.copyOf(values, size);
+            stamps = Arrays.copyOf(stamps, size);
+            Arrays.fill(values, oldSize, size, init);
+            Arrays.fill(stamps, oldSize, size, -1);
+        }
+    }
+
+    private void save(int i, int wi) {
+        if (savedWorld < wi) {
+            if (nbMarks == marks.length) {
+                marks = Arrays.copyOf(marks, nbMarks * 2);
+                markWorlds = Arrays.copyOf(markWorlds, nbMarks * 2);
+            }
+            marks[nbMarks] = trailSize;
+            markWorlds[nbMarks++] = savedWorld;
+            savedWorld = wi;
+            environment.save(restore);
+        }
+        if (trailSize == trailIdx.length) {
+            int newCapacity = trailSize * 2;
+            trailIdx = Arrays.copyOf(trailIdx, newCapacity);
+            trailVal = Arrays.copyOf(trailVal, newCapacity);
+            trailStamp = Arrays.copyOf(trailStamp, newCapacity);
+        }
+        trailIdx[trailSize] = i;
+        trailVal[trailSize] = values[i];
+        trailStamp[trailSize++] = stamps[i];
+        stamps[i] = wi;
+    }
+
+    /**
+     * Restores the cells modified in the last world in which this array was modified.
+     */
+    private void restore() {
+        int to = marks[--nbMarks];
+        for (int k = trailSize - 1; k >= to; k--) {
+            int i = trailIdx[k];
+            values[i] = trailVal[k];
+            stamps[i] = trailStamp[k];
+        }
+        trailSize = to;
+        savedWorld = markWorlds[nbMarks];
+    }
+}
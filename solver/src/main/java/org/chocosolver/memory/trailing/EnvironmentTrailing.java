@@ -58,6 +58,16 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     private IStorage[] trails = new IStorage[0];
     private int trailSize = 0;
 
+    /**
+     * Set to <i>true</i> when the last world operation is a push.
+     */
+    private boolean diving = false;
+
+    /**
+     * Highest trail occupancy observed so far, and since the last compaction.
+     */
+    private long peakOccupancy, recentPeakOccupancy;
+
     /**
      * {@inheritDoc}
      */
@@ -70,6 +80,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
             trails[i].worldPush(wi);
         }
         currentWorld++;
+        diving = true;
     }
 
 
@@ -79,6 +90,11 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     @Override
     public void worldPop() {
         timestamp++;
+        if (diving) {
+            // bottom of a dive
+            diving = false;
+            observeOccupancy();
+        }
         //code optim.: replace loop by enumeration
         final int wi = currentWorld;
         for (int i = 0; i < trailSize; i++) {
@@ -183,10 +199,23 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         System.arraycopy(tmp, 0, trails, 0, tmp.length);
     }
 
+    /**
+     * Add a trail to the ones to push, pop and commit, unless it is already declared
+     * (a same trail may manage several kinds of data, like {@link UnifiedTrail}).
+     */
+    private void addTrail(IStorage trail) {
+        for (int i = 0; i < trailSize; i++) {
+            if (trails[i] == trail) {
+                return;
+            }
+        }
+        increaseTrail();
+        trails[trailSize++] = trail;
+    }
+
     public void setIntTrail(IStoredIntTrail itrail){
         if(intTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = intTrail = itrail;
+            addTrail(intTrail = itrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -202,8 +231,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setLongTrail(IStoredLongTrail ltrail){
         if(longTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = longTrail = ltrail;
+            addTrail(longTrail = ltrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -218,8 +246,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setBoolTrail(IStoredBoolTrail btrail){
         if(boolTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = boolTrail = btrail;
+            addTrail(boolTrail = btrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -234,8 +261,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setDoubleTrail(IStoredDoubleTrail dtrail){
         if(doubleTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = doubleTrail = dtrail;
+            addTrail(doubleTrail = dtrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -250,8 +276,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
 
     public void setOperationTrail(IOperationTrail otrail){
         if(operationTrail == null) {
-            increaseTrail();
-            trails[trailSize++] = operationTrail = otrail;
+            addTrail(operationTrail = otrail);
         }else{
             throw new UnsupportedOperationException("A trail has already been declared.");
         }
@@ -295,5 +320,73 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     public void saveAt(IOperation oldValue, int at) {
         getOperationTrail().savePreviousStateAt(oldValue, at, this.getWorldIndex());
     }
-}
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A checkpoint can only be taken when ints, booleans, longs, doubles and operations
+     * share a single {@link UnifiedTrail} and when no stored vector is used.
+     * </p>
+     */
+    @Override
+    public Checkpoint checkpoint(int worldIndex) {
+        if (operationTrail instanceof UnifiedTrail
+                && (intTrail == null || intTrail == operationTrail)
+                && (boolTrail == null || boolTrail == operationTrail)
+                && (longTrail == null || longTrail == operationTrail)
+                && (doubleTrail == null || doubleTrail == operationTrail)
+                && intVectorTrail == null && doubleVectorTrail == null) {
+            return ((UnifiedTrail) operationTrail).checkpoint(worldIndex, currentWorld);
+        }
+        return null;
+    }
+
+    private long observeOccupancy() {
+        long occupancy = getTrailOccupancy();
+        peakOccupancy = Math.max(peakOccupancy, occupancy);
+        recentPeakOccupancy = Math.max(recentPeakOccupancy, occupancy);
+        return occupancy;
+    }
+
+    @Override
+    public long getTrailOccupancy() {
+        long n = 0;
+        for (int i = 0; i < trailSize; i++) {
+            n += trails[i].used();
+        }
+        return n;
+    }
+
+    @Override
+    public long getPeakTrailOccupancy() {
+        return Math.max(peakOccupancy, getTrailOccupancy());
+    }
+
+    @Override
+    public long getTrailAllocation() {
+        long n = 0;
+        for (int i = 0; i < trailSize; i++) {
+            n += trails[i].allocated();
+        }
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stored vectors are not compacted.
+     * </p>
+     */
+    @Override
+    public boolean compact(double ratio) {
+        long occupancy = observeOccupancy();
+        boolean compact = getTrailAllocation() > ratio * recentPeakOccupancy;
+        if (compact) {
+            for (int i = 0; i < trailSize; i++) {
+                trails[i].compact(currentWorld);
+            }
+        }
+        recentPeakOccupancy = occupancy;
+        return compact;
+    }
+}
@@ -46,6 +46,7 @@ public class ChunckedBoolTrail extends ChunckedTrail<BoolWorld> implements IStor
 
     @Override
     public void worldPush(int worldIndex) {
+        super.worldPush(worldIndex);
         if (worlds[worldIndex] == null) {
             current = new BoolWorld(ws, loadfactor);
             worlds[worldIndex] = current;
@@ -46,6 +46,7 @@ public class ChunckedDoubleTrail extends ChunckedTrail<DoubleWorld> implements I
 
     @Override
     public void worldPush(int worldIndex) {
+        super.worldPush(worldIndex);
         if (worlds[worldIndex] == null) {
             current = new DoubleWorld(ws, loadfactor);
             worlds[worldIndex] = current;
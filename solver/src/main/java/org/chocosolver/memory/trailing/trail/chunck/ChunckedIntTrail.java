@@ -46,6 +46,7 @@ public class ChunckedIntTrail extends ChunckedTrail<IntWorld> implements IStored
 
     @Override
     public void worldPush(int worldIndex) {
+        super.worldPush(worldIndex);
         if (worlds[worldIndex] == null) {
             current = new IntWorld(ws, loadfactor);
             worlds[worldIndex] = current;
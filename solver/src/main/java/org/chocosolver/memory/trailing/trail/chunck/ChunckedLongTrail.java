@@ -46,6 +46,7 @@ public class ChunckedLongTrail extends ChunckedTrail<LongWorld> implements IStor
 
     @Override
     public void worldPush(int worldIndex) {
+        super.worldPush(worldIndex);
         if (worlds[worldIndex] == null) {
             current = new LongWorld(ws, loadfactor);
             worlds[worldIndex] = current;
@@ -44,6 +44,7 @@ public class ChunckedOperationTrail extends ChunckedTrail<OperationWorld> implem
 
     @Override
     public void worldPush(int worldIndex) {
+        super.worldPush(worldIndex);
         if (worlds[worldIndex] == null) {
             current = new OperationWorld(ws, loadfactor);
             worlds[worldIndex] = current;
@@ -29,6 +29,24 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
      */
     protected W current;
 
+    /**
+     * Number of entries stored in the worlds below the current one,
+     * maintained on world push and pop to count the occupancy in constant time.
+     */
+    private int below;
+
+    /**
+     * Moving up to the next world.
+     * Subclasses call this before changing the current world.
+     *
+     * @param worldIndex new world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        if (current != null) {
+            below += current.used();
+        }
+    }
 
     /**
      * Moving down to the previous world.
@@ -40,8 +58,10 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
         current.revert();
         if (worldIndex > 0) {
             current = worlds[worldIndex - 1];
+            below -= current.used();
         }else {
             current = null;
+            below = 0;
         }
     }
 
@@ -50,11 +70,42 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the worlds up to the current one are considered.
+     * </p>
+     */
+    @Override
+    public int used() {
+        return current == null ? 0 : below + current.used();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Worlds above <i>worldIndex</i> are dropped, the other ones are trimmed.
+     * </p>
+     */
+    @Override
+    public void compact(int worldIndex) {
+        for (int i = 0; i < worlds.length; i++) {
+            if (worlds[i] != null) {
+                if (i <= worldIndex) {
+                    worlds[i].compact();
+                } else {
+                    worlds[i] = null;
+                }
+            }
+        }
+    }
+
     /**
      * Returns the allocated trail size.
      *
      * @return a positive number
      */
+    @Override
     public int allocated() {
         int n = 0;
         for (World w : worlds) {
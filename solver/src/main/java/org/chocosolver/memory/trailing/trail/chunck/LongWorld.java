@@ -97,6 +97,24 @@ public class LongWorld implements World {
         return now;
     }
 
+    @Override
+    public void compact() {
+        if (now == 0) {
+            valueStack = null;
+            stampStack = null;
+            variableStack = null;
+        } else {
+            int capacity = Math.max(defaultSize, now + 1);
+            if (stampStack.length > capacity) {
+                valueStack = Arrays.copyOf(valueStack, capacity);
+                variableStack = Arrays.copyOf(variableStack, capacity);
+                stampStack = Arrays.copyOf(stampStack, capacity);
+            }
+            // let the variables saved in deeper worlds be garbage collected
+            Arrays.fill(variableStack, now, variableStack.length, null);
+        }
+    }
+
     @Override
     public int allocated() {
         return stampStack == null ? 0 : stampStack.length;
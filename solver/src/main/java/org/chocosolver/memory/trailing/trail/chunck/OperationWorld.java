@@ -29,10 +29,13 @@ public class OperationWorld implements World {
 
     private int now;
 
+    private final int defaultSize;
+
     private final double loadfactor;
 
     public OperationWorld(int defaultSize, double loadfactor) {
         now = 0;
+        this.defaultSize = defaultSize;
         this.loadfactor = loadfactor;
         variableStack = new IOperation[defaultSize];
     }
@@ -63,6 +66,15 @@ public class OperationWorld implements World {
         now = 0;
     }
 
+    @Override
+    public void compact() {
+        int capacity = Math.max(defaultSize, now + 1);
+        if (variableStack.length > capacity) {
+            variableStack = Arrays.copyOf(variableStack, capacity);
+        }
+        Arrays.fill(variableStack, now, variableStack.length, null);
+    }
+
     @Override
     public int allocated() {
         return variableStack == null ? 0 : variableStack.length;
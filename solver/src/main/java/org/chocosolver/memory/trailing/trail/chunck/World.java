@@ -34,6 +34,11 @@ public interface World {
      */
     void clear();
 
+    /**
+     * Release the memory allocated above what is needed to store the current values.
+     */
+    void compact();
+
     /**
      * The allocated trail for this world.
      *
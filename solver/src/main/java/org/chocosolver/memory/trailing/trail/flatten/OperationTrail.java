@@ -26,6 +26,11 @@ public class OperationTrail implements IOperationTrail {
      */
     private final double loadfactor;
 
+    /**
+     * Initial number of updates and of worlds, kept when compacting
+     */
+    private final int nUpdates, nWorlds;
+
     /**
      * Stack of values (former values that need be restored upon backtracking).
      */
@@ -55,6 +60,8 @@ public class OperationTrail implements IOperationTrail {
         valueStack = new IOperation[nUpdates];
         worldStartLevels = new int[nWorlds];
         this.loadfactor = loadfactor;
+        this.nUpdates = nUpdates;
+        this.nWorlds = nWorlds;
     }
 
 
@@ -116,4 +123,28 @@ public class OperationTrail implements IOperationTrail {
             worldStartLevels[t]++;
         }
     }
+
+    @Override
+    public int used() {
+        return currentLevel;
+    }
+
+    @Override
+    public int allocated() {
+        return valueStack.length;
+    }
+
+    @Override
+    public void compact(int worldIndex) {
+        final int capacity = Math.max(nUpdates, currentLevel + 1);
+        if (valueStack.length > capacity) {
+            valueStack = Arrays.copyOf(valueStack, capacity);
+        }
+        // let the objects saved in deeper worlds be garbage collected
+        Arrays.fill(valueStack, currentLevel, valueStack.length, null);
+        final int worlds = Math.max(nWorlds, worldIndex + 2);
+        if (worldStartLevels.length > worlds) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, worlds);
+        }
+    }
 }
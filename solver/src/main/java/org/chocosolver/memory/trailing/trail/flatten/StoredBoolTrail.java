@@ -22,6 +22,11 @@ public class StoredBoolTrail implements IStoredBoolTrail {
      */
     private final double loadfactor;
 
+    /**
+     * Initial number of updates and of worlds, kept when compacting
+     */
+    private final int nUpdates, nWorlds;
+
     /**
      * Stack of backtrackable search variables.
      */
@@ -67,6 +72,8 @@ public class StoredBoolTrail implements IStoredBoolTrail {
         stampStack = new int[nUpdates];
         worldStartLevels = new int[nWorlds];
         this.loadfactor = loadfactor;
+        this.nUpdates = nUpdates;
+        this.nWorlds = nWorlds;
     }
 
 
@@ -162,4 +169,30 @@ public class StoredBoolTrail implements IStoredBoolTrail {
         System.arraycopy(stampStack, 0, tmp3, 0, stampStack.length);
         stampStack = tmp3;
     }
+
+    @Override
+    public int used() {
+        return currentLevel;
+    }
+
+    @Override
+    public int allocated() {
+        return variableStack.length;
+    }
+
+    @Override
+    public void compact(int worldIndex) {
+        final int capacity = Math.max(nUpdates, currentLevel + 1);
+        if (variableStack.length > capacity) {
+            valueStack = Arrays.copyOf(valueStack, capacity);
+            variableStack = Arrays.copyOf(variableStack, capacity);
+            stampStack = Arrays.copyOf(stampStack, capacity);
+        }
+        // let the objects saved in deeper worlds be garbage collected
+        Arrays.fill(variableStack, currentLevel, variableStack.length, null);
+        final int worlds = Math.max(nWorlds, worldIndex + 2);
+        if (worldStartLevels.length > worlds) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, worlds);
+        }
+    }
 }
@@ -0,0 +1,343 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail.flatten;
+
+import org.chocosolver.memory.Checkpoint;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.structure.IRedoableOperation;
+import org.chocosolver.memory.trailing.StoredBool;
+import org.chocosolver.memory.trailing.StoredDouble;
+import org.chocosolver.memory.trailing.StoredInt;
+import org.chocosolver.memory.trailing.StoredLong;
+import org.chocosolver.memory.trailing.trail.IOperationTrail;
+import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
+import org.chocosolver.memory.trailing.trail.IStoredDoubleTrail;
+import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
+import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A single trail for ints, booleans, longs, doubles and operations.
+ * <p>
+ * Each entry is made of a kind, a target, a former value and a former timestamp,
+ * stored in primitive arrays (booleans and doubles are encoded in the former value, as a long).
+ * Only one marker per world is kept, so that backtracking is a single reverse scan of the entries,
+ * whatever the types of the modified objects.
+ * </p>
+ * Stored vectors still rely on their own trails.
+ * <p>
+ * As all the modifications are in a single place, this trail can also copy the state
+ * reached since a given world, see {@link #checkpoint(int, int)}.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class UnifiedTrail implements IStoredIntTrail, IStoredBoolTrail, IStoredLongTrail, IStoredDoubleTrail, IOperationTrail {
+
+    private static final byte INT = 0;
+    private static final byte BOOL = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte OPERATION = 4;
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * Initial number of updates and of worlds, kept when compacting
+     */
+    private final int nUpdates, nWorlds;
+
+    /**
+     * Stack of kinds of entries.
+     */
+    private byte[] kindStack;
+
+    /**
+     * Stack of backtrackable objects, or operations.
+     */
+    private Object[] targetStack;
+
+    /**
+     * Stack of former values, encoded as longs.
+     */
+    private long[] valueStack;
+
+    /**
+     * Stack of timestamps indicating the world where the former value
+     * had been written.
+     */
+    private int[] stampStack;
+
+    /**
+     * Points the level of the last entry.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public UnifiedTrail(int nUpdates, int nWorlds, double loadfactor) {
+        currentLevel = 0;
+        kindStack = new byte[nUpdates];
+        targetStack = new Object[nUpdates];
+        valueStack = new long[nUpdates];
+        stampStack = new int[nUpdates];
+        worldStartLevels = new int[nWorlds];
+        this.loadfactor = loadfactor;
+        this.nUpdates = nUpdates;
+        this.nWorlds = nWorlds;
+    }
+
+    /**
+     * Moving up to the next world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, (int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    /**
+     * Moving down to the previous world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        while (currentLevel > wsl) {
+            currentLevel--;
+            final Object t = targetStack[currentLevel];
+            switch (kindStack[currentLevel]) {
+                case INT:
+                    ((StoredInt) t)._set((int) valueStack[currentLevel], stampStack[currentLevel]);
+                    break;
+                case BOOL:
+                    ((StoredBool) t)._set(valueStack[currentLevel] != 0, stampStack[currentLevel]);
+                    break;
+                case LONG:
+                    ((StoredLong) t)._set(valueStack[currentLevel], stampStack[currentLevel]);
+                    break;
+                case DOUBLE:
+                    ((StoredDouble) t)._set(Double.longBitsToDouble(valueStack[currentLevel]), stampStack[currentLevel]);
+                    break;
+                default:
+                    ((IOperation) t).undo();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Comits a world: merging it with the previous one.
+     */
+    @Override
+    public void worldCommit(int worldIndex) {
+        // principle: as for the other flat trails, former values whose stamp is the previous world are discarded,
+        // the other entries are shifted down and the timestamps of the objects are updated.
+        // Operations are kept, they now belong to the previous world.
+        final int startLevel = worldStartLevels[worldIndex];
+        final int prevWorld = worldIndex - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final byte kind = kindStack[level];
+            final Object t = targetStack[level];
+            switch (kind) {
+                case INT:
+                    ((StoredInt) t).overrideTimeStamp(prevWorld);
+                    break;
+                case BOOL:
+                    ((StoredBool) t).overrideTimeStamp(prevWorld);
+                    break;
+                case LONG:
+                    ((StoredLong) t).overrideTimeStamp(prevWorld);
+                    break;
+                case DOUBLE:
+                    ((StoredDouble) t).overrideTimeStamp(prevWorld);
+                    break;
+                default:
+                    break;
+            }
+            if (kind == OPERATION || stampStack[level] != prevWorld) {
+                if (writeIdx != level) {
+                    kindStack[writeIdx] = kind;
+                    targetStack[writeIdx] = t;
+                    valueStack[writeIdx] = valueStack[level];
+                    stampStack[writeIdx] = stampStack[level];
+                }
+                writeIdx++;
+            }
+        }
+        Arrays.fill(targetStack, writeIdx, currentLevel, null);
+        currentLevel = writeIdx;
+    }
+
+    private void push(byte kind, Object target, long oldValue, int oldStamp) {
+        kindStack[currentLevel] = kind;
+        targetStack[currentLevel] = target;
+        valueStack[currentLevel] = oldValue;
+        stampStack[currentLevel] = oldStamp;
+        currentLevel++;
+        if (currentLevel == targetStack.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (targetStack.length * loadfactor);
+        kindStack = Arrays.copyOf(kindStack, newCapacity);
+        targetStack = Arrays.copyOf(targetStack, newCapacity);
+        valueStack = Arrays.copyOf(valueStack, newCapacity);
+        stampStack = Arrays.copyOf(stampStack, newCapacity);
+    }
+
+    /**
+     * Copy the current value of each object modified above <i>world</i>,
+     * and ask each operation saved above <i>world</i> how to redo it.
+     *
+     * @param world        the world the checkpoint refers to
+     * @param currentWorld current world index
+     * @return a checkpoint, or <i>null</i> if an operation saved above <i>world</i> cannot be redone
+     */
+    public Checkpoint checkpoint(int world, int currentWorld) {
+        final int from = world < currentWorld ? worldStartLevels[world + 1] : currentLevel;
+        final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Object> targets = new ArrayList<>();
+        final List<Runnable> redos = new ArrayList<>();
+        long[] values = new long[16];
+        for (int level = from; level < currentLevel; level++) {
+            final Object t = targetStack[level];
+            if (!seen.add(t)) {
+                continue;
+            }
+            long value;
+            switch (kindStack[level]) {
+                case INT:
+                    value = ((StoredInt) t).get();
+                    break;
+                case BOOL:
+                    value = ((StoredBool) t).get() ? 1 : 0;
+                    break;
+                case LONG:
+                    value = ((StoredLong) t).get();
+                    break;
+                case DOUBLE:
+                    value = Double.doubleToRawLongBits(((StoredDouble) t).get());
+                    break;
+                default:
+                    final Runnable redo = t instanceof IRedoableOperation ? ((IRedoableOperation) t).redo() : null;
+                    if (redo == null) {
+                        return null;
+                    }
+                    redos.add(redo);
+                    continue;
+            }
+            if (targets.size() == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[targets.size()] = value;
+            targets.add(t);
+        }
+        return new Checkpoint(world, targets.toArray(), Arrays.copyOf(values, targets.size()),
+                redos.toArray(new Runnable[0]));
+    }
+
+    @Override
+    public void savePreviousState(StoredInt v, int oldValue, int oldStamp) {
+        push(INT, v, oldValue, oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(StoredBool v, boolean oldValue, int oldStamp) {
+        push(BOOL, v, oldValue ? 1 : 0, oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(StoredLong v, long oldValue, int oldStamp) {
+        push(LONG, v, oldValue, oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(StoredDouble v, double oldValue, int oldStamp) {
+        push(DOUBLE, v, Double.doubleToRawLongBits(oldValue), oldStamp);
+    }
+
+    @Override
+    public void savePreviousState(IOperation operation) {
+        push(OPERATION, operation, 0, 0);
+    }
+
+    @Override
+    public void savePreviousStateAt(IOperation operation, int at, int currentWorldIndex) {
+        push(OPERATION, null, 0, 0); // make sure there is enough space
+        // keep the order, 'operation' is the last one to be undone when popping world 'at'
+        final int from = worldStartLevels[at];
+        final int length = currentLevel - 1 - from;
+        System.arraycopy(kindStack, from, kindStack, from + 1, length);
+        System.arraycopy(targetStack, from, targetStack, from + 1, length);
+        System.arraycopy(valueStack, from, valueStack, from + 1, length);
+        System.arraycopy(stampStack, from, stampStack, from + 1, length);
+        kindStack[from] = OPERATION;
+        targetStack[from] = operation;
+        for (int t = currentWorldIndex; t > at; t--) {
+            worldStartLevels[t]++;
+        }
+    }
+
+    @Override
+    public int used() {
+        return currentLevel;
+    }
+
+    @Override
+    public int allocated() {
+        return targetStack.length;
+    }
+
+    @Override
+    public void compact(int worldIndex) {
+        final int capacity = Math.max(nUpdates, currentLevel + 1);
+        if (targetStack.length > capacity) {
+            kindStack = Arrays.copyOf(kindStack, capacity);
+            targetStack = Arrays.copyOf(targetStack, capacity);
+            valueStack = Arrays.copyOf(valueStack, capacity);
+            stampStack = Arrays.copyOf(stampStack, capacity);
+        }
+        // let the objects saved in deeper worlds be garbage collected
+        Arrays.fill(targetStack, currentLevel, targetStack.length, null);
+        final int worlds = Math.max(nWorlds, worldIndex + 2);
+        if (worldStartLevels.length > worlds) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, worlds);
+        }
+    }
+}
@@ -12,7 +12,6 @@ package org.chocosolver.sat;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TDoubleArrayList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.IntHeap;
 
@@ -45,7 +44,11 @@ public class MiniSat implements SatFactory, Dimacs {
     private static final int litUndef = -2;
     // undefined clause
     static final Clause CR_Undef = new Clause(new int[0]);
-    static final VarData VD_Undef = new VarData(CR_Undef, -1);
+    // encoding of the assignment of a variable, see Boolean.value()
+    static final byte L_TRUE = 0;
+    static final byte L_FALSE = 1;
+    static final byte L_UNDEF = 2;
+    private static final Boolean[] BOOLEANS = {Boolean.lTrue, Boolean.lFalse, Boolean.lUndef};
 
     // If false, the constraints are already unsatisfiable. No part of
     // the solver state may be used!
@@ -55,11 +58,17 @@ public class MiniSat implements SatFactory, Dimacs {
     // List of learnt addClauses.
     private final ArrayList<Clause> learnts = new ArrayList<>();
     // 'watches_[lit]' is a list of constraints watching 'lit'(will go
-    // there if literal becomes true).
-    private final TIntObjectHashMap<ArrayList<Watcher>> watches_ = new TIntObjectHashMap<>();
-    // The current assignments.
-    //TIntObjectHashMap<Boolean> assignment_ = new TIntObjectHashMap<>();
-    List<Boolean> assignment_ = new ArrayList<>();
+    // there if literal becomes true), with their blocker in 'blockers_[lit]'
+    // and the size of the list in 'wsizes_[lit]'.
+    private Clause[][] watches_ = new Clause[0][];
+    private int[][] blockers_ = new int[0][];
+    private int[] wsizes_ = new int[0];
+    // The current assignments, indexed by variable.
+    byte[] assignment_ = new byte[0];
+    // The reason of the assignment of each variable, indexed by variable.
+    private Clause[] reasons_ = new Clause[0];
+    // The decision level of the assignment of each variable, indexed by variable.
+    private int[] levels_ = new int[0];
     // Assignment stack; stores all assignments made in the order they
     // were made.
     TIntArrayList trail_ = new TIntArrayList();
@@ -95,7 +104,6 @@ public class MiniSat implements SatFactory, Dimacs {
     boolean asynch_interrupt = false;
     ArrayList<Boolean> model = new ArrayList<>();
     TIntArrayList conflict = new TIntArrayList();
-    ArrayList<VarData> vardata = new ArrayList<>();
     int conflicts;
     int decisions;
     int max_literals;
@@ -122,7 +130,6 @@ public class MiniSat implements SatFactory, Dimacs {
         this.qhead_ = 0;
         num_vars_ = 0;
         rand = new Random(random_seed);
-        assignment_.add(Boolean.lUndef); // required because variable are numbered from 1
     }
 
     @Override
@@ -137,8 +144,10 @@ public class MiniSat implements SatFactory, Dimacs {
      */
     public int newVariable() {
         int v = incrementVariableCounter();
-        assignment_.add(v, Boolean.lUndef);
-        vardata.add(new VarData(CR_Undef, 0));
+        ensureVarCapacity(v + 1);
+        assignment_[v] = L_UNDEF;
+        reasons_[v] = CR_Undef;
+        levels_[v] = 0;
         //activity .push(0);
         activity.add(rnd_init_act ? rand.nextDouble() * 0.00001 : 0);
         seen.clear(v);
@@ -149,6 +158,26 @@ public class MiniSat implements SatFactory, Dimacs {
         return v;
     }
 
+    /**
+     * Ensures that the per-variable and per-literal arrays can store at least <i>n</i> variables.
+     *
+     * @param n number of variables
+     */
+    private void ensureVarCapacity(int n) {
+        int cap = assignment_.length;
+        if (cap < n) {
+            int ncap = Math.max(Math.max(cap * 2, n), 16);
+            assignment_ = Arrays.copyOf(assignment_, ncap);
+            Arrays.fill(assignment_, cap, ncap, L_UNDEF);
+            reasons_ = Arrays.copyOf(reasons_, ncap);
+            Arrays.fill(reasons_, cap, ncap, CR_Undef);
+            levels_ = Arrays.copyOf(levels_, ncap);
+            watches_ = Arrays.copyOf(watches_, 2 * ncap);
+            blockers_ = Arrays.copyOf(blockers_, 2 * ncap);
+            wsizes_ = Arrays.copyOf(wsizes_, 2 * ncap);
+        }
+    }
+
     private void insertVarOrder(int v) {
         if (!order_heap.contains(v) && decision.get(v)) {
             order_heap.insert(v);
@@ -252,7 +281,7 @@ public class MiniSat implements SatFactory, Dimacs {
         if (trailMarker() > level) {
             for (int c = trail_.size() - 1; c >= trail_markers_.get(level); c--) {
                 int x = var(trail_.get(c));
-                assignment_.set(x, Boolean.lUndef);
+                assignment_[x] = L_UNDEF;
                 if (phase_saving > 1 || (phase_saving == 1) && c > trail_markers_.get(trail_markers_.size() - 1))
                     polarity.set(x, sgn(trail_.get(c)));
                 insertVarOrder(x);
@@ -270,13 +299,13 @@ public class MiniSat implements SatFactory, Dimacs {
 
     // The current value of a variable.
     Boolean valueVar(int x) {
-        return assignment_.get(x);
+        return BOOLEANS[assignment_[x]];
     }
 
     // The current value of a literal.
     Boolean valueLit(int l) {
-        Boolean b = assignment_.get(var(l));
-        return b == Boolean.lUndef ? Boolean.lUndef : xor(b, sgn(l));
+        byte b = assignment_[var(l)];
+        return b == L_UNDEF ? Boolean.lUndef : xor(b, sgn(l));
     }
 
     // The current number of original clauses.
@@ -301,15 +330,13 @@ public class MiniSat implements SatFactory, Dimacs {
     // Enqueue a literal. Assumes value of literal is undefined.
     void uncheckedEnqueue(int l, Clause from) {
         assert valueLit(l) == Boolean.lUndef;
-        if (assignment_.get(var(l)) == Boolean.lUndef) {
+        int x = var(l);
+        if (assignment_[x] == L_UNDEF) {
             touched_variables_.add(l);
         }
-        assignment_.set(var(l), makeBoolean(sgn(l)));
-        //vardata.ensureCapacity(var(l));
-        while (vardata.size() < var(l)) {
-            vardata.add(VD_Undef);
-        }
-        vardata.set(var(l), new VarData(from, trailMarker()));
+        assign(l);
+        reasons_[x] = from;
+        levels_[x] = trailMarker();
         trail_.add(l);
     }
 
@@ -317,40 +344,54 @@ public class MiniSat implements SatFactory, Dimacs {
         uncheckedEnqueue(l, CR_Undef);
     }
 
+    // Set the value of the variable of a literal, such that the literal is true.
+    void assign(int l) {
+        assignment_[var(l)] = sgn(l) ? L_TRUE : L_FALSE;
+    }
+
     // Attach a clause to watcher lists.
     void attachClause(Clause cr) {
         assert cr.size() > 1;
-        ArrayList<Watcher> l0 = watches_.get(neg(cr._g(0)));
-        if (l0 == null) {
-            l0 = new ArrayList<>();
-            watches_.put(neg(cr._g(0)), l0);
-        }
-        ArrayList<Watcher> l1 = watches_.get(neg(cr._g(1)));
-        if (l1 == null) {
-            l1 = new ArrayList<>();
-            watches_.put(neg(cr._g(1)), l1);
-        }
-        l0.add(new Watcher(cr, cr._g(1)));
-        l1.add(new Watcher(cr, cr._g(0)));
+        addWatch(neg(cr._g(0)), cr, cr._g(1));
+        addWatch(neg(cr._g(1)), cr, cr._g(0));
         if (cr.learnt()) learnts_literals += cr.size();
         else clauses_literals += cr.size();
     }
 
-    void detachClause(Clause cr) {
-        ArrayList<Watcher> ws = watches_.get(neg(cr._g(0)));
-        int i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+    // Add a clause, and its blocker, to the watcher list of a literal.
+    private void addWatch(int l, Clause cr, int blocker) {
+        Clause[] ws = watches_[l];
+        int n = wsizes_[l];
+        if (ws == null) {
+            watches_[l] = ws = new Clause[4];
+            blockers_[l] = new int[4];
+        } else if (n == ws.length) {
+            watches_[l] = ws = Arrays.copyOf(ws, n * 2);
+            blockers_[l] = Arrays.copyOf(blockers_[l], n * 2);
         }
-        assert i > -1;
-        ws.remove(i);
-        ws = watches_.get(neg(cr._g(1)));
-        i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
+        ws[n] = cr;
+        blockers_[l][n] = blocker;
+        wsizes_[l] = n + 1;
+    }
+
+    void detachClause(Clause cr) {
+        removeWatch(neg(cr._g(0)), cr);
+        removeWatch(neg(cr._g(1)), cr);
+    }
+
+    // Remove a clause from the watcher list of a literal, preserving the order of the others.
+    private void removeWatch(int l, Clause cr) {
+        Clause[] ws = watches_[l];
+        int n = wsizes_[l];
+        int i = n - 1;
+        while (i >= 0 && ws[i] != cr) {
             i--;
         }
         assert i > -1;
-        ws.remove(i);
+        System.arraycopy(ws, i + 1, ws, i, n - i - 1);
+        System.arraycopy(blockers_[l], i + 1, blockers_[l], i, n - i - 1);
+        ws[n - 1] = null;
+        wsizes_[l] = n - 1;
     }
 
     // Perform unit propagation. returns true upon success.
@@ -358,23 +399,26 @@ public class MiniSat implements SatFactory, Dimacs {
         Clause confl = CR_Undef;
         int num_props = 0;
         while (qhead_ < trail_.size()) {
-            int p = trail_.get(qhead_++);
+            int p = trail_.getQuick(qhead_++);
 
             // 'p' is enqueued fact to propagate.
-            ArrayList<Watcher> ws = watches_.get(p);
+            Clause[] ws = watches_[p];
+            int[] bs = blockers_[p];
+            int size = wsizes_[p];
             num_props++;
             int i = 0;
             int j = 0;
-            while (ws != null && i < ws.size()) {
+            while (i < size) {
                 // Try to avoid inspecting the clause:
-                int blocker = ws.get(i).blocker;
+                int blocker = bs[i];
                 if (valueLit(blocker) == Boolean.lTrue) {
-                    ws.set(j++, ws.get(i++));
+                    ws[j] = ws[i];
+                    bs[j++] = bs[i++];
                     continue;
                 }
 
                 // Make sure the false literal is data[1]:
-                Clause cr = ws.get(i).clause;
+                Clause cr = ws[i];
                 final int false_lit = neg(p);
                 if (cr._g(0) == false_lit) {
                     cr._s(0, cr._g(1));
@@ -385,9 +429,9 @@ public class MiniSat implements SatFactory, Dimacs {
 
                 // If 0th watch is true, then clause is already satisfied.
                 final int first = cr._g(0);
-                Watcher w = new Watcher(cr, first);
                 if (first != blocker && valueLit(first) == Boolean.lTrue) {
-                    ws.set(j++, w);
+                    ws[j] = cr;
+                    bs[j++] = first;
                     continue;
                 }
 
@@ -397,12 +441,7 @@ public class MiniSat implements SatFactory, Dimacs {
                     if (valueLit(cr._g(k)) != Boolean.lFalse) {
                         cr._s(1, cr._g(k));
                         cr._s(k, false_lit);
-                        ArrayList<Watcher> lw = watches_.get(neg(cr._g(1)));
-                        if (lw == null) {
-                            lw = new ArrayList<>();
-                            watches_.put(neg(cr._g(1)), lw);
-                        }
-                        lw.add(w);
+                        addWatch(neg(cr._g(1)), cr, first);
                         cont = true;
                         break;
                     }
@@ -410,13 +449,15 @@ public class MiniSat implements SatFactory, Dimacs {
 
                 // Did not find watch -- clause is unit under assignment:
                 if (!cont) {
-                    ws.set(j++, w);
+                    ws[j] = cr;
+                    bs[j++] = first;
                     if (valueLit(first) == Boolean.lFalse) {
                         confl = cr;
                         qhead_ = trail_.size();
                         // Copy the remaining watches_:
-                        while (i < ws.size()) {
-                            ws.set(j++, ws.get(i++));
+                        while (i < size) {
+                            ws[j] = ws[i];
+                            bs[j++] = bs[i++];
                         }
                         touched_variables_.add(first);
                     } else {
@@ -424,10 +465,9 @@ public class MiniSat implements SatFactory, Dimacs {
                     }
                 }
             }
-            if (ws != null) {
-                if (ws.size() > j) {
-                    ws.subList(j, ws.size()).clear();
-                }
+            if (size > j) {
+                Arrays.fill(ws, j, size, null);
+                wsizes_[p] = j;
             }
         }
         propagations += num_props;
@@ -746,11 +786,11 @@ public class MiniSat implements SatFactory, Dimacs {
     }
 
     Clause reason(int x) {
-        return vardata.get(x).cr;
+        return reasons_[x];
     }
 
     int level(int x) {
-        return vardata.get(x).level;
+        return levels_[x];
     }
 
     boolean locked(Clause c) {
@@ -763,7 +803,7 @@ public class MiniSat implements SatFactory, Dimacs {
         detachClause(cr);
         // Don't leave pointers to free'd memory!
         if (locked(cr)) {
-            vardata.get(var(cr._g(0))).cr = CR_Undef;
+            reasons_[var(cr._g(0))] = CR_Undef;
         }
     }
 
@@ -884,12 +924,8 @@ public class MiniSat implements SatFactory, Dimacs {
         return (l >> 1);
     }
 
-    static Boolean makeBoolean(boolean b) {
-        return (b ? Boolean.lTrue : Boolean.lFalse);
-    }
-
-    private static Boolean xor(Boolean a, boolean b) {
-        return Boolean.make((byte) (a.value() ^ (b ? 1 : 0)));
+    private static Boolean xor(byte a, boolean b) {
+        return Boolean.make((byte) (a ^ (b ? 1 : 0)));
     }
 
 
@@ -937,25 +973,6 @@ public class MiniSat implements SatFactory, Dimacs {
         }
     }
 
-    /**
-     * // A watcher represent a clause attached to a literal.
-     * <br/>
-     * (or-tools, booleans.cc, ty L. Perron).
-     *
-     * @author Charles Prud'homme
-     * @since 12/07/13
-     */
-    static class Watcher {
-
-        Clause clause;
-        int blocker;
-
-        Watcher(final Clause cr, int l) {
-            this.clause = cr;
-            this.blocker = l;
-        }
-    }
-
     /**
      * <br/>
      * (or-tools, booleans.cc, ty L. Perron).
@@ -987,14 +1004,4 @@ public class MiniSat implements SatFactory, Dimacs {
         }
 
     }
-
-    static class VarData {
-        Clause cr;
-        int level;
-
-        public VarData(Clause cr, int level) {
-            this.cr = cr;
-            this.level = level;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -156,7 +156,7 @@ public class SatDecorator extends MiniSat {
         pushTrailMarker();
         // Unchecked enqueue
         assert valueLit(lit) == Boolean.lUndef;
-        assignment_.set(var(lit), makeBoolean(sgn(lit)));
+        assign(lit);
         trail_.add(lit);
         return propagate() == CR_Undef;
     }
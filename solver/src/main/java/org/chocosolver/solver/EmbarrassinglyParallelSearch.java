@@ -0,0 +1,584 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.ObjectiveStrategy;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.tools.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * An Embarrassingly Parallel Search (EPS) helper.
+ * </p>
+ * <p>
+ * Contrary to {@link ParallelPortfolio}, which runs differently-configured copies of the same search,
+ * the search tree is split into many subproblems which are solved independently:
+ *      <ol>
+ *          <li>the search tree built by the search strategy of the first model is explored
+ *          up to a given depth, each node at that depth (or leaf) is stored as a subproblem,
+ *          that is, the sequence of decisions that leads to it,</li>
+ *          <li>subproblems are then dispatched among models through a work-stealing {@link ForkJoinPool},
+ *          each model replays the decisions of a subproblem before applying its own search strategy,</li>
+ *          <li>when dealing with an optimization problem, the best known bound is shared among models
+ *          through their {@link org.chocosolver.solver.objective.IObjectiveManager}.</li>
+ *      </ol>
+ * The depth is increased until there are enough subproblems to balance the load among models.
+ * </p>
+ * <p>
+ *     As for {@link ParallelPortfolio}, each model should be populated individually with the very same model
+ *     of the problem, since decisions are exchanged based on variable IDs.
+ *     Only integer decisions are supported.
+ *     When dealing with optimization problems, the objective variable <b>HAS</b> to be an integer variable
+ *     declared eagerly with {@link Model#setObjective(boolean, Variable)}.
+ *     Each model is reset before solving a subproblem, which removes the stop criteria declared on its solver:
+ *     limits are to be declared on the EPS itself, with {@link #limitTime(long)} or {@link #limitNode(long)}.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      eps.addModel(modeller());
+ * }
+ * if(eps.solve()){
+ *     System.out.println(eps.getBestSolution());
+ * }
+ * </code>
+ * </pre>
+ *
+ * </p>
+ * <p>
+ * Related to "Embarrassingly Parallel Search", J.-C. Régin, M. Rezgui and A. Malapert, CP'13.
+ * </p>
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class EmbarrassinglyParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * List of {@link Model}s to be executed in parallel.
+     */
+    private final List<Model> models;
+
+    /**
+     * Expected number of subproblems per model.
+     */
+    private final int nbSubproblemsPerModel;
+
+    /**
+     * Subproblems to solve.
+     */
+    private final List<Subproblem> subproblems;
+
+    /**
+     * For each model, the strategy that replays the decisions of a subproblem.
+     */
+    private final Map<Model, SubproblemStrategy> prefixes;
+
+    /**
+     * Models waiting for a subproblem to solve.
+     */
+    private final BlockingQueue<Model> idle;
+
+    private final AtomicBoolean stop = new AtomicBoolean(false);
+
+    /**
+     * Best value of the objective variable found so far, <i>null</i> if no solution was found.
+     */
+    private volatile Integer incumbent;
+
+    /**
+     * Best solution found so far.
+     */
+    private Solution bestSolution;
+
+    /**
+     * Point to (one of) the model(s) which found the best solution.
+     */
+    private Model finder;
+
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder fails = new LongAdder();
+
+    /**
+     * Maximal resolution time, in nanoseconds.
+     */
+    private long timeLimit = Long.MAX_VALUE;
+
+    /**
+     * Maximal number of nodes opened by all models.
+     */
+    private long nodeLimit = Long.MAX_VALUE;
+
+    /**
+     * Time at which the resolution started, in nanoseconds.
+     */
+    private long start;
+
+    /**
+     * Set to <i>true</i> when a limit is reached.
+     */
+    private volatile boolean limited;
+
+    /**
+     * Stores whether or not prepare() method has been called
+     */
+    private boolean isPrepared = false;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new EmbarrassinglyParallelSearch
+     *
+     * @param nbSubproblemsPerModel expected number of subproblems per model
+     */
+    public EmbarrassinglyParallelSearch(int nbSubproblemsPerModel) {
+        if (nbSubproblemsPerModel < 1) {
+            throw new SolverException("The number of subproblems per model must be positive.");
+        }
+        this.models = new ArrayList<>();
+        this.nbSubproblemsPerModel = nbSubproblemsPerModel;
+        this.subproblems = new ArrayList<>();
+        this.prefixes = new IdentityHashMap<>();
+        this.idle = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Creates a new EmbarrassinglyParallelSearch which expects 30 subproblems per model.
+     */
+    public EmbarrassinglyParallelSearch() {
+        this(30);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a model to the list of models to run in parallel.
+     * The model is expected to be populated, and its search strategy to be declared if needed,
+     * before calling {@link #solve()}.
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * Defines a limit over the run time, decomposition included.
+     * When the limit is reached, the resolution is stopped.
+     *
+     * @param limit maximal resolution time in millisecond
+     */
+    public void limitTime(long limit) {
+        this.timeLimit = limit * TimeUtils.MILLISECONDS_IN_NANOSECONDS;
+    }
+
+    /**
+     * Defines a limit over the run time, decomposition included.
+     * When the limit is reached, the resolution is stopped.
+     *
+     * @param duration a String which states the duration like "WWd XXh YYm ZZs".
+     * @see TimeUtils#convertInMilliseconds(String)
+     */
+    public void limitTime(String duration) {
+        limitTime(TimeUtils.convertInMilliseconds(duration));
+    }
+
+    /**
+     * Defines a limit over the number of nodes opened by all models to solve the subproblems.
+     * When the limit is reached, the resolution is stopped.
+     * Since each model only knows the nodes of subproblems already solved and its own ones,
+     * the limit may be slightly exceeded.
+     *
+     * @param limit maximal number of nodes
+     */
+    public void limitNode(long limit) {
+        this.nodeLimit = limit;
+    }
+
+    /**
+     * Decompose the problem into subproblems and solve them in parallel.
+     * When dealing with a satisfaction problem, the resolution stops on the first solution found.
+     * Otherwise, the resolution stops when all subproblems are solved, that is, when optimality is proven.
+     * In both cases, the resolution also stops when a limit is reached.
+     *
+     * <p>
+     * Note that a call to {@link #getBestSolution()} returns the best solution found.
+     * </p>
+     *
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added or if the resolution has already been run.
+     */
+    public boolean solve() {
+        if (isPrepared) {
+            throw new SolverException("EmbarrassinglyParallelSearch can only be solved once.");
+        }
+        start = System.nanoTime();
+        prepare();
+        decompose();
+        idle.addAll(models);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(() -> IntStream.range(0, subproblems.size())
+                    .parallel()
+                    .forEach(this::solveSubproblem)).get();
+        } catch (InterruptedException | ExecutionException e) {
+            if (e.getCause() instanceof SolverException) {
+                throw (SolverException) e.getCause();
+            }
+            throw new SolverException(e.getMessage());
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+        return bestSolution != null;
+    }
+
+    /**
+     * @return the list of models
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * @return the best solution found, or <i>null</i> if none was found
+     */
+    public Solution getBestSolution() {
+        return bestSolution;
+    }
+
+    /**
+     * @return (one of) the model(s) which found the best solution, or <i>null</i> if none was found
+     */
+    public Model getBestModel() {
+        return finder;
+    }
+
+    /**
+     * @return the number of subproblems the problem was split into
+     */
+    public int getNbSubproblems() {
+        return subproblems.size();
+    }
+
+    /**
+     * @return <i>true</i> if the resolution was stopped by a limit,
+     * in which case optimality or unsatisfiability is not proven
+     */
+    public boolean hasReachedLimit() {
+        return limited;
+    }
+
+    /**
+     * @return the number of nodes opened by all models to solve the subproblems
+     */
+    public long getNodeCount() {
+        return nodes.sum();
+    }
+
+    /**
+     * @return the number of failures encountered by all models to solve the subproblems
+     */
+    public long getFailCount() {
+        return fails.sum();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void prepare() {
+        isPrepared = true;
+        check();
+        for (Model m : models) {
+            Solver s = m.getSolver();
+            if (s.getSearch() == null) {
+                m.getSettings().makeDefaultSearch(m);
+            }
+            SubproblemStrategy prefix = new SubproblemStrategy(m);
+            s.setSearch(prefix, s.getSearch());
+            prefixes.put(m, prefix);
+            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(m));
+            if (m.getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+                s.plugMonitor(new IMonitorOpenNode() {
+                    @Override
+                    public void beforeOpenNode() {
+                        Integer best = incumbent;
+                        if (best != null) {
+                            s.getObjectiveManager().updateBestSolution(best);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private void check() {
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the EmbarrassinglyParallelSearch.");
+        }
+        if (models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            Variable objective = models.get(0).getObjective();
+            if (objective == null) {
+                throw new UnsupportedOperationException("No objective has been defined");
+            }
+            if ((objective.getTypeAndKind() & Variable.INT) == 0) {
+                throw new UnsupportedOperationException("Only integer objective variables are supported");
+            }
+        }
+    }
+
+    /**
+     * Explore the search tree of the first model, with an increasing depth,
+     * until enough subproblems are found or the search tree is completely explored.
+     */
+    private void decompose() {
+        Model master = models.get(0);
+        Solver solver = master.getSolver();
+        AbstractStrategy<?> strategy = solver.getSearch();
+        int expected = nbSubproblemsPerModel * models.size();
+        int depth = 0;
+        boolean deeper = true;
+        while (deeper && subproblems.size() < expected && !isStopped(0)) {
+            subproblems.clear();
+            deeper = decompose(solver, strategy, ++depth);
+            master.getEnvironment().worldPopUntil(0);
+            solver.reset();
+        }
+    }
+
+    /**
+     * Store as subproblems all nodes at depth <i>depth</i>, and all leaves above it.
+     *
+     * @return <i>true</i> if at least one node at depth <i>depth</i> is not a leaf
+     */
+    private boolean decompose(Solver solver, AbstractStrategy<?> strategy, int depth) {
+        if (!strategy.init()) {
+            return false;
+        }
+        DecisionPath path = solver.getDecisionPath();
+        boolean deeper = false;
+        boolean search = solver.moveForward(null);
+        while (search && !isStopped(0)) {
+            Decision<?> dec = strategy.getDecision();
+            if (dec != null && path.size() - 1 >= depth) {
+                deeper = true;
+                dec.free();
+                dec = null;
+            }
+            if (dec == null) {
+                subproblems.add(new Subproblem(path));
+                search = solver.moveBackward();
+            } else if (!solver.moveForward(dec)) {
+                search = solver.moveBackward();
+            }
+        }
+        return deeper;
+    }
+
+    private void solveSubproblem(int i) {
+        if (isStopped(0)) {
+            return;
+        }
+        Model model;
+        try {
+            model = idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            Solver solver = model.getSolver();
+            solver.reset();
+            solver.addStopCriterion(() -> isStopped(solver.getNodeCount()));
+            prefixes.get(model).set(subproblems.get(i));
+            Integer best = incumbent;
+            if (best != null) {
+                solver.getObjectiveManager().updateBestSolution(best);
+            }
+            if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+                solver.solve();
+            } else {
+                //noinspection StatementWithEmptyBody
+                while (solver.solve()) ;
+            }
+            nodes.add(solver.getNodeCount());
+            fails.add(solver.getFailCount());
+        } finally {
+            idle.add(model);
+        }
+    }
+
+    /**
+     * @param current number of nodes opened by the caller and not yet counted
+     * @return <i>true</i> if the resolution has to stop, that is, a solution was found for a satisfaction problem,
+     * or a limit is reached
+     */
+    private boolean isStopped(long current) {
+        if (!stop.get() && (System.nanoTime() - start >= timeLimit || nodes.sum() + current >= nodeLimit)) {
+            limited = true;
+            stop.set(true);
+        }
+        return stop.get();
+    }
+
+    private synchronized void updateFromSolution(Model m) {
+        if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            if (bestSolution == null) {
+                bestSolution = new Solution(m).record();
+                finder = m;
+                stop.set(true);
+            }
+        } else {
+            int val = ((IntVar) m.getObjective()).getValue();
+            Integer best = incumbent;
+            if (best == null
+                    || (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE && val > best)
+                    || (m.getResolutionPolicy() == ResolutionPolicy.MINIMIZE && val < best)) {
+                incumbent = val;
+                bestSolution = new Solution(m).record();
+                finder = m;
+            }
+        }
+    }
+
+    /**
+     * A subproblem, that is, a sequence of decisions
+     * stored as variable IDs, decision operators and values.
+     */
+    private static final class Subproblem {
+
+        private final int[] ids;
+        private final DecisionOperator<IntVar>[] ops;
+        private final int[] values;
+        private final int size;
+
+        Subproblem(DecisionPath path) {
+            int n = path.size() - 1;
+            ids = new int[n];
+            @SuppressWarnings("unchecked")
+            DecisionOperator<IntVar>[] array = (DecisionOperator<IntVar>[]) new DecisionOperator<?>[n];
+            ops = array;
+            values = new int[n];
+            int k = 0;
+            for (int i = 1; i <= n; i++) {
+                Decision<?> d = path.getDecision(i);
+                if (!(d instanceof IntDecision)) {
+                    throw new UnsupportedOperationException("Cannot deal with such decision: " + d);
+                }
+                IntDecision dec = (IntDecision) d;
+                DecisionOperator<IntVar> op = dec.getDecOp();
+                int val = dec.getDecisionValue();
+                boolean objective = false;
+                if (op instanceof ObjectiveStrategy.BottomUpDecisionOperator) {
+                    op = DecisionOperatorFactory.makeIntSplit();
+                    objective = true;
+                } else if (op instanceof ObjectiveStrategy.TopDownDecisionOperator) {
+                    op = DecisionOperatorFactory.makeIntReverseSplit();
+                    objective = true;
+                }
+                if (!dec.hasNext() && dec.getArity() > 1) {
+                    if (objective) {
+                        // refutation of an objective decision only relies on the global bounds
+                        continue;
+                    }
+                    // same as IntDecision.flip()
+                    if (op == DecisionOperatorFactory.makeIntSplit()) {
+                        val++;
+                    } else if (op == DecisionOperatorFactory.makeIntReverseSplit()) {
+                        val--;
+                    }
+                    op = op.opposite();
+                }
+                ids[k] = dec.getDecisionVariable().getId();
+                ops[k] = op;
+                values[k++] = val;
+            }
+            size = k;
+        }
+    }
+
+    /**
+     * A strategy that replays, as non-refutable decisions, the decisions of a subproblem.
+     */
+    private static final class SubproblemStrategy extends AbstractStrategy<IntVar> {
+
+        private final Model model;
+        private final TIntObjectHashMap<IntVar> vars;
+        private Subproblem current;
+
+        SubproblemStrategy(Model model) {
+            super(new IntVar[0]);
+            this.model = model;
+            this.vars = new TIntObjectHashMap<>();
+            for (Variable v : model.getVars()) {
+                if ((v.getTypeAndKind() & Variable.INT) != 0) {
+                    vars.put(v.getId(), (IntVar) v);
+                }
+            }
+        }
+
+        void set(Subproblem subproblem) {
+            this.current = subproblem;
+        }
+
+        @Override
+        public Decision<IntVar> getDecision() {
+            if (current == null) {
+                return null;
+            }
+            int d = model.getSolver().getDecisionPath().size() - 1;
+            if (d >= current.size) {
+                return null;
+            }
+            IntVar var = vars.get(current.ids[d]);
+            IntDecision dec = model.getSolver().getDecisionPath()
+                    .makeIntDecision(var, current.ops[d], current.values[d]);
+            dec.setRefutable(false);
+            return dec;
+        }
+    }
+}
@@ -10,6 +10,7 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.sat.ClauseExchange;
 import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.InvalidSolutionException;
@@ -183,6 +184,32 @@ public class ParallelPortfolio {
         this.manager = new NogoodStealer();
     }
 
+    /**
+     * Calling this method will ensure that workers equipped with a restart policy
+     * publish the nogoods they record on restarts (based on {@link NogoodFromRestarts}) and
+     * import the ones published by the other workers, through a bounded {@link ClauseExchange}.
+     * Only reliable models publish their nogoods.
+     *
+     * @param exchange the clause exchange, which also gives statistics about sharing
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same ID in each worker).
+     * @implNote This is only effective when the search of workers is automatically configured.
+     */
+    public void shareClausesOnRestarts(ClauseExchange exchange) {
+        this.manager = exchange;
+    }
+
+    /**
+     * Calling this method will ensure that workers equipped with a restart policy
+     * publish the nogoods they record on restarts and import the ones published by the other workers,
+     * through a default {@link ClauseExchange}.
+     *
+     * @see #shareClausesOnRestarts(ClauseExchange)
+     */
+    public void shareClausesOnRestarts() {
+        shareClausesOnRestarts(new ClauseExchange());
+    }
+
     /**
      * <p>
      * Adds a model to the list of models to run in parallel.
@@ -547,7 +574,17 @@ public class ParallelPortfolio {
                 //TODO DEAL WITH SETVAR --> MINIZINC
                 break;
         }
+        boolean share = manager instanceof ClauseExchange;
+        if (share) {
+            bb.setNogoodOnRestart(false);
+        }
         bb.make(worker);
+        if (share) {
+            worker.getSolver().plugMonitor(new NogoodFromRestarts(worker, manager));
+            if (!reliableness.get(worker)) {
+                ((ClauseExchange) manager).mute(worker);
+            }
+        }
     }
 
     private void check() {
@@ -66,6 +66,8 @@ public class Settings {
 
     private boolean enableSAT = false;
 
+    private boolean enableSweepInDiffN = false;
+
     private boolean swapOnPassivate = true;
 
     private boolean checkDeclaredConstraints = true;
@@ -78,6 +80,8 @@ public class Settings {
 
     private byte hybridEngine = 0b00;
 
+    private boolean adaptPropagatorPriority = false;
+
     private int nbMaxLearnt = 100_000;
 
     private int maxLearntCardinlity = Integer.MAX_VALUE / 100;
@@ -92,6 +96,10 @@ public class Settings {
 
     private boolean ibexRestoreRounding = Ibex.PRESERVE_ROUNDING;
 
+    private boolean enableIbex = true;
+
+    private double trailCompactionRatio = 4.;
+
     private Function<Model, Solver> initSolver = Solver::new;
 
     private final HashMap<String, Object> additionalSettings = new HashMap<>();
@@ -436,6 +444,27 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return {@code true} if diffN constraints also filter with a sweep over forbidden regions,
+     * {@code false} if they only filter rectangles pairwise.
+     */
+    public boolean enableSweepInDiffN() {
+        return enableSweepInDiffN;
+    }
+
+    /**
+     * Define if diffN constraints, in addition to their pairwise filtering, sweep each modified rectangle
+     * over the forbidden regions induced by the compulsory parts of its neighbours.
+     * It filters more, but changes the path followed by search strategies that learn from failures.
+     *
+     * @param enableSweepInDiffN {@code true} to enable the sweep
+     * @return the current instance
+     */
+    public Settings setEnableSweepInDiffN(boolean enableSweepInDiffN) {
+        this.enableSweepInDiffN = enableSweepInDiffN;
+        return this;
+    }
+
     /**
      * @return <i>true</i> when an underlying SAT solver is used to manage clauses declared through {@link ISatFactory},
      * <i>false</i> when clauses are managed with CSP constraints only.
@@ -592,6 +621,29 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return <i>true</i> if the propagation engine adapts the priority of propagators to their measured cost and yield.
+     * @see #setAdaptPropagatorPriority(boolean)
+     */
+    public boolean adaptPropagatorPriority() {
+        return adaptPropagatorPriority;
+    }
+
+    /**
+     * Define whether the propagation engine measures the execution time of each propagator and how often it filters.
+     * When set to <i>true</i>, expensive propagators which rarely filter are delayed to the last queue,
+     * and cheap propagators which often filter are moved one queue forward.
+     * This does not change the fixpoint reached, only the order in which propagators are executed.
+     * Default value is <i>false</i>.
+     *
+     * @param adapt set to <i>true</i> to adapt the priority of propagators
+     * @return the current instance
+     */
+    public Settings setAdaptPropagatorPriority(boolean adapt) {
+        this.adaptPropagatorPriority = adapt;
+        return this;
+    }
+
 
     /**
      * @return maximum number of learnt clauses to store. When reached, a reduction is applied.
@@ -773,6 +825,50 @@ public class Settings {
         return ibexRestoreRounding;
     }
 
+    /**
+     * @return <tt>true</tt> if real constraints declared with functions are propagated by Ibex.
+     */
+    public boolean enableIbex() {
+        return enableIbex;
+    }
+
+    /**
+     * Set to 'true' to propagate real constraints declared with functions
+     * (see {@link org.chocosolver.solver.constraints.real.RealConstraint}) with Ibex.
+     * Otherwise, the functions are parsed and propagated with pure-Java HC4 and BC contractors
+     * (see {@link org.chocosolver.solver.expression.continuous.relational.PropEquation}),
+     * which does not require the native library.
+     *
+     * @param enableIbex {@code true} to enable Ibex
+     * @return the current instance
+     */
+    public Settings setEnableIbex(boolean enableIbex) {
+        this.enableIbex = enableIbex;
+        return this;
+    }
+
+    /**
+     * @return how much the memory allocated by the trails can exceed their recent occupancy
+     * before being released on restarts (default is 4), a non-positive value disables it.
+     */
+    public double getTrailCompactionRatio() {
+        return trailCompactionRatio;
+    }
+
+    /**
+     * On each restart, the memory allocated by the trails is released
+     * when it exceeds <i>ratio</i> times the highest occupancy observed since the previous restart
+     * (see {@link org.chocosolver.memory.IEnvironment#compact(double)}).
+     * This prevents a single deep dive from keeping large trails allocated for the rest of the search.
+     *
+     * @param ratio a ratio greater than 1, or a non-positive value to never release the trails
+     * @return the current instance
+     */
+    public Settings setTrailCompactionRatio(double ratio) {
+        this.trailCompactionRatio = ratio;
+        return this;
+    }
+
     public Optional<Object> get(String key) {
         return Optional.ofNullable(additionalSettings.get(key));
     }
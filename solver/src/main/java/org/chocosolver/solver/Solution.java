@@ -19,6 +19,7 @@ import org.chocosolver.solver.variables.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -45,7 +46,19 @@ public class Solution implements ICause {
      */
     private boolean empty;
     /**
-     * Maps of value for integer variable (id - value)
+     * Slots of the integer variables to store, shared between copies
+     */
+    private SolutionLayout layout;
+    /**
+     * Value of each integer variable, indexed by its slot in {@link #layout}
+     */
+    private int[] intvals;
+    /**
+     * Slots of {@link #intvals} that are not recorded, when not null
+     */
+    private BitSet unset;
+    /**
+     * Maps of value for integer variable not in {@link #layout} (id - value)
      */
     private TIntIntHashMap intmap;
     /**
@@ -86,6 +99,21 @@ public class Solution implements ICause {
         this.model = model;
     }
 
+    /**
+     * Create an empty solution object able to store the value of each variable of <code>layout</code>
+     * when calling <code>record()</code>.
+     * <p>
+     * Solutions sharing a layout only allocate an <code>int[]</code> to store the integer variables.
+     * </p>
+     *
+     * @param model  model of the solution
+     * @param layout the variables to store in this object
+     */
+    public Solution(Model model, SolutionLayout layout) {
+        this(model, layout.getVariables());
+        this.layout = layout;
+    }
+
     //***********************************************************************************
     // METHODS
     //***********************************************************************************
@@ -102,6 +130,27 @@ public class Solution implements ICause {
             varsToStore = model.getVars();
         }
         assert varsToStore.length > 0;
+        if (layout == null) {
+            layout = new SolutionLayout(varsToStore);
+        }
+        if (intvals == null) {
+            intvals = layout.newSnapshot();
+        }
+        if (unset != null) {
+            unset.clear();
+        }
+        if (layout.record(intvals) > 0) {
+            // rare, so the slots not recorded are searched only now
+            if (unset == null) {
+                unset = new BitSet(intvals.length);
+            }
+            for (int i = 0; i < intvals.length; i++) {
+                if (!layout.getIntVar(i).isInstantiated()) {
+                    unset.set(i);
+                }
+            }
+            warn = true;
+        }
         if (intmap != null) {
             intmap.clear();
         }
@@ -118,12 +167,7 @@ public class Solution implements ICause {
                     switch (kind) {
                         case Variable.INT:
                         case Variable.BOOL:
-                            if (intmap == null) {
-                                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY,
-                                    Solution.NO_ENTRY);
-                            }
-                            IntVar v = (IntVar) var;
-                            intmap.put(v.getId(), v.getValue());
+                            // already recorded in intvals
                             break;
                         case Variable.REAL:
                             if (realmap == null) {
@@ -168,7 +212,7 @@ public class Solution implements ICause {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        st.append(v.getName()).append("=").append(intmap.get(v.getId()))
+                        st.append(v.getName()).append("=").append(intValOrNoEntry(v))
                             .append(", ");
                         break;
                     case Variable.REAL:
@@ -195,6 +239,13 @@ public class Solution implements ICause {
     public Solution copySolution() {
         Solution ret = new Solution(model, varsToStore);
         ret.empty = empty;
+        ret.layout = layout;
+        if (intvals != null) {
+            ret.intvals = intvals.clone();
+        }
+        if (unset != null) {
+            ret.unset = (BitSet) unset.clone();
+        }
         if (intmap != null) {
             ret.intmap = new TIntIntHashMap(intmap);
         }
@@ -221,7 +272,10 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + v
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (intmap != null && intmap.containsKey(v.getId())) {
+        int slot = slotOf(v);
+        if (slot >= 0) {
+            return intvals[slot];
+        } else if (intmap != null && intmap.containsKey(v.getId())) {
             return intmap.get(v.getId());
         } else {
             if ((v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
@@ -241,6 +295,20 @@ public class Solution implements ICause {
      */
     public void setIntVal(IntVar var, int val) {
         empty = false;
+        int slot = layout == null ? -1 : layout.slotOf(var);
+        if (slot >= 0) {
+            if (intvals == null) {
+                intvals = layout.newSnapshot();
+                // the other slots are not recorded yet
+                unset = new BitSet(intvals.length);
+                unset.set(0, intvals.length);
+            }
+            intvals[slot] = val;
+            if (unset != null) {
+                unset.clear(slot);
+            }
+            return;
+        }
         if (intmap == null) {
             intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
         }
@@ -379,7 +447,7 @@ public class Solution implements ICause {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        v.instantiateTo(intmap.get(v.getId()), this);
+                        v.instantiateTo(getIntVal(v), this);
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
@@ -400,6 +468,36 @@ public class Solution implements ICause {
         model.getSolver().propagate();
     }
 
+    /**
+     * @param v an integer variable
+     * @return the slot of <i>v</i> in {@link #intvals}, or -1 if its value is not recorded there
+     */
+    private int slotOf(IntVar v) {
+        if (intvals == null) {
+            return -1;
+        }
+        int slot = layout.slotOf(v);
+        if (slot >= 0 && unset != null && unset.get(slot)) {
+            return -1;
+        }
+        return slot;
+    }
+
+    private int intValOrNoEntry(IntVar v) {
+        int slot = slotOf(v);
+        if (slot >= 0) {
+            return intvals[slot];
+        }
+        return intmap == null ? NO_ENTRY : intmap.get(v.getId());
+    }
+
+    /**
+     * @return the layout of the integer variables of this solution, or <i>null</i> if nothing has been recorded yet
+     */
+    public SolutionLayout getLayout() {
+        return layout;
+    }
+
     /**
      * @return <i>true</i> if a solution has been recorded into this, <i>false</i> otherwise.
      */
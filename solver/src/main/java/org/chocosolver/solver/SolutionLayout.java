@@ -0,0 +1,155 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+
+/**
+ * Fixed ordering of the variables of a solution, which maps each integer (or boolean) variable to a slot
+ * of a dense <code>int[]</code>.
+ * <p>
+ * A layout is immutable, so it can be shared by all the {@link Solution}s recorded on the same variables,
+ * or used on its own to record solutions as bare <code>int[]</code>
+ * (see {@link org.chocosolver.solver.search.IResolutionHelper#findAllSolutions(SolutionLayout, org.chocosolver.solver.search.ISolutionSink, org.chocosolver.util.criteria.Criterion...)}).
+ * Constants are not given a slot.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class SolutionLayout {
+
+    /**
+     * Variables to store
+     */
+    private final Variable[] vars;
+    /**
+     * Integer and boolean variables, in slot order
+     */
+    private final IntVar[] intVars;
+    /**
+     * Smallest variable id
+     */
+    private final int offset;
+    /**
+     * Slot of a variable, indexed by its id minus offset, -1 if it has no slot
+     */
+    private final int[] slots;
+
+    /**
+     * Create the layout of <code>vars</code>.
+     *
+     * @param vars the variables to store
+     */
+    public SolutionLayout(Variable... vars) {
+        this.vars = vars.clone();
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (Variable var : vars) {
+            if (hasSlot(var)) {
+                min = Math.min(min, var.getId());
+                max = Math.max(max, var.getId());
+            }
+        }
+        this.offset = min > max ? 0 : min;
+        this.slots = new int[min > max ? 0 : max - min + 1];
+        Arrays.fill(slots, -1);
+        IntVar[] ivars = new IntVar[vars.length];
+        int n = 0;
+        for (Variable var : vars) {
+            // a variable given twice gets a single slot
+            if (hasSlot(var) && slots[var.getId() - offset] == -1) {
+                slots[var.getId() - offset] = n;
+                ivars[n++] = (IntVar) var;
+            }
+        }
+        this.intVars = Arrays.copyOf(ivars, n);
+    }
+
+    private static boolean hasSlot(Variable var) {
+        int kind = var.getTypeAndKind() & Variable.KIND;
+        return (var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE
+                && (kind == Variable.INT || kind == Variable.BOOL);
+    }
+
+    /**
+     * @return the variables to store, in the order given on construction
+     */
+    public Variable[] getVariables() {
+        return vars;
+    }
+
+    /**
+     * @return the number of slots, that is the length of a snapshot
+     */
+    public int size() {
+        return intVars.length;
+    }
+
+    /**
+     * @param slot a slot
+     * @return the integer variable stored in <code>slot</code>
+     */
+    public IntVar getIntVar(int slot) {
+        return intVars[slot];
+    }
+
+    /**
+     * @param var a variable
+     * @return the slot of <code>var</code>, or -1 if it is not an integer variable of this layout
+     */
+    public int slotOf(Variable var) {
+        int i = var.getId() - offset;
+        return i >= 0 && i < slots.length ? slots[i] : -1;
+    }
+
+    /**
+     * @return a new snapshot, that is an array of {@link #size()} values
+     */
+    public int[] newSnapshot() {
+        return new int[size()];
+    }
+
+    /**
+     * Copy the current value of each integer variable of this layout into <code>snapshot</code>.
+     * The slot of a variable which is not instantiated is left unchanged.
+     *
+     * @param snapshot an array of at least {@link #size()} values
+     * @return the number of integer variables which are not instantiated (0 on a solution)
+     */
+    public int record(int[] snapshot) {
+        int missing = 0;
+        for (int s = 0; s < intVars.length; s++) {
+            IntVar var = intVars[s];
+            if (var.isInstantiated()) {
+                snapshot[s] = var.getValue();
+            } else {
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Instantiate each integer variable of this layout to its value in <code>snapshot</code>.
+     *
+     * @param snapshot a snapshot recorded on this layout
+     * @param cause    the cause of the instantiations
+     * @throws ContradictionException if an instantiation fails
+     */
+    public void restore(int[] snapshot, ICause cause) throws ContradictionException {
+        for (int s = 0; s < intVars.length; s++) {
+            intVars[s].instantiateTo(snapshot[s], cause);
+        }
+    }
+}
@@ -801,6 +801,10 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     public void restart() {
         searchMonitors.beforeRestart();
         restoreRootNode();
+        double ratio = mModel.getSettings().getTrailCompactionRatio();
+        if (ratio > 0) {
+            mModel.getEnvironment().compact(ratio);
+        }
         mModel.getEnvironment().worldPush();
         getMeasures().incRestartCount();
         try {
@@ -77,6 +77,8 @@ public class ConstraintsName {
 
     public static final String DIFFNWITHCUMULATIVE = "DIFFNWITHCUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String ELEMENT = "ELEMENT";
 
     public static final String INCREASING = "INCREASING";
@@ -93,6 +95,8 @@ public class ConstraintsName {
 
     public static final String LEX = "LEX";
 
+    public static final String LINEARRELAXATION = "LINEARRELAXATION";
+
     public static final String MDDC = "MDDC";
 
     public static final String MULTICOSTREGULAR = "MULTICOSTREGULAR";
@@ -45,6 +45,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.disjunctive.PropDisjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsack;
@@ -61,6 +62,7 @@ import org.chocosolver.solver.constraints.nary.nvalue.amnv.rules.R1;
 import org.chocosolver.solver.constraints.nary.nvalue.amnv.rules.R3;
 import org.chocosolver.solver.constraints.nary.sort.PropKeysorting;
 import org.chocosolver.solver.constraints.nary.sum.IntLinCombFactory;
+import org.chocosolver.solver.constraints.nary.sum.PropLinearRelaxation;
 import org.chocosolver.solver.constraints.nary.tree.PropAntiArborescences;
 import org.chocosolver.solver.constraints.ternary.*;
 import org.chocosolver.solver.constraints.unary.Member;
@@ -72,6 +74,7 @@ import org.chocosolver.solver.variables.Task;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.view.integer.IntAffineView;
 import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.objects.graphs.MDDBuilder;
 import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -1399,6 +1402,65 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         ref().cumulative(tasks, h, ref().intVar(capacity), false, Cumulative.Filter.NAIVETIME).post();
     }
 
+    /**
+     * Creates a disjunctive (or unary resource) constraint: Enforces that tasks do not overlap in time.
+     * <p>
+     * Tasks whose duration is equal to zero are discarded.
+     * This is equivalent to a cumulative constraint whose heights and capacity are equal to 1,
+     * but filtered with overload checking, detectable precedences, not-first/not-last and edge-finding,
+     * each in O(n log n).
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        return disjunctive(tasks, null);
+    }
+
+    /**
+     * Creates a disjunctive (or unary resource) constraint with optional tasks:
+     * Enforces that performed tasks do not overlap in time.
+     * A task <i>i</i> is performed iff <i>presences[i]</i> is equal to 1.
+     * <p>
+     * Tasks whose duration is equal to zero are discarded.
+     * The bounds of an optional task are only filtered once it is known to be performed,
+     * and it is excluded when it cannot be performed together with the performed tasks.
+     *
+     * @param tasks     Task objects containing start, duration and end variables
+     * @param presences presence of each task, <i>null</i> if all tasks are performed
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks, BoolVar[] presences) {
+        if (presences != null && tasks.length != presences.length) {
+            throw new SolverException("Tasks and presences arrays should have same size");
+        }
+        int n = 0;
+        for (Task task : tasks) {
+            if (task.getDuration().getUB() > 0) {
+                n++;
+            }
+        }
+        if (n == 0) {
+            return ref().trueConstraint();
+        }
+        IntVar[] s = new IntVar[n];
+        IntVar[] d = new IntVar[n];
+        IntVar[] e = new IntVar[n];
+        BoolVar[] p = presences == null ? null : new BoolVar[n];
+        for (int i = 0, k = 0; i < tasks.length; i++) {
+            if (tasks[i].getDuration().getUB() > 0) {
+                s[k] = tasks[i].getStart();
+                d[k] = tasks[i].getDuration();
+                e[k] = tasks[i].getEnd();
+                if (p != null) {
+                    p[k] = presences[i];
+                }
+                k++;
+            }
+        }
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(s, d, e, p));
+    }
+
     /**
      * <p>
      * Create a decreasing constraint which ensures that the variables in {@code vars} are decreasing.
@@ -1835,6 +1897,27 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.LEX, new PropLex(vars1, vars2, false));
     }
 
+    /**
+     * Creates a linear relaxation constraint, redundant with the linear constraints
+     * (such as {@link #sum(IntVar[], String, int)} or {@link #scalar(IntVar[], int[], String, int)})
+     * posted in the model <b>so far</b>.
+     * <p>
+     * These constraints are collected in a linear program which is re-solved, warm-started,
+     * at most once every <i>frequency</i> nodes.
+     * Its optimal value bounds <i>objective</i> and a reduced-cost fixing is applied to the variables.
+     * This is relevant when the objective variable is defined by a linear constraint,
+     * in which case the bound is stronger than the one interval reasoning provides.
+     * </p>
+     *
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> if <i>objective</i> is maximized, <i>false</i> if it is minimized
+     * @param frequency the linear program is solved at most once every <i>frequency</i> nodes (must be positive)
+     * @return a linear relaxation constraint
+     */
+    default Constraint linearRelaxation(IntVar objective, boolean maximize, int frequency) {
+        return new Constraint(ConstraintsName.LINEARRELAXATION, new PropLinearRelaxation(ref(), objective, maximize, frequency));
+    }
+
     /**
      * Creates an Argmax constraint.
      * z is the index of the maximum value of the collection of domain variables vars.
@@ -2484,7 +2567,7 @@ public interface IIntConstraintFactory extends ISelf<Model> {
             }
             break;
             case "MDD+":
-                p = new PropLargeMDDC(new MultivaluedDecisionDiagram(vars, tuples), vars);
+                p = new PropLargeMDDC(new MDDBuilder(vars).addTuples(tuples).build(), vars);
                 break;
             case "FC":
                 p = new PropLargeFC(vars, tuples);
@@ -2533,9 +2616,14 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * @param htuples hybrid tuples
      * @return a hybrid table constraint
      * @implNote The filtering algorithm is an adaptation of STR2 to expressions.
+     * When no expression refers to another column (see {@link HybridTuples#isBasic()}),
+     * Compact-Table for basic smart tables is used instead.
      */
     default Constraint table(IntVar[] vars, HybridTuples htuples) {
         assert vars.length == htuples.arity();
+        if (htuples.nbTuples() > 0 && htuples.isBasic()) {
+            return new Constraint(ConstraintsName.TABLE, new PropCompactTableSmart(vars, htuples));
+        }
         return new Constraint(ConstraintsName.TABLE, new PropHybridTable(vars, htuples));
     }
 
@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints;
 
 
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.structure.IRedoableOperation;
+import org.chocosolver.memory.structure.StoredLongArray;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -146,6 +148,11 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      */
     protected final Priority priority;
 
+    /**
+     * Index of the queue this propagator is scheduled in, its priority unless adapted by the propagation engine.
+     */
+    private int schedulingPriority;
+
     /**
      * Set to <tt>true</tt> to indidates that this propagator reacts to fine event.
      * If set to <tt>false</tt>, the method {@link #propagate(int, int)} will never be called.
@@ -194,6 +201,16 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      */
     private int position = -1;
 
+    /**
+     * Set to <tt>true</tt> when {@link #advise(int, int)} is called before scheduling this propagator.
+     */
+    private boolean advised;
+    /**
+     * Bound thresholds, for each variable: lower bound one at 2*i, upper bound one at 2*i+1.
+     * Created on the first call to {@link #watchBounds(int, int, int)}.
+     */
+    private StoredLongArray watches;
+
     /**
      * A bi-int-consumer
      */
@@ -232,6 +249,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         this.model = vars[0].getModel();
         this.reactToFineEvt = reactToFineEvt;
         this.priority = priority;
+        this.schedulingPriority = priority.getValue();
         // To avoid too much memory consumption, the array of variables is referenced directly, no clone anymore.
         // This is the responsibility of the propagator's developer to take care of that point.
         if (model.getSettings().cloneVariableArrayInPropagator()) {
@@ -246,8 +264,40 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         operations = new IOperation[3];
 
         operations[0] = () -> state = NEW;
-        operations[1] = () -> state = REIFIED;
-        operations[2] = () -> state = ACTIVE;
+        operations[1] = new IRedoableOperation() {
+            @Override
+            public void undo() {
+                state = REIFIED;
+            }
+
+            @Override
+            public Runnable redo() {
+                return () -> {
+                    if (isReifiedAndSilent()) {
+                        setReifiedTrue();
+                    }
+                };
+            }
+        };
+        operations[2] = new IRedoableOperation() {
+            @Override
+            public void undo() {
+                state = ACTIVE;
+            }
+
+            @Override
+            public Runnable redo() {
+                if (state != PASSIVE) {
+                    // e.g., locked clauses
+                    return null;
+                }
+                return () -> {
+                    if (isActive()) {
+                        setPassive();
+                    }
+                };
+            }
+        };
 
         // for propagation purpose
         eventmasks = new int[vars.length];
@@ -445,6 +495,69 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         propagate(CUSTOM_PROPAGATION.getMask());
     }
 
+    /**
+     * Advisor of this propagator, called only once {@link #enableAdvisor()} has been called.
+     * It is called when the variable of index <i>idxVarInProp</i> has been modified by another cause,
+     * right before this propagator is scheduled, and for every such modification, even if this propagator
+     * is already scheduled.
+     * It should be cheap and must not modify any variable.
+     * <p>
+     * By default, it checks the thresholds declared with {@link #watchBounds(int, int, int)}.
+     * It can be overridden to maintain an incremental state that tells when filtering can occur.
+     * </p>
+     *
+     * @param idxVarInProp index of the modified variable in <code>this</code>
+     * @param mask         type of event
+     * @return <i>false</i> if the modification cannot trigger any filtering, this propagator is then not scheduled,
+     * <i>true</i> otherwise
+     */
+    public boolean advise(int idxVarInProp, int mask) {
+        if (watches == null || 2 * idxVarInProp >= watches.length()) {
+            return true;
+        }
+        IntVar var = (IntVar) vars[idxVarInProp];
+        return var.getLB() > watches.get(2 * idxVarInProp) || var.getUB() < watches.get(2 * idxVarInProp + 1);
+    }
+
+    /**
+     * Call {@link #advise(int, int)} before scheduling this propagator on modifications of its variables.
+     */
+    protected final void enableAdvisor() {
+        this.advised = true;
+    }
+
+    /**
+     * @return <tt>true</tt> if {@link #advise(int, int)} is called before scheduling this propagator
+     */
+    public final boolean isAdvised() {
+        return advised;
+    }
+
+    /**
+     * Restrict the scheduling of this propagator on modifications of the integer variable of index <i>idxVarInProp</i>:
+     * it is scheduled only when the lower bound becomes greater than <i>lb</i>
+     * or when the upper bound becomes smaller than <i>ub</i>.
+     * Thresholds are backtrackable, and the advisor is enabled on the first call.
+     * <p>
+     * Thresholds must be safe: any modification that may trigger filtering must cross one of them.
+     * Passing {@link Integer#MIN_VALUE} and {@link Integer#MAX_VALUE} removes the restriction.
+     * </p>
+     *
+     * @param idxVarInProp index of an integer variable in <code>this</code>
+     * @param lb           lower bound threshold
+     * @param ub           upper bound threshold
+     */
+    protected final void watchBounds(int idxVarInProp, int lb, int ub) {
+        if (watches == null) {
+            watches = new StoredLongArray(model.getEnvironment(), 0, 0);
+            enableAdvisor();
+        }
+        // a lower bound is always greater than the initial thresholds: unwatched variables always schedule this
+        watches.ensureCapacity(2 * Math.max(vars.length, idxVarInProp + 1), Long.MIN_VALUE);
+        watches.set(2 * idxVarInProp, lb);
+        watches.set(2 * idxVarInProp + 1, ub);
+    }
+
     /**
      * Schedules a coarse propagation to filter all variables at once.
      * <p>
@@ -732,6 +845,25 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return priority;
     }
 
+    /**
+     * @return the index of the queue this propagator is scheduled in,
+     * the value of {@link #getPriority()} unless it has been adapted
+     */
+    public final int getSchedulingPriority() {
+        return schedulingPriority;
+    }
+
+    /**
+     * Change the index of the queue this propagator is scheduled in.
+     * This should only be called by the propagation engine, when this propagator is not scheduled.
+     *
+     * @param schedulingPriority index of a queue of the propagation engine
+     */
+    public final void setSchedulingPriority(int schedulingPriority) {
+        assert !scheduled : "cannot change the queue of a scheduled propagator";
+        this.schedulingPriority = schedulingPriority;
+    }
+
     /**
      * @return true iff this propagator is stateless: its initial propagation has not been performed yet
      */
@@ -895,7 +1027,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      * @return propagator priority
      */
     public int doSchedule(CircularQueue<Propagator<?>>[] queues){
-        int prio = priority.getValue();
+        int prio = schedulingPriority;
         if(!scheduled) {
             queues[prio].addLast(this);
             schedule();
@@ -0,0 +1,382 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable store of tuples, kept column by column: one primitive column per variable.
+ * <p>
+ * Columns are either held on heap or memory-mapped from a file (see {@link #read(Path, boolean)}),
+ * in which case the tuples are paged in by the OS and shared by all the processes and threads reading the file.
+ * As a store is never modified, it can be shared read-only between {@link org.chocosolver.solver.Model}s and threads,
+ * for instance through a {@link Tuples} given to each worker of a portfolio.
+ * </p>
+ * <p>
+ * On demand, each column is indexed by value: the rows where a value appears are then listed without scanning the
+ * column. Such an index is built once and shared too.
+ * </p>
+ * <p>
+ * The file format is, in big-endian order: a magic number, a version, the arity, the number of tuples,
+ * the minimum then the maximum value of each column and, finally, the columns one after the other.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class ColumnarTuples {
+
+    private static final int MAGIC = 0x43485450; // "CHTP"
+    private static final int VERSION = 1;
+
+    private final int arity;
+    private final int nbTuples;
+    private final IntBuffer[] columns;
+    private final int[] mins;
+    private final int[] maxs;
+    private final AtomicReferenceArray<ValueIndex> indices;
+
+    private ColumnarTuples(int arity, int nbTuples, IntBuffer[] columns, int[] mins, int[] maxs) {
+        this.arity = arity;
+        this.nbTuples = nbTuples;
+        this.columns = columns;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.indices = new AtomicReferenceArray<>(arity);
+    }
+
+    /**
+     * Create a heap store from tuples given row by row.
+     *
+     * @param arity  number of columns
+     * @param tuples the tuples, each of them of length <i>arity</i>
+     * @return a new store
+     */
+    public static ColumnarTuples of(int arity, List<int[]> tuples) {
+        int n = tuples.size();
+        int[][] cols = new int[arity][n];
+        int[] mins = new int[arity];
+        int[] maxs = new int[arity];
+        Arrays.fill(mins, Integer.MAX_VALUE);
+        Arrays.fill(maxs, Integer.MIN_VALUE);
+        for (int r = 0; r < n; r++) {
+            int[] t = tuples.get(r);
+            if (t.length != arity) {
+                throw new SolverException("The given tuple does not match the arity: " + arity);
+            }
+            for (int c = 0; c < arity; c++) {
+                cols[c][r] = t[c];
+                mins[c] = Math.min(mins[c], t[c]);
+                maxs[c] = Math.max(maxs[c], t[c]);
+            }
+        }
+        IntBuffer[] columns = new IntBuffer[arity];
+        for (int c = 0; c < arity; c++) {
+            columns[c] = IntBuffer.wrap(cols[c]);
+        }
+        return new ColumnarTuples(arity, n, columns, mins, maxs);
+    }
+
+    /**
+     * Load a store written by {@link #write(Path)}.
+     *
+     * @param path   the file to read
+     * @param mapped set to <i>true</i> to map the columns in memory, to <i>false</i> to copy them on heap
+     * @return a new store
+     * @throws IOException if the file cannot be read or is not a store
+     */
+    public static ColumnarTuples read(Path path, boolean mapped) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(4 * Integer.BYTES);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException(path + " is not a tuple store");
+            }
+            int arity = header.getInt();
+            int n = header.getInt();
+            long pos = header.capacity();
+            ByteBuffer ranges = ByteBuffer.allocate(2 * arity * Integer.BYTES);
+            readFully(channel, ranges, pos);
+            ranges.flip();
+            pos += ranges.capacity();
+            int[] mins = new int[arity];
+            int[] maxs = new int[arity];
+            ranges.asIntBuffer().get(mins).get(maxs);
+            long size = (long) n * Integer.BYTES;
+            if (channel.size() < pos + arity * size) {
+                throw new IOException(path + " is truncated");
+            }
+            IntBuffer[] columns = new IntBuffer[arity];
+            for (int c = 0; c < arity; c++) {
+                ByteBuffer bytes;
+                if (mapped) {
+                    // the mapping remains valid once the channel is closed
+                    bytes = channel.map(FileChannel.MapMode.READ_ONLY, pos, size);
+                } else {
+                    bytes = ByteBuffer.allocate((int) size);
+                    readFully(channel, bytes, pos);
+                    bytes.flip();
+                }
+                columns[c] = bytes.asIntBuffer();
+                pos += size;
+            }
+            return new ColumnarTuples(arity, n, columns, mins, maxs);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long pos) throws IOException {
+        while (buffer.hasRemaining()) {
+            int r = channel.read(buffer, pos);
+            if (r < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            pos += r;
+        }
+    }
+
+    /**
+     * Write this store into <i>path</i>, which is created or truncated.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate((4 + 2 * arity) * Integer.BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(arity).putInt(nbTuples);
+            header.asIntBuffer().put(mins).put(maxs);
+            header.position(header.capacity()).flip();
+            writeFully(channel, header);
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+            for (int c = 0; c < arity; c++) {
+                IntBuffer column = columns[c];
+                for (int r = 0; r < nbTuples; r++) {
+                    if (!buffer.hasRemaining()) {
+                        buffer.flip();
+                        writeFully(channel, buffer);
+                        buffer.clear();
+                    }
+                    buffer.putInt(column.get(r));
+                }
+            }
+            buffer.flip();
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * @return the number of tuples
+     */
+    public int nbTuples() {
+        return nbTuples;
+    }
+
+    /**
+     * @param row index of a tuple
+     * @param col index of a column
+     * @return the value of the tuple <i>row</i> in the column <i>col</i>
+     */
+    public int get(int row, int col) {
+        return columns[col].get(row);
+    }
+
+    /**
+     * Copy the tuple <i>row</i> into <i>tuple</i>.
+     *
+     * @param row   index of a tuple
+     * @param tuple an array of length at least {@link #arity()}
+     * @return <i>tuple</i>
+     */
+    public int[] get(int row, int[] tuple) {
+        for (int c = 0; c < arity; c++) {
+            tuple[c] = columns[c].get(row);
+        }
+        return tuple;
+    }
+
+    /**
+     * @param col index of a column
+     * @return the smallest value of the column <i>col</i>
+     */
+    public int min(int col) {
+        return mins[col];
+    }
+
+    /**
+     * @param col index of a column
+     * @return the largest value of the column <i>col</i>
+     */
+    public int max(int col) {
+        return maxs[col];
+    }
+
+    /**
+     * @return a new heap store with the same tuples sorted in lexicographic order
+     */
+    public ColumnarTuples sorted() {
+        Integer[] perm = new Integer[nbTuples];
+        for (int r = 0; r < nbTuples; r++) {
+            perm[r] = r;
+        }
+        Arrays.sort(perm, (a, b) -> {
+            for (int c = 0; c < arity; c++) {
+                int cmp = Integer.compare(columns[c].get(a), columns[c].get(b));
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        });
+        IntBuffer[] cols = new IntBuffer[arity];
+        for (int c = 0; c < arity; c++) {
+            int[] col = new int[nbTuples];
+            for (int r = 0; r < nbTuples; r++) {
+                col[r] = columns[c].get(perm[r]);
+            }
+            cols[c] = IntBuffer.wrap(col);
+        }
+        return new ColumnarTuples(arity, nbTuples, cols, mins.clone(), maxs.clone());
+    }
+
+    /**
+     * Get the index of the column <i>col</i>, which is built on the first call.
+     *
+     * @param col index of a column
+     * @return the index by value of the column <i>col</i>
+     */
+    public ValueIndex index(int col) {
+        ValueIndex index = indices.get(col);
+        if (index == null) {
+            // two threads may build it concurrently, only one index is kept
+            indices.compareAndSet(col, null, new ValueIndex(columns[col], nbTuples, mins[col], maxs[col]));
+            index = indices.get(col);
+        }
+        return index;
+    }
+
+    /**
+     * The rows of a column grouped by value, in increasing order of values.
+     */
+    public static final class ValueIndex {
+        // distinct values, increasing
+        private final int[] values;
+        // rows with values[k] are rows[starts[k]] to rows[starts[k + 1] - 1], increasing
+        private final int[] starts;
+        private final int[] rows;
+
+        private ValueIndex(IntBuffer column, int n, int min, int max) {
+            rows = new int[n];
+            long range = (long) max - min + 1;
+            if (n > 0 && range <= 4L * n) {
+                // counting sort
+                int[] count = new int[(int) range + 1];
+                int nbValues = 0;
+                for (int r = 0; r < n; r++) {
+                    if (count[column.get(r) - min + 1]++ == 0) {
+                        nbValues++;
+                    }
+                }
+                values = new int[nbValues];
+                starts = new int[nbValues + 1];
+                for (int v = 0, k = 0; v < range; v++) {
+                    if (count[v + 1] > 0) {
+                        values[k] = v + min;
+                        starts[k + 1] = starts[k] + count[v + 1];
+                        k++;
+                    }
+                    count[v + 1] += count[v];
+                }
+                for (int r = 0; r < n; r++) {
+                    rows[count[column.get(r) - min]++] = r;
+                }
+            } else {
+                long[] pairs = new long[n];
+                for (int r = 0; r < n; r++) {
+                    pairs[r] = (long) column.get(r) << 32 | r;
+                }
+                Arrays.sort(pairs);
+                int nbValues = 0;
+                for (int r = 0; r < n; r++) {
+                    if (r == 0 || (pairs[r] >> 32) != (pairs[r - 1] >> 32)) {
+                        nbValues++;
+                    }
+                }
+                values = new int[nbValues];
+                starts = new int[nbValues + 1];
+                for (int r = 0, k = -1; r < n; r++) {
+                    if (r == 0 || (pairs[r] >> 32) != (pairs[r - 1] >> 32)) {
+                        values[++k] = (int) (pairs[r] >> 32);
+                        starts[k] = r;
+                    }
+                    rows[r] = (int) pairs[r];
+                }
+                starts[nbValues] = n;
+            }
+        }
+
+        /**
+         * @param value a value
+         * @return the position of <i>value</i> to give to {@link #start(int)} and {@link #end(int)},
+         * or a negative value if <i>value</i> does not appear in the column
+         */
+        public int find(int value) {
+            return Arrays.binarySearch(values, value);
+        }
+
+        /**
+         * @param k position of a value
+         * @return the index in {@link #row(int)} of the first row with the value in position <i>k</i>
+         */
+        public int start(int k) {
+            return starts[k];
+        }
+
+        /**
+         * @param k position of a value
+         * @return the index in {@link #row(int)} following the last row with the value in position <i>k</i>
+         */
+        public int end(int k) {
+            return starts[k + 1];
+        }
+
+        /**
+         * @param i an index between {@link #start(int)} and {@link #end(int)}
+         * @return the row at index <i>i</i>
+         */
+        public int row(int i) {
+            return rows[i];
+        }
+    }
+}
@@ -34,6 +34,10 @@ public class Tuples {
 
 	private final boolean feasible;
 	protected final List<int[]> tuples;
+	/**
+	 * When not null, the tuples are read from this store and {@link #tuples} is unused
+	 */
+	private ColumnarTuples store;
 	private int arity;
 	private int[] ranges;
 	private boolean allowStar;
@@ -78,6 +82,30 @@ public class Tuples {
 		this(true);
 	}
 
+	/**
+	 * Create a list of tuples read from <i>store</i>, which represents all allowed tuples if feasible=true
+	 * or a set of forbidden tuples if feasible=false.
+	 * No tuple can be added afterwards.
+	 * <p>
+	 * The store is not copied, so a large store can be shared by many table constraints, models and threads.
+	 * </p>
+	 *
+	 * @param store    the tuples
+	 * @param feasible indicates whether the tuples are allowed or forbidden
+	 * @see TuplesFactory#load(java.nio.file.Path, boolean, boolean)
+	 */
+	public Tuples(ColumnarTuples store, boolean feasible) {
+		this.feasible = feasible;
+		this.tuples = null;
+		this.store = store;
+		this.arity = store.arity();
+		this.ranges = new int[2 * arity];
+		for (int i = 0; i < arity; i++) {
+			ranges[i] = store.min(i);
+			ranges[i + arity] = store.max(i);
+		}
+	}
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
@@ -129,10 +157,10 @@ public class Tuples {
 			}
 		}
 		for (int ti = 0; ti < nbTuples(); ti++) {
-			int[] tuple = tuples.get(ti);
 			boolean valid = true;
 			for (int i = 0; i < values.length && valid; i++) {
-				valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+				int v = store == null ? tuples.get(ti)[i] : store.get(ti, i);
+				valid = v == values[i] || (allowStar && v == star);
 			}
 			if (valid) {
 				return isFeasible()? ESat.TRUE: ESat.FALSE;
@@ -148,6 +176,9 @@ public class Tuples {
 	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any).
 	 */
 	public void add(int... tuple) {
+		if (store != null) {
+			throw new SolverException("Tuples read from a store cannot be modified");
+		}
 		if (tuples.size() == 0) {
 			arity = tuple.length;
 			ranges = new int[2 * arity];
@@ -209,21 +240,48 @@ public class Tuples {
 	 * @return number of tuples stored
 	 */
 	public int nbTuples() {
-		return tuples.size();
+		return store == null ? tuples.size() : store.nbTuples();
 	}
 
 	/**
-	 * Return the idx^th tuple
+	 * Return the idx^th tuple.
+	 * When the tuples are read from a store, a new array is returned.
 	 */
 	public int[] get(int idx) {
-		return tuples.get(idx);
+		return store == null ? tuples.get(idx) : store.get(idx, new int[arity]);
+	}
+
+	/**
+	 * Return the value of the idx^th tuple in column col, without building the tuple
+	 *
+	 * @param idx index of the tuple
+	 * @param col index of the column
+	 * @return the value
+	 */
+	public int get(int idx, int col) {
+		return store == null ? tuples.get(idx)[col] : store.get(idx, col);
+	}
+
+	/**
+	 * @return the store the tuples are read from, or <i>null</i> if the tuples are kept in a list
+	 * @see #toStore()
+	 */
+	public ColumnarTuples getStore() {
+		return store;
+	}
+
+	/**
+	 * @return a columnar store of these tuples, the one they are read from if any
+	 */
+	public ColumnarTuples toStore() {
+		return store == null ? ColumnarTuples.of(arity, tuples) : store;
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder st = new StringBuilder(isFeasible() ? "Allowed" : "Fordidden").append(" tuples: {");
-		for (int i = 0; i < tuples.size(); i++) {
-			st.append(Arrays.toString(tuples.get(i)));
+		for (int i = 0; i < nbTuples(); i++) {
+			st.append(Arrays.toString(get(i)));
 		}
 
 		st.append("}");
@@ -235,16 +293,19 @@ public class Tuples {
 	 * @return an array of tuples, each tuple is an int array
 	 */
 	public int[][] toMatrix() {
-		int i = 0;
-		int[][] matrix = new int[tuples.size()][];
-		for (int[] tuple : tuples) {
-			matrix[i++] = tuple.clone();
+		int[][] matrix = new int[nbTuples()][];
+		for (int i = 0; i < matrix.length; i++) {
+			matrix[i] = store == null ? tuples.get(i).clone() : get(i);
 		}
 		return matrix;
 	}
 
 	public void sort() {
-		tuples.sort(new TupleComparator());
+		if (store == null) {
+			tuples.sort(new TupleComparator());
+		} else {
+			store = store.sorted();
+		}
 	}
 
 	private static class TupleComparator implements Comparator<int[]> {
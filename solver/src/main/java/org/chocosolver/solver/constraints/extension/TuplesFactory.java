@@ -14,6 +14,8 @@ import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Random;
 
 import static org.chocosolver.util.tools.ArrayUtils.concat;
@@ -508,4 +510,34 @@ public class TuplesFactory {
         }
         return (doms < settings.getMaxTupleSizeForSubstitution());
     }
+
+    /**
+     * Load tuples from a file written by {@link #save(Tuples, Path)}.
+     * <p>
+     * When <code>mapped</code> is set to <i>true</i>, the tuples are memory-mapped and not copied on heap:
+     * the same file can then be loaded by many models, threads or processes at the cost of a single copy,
+     * kept by the OS.
+     * </p>
+     *
+     * @param path     the file to read
+     * @param feasible are tuples feasible (or infeasible)
+     * @param mapped   set to <i>true</i> to map the file in memory, to <i>false</i> to copy it on heap
+     * @return a Tuples object, reserved for a table constraint
+     * @throws IOException if the file cannot be read
+     */
+    public static Tuples load(Path path, boolean feasible, boolean mapped) throws IOException {
+        return new Tuples(ColumnarTuples.read(path, mapped), feasible);
+    }
+
+    /**
+     * Save <code>tuples</code> into a file, column by column, to be loaded with {@link #load(Path, boolean, boolean)}.
+     * Whether the tuples are feasible or not is not saved.
+     *
+     * @param tuples the tuples to save
+     * @param path   the file to write, created or truncated
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(Tuples tuples, Path path) throws IOException {
+        tuples.toStore().write(path);
+    }
 }
@@ -150,6 +150,22 @@ public class HybridTuples {
         return hybridTuples.get(0).length;
     }
 
+    /**
+     * @return <i>true</i> if each expression only restricts its own column, that is, no expression refers
+     * to another column with {@link #col(int)}.
+     * Such tuples are known as basic smart tuples.
+     */
+    public boolean isBasic() {
+        for (ISupportable[] tuple : hybridTuples) {
+            for (ISupportable exp : tuple) {
+                if (!(exp instanceof ISupportable.Unary)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * @return the number of tuples declared in this collection
      */
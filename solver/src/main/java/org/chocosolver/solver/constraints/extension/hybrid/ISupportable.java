@@ -81,6 +81,12 @@ public interface ISupportable {
          * @param v a STR variable
          */
         public abstract void support(ASupport v);
+
+        /**
+         * @param value a value
+         * @return <i>true</i> if <i>value</i> is consistent with this expression
+         */
+        public abstract boolean accepts(int value);
     }
 
     /**
@@ -101,6 +107,11 @@ public interface ISupportable {
         public void support(ASupport v) {
             v.supportAll();
         }
+
+        @Override
+        public boolean accepts(int value) {
+            return true;
+        }
     }
 
     /**
@@ -143,6 +154,11 @@ public interface ISupportable {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public boolean accepts(int value) {
+            throw new UnsupportedOperationException();
+        }
+
         protected UnCol copy() {
             return new UnCol(this.anInt, this.inc, this.op);
         }
@@ -166,6 +182,11 @@ public interface ISupportable {
         public void support(ASupport v) {
             v.support(anInt);
         }
+
+        @Override
+        public boolean accepts(int value) {
+            return value == anInt;
+        }
     }
 
     /**
@@ -191,6 +212,11 @@ public interface ISupportable {
                 }
             }
         }
+
+        @Override
+        public boolean accepts(int value) {
+            return value != anInt;
+        }
     }
 
     /**
@@ -214,6 +240,11 @@ public interface ISupportable {
                 v.support(val);
             }
         }
+
+        @Override
+        public boolean accepts(int value) {
+            return value <= anInt;
+        }
     }
 
     /**
@@ -237,6 +268,11 @@ public interface ISupportable {
                 v.support(val);
             }
         }
+
+        @Override
+        public boolean accepts(int value) {
+            return value >= anInt;
+        }
     }
 
     /**
@@ -277,6 +313,11 @@ public interface ISupportable {
                 }
             }
         }
+
+        @Override
+        public boolean accepts(int value) {
+            return set.contains(value);
+        }
     }
 
     /**
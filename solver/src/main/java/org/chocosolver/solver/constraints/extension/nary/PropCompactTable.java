@@ -11,9 +11,10 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.structure.StoredLongArray;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.extension.ColumnarTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -25,6 +26,16 @@ import org.chocosolver.util.procedure.UnaryIntProcedure;
 /**
  * Propagator for table constraint based on "Compact-Table: Efficiently Filtering Table Constraints
  * with Reversible Sparse Bit-Sets" Only for feasible Tuples
+ * <p>
+ * When the tuples are read from a {@link ColumnarTuples} store, the supports of a value are only built
+ * the first time they are needed, from the index of the store.
+ * </p>
+ * <p>
+ * The table is updated from the values removed from a domain, or reset from its remaining values when there are
+ * fewer of them (see {@link #isDeltaCheaper(int)}).
+ * When a single variable, with an enumerated domain, has been modified since the last filtering,
+ * the values of that variable keep their supports and the variable is not filtered.
+ * </p>
  *
  * @author Jean-Guillaume FAGES
  * @author Charles Prud'homme
@@ -43,6 +54,16 @@ public class PropCompactTable extends Propagator<IntVar> {
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
     private final UnaryIntProcedure<Integer> onValRem;
+    // size of each domain when the table was last updated from it
+    private final IStateInt[] lastSizes;
+    // when not null, supports are built lazily from this store
+    private ColumnarTuples store;
+    // bit of each tuple of the store, null when all tuples have a bit, -1 for tuples out of the initial domains
+    private int[] bitOf;
+    // shared by all the values with no support
+    private long[] noSupport;
+    // variable modified since the last filtering, -2 when more than one variable was modified
+    private int modified = -2;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -55,13 +76,27 @@ public class PropCompactTable extends Propagator<IntVar> {
      * @param tuples list of feasible tuples
      */
     public PropCompactTable(IntVar[] vars, Tuples tuples) {
+        this(vars, tuples, tuples.nbTuples());
+        computeSupports(tuples);
+    }
+
+    /**
+     * Create a propagator for table constraint whose supports are computed by the subclass,
+     * once this constructor returns.
+     *
+     * @param vars     scope
+     * @param tuples   list of feasible tuples, may be <i>null</i> if {@link #isEntailed()} is overridden
+     * @param nbTuples number of tuples
+     */
+    protected PropCompactTable(IntVar[] vars, Tuples tuples, int nbTuples) {
         super(vars, PropagatorPriority.QUADRATIC, true);
         this.tuples = tuples;
-        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
-        computeSupports(tuples);
+        this.currTable = new RSparseBitSet(model.getEnvironment(), nbTuples);
         monitors = new IIntDeltaMonitor[vars.length];
+        lastSizes = new IStateInt[vars.length];
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
+            lastSizes[i] = model.getEnvironment().makeInt(vars[i].getDomainSize());
         }
         onValRem = makeProcedure();
     }
@@ -73,23 +108,26 @@ public class PropCompactTable extends Propagator<IntVar> {
     protected UnaryIntProcedure<Integer> makeProcedure() {
         //noinspection Convert2Diamond
         return new UnaryIntProcedure<Integer>() {
-            int var, off;
+            int var;
 
             @Override
             public UnaryIntProcedure<Integer> set(Integer o) {
                 var = o;
-                off = offset[var];
                 return this;
             }
 
             @Override
             public void execute(int i) {
-                currTable.addToMask((supports[var][i - off]));
+                currTable.addToMask(support(var, i));
             }
         };
     }
 
     protected void computeSupports(Tuples tuples) {
+        if (tuples.getStore() != null && !tuples.allowUniversalValue()) {
+            prepareLazySupports(tuples.getStore());
+            return;
+        }
         int n = vars.length;
         offset = new int[n];
         supports = new long[n][][];
@@ -99,7 +137,7 @@ public class PropCompactTable extends Propagator<IntVar> {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
+            supports[i] = new long[ub - lb + 1][currTable.words.length()];
             residues[i] = new int[ub - lb + 1];
         }
         int wI = 0;
@@ -123,6 +161,81 @@ public class PropCompactTable extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * Give a bit to each tuple of <i>store</i> within the initial domains, supports are built later on.
+     */
+    private void prepareLazySupports(ColumnarTuples store) {
+        int n = vars.length;
+        this.store = store;
+        offset = new int[n];
+        supports = new long[n][][];
+        residues = new int[n][];
+        for (int i = 0; i < n; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            offset[i] = lb;
+            supports[i] = new long[ub - lb + 1][];
+            residues[i] = new int[ub - lb + 1];
+        }
+        noSupport = new long[currTable.words.length()];
+        // only the rows of the values out of the domains are visited
+        boolean[] invalid = null;
+        for (int i = 0; i < n; i++) {
+            ColumnarTuples.ValueIndex index = store.index(i);
+            for (int k = 0; index.start(k) < store.nbTuples(); k++) {
+                if (!vars[i].contains(store.get(index.row(index.start(k)), i))) {
+                    if (invalid == null) {
+                        invalid = new boolean[store.nbTuples()];
+                    }
+                    for (int j = index.start(k); j < index.end(k); j++) {
+                        invalid[index.row(j)] = true;
+                    }
+                }
+            }
+        }
+        if (invalid != null) {
+            bitOf = new int[store.nbTuples()];
+            int b = 0;
+            for (int r = 0; r < bitOf.length; r++) {
+                bitOf[r] = invalid[r] ? -1 : b++;
+            }
+        }
+    }
+
+    /**
+     * @param i index of a variable
+     * @param v a value of the initial domain of the variable
+     * @return the supports of <i>v</i>, built on the first call when the tuples are read from a store
+     */
+    protected final long[] support(int i, int v) {
+        long[] s = supports[i][v - offset[i]];
+        if (s == null) {
+            s = buildSupport(i, v);
+            supports[i][v - offset[i]] = s;
+        }
+        return s;
+    }
+
+    private long[] buildSupport(int i, int v) {
+        ColumnarTuples.ValueIndex index = store.index(i);
+        int k = index.find(v);
+        if (k < 0) {
+            return noSupport;
+        }
+        long[] s = null;
+        for (int j = index.start(k); j < index.end(k); j++) {
+            int r = index.row(j);
+            int b = bitOf == null ? r : bitOf[r];
+            if (b >= 0) {
+                if (s == null) {
+                    s = new long[noSupport.length];
+                }
+                s[b / 64] |= 1L << (63 - b % 64);
+            }
+        }
+        return s == null ? noSupport : s;
+    }
+
     //***********************************************************************************
     // FILTERING
     //***********************************************************************************
@@ -134,41 +247,70 @@ public class PropCompactTable extends Propagator<IntVar> {
                 currTable.clearMask();
                 int ub = vars[i].getUB();
                 for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
-                    currTable.addToMask(supports[i][v - offset[i]]);
+                    currTable.addToMask(support(i, v));
                 }
                 currTable.intersectWithMask();
             }
             for (int i = 0; i < vars.length; i++) {
                 monitors[i].startMonitoring();
+                lastSizes[i].set(vars[i].getDomainSize());
             }
+            modified = -2;
         }
         filterDomains();
     }
 
     @Override
     public void propagate(int vIdx, int mask) throws ContradictionException {
-        currTable.clearMask();
-        if (vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
+        modified = modified == -1 || modified == vIdx ? vIdx : -2;
+        if (vars[vIdx].isInstantiated()) {
+            // no need for the removed values, nor for a mask
+            monitors[vIdx].startMonitoring();
+            currTable.intersectWith(support(vIdx, vars[vIdx].getValue()));
+        } else if (isDeltaCheaper(vIdx)) {
+            currTable.clearMask();
             monitors[vIdx].forEachRemVal(onValRem.set(vIdx));
             currTable.reverseMask();
+            currTable.intersectWithMask();
         } else {
+            // the removed values are skipped
+            monitors[vIdx].startMonitoring();
+            currTable.clearMask();
             int ub = vars[vIdx].getUB();
             for (int v = vars[vIdx].getLB(); v <= ub; v = vars[vIdx].nextValue(v)) {
-                currTable.addToMask(supports[vIdx][v - offset[vIdx]]);
+                currTable.addToMask(support(vIdx, v));
             }
+            currTable.intersectWithMask();
         }
-        currTable.intersectWithMask();
+        lastSizes[vIdx].set(vars[vIdx].getDomainSize());
         if (currTable.isEmpty()) { // fail as soon as possible
             fails();
         }
         forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
     }
 
+    /**
+     * @param vIdx index of a modified variable
+     * @return <i>true</i> if the table should be updated from the values removed from the domain of the variable,
+     * <i>false</i> if it should be reset from the remaining values
+     */
+    protected boolean isDeltaCheaper(int vIdx) {
+        int size = vars[vIdx].getDomainSize();
+        return lastSizes[vIdx].get() - size < size;
+    }
+
     private void filterDomains() throws ContradictionException {
         if (currTable.isEmpty()) {// to keep as we skip instantiated vars
             fails();
         }
+        // the tuples removed since the last filtering only support values removed from that variable,
+        // unless its domain is bounded: its new bounds were not checked yet
+        int skip = modified >= 0 && vars[modified].hasEnumeratedDomain() ? modified : -2;
+        modified = -1;
         for (int i = 0; i < vars.length; i++) {
+            if (i == skip) {
+                continue;
+            }
             if (vars[i].hasEnumeratedDomain()) {
                 enumFilter(i);
             } else {
@@ -182,8 +324,8 @@ public class PropCompactTable extends Propagator<IntVar> {
         int ub = vars[i].getUB();
         for (int v = lb; v <= ub; v++) {
             int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
+            if ((currTable.words.get(index) & support(i, v)[index]) == 0L) {
+                index = currTable.intersectIndex(support(i, v));
                 if (index == -1) {
                     lb++;
                 } else {
@@ -197,8 +339,8 @@ public class PropCompactTable extends Propagator<IntVar> {
         vars[i].updateLowerBound(lb, this);
         for (int v = ub; v >= lb; v--) {
             int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
+            if ((currTable.words.get(index) & support(i, v)[index]) == 0L) {
+                index = currTable.intersectIndex(support(i, v));
                 if (index == -1) {
                     ub--;
                 } else {
@@ -210,14 +352,15 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
         vars[i].updateUpperBound(ub, this);
+        updateLastSize(i);
     }
 
     private void enumFilter(int i) throws ContradictionException {
         int ub = vars[i].getUB();
         for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
             int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
+            if ((currTable.words.get(index) & support(i, v)[index]) == 0L) {
+                index = currTable.intersectIndex(support(i, v));
                 if (index == -1) {
                     vars[i].removeValue(v, this);
                 } else {
@@ -225,11 +368,35 @@ public class PropCompactTable extends Propagator<IntVar> {
                 }
             }
         }
+        updateLastSize(i);
+    }
+
+    private void updateLastSize(int i) {
+        // the values removed by this propagator have no tuple left
+        if (lastSizes[i].get() != vars[i].getDomainSize()) {
+            lastSizes[i].set(vars[i].getDomainSize());
+        }
     }
 
     @Override
     public ESat isEntailed() {
-        // TODO optim : check current according to currTable?
+        if (isCompletelyInstantiated()) {
+            // a tuple is allowed iff it supports the value of each variable
+            for (int w = 0; w < currTable.words.length(); w++) {
+                long word = -1L;
+                for (int i = 0; i < vars.length && word != 0L; i++) {
+                    int v = vars[i].getValue();
+                    if (v < offset[i] || v - offset[i] >= supports[i].length) {
+                        return ESat.FALSE;
+                    }
+                    word &= support(i, v)[w];
+                }
+                if (word != 0L) {
+                    return ESat.TRUE;
+                }
+            }
+            return ESat.FALSE;
+        }
         return tuples.check(vars);
     }
 
@@ -238,7 +405,7 @@ public class PropCompactTable extends Propagator<IntVar> {
 //***********************************************************************************
 
     protected static class RSparseBitSet {
-        protected IStateLong[] words;
+        protected StoredLongArray words;
         private final int[] index;
         private final IStateInt limit;
         private final long[] mask;
@@ -249,10 +416,9 @@ public class PropCompactTable extends Propagator<IntVar> {
             index = new int[nw];
             mask = new long[nw];
             limit = environment.makeInt(nw - 1);
-            words = new IStateLong[nw];
+            words = new StoredLongArray(environment, nw, -1L);
             for (int i = 0; i < nw; i++) {
                 index[i] = i;
-                words[i] = environment.makeLong(-1L);
             }
         }
 
@@ -281,12 +447,27 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
+        private void intersectWith(long[] m) {
+            for (int i = limit.get(); i >= 0; i--) {
+                int offset = index[i];
+                long w = words.get(offset) & m[offset];
+                if (words.get(offset) != w) {
+                    words.set(offset, w);
+                    if (w == 0L) {
+                        index[i] = index[limit.get()];
+                        index[limit.get()] = offset;
+                        limit.add(-1);
+                    }
+                }
+            }
+        }
+
         private void intersectWithMask() {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
-                long w = words[offset].get() & mask[offset];
-                if (words[offset].get() != w) {
-                    words[offset].set(w);
+                long w = words.get(offset) & mask[offset];
+                if (words.get(offset) != w) {
+                    words.set(offset, w);
                     if (w == 0L) {
                         index[i] = index[limit.get()];
                         index[limit.get()] = offset;
@@ -299,7 +480,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         private int intersectIndex(long[] m) {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
-                if ((words[offset].get() & m[offset]) != 0L) {
+                if ((words.get(offset) & m[offset]) != 0L) {
                     return offset;
                 }
             }
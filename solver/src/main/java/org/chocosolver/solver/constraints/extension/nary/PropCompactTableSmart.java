@@ -0,0 +1,160 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
+import org.chocosolver.solver.constraints.extension.hybrid.ISupportable;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.procedure.UnaryIntProcedure;
+
+/**
+ * Propagator for table constraint based on "Extending Compact-Table to Basic Smart Tables",
+ * H. Verhaeghe and C. Lecoutre and Y. Deville and P. Schauss, CP-17.
+ * <br/>
+ * Each expression of a tuple restricts its own column only (see {@link HybridTuples#isBasic()}),
+ * like <code>any()</code>, <code>ne(v)</code>, <code>le(v)</code> or <code>in(v, w)</code>.
+ * A tuple then supports, on each column, all the values its expression accepts.
+ * <br/>
+ * The table is updated from the removed values only on columns made of <code>eq(v)</code> and <code>any()</code>
+ * expressions, as other expressions may be satisfied by many values.
+ * The other columns are always reset from their remaining values.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropCompactTableSmart extends PropCompactTable {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final ISupportable[][] table;
+    // tuples with 'eq(v)' on a column, for incremental update
+    private long[][][] inc_supports;
+    // columns that can be updated from the removed values
+    private boolean[] deltaBased;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Create a propagator for table constraint
+     * Only for feasible basic smart tuples
+     *
+     * @param vars   scope
+     * @param tuples list of feasible tuples
+     */
+    public PropCompactTableSmart(IntVar[] vars, HybridTuples tuples) {
+        super(vars, null, tuples.nbTuples());
+        assert tuples.isBasic();
+        this.table = tuples.toArray();
+        computeSupports();
+    }
+
+    //***********************************************************************************
+    // INITIALIZATION
+    //***********************************************************************************
+
+    @Override
+    protected UnaryIntProcedure<Integer> makeProcedure() {
+        //noinspection Convert2Diamond
+        return new UnaryIntProcedure<Integer>() {
+            int var, off;
+
+            @Override
+            public UnaryIntProcedure<Integer> set(Integer o) {
+                var = o;
+                off = offset[var];
+                return this;
+            }
+
+            @Override
+            public void execute(int i) {
+                currTable.addToMask(inc_supports[var][i - off]);
+            }
+        };
+    }
+
+    private void computeSupports() {
+        int n = vars.length;
+        offset = new int[n];
+        supports = new long[n][][];
+        inc_supports = new long[n][][];
+        residues = new int[n][];
+        deltaBased = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            offset[i] = lb;
+            supports[i] = new long[ub - lb + 1][currTable.words.length()];
+            inc_supports[i] = new long[ub - lb + 1][currTable.words.length()];
+            residues[i] = new int[ub - lb + 1];
+            deltaBased[i] = true;
+            for (ISupportable[] tuple : table) {
+                deltaBased[i] &= tuple[i] instanceof ISupportable.UnEqXC || tuple[i] instanceof ISupportable.UnAny;
+            }
+        }
+        for (int ti = 0; ti < table.length; ti++) {
+            int wI = ti / 64;
+            long index = 1L << (63 - ti % 64);
+            for (int i = 0; i < vars.length; i++) {
+                ISupportable.Unary exp = (ISupportable.Unary) table[ti][i];
+                boolean eq = exp instanceof ISupportable.UnEqXC;
+                int ub = vars[i].getUB();
+                for (int val = vars[i].getLB(); val <= ub; val = vars[i].nextValue(val)) {
+                    if (exp.accepts(val)) {
+                        supports[i][val - offset[i]][wI] |= index;
+                        if (eq) {
+                            inc_supports[i][val - offset[i]][wI] |= index;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // FILTERING
+    //***********************************************************************************
+
+    @Override
+    protected boolean isDeltaCheaper(int vIdx) {
+        return deltaBased[vIdx] && super.isDeltaCheaper(vIdx);
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            return super.isEntailed();
+        }
+        for (ISupportable[] tuple : table) {
+            boolean valid = true;
+            for (int i = 0; i < vars.length && valid; i++) {
+                ISupportable.Unary exp = (ISupportable.Unary) tuple[i];
+                valid = false;
+                int ub = vars[i].getUB();
+                for (int val = vars[i].getLB(); val <= ub && !valid; val = vars[i].nextValue(val)) {
+                    valid = exp.accepts(val);
+                }
+            }
+            if (valid) {
+                return ESat.UNDEFINED;
+            }
+        }
+        return ESat.FALSE;
+    }
+
+    @Override
+    public String toString() {
+        return "CT smart table constraint with " + vars.length + " vars and " + table.length + " tuples";
+    }
+}
@@ -9,8 +9,6 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
-import gnu.trove.set.TIntSet;
-import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -19,6 +17,9 @@ import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.StoredSparseSet;
 import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 /**
  * Implementation based on "Maintaining GAC on adhoc r-ary constraints", Cheng and Yap, CP12.
  * <p/>
@@ -27,8 +28,12 @@ import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
  */
 public class PropLargeMDDC extends Propagator<IntVar> {
 
-    private final TIntSet yes;
-    private final TIntSet[] sets;
+    // nodes known to have a support during the current call, those marked with the current stamp
+    private int[] yes;
+    private int stamp;
+    // values without support yet, relatively to the offset of each variable
+    private final BitSet[] sets;
+    private final int[] sizes;
     private final StoredSparseSet no;
     private final MultivaluedDecisionDiagram MDD;
     private final int nvars;
@@ -44,11 +49,12 @@ public class PropLargeMDDC extends Propagator<IntVar> {
         super(VARS, PropagatorPriority.QUADRATIC, false);
         this.MDD = MDD;
         this.nvars = vars.length;
-        this.yes = new TIntHashSet();
+        this.yes = new int[MDD.getDiagram().length];
         this.no = new StoredSparseSet(VARS[0].getEnvironment());
-        this.sets = new TIntHashSet[nvars];
+        this.sets = new BitSet[nvars];
+        this.sizes = new int[nvars];
         for (int i = 0; i < nvars; i++) {
-            this.sets[i] = new TIntHashSet(vars[i].getDomainSize());
+            this.sets[i] = new BitSet(MDD.getNodeSize(i));
         }
     }
 
@@ -74,28 +80,35 @@ public class PropLargeMDDC extends Propagator<IntVar> {
 
 
     private void mddc() throws ContradictionException {
-        yes.clear();
+        if (yes.length < MDD.getDiagram().length) {
+            // tuples were added to the MDD after this propagator was created
+            yes = new int[MDD.getDiagram().length];
+        }
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(yes, 0);
+            stamp = 1;
+        }
         for (int i = 0; i < nvars; i++) {
             sets[i].clear();
             int o = MDD.getOffset(i);
             int UB = vars[i].getUB();
             for (int j = vars[i].getLB(); j <= UB; j = vars[i].nextValue(j)) {
-                sets[i].add(j - o);
+                sets[i].set(j - o);
             }
+            sizes[i] = vars[i].getDomainSize();
         }
         mddcSeekSupport(0, 0);
         for (int i = 0; i < nvars; i++) {
             int o = MDD.getOffset(i);
-            int[] values = sets[i].toArray();
-            for (int j = 0; j < values.length; j++) {
-                vars[i].removeValue(values[j] + o, this);
+            for (int j = sets[i].nextSetBit(0); j >= 0; j = sets[i].nextSetBit(j + 1)) {
+                vars[i].removeValue(j + o, this);
             }
         }
     }
 
     private boolean mddcSeekSupport(int node, int layer) {
         // If the node has already been visited
-        if (yes.contains(node)) return true;
+        if (yes[node] == stamp) return true;
         if (no.contains(node)) return false;
         // otherwise ...
         boolean res = false;
@@ -107,16 +120,19 @@ public class PropLargeMDDC extends Propagator<IntVar> {
             if (sG != MultivaluedDecisionDiagram.EMPTY && vars[layer].contains(i + o)
                     && (sG == MultivaluedDecisionDiagram.TERMINAL || mddcSeekSupport(sG, layer + 1))) {
                 res = true;
-                sets[layer].remove(i);
+                if (sets[layer].get(i)) {
+                    sets[layer].clear(i);
+                    sizes[layer]--;
+                }
                 int l2 = layer;
-                while (l2 < nvars && sets[l2].isEmpty()) {
+                while (l2 < nvars && sizes[l2] == 0) {
                     l2++;
                 }
                 if (l2 == nvars) break;
             }
         }
         if (res) {
-            yes.add(node);
+            yes[node] = stamp;
         } else {
             no.add(node);
         }
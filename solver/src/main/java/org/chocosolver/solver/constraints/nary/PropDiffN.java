@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary;
 
 import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -23,7 +24,20 @@ import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
+
 /**
+ * Non-overlapping rectangles propagator.
+ * <p>
+ * The rectangles that may overlap are stored in a backtrackable graph, built with a sweep over the first
+ * dimension and then only updated around the rectangles that are modified.
+ * Each modified rectangle is filtered against its neighbours pairwise, with an energy check.
+ * When {@link Settings#enableSweepInDiffN()} is set, it is also swept against
+ * the forbidden regions induced by the compulsory parts of its neighbours, in each direction
+ * (see "Sweep as a Generic Pruning Technique Applied to the Non-Overlapping Rectangles Constraint",
+ * N. Beldiceanu and M. Carlsson, CP 2001).
+ * </p>
+ *
  * @author Jean-Guillaume Fages
  * @since 31/01/13
  */
@@ -37,6 +51,20 @@ public class PropDiffN extends Propagator<IntVar> {
     private final UndirectedGraph overlappingBoxes;
     private final TIntArrayList boxesToCompute;
     private final TIntArrayList pruneList;
+    // neighbours of a rectangle, by increasing index, so that the filtering does not depend on the graph
+    private final int[] neighbors;
+    private final boolean ordered;
+    // is the forbidden-region sweep enabled
+    private final boolean sweep;
+    // rectangles to sweep, those modified and the neighbours whose origin may be hit by their compulsory part
+    private final TIntArrayList sweepList;
+    private final boolean[] toSweep;
+    // forbidden regions of the origin of a rectangle, as closed ranges [x1, x2] x [y1, y2]
+    private int[] rx1, rx2, ry1, ry2;
+    private int nbRegions;
+    private long[] keys;
+    private int[] byStart;
+    private final CoverTree cover = new CoverTree();
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -48,16 +76,59 @@ public class PropDiffN extends Propagator<IntVar> {
         if (!(n == y.length && n == dx.length && n == dy.length)) {
             throw new SolverException("PropDiffN variable arrays do not have same size");
         }
-        overlappingBoxes = new UndirectedGraph(model, n, SetType.BITSET, true);
+        TIntArrayList edges = overlaps();
+        // a sparse graph is stored in lists, a dense one in bitsets
+        SetType type = edges.size() / 2 <= 32L * n ? SetType.SMALLBIPARTITESET : SetType.BITSET;
+        overlappingBoxes = new UndirectedGraph(model, n, type, true);
+        neighbors = new int[n];
+        ordered = type == SetType.BITSET;
+        for (int k = 0; k < edges.size(); k += 2) {
+            overlappingBoxes.addEdge(edges.getQuick(k), edges.getQuick(k + 1));
+        }
         boxesToCompute = new TIntArrayList(n);
+        pruneList = new TIntArrayList(n);
+        sweepList = new TIntArrayList(n);
+        toSweep = new boolean[n];
+        sweep = model.getSettings().enableSweepInDiffN();
+        if (sweep) {
+            allocate(16);
+        }
+    }
+
+    /**
+     * Sweep over the first dimension to find the pairs of rectangles that may overlap:
+     * only the rectangles whose projections intersect are compared.
+     *
+     * @return the pairs of rectangles that may overlap, flattened
+     */
+    private TIntArrayList overlaps() {
+        long[] byX = new long[n];
         for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (mayOverlap(i, j)) {
-                    overlappingBoxes.addEdge(i, j);
+            byX[i] = (long) vars[i].getLB() << 32 | i;
+        }
+        Arrays.sort(byX);
+        TIntArrayList edges = new TIntArrayList();
+        int[] open = new int[n];
+        int size = 0;
+        for (int k = 0; k < n; k++) {
+            int i = (int) byX[k];
+            int xi = vars[i].getLB();
+            int kept = 0;
+            for (int q = 0; q < size; q++) {
+                int j = open[q];
+                // j is closed once i and the next rectangles start after it
+                if (vars[j].getUB() + vars[j + 2 * n].getUB() > xi) {
+                    open[kept++] = j;
+                    if (mayOverlap(i, j)) {
+                        edges.add(j);
+                        edges.add(i);
+                    }
                 }
             }
+            size = kept;
+            open[size++] = i;
         }
-        pruneList = new TIntArrayList(n);
+        return edges;
     }
 
     //***********************************************************************************
@@ -95,17 +166,18 @@ public class PropDiffN extends Propagator<IntVar> {
         while(hasFiltered) {
             hasFiltered = false;
             if(PropagatorEventType.isFullPropagation(evtmask)) {
+                evtmask = PropagatorEventType.CUSTOM_PROPAGATION.getMask();
                 boxesToCompute.resetQuick();
+                // domains only shrink after the graph is built, edges can only be removed
                 for (int i = 0; i < n; i++) {
                     boxesToCompute.add(i);
-                    for (int j = i + 1; j < n; j++) {
-                        if (mayOverlap(i, j)) {
-                            overlappingBoxes.addEdge(i, j);
-                            if (boxInstantiated(i) && boxInstantiated(j)) {
-                                fails(); // TODO: could be more precise, for explanation purpose
-                            }
-                        } else {
+                    ISetIterator iter = overlappingBoxes.getNeighborsOf(i).iterator();
+                    while (iter.hasNext()) {
+                        int j = iter.nextInt();
+                        if (!mayOverlap(i, j)) {
                             overlappingBoxes.removeEdge(i, j);
+                        } else if (boxInstantiated(i) && boxInstantiated(j)) {
+                            fails(); // TODO: could be more precise, for explanation purpose
                         }
                     }
                 }
@@ -113,9 +185,19 @@ public class PropDiffN extends Propagator<IntVar> {
             pruneList.resetQuick();
             for(int k = 0; k<boxesToCompute.size(); k++)  {
                 int i = boxesToCompute.getQuick(k);
-                energyCheck(i);
-                hasFiltered |= prune(i);
+                int size = neighbors(i);
+                energyCheck(i, size);
+                hasFiltered |= prune(i, size);
+                if (sweep) {
+                    scheduleSweep(i);
+                }
             }
+            for (int k = 0; k < sweepList.size(); k++) {
+                int i = sweepList.getQuick(k);
+                toSweep[i] = false;
+                hasFiltered |= sweep(i);
+            }
+            sweepList.resetQuick();
             boxesToCompute.resetQuick();
             for(int k = 0; k< pruneList.size(); k++) {
                 prop(pruneList.getQuick(k));
@@ -123,11 +205,27 @@ public class PropDiffN extends Propagator<IntVar> {
         }
     }
 
-    private boolean prune(int j) throws ContradictionException {
-        boolean hasFiltered = false;
-        ISetIterator iter = overlappingBoxes.getNeighborsOf(j).iterator();
+    /**
+     * Store the neighbours of the rectangle <i>i</i> in {@link #neighbors}, by increasing index.
+     *
+     * @return the number of neighbours
+     */
+    private int neighbors(int i) {
+        ISetIterator iter = overlappingBoxes.getNeighborsOf(i).iterator();
+        int size = 0;
         while (iter.hasNext()) {
-            int i = iter.nextInt();
+            neighbors[size++] = iter.nextInt();
+        }
+        if (!ordered) {
+            Arrays.sort(neighbors, 0, size);
+        }
+        return size;
+    }
+
+    private boolean prune(int j, int size) throws ContradictionException {
+        boolean hasFiltered = false;
+        for (int k = 0; k < size; k++) {
+            int i = neighbors[k];
             if(doOverlap(i, j, true)) {
                 hasFiltered |= filter(i, j, false);
             }
@@ -138,23 +236,23 @@ public class PropDiffN extends Propagator<IntVar> {
         return hasFiltered;
     }
 
-    private void energyCheck(int i) throws ContradictionException {
+    private void energyCheck(int i, int size) throws ContradictionException {
         int xm = vars[i].getLB();
         int xM = vars[i].getUB() + vars[i + 2 * n].getUB();
         int ym = vars[i + n].getLB();
         int yM = vars[i + n].getUB() + vars[i + 3 * n].getUB();
-        int am = vars[i + 2 * n].getLB() * vars[i + 3 * n].getLB();
+        long am = (long) vars[i + 2 * n].getLB() * vars[i + 3 * n].getLB();
         int xLengthMin = vars[i + 2 * n].getLB();
         int yLengthMin = vars[i + 3 * n].getLB();
-        ISetIterator iter = overlappingBoxes.getNeighborsOf(i).iterator();
-        while (iter.hasNext()) {
-            int j = iter.nextInt();
+        // the check is made on each prefix of the neighbours
+        for (int k = 0; k < size; k++) {
+            int j = neighbors[k];
             xm = Math.min(xm, vars[j].getLB());
             xM = Math.max(xM, vars[j].getUB() + vars[j + 2 * n].getUB());
             ym = Math.min(ym, vars[j + n].getLB());
             yM = Math.max(yM, vars[j + n].getUB() + vars[j + 3 * n].getUB());
-            am += vars[j + 2 * n].getLB() * vars[j + 3 * n].getLB();
-            if (am > (xM - xm) * (yM - ym)) {
+            am += (long) vars[j + 2 * n].getLB() * vars[j + 3 * n].getLB();
+            if (am > (long) (xM - xm) * (yM - ym)) {
                 fails(); // TODO: could be more precise, for explanation purpose
             }
             xLengthMin = Math.min(xLengthMin, vars[j + 2 * n].getLB());
@@ -162,8 +260,8 @@ public class PropDiffN extends Propagator<IntVar> {
         }
 
         if (xLengthMin > 0 && yLengthMin > 0) {
-            int maxNumberRectangles = ((xM - xm) / xLengthMin) * ((yM - ym) / yLengthMin);
-            if (maxNumberRectangles < overlappingBoxes.getNeighborsOf(i).size()+1) {
+            long maxNumberRectangles = (long) ((xM - xm) / xLengthMin) * ((yM - ym) / yLengthMin);
+            if (maxNumberRectangles < size + 1) {
                 fails();
             }
         }
@@ -233,6 +331,267 @@ public class PropDiffN extends Propagator<IntVar> {
         return hasFiltered;
     }
 
+    //***********************************************************************************
+    // SWEEP
+    //***********************************************************************************
+
+    private void allocate(int size) {
+        rx1 = rx1 == null ? new int[size] : Arrays.copyOf(rx1, size);
+        rx2 = rx2 == null ? new int[size] : Arrays.copyOf(rx2, size);
+        ry1 = ry1 == null ? new int[size] : Arrays.copyOf(ry1, size);
+        ry2 = ry2 == null ? new int[size] : Arrays.copyOf(ry2, size);
+        keys = new long[size];
+        byStart = new int[size];
+    }
+
+    /**
+     * Sweep the rectangle <i>i</i> in the four directions over the forbidden regions of its origin,
+     * induced by the compulsory parts of its neighbours.
+     *
+     * @return <i>true</i> if a bound of the origin of <i>i</i> has been modified
+     */
+    private boolean sweep(int i) throws ContradictionException {
+        int wi = vars[i + 2 * n].getLB();
+        int hi = vars[i + 3 * n].getLB();
+        if (wi == 0 || hi == 0) {
+            return false;
+        }
+        ISetIterator iter = overlappingBoxes.getNeighborsOf(i).iterator();
+        nbRegions = 0;
+        while (iter.hasNext()) {
+            int j = iter.nextInt();
+            // compulsory part of j
+            int cx1 = vars[j].getUB();
+            int cx2 = vars[j].getLB() + vars[j + 2 * n].getLB();
+            int cy1 = vars[j + n].getUB();
+            int cy2 = vars[j + n].getLB() + vars[j + 3 * n].getLB();
+            if (cx1 < cx2 && cy1 < cy2) {
+                if (nbRegions == rx1.length) {
+                    allocate(2 * nbRegions);
+                }
+                rx1[nbRegions] = cx1 - wi + 1;
+                rx2[nbRegions] = cx2 - 1;
+                ry1[nbRegions] = cy1 - hi + 1;
+                ry2[nbRegions] = cy2 - 1;
+                nbRegions++;
+            }
+        }
+        if (nbRegions == 0) {
+            return false;
+        }
+        boolean filtered = false;
+        for (int dim = 0; dim < 2; dim++) {
+            IntVar o = vars[i + dim * n];
+            IntVar p = vars[i + (1 - dim) * n];
+            filtered |= o.updateLowerBound(sweepMin(o.getLB(), o.getUB(), p.getLB(), p.getUB()), this);
+            mirror(rx1, rx2);
+            filtered |= o.updateUpperBound(-sweepMin(-o.getUB(), -o.getLB(), p.getLB(), p.getUB()), this);
+            mirror(rx1, rx2);
+            // exchange the dimensions
+            int[] t = rx1;
+            rx1 = ry1;
+            ry1 = t;
+            t = rx2;
+            rx2 = ry2;
+            ry2 = t;
+        }
+        if (filtered && !pruneList.contains(i)) {
+            pruneList.add(i);
+        }
+        return filtered;
+    }
+
+    /**
+     * Schedule the sweep of the rectangle <i>i</i> and of the neighbours
+     * whose origin may lie in the forbidden region induced by the compulsory part of <i>i</i>.
+     */
+    private void scheduleSweep(int i) {
+        mark(i);
+        int cx1 = vars[i].getUB();
+        int cx2 = vars[i].getLB() + vars[i + 2 * n].getLB();
+        int cy1 = vars[i + n].getUB();
+        int cy2 = vars[i + n].getLB() + vars[i + 3 * n].getLB();
+        if (cx1 >= cx2 || cy1 >= cy2) {
+            return;
+        }
+        ISetIterator iter = overlappingBoxes.getNeighborsOf(i).iterator();
+        while (iter.hasNext()) {
+            int j = iter.nextInt();
+            if (!toSweep[j]
+                    && vars[j].getLB() < cx2 && cx1 - vars[j + 2 * n].getLB() < vars[j].getUB()
+                    && vars[j + n].getLB() < cy2 && cy1 - vars[j + 3 * n].getLB() < vars[j + n].getUB()) {
+                mark(j);
+            }
+        }
+    }
+
+    private void mark(int i) {
+        if (!toSweep[i]) {
+            toSweep[i] = true;
+            sweepList.add(i);
+        }
+    }
+
+    private void mirror(int[] r1, int[] r2) {
+        for (int k = 0; k < nbRegions; k++) {
+            int t = r1[k];
+            r1[k] = -r2[k];
+            r2[k] = -t;
+        }
+    }
+
+    /**
+     * Find the smallest value of the origin, between <i>lb</i> and <i>ub</i> on the first dimension,
+     * such that a value between <i>plb</i> and <i>pub</i> on the second dimension is not forbidden.
+     *
+     * @return the smallest feasible value, greater than <i>ub</i> if none
+     */
+    private int sweepMin(int lb, int ub, int plb, int pub) {
+        for (int k = 0; k < nbRegions; k++) {
+            keys[k] = (long) rx1[k] << 32 | k;
+        }
+        Arrays.sort(keys, 0, nbRegions);
+        for (int k = 0; k < nbRegions; k++) {
+            byStart[k] = (int) keys[k];
+        }
+        cover.reset(plb, pub, ry1, ry2, nbRegions);
+        // from now on, keys is a heap of the active regions, by increasing end
+        int size = 0;
+        int delta = lb;
+        int s = 0;
+        while (delta <= ub) {
+            while (s < nbRegions && rx1[byStart[s]] <= delta) {
+                int r = byStart[s++];
+                if (rx2[r] >= delta) {
+                    cover.add(ry1[r], ry2[r], 1);
+                    keys[size] = (long) rx2[r] << 32 | r;
+                    siftUp(size++);
+                }
+            }
+            while (size > 0 && (int) (keys[0] >> 32) < delta) {
+                int r = (int) keys[0];
+                cover.add(ry1[r], ry2[r], -1);
+                keys[0] = keys[--size];
+                siftDown(0, size);
+            }
+            if (!cover.covered()) {
+                return delta;
+            }
+            // the column is covered until an active region ends
+            delta = (int) (keys[0] >> 32) + 1;
+        }
+        return delta;
+    }
+
+    private void siftUp(int k) {
+        long key = keys[k];
+        while (k > 0 && keys[(k - 1) >> 1] > key) {
+            keys[k] = keys[(k - 1) >> 1];
+            k = (k - 1) >> 1;
+        }
+        keys[k] = key;
+    }
+
+    private void siftDown(int k, int size) {
+        long key = keys[k];
+        int c;
+        while ((c = 2 * k + 1) < size) {
+            if (c + 1 < size && keys[c + 1] < keys[c]) {
+                c++;
+            }
+            if (keys[c] >= key) {
+                break;
+            }
+            keys[k] = keys[c];
+            k = c;
+        }
+        keys[k] = key;
+    }
+
+    /**
+     * Number of forbidden regions covering each value of the second dimension, on compressed coordinates.
+     */
+    private static final class CoverTree {
+        private int[] coords = new int[0];
+        private int nbCoords;
+        private int[] min = new int[0];
+        private int[] lazy = new int[0];
+        private int leaves;
+
+        /**
+         * Clear the tree for values between <i>lb</i> and <i>ub</i>, with the bounds of the regions as breakpoints.
+         */
+        void reset(int lb, int ub, int[] y1, int[] y2, int nb) {
+            if (coords.length < 2 * nb + 2) {
+                coords = new int[2 * nb + 2];
+            }
+            nbCoords = 0;
+            coords[nbCoords++] = lb;
+            coords[nbCoords++] = ub + 1;
+            for (int k = 0; k < nb; k++) {
+                if (y1[k] > lb && y1[k] <= ub) {
+                    coords[nbCoords++] = y1[k];
+                }
+                if (y2[k] >= lb && y2[k] < ub) {
+                    coords[nbCoords++] = y2[k] + 1;
+                }
+            }
+            Arrays.sort(coords, 0, nbCoords);
+            int u = 1;
+            for (int k = 1; k < nbCoords; k++) {
+                if (coords[k] != coords[u - 1]) {
+                    coords[u++] = coords[k];
+                }
+            }
+            nbCoords = u;
+            leaves = nbCoords - 1;
+            if (min.length < 4 * leaves) {
+                min = new int[4 * leaves];
+                lazy = new int[4 * leaves];
+            } else {
+                Arrays.fill(min, 0, 4 * leaves, 0);
+                Arrays.fill(lazy, 0, 4 * leaves, 0);
+            }
+        }
+
+        /**
+         * Add <i>v</i> to the values between <i>y1</i> and <i>y2</i>.
+         */
+        void add(int y1, int y2, int v) {
+            if (y2 < coords[0] || y1 >= coords[nbCoords - 1]) {
+                return;
+            }
+            int from = Arrays.binarySearch(coords, 0, nbCoords, Math.max(y1, coords[0]));
+            int to = Arrays.binarySearch(coords, 0, nbCoords, Math.min(y2 + 1, coords[nbCoords - 1]));
+            if (from < to) {
+                add(1, 0, leaves, from, to, v);
+            }
+        }
+
+        private void add(int node, int lo, int hi, int from, int to, int v) {
+            if (from <= lo && hi <= to) {
+                min[node] += v;
+                lazy[node] += v;
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (from < mid) {
+                add(2 * node, lo, mid, from, to, v);
+            }
+            if (mid < to) {
+                add(2 * node + 1, mid, hi, from, to, v);
+            }
+            min[node] = Math.min(min[2 * node], min[2 * node + 1]) + lazy[node];
+        }
+
+        /**
+         * @return <i>true</i> if every value is covered by a region
+         */
+        boolean covered() {
+            return min[1] > 0;
+        }
+    }
+
     @Override
     public ESat isEntailed() {
         for (int i = 0; i < n; i++) {
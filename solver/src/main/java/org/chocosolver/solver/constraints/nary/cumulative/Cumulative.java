@@ -42,6 +42,8 @@ public class Cumulative extends Constraint {
      *                         - TIME: filters time-table from considering each point in time
      *                         (efficient in practice as long as the time horizon is not too high)
      *                         - SWEEP: filters time-table with a sweep-based algorithm
+     *                         - PROFILE: filters time-table from a compressed profile (independent of the time horizon)
+     *                         - TTEF: time-table edge-finding, in addition to PROFILE
      *                         - NRJ: greedy energy-based filter.
      *                         BEWARE: should not be used alone, use it in addition to either SWEEP or TIME.
      *
@@ -63,6 +65,8 @@ public class Cumulative extends Constraint {
      *                         - TIME: filters time-table from considering each point in time
      *                         (efficient in practice as long as the time horizon is not too high)
      *                         - SWEEP: filters time-table with a sweep-based algorithm
+     *                         - PROFILE: filters time-table from a compressed profile (independent of the time horizon)
+     *                         - TTEF: time-table edge-finding, in addition to PROFILE
      *                         - NRJ: greedy energy-based filter.
      *                         BEWARE: should not be used alone, use it in addition to either SWEEP or TIME.
      *
@@ -146,6 +150,26 @@ public class Cumulative extends Constraint {
 				return new NaiveTimeCumulFilter(n);
 			}
 		},
+		/**
+		 * time-table algorithm based on a compressed profile of the compulsory parts
+		 * independent of the time horizon
+		 * not idempotent
+		 */
+		PROFILE{
+			public CumulFilter make(int n){
+				return new ProfileCumulFilter(n);
+			}
+		},
+		/**
+		 * time-table edge-finding, in addition to PROFILE time-table
+		 * independent of the time horizon
+		 * not idempotent
+		 */
+		TTEF{
+			public CumulFilter make(int n){
+				return new TTEFCumulFilter(n);
+			}
+		},
 		/**
 		 * time-table algorithm based on a sweep line
 		 * idempotent (on the given set of variables only)
@@ -0,0 +1,156 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import java.util.Arrays;
+
+/**
+ * Compressed resource profile made of the compulsory parts of the tasks.
+ * <p>
+ * The profile is a sequence of consecutive rectangles, one between each pair of successive distinct
+ * start or end dates of compulsory parts: there are less than 2n rectangles, whatever the time horizon.
+ * It is built in O(n log n) by sorting the start and end events, then swept once.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+final class Profile {
+
+    private final long[] events;
+    // rectangle k covers [starts[k], starts[k + 1]) with height heights[k]
+    private final int[] starts;
+    private final int[] heights;
+    // energy of the rectangles before k
+    private final long[] energies;
+    private final int[] deltas;
+    private int size;
+    private int maxHeight;
+
+    /**
+     * @param n maximum number of tasks
+     */
+    Profile(int n) {
+        events = new long[2 * n];
+        deltas = new int[2 * n];
+        starts = new int[2 * n + 1];
+        heights = new int[2 * n];
+        energies = new long[2 * n + 1];
+    }
+
+    /**
+     * Build the profile of the first <i>m</i> tasks, whose compulsory part is [<i>lst</i>, <i>ect</i>) when not empty.
+     *
+     * @param m   number of tasks
+     * @param lst latest starting time of each task
+     * @param ect earliest completion time of each task
+     * @param h   minimum height of each task
+     */
+    void build(int m, int[] lst, int[] ect, int[] h) {
+        int nb = 0;
+        for (int i = 0; i < m; i++) {
+            if (lst[i] < ect[i] && h[i] > 0) {
+                deltas[nb] = h[i];
+                events[nb] = (long) lst[i] << 32 | nb;
+                nb++;
+                deltas[nb] = -h[i];
+                events[nb] = (long) ect[i] << 32 | nb;
+                nb++;
+            }
+        }
+        Arrays.sort(events, 0, nb);
+        size = 0;
+        maxHeight = 0;
+        int height = 0;
+        for (int k = 0; k < nb; ) {
+            int date = (int) (events[k] >> 32);
+            while (k < nb && (int) (events[k] >> 32) == date) {
+                height += deltas[(int) events[k++]];
+            }
+            energies[size] = size == 0 ? 0 : energies[size - 1] + (long) heights[size - 1] * (date - starts[size - 1]);
+            starts[size] = date;
+            if (k < nb) {
+                heights[size] = height;
+                maxHeight = Math.max(maxHeight, height);
+                size++;
+            }
+        }
+    }
+
+    /**
+     * @return the number of rectangles
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the start of the rectangle <i>k</i>
+     */
+    int start(int k) {
+        return starts[k];
+    }
+
+    /**
+     * @return the end of the rectangle <i>k</i>
+     */
+    int end(int k) {
+        return starts[k + 1];
+    }
+
+    /**
+     * @return the height of the rectangle <i>k</i>
+     */
+    int height(int k) {
+        return heights[k];
+    }
+
+    /**
+     * @return the largest height of the profile
+     */
+    int maxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * @param t a date
+     * @return the first rectangle that ends after <i>t</i>, {@link #size()} if none
+     */
+    int find(int t) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid + 1] <= t) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return the energy of the profile before <i>t</i>
+     */
+    long energy(int t) {
+        int k = find(t);
+        if (k == size) {
+            return size == 0 ? 0 : energies[size];
+        }
+        return energies[k] + (long) heights[k] * Math.max(0, t - starts[k]);
+    }
+
+    /**
+     * @return the energy of the profile in [<i>a</i>, <i>b</i>)
+     */
+    long energy(int a, int b) {
+        return energy(b) - energy(a);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+
+/**
+ * Time-table filtering based on a compressed profile (see {@link Profile}).
+ * <p>
+ * Unlike {@link TimeCumulFilter}, nothing is allocated or iterated per point in time:
+ * the cost depends on the number of tasks only, which suits large time horizons.
+ * Each task is pushed over the rectangles of the profile that cannot hold it.
+ * Latest completion times are filtered the same way, on the mirrored tasks.
+ * </p>
+ * not idempotent
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ProfileCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	protected final Profile profile;
+	// index of the task of each slot
+	protected final int[] task;
+	// bounds of each slot, possibly mirrored
+	protected final int[] est, lst, ect, lct, dlb, hlb;
+	// deduced earliest starting times
+	protected final int[] newEst;
+	// number of slots
+	protected int m;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public ProfileCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		profile = new Profile(nbMaxTasks);
+		task = new int[nbMaxTasks];
+		est = new int[nbMaxTasks];
+		lst = new int[nbMaxTasks];
+		ect = new int[nbMaxTasks];
+		lct = new int[nbMaxTasks];
+		dlb = new int[nbMaxTasks];
+		hlb = new int[nbMaxTasks];
+		newEst = new int[nbMaxTasks];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		load(s, d, e, h, tasks, false);
+		capa.updateLowerBound(profile.maxHeight(), aCause);
+		int capaMax = capa.getUB();
+		filterHeights(h, capaMax, aCause);
+		// earliest starting times
+		filterStarts(capaMax, aCause);
+		for (int k = 0; k < m; k++) {
+			s[task[k]].updateLowerBound(newEst[k], aCause);
+		}
+		// latest completion times
+		load(s, d, e, h, tasks, true);
+		filterStarts(capaMax, aCause);
+		for (int k = 0; k < m; k++) {
+			e[task[k]].updateUpperBound(-newEst[k], aCause);
+		}
+	}
+
+	/**
+	 * Read the bounds of the tasks, mirrored on the time axis if <i>mirror</i> is set, and build their profile.
+	 */
+	private void load(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, ISet tasks, boolean mirror) {
+		m = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			task[m] = i;
+			if (mirror) {
+				est[m] = -e[i].getUB();
+				lst[m] = -e[i].getLB();
+				ect[m] = -s[i].getUB();
+				lct[m] = -s[i].getLB();
+			} else {
+				est[m] = s[i].getLB();
+				lst[m] = s[i].getUB();
+				ect[m] = e[i].getLB();
+				lct[m] = e[i].getUB();
+			}
+			dlb[m] = d[i].getLB();
+			hlb[m] = h[i].getLB();
+			newEst[m] = est[m];
+			m++;
+		}
+		profile.build(m, lst, ect, hlb);
+	}
+
+	private void filterHeights(IntVar[] h, int capaMax, Propagator<IntVar> aCause) throws ContradictionException {
+		for (int k = 0; k < m; k++) {
+			int i = task[k];
+			if (lst[k] < ect[k] && !h[i].isInstantiated()) {
+				int minH = h[i].getUB();
+				for (int r = profile.find(lst[k]); r < profile.size() && profile.start(r) < ect[k]; r++) {
+					minH = Math.min(minH, capaMax - (profile.height(r) - hlb[k]));
+				}
+				h[i].updateUpperBound(minH, aCause);
+			}
+		}
+	}
+
+	/**
+	 * Compute in {@link #newEst} the earliest starting time of each slot.
+	 *
+	 * @param capaMax maximum capacity
+	 * @param aCause  a cumulative propagator
+	 * @throws ContradictionException if a failure is detected
+	 */
+	protected void filterStarts(int capaMax, Propagator<IntVar> aCause) throws ContradictionException {
+		for (int k = 0; k < m; k++) {
+			if (dlb[k] == 0 || hlb[k] == 0) {
+				continue;
+			}
+			boolean cp = lst[k] < ect[k];
+			int t = est[k];
+			for (int r = profile.find(t); r < profile.size() && profile.start(r) < t + dlb[k] && t <= lst[k]; r++) {
+				// the compulsory part of the task is made of whole rectangles
+				int own = cp && profile.start(r) >= lst[k] && profile.end(r) <= ect[k] ? hlb[k] : 0;
+				if (profile.height(r) - own + hlb[k] > capaMax) {
+					t = profile.end(r);
+				}
+			}
+			newEst[k] = t;
+		}
+	}
+}
@@ -152,31 +152,25 @@ public class PropCumulative extends Propagator<IntVar> {
 
     @Override
     public ESat isEntailed() {
-        int min = s[0].getUB();
-        int max = e[0].getLB();
+        int[] lst = new int[n];
+        int[] ect = new int[n];
+        int[] hlb = new int[n];
         // check start + duration = end
         for (int i = 0; i < n; i++) {
-            min = Math.min(min, s[i].getUB());
-            max = Math.max(max, e[i].getLB());
+            lst[i] = s[i].getUB();
+            ect[i] = e[i].getLB();
+            hlb[i] = h[i].getLB();
             if (s[i].getLB() + d[i].getLB() > e[i].getUB()
                     || s[i].getUB() + d[i].getUB() < e[i].getLB()) {
                 return ESat.FALSE;
             }
         }
-        // check capacity
-        int maxLoad = 0;
-        if (min <= max) {
-            int capamax = capa.getUB();
-            int[] consoMin = new int[max - min];
-            for (int i = 0; i < n; i++) {
-                for (int t = s[i].getUB(); t < e[i].getLB(); t++) {
-                    consoMin[t - min] += h[i].getLB();
-                    if (consoMin[t - min] > capamax) {
-                        return ESat.FALSE;
-                    }
-                    maxLoad = Math.max(maxLoad, consoMin[t - min]);
-                }
-            }
+        // check capacity, on the profile of the compulsory parts (independent of the time horizon)
+        Profile profile = new Profile(n);
+        profile.build(n, lst, ect, hlb);
+        int maxLoad = profile.maxHeight();
+        if (maxLoad > capa.getUB()) {
+            return ESat.FALSE;
         }
         // check variables are instantiated
         for (int i = 0; i < vars.length - 1; i++) {
@@ -184,7 +178,6 @@ public class PropCumulative extends Propagator<IntVar> {
                 return ESat.UNDEFINED;
             }
         }
-        assert min <= max;
         // capacity check entailed
         if (maxLoad <= vars[4 * n].getLB()) {
             return ESat.TRUE;
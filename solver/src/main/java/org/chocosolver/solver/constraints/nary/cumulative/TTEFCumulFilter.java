@@ -0,0 +1,121 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * Time-table edge-finding, based on "Timetable Edge Finding Filtering Algorithm for Discrete Cumulative Resources",
+ * P. Vilím, CPAIOR 2011, on top of the time-table filtering of {@link ProfileCumulFilter}.
+ * <p>
+ * For each window [a, b), where <i>a</i> is an earliest starting time and <i>b</i> a latest completion time,
+ * the energy required in the window is the energy of the compulsory parts (read on the profile) plus the
+ * energy of the free parts of the tasks that lie within the window.
+ * A failure is raised when the window is overloaded.
+ * Otherwise, the task starting in the window but ending after <i>b</i> that requires the most energy
+ * in the window when left-shifted is checked: if it does not fit, it has to end after <i>b</i>.
+ * All the windows are considered in O(n&sup2; log n), independently of the time horizon.
+ * </p>
+ * not idempotent
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TTEFCumulFilter extends ProfileCumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final long[] keys;
+	private final int[] byEst, byLct;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public TTEFCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		keys = new long[nbMaxTasks];
+		byEst = new int[nbMaxTasks];
+		byLct = new int[nbMaxTasks];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	protected void filterStarts(int capaMax, Propagator<IntVar> aCause) throws ContradictionException {
+		super.filterStarts(capaMax, aCause);
+		// decreasing earliest starting times
+		for (int k = 0; k < m; k++) {
+			keys[k] = (long) -est[k] << 32 | k;
+		}
+		sort(byEst);
+		for (int k = 0; k < m; k++) {
+			keys[k] = (long) lct[k] << 32 | k;
+		}
+		sort(byLct);
+		for (int q = 0; q < m; q++) {
+			int b = lct[byLct[q]];
+			if (q + 1 < m && lct[byLct[q + 1]] == b) {
+				continue;
+			}
+			long free = 0;
+			long bestGap = 0;
+			long bestCp = 0;
+			int best = -1;
+			for (int r = 0; r < m; r++) {
+				int k = byEst[r];
+				int a = est[k];
+				if (a >= b) {
+					continue;
+				}
+				long cp = lst[k] < ect[k] ? (long) hlb[k] * (Math.min(ect[k], b) - lst[k]) : 0;
+				if (lct[k] <= b) {
+					// the whole task is in the window, its compulsory part is already in the profile
+					free += Math.max(0, (long) hlb[k] * dlb[k] - cp);
+				} else if (dlb[k] > 0 && hlb[k] > 0) {
+					// energy in the window when left-shifted, beyond its compulsory part
+					long gap = (long) hlb[k] * Math.min(dlb[k], b - a) - Math.max(0, cp);
+					if (gap > bestGap) {
+						bestGap = gap;
+						bestCp = Math.max(0, cp);
+						best = k;
+					}
+				}
+				if (r + 1 < m && est[byEst[r + 1]] == a) {
+					continue;
+				}
+				long avail = (long) capaMax * (b - a) - profile.energy(a, b) - free;
+				if (avail < 0) {
+					aCause.fails();
+				}
+				if (bestGap > avail) {
+					// the task cannot end before b
+					long lb = b - (avail + bestCp) / hlb[best];
+					newEst[best] = (int) Math.max(newEst[best], lb);
+				}
+			}
+		}
+	}
+
+	private void sort(int[] into) {
+		Arrays.sort(keys, 0, m);
+		for (int k = 0; k < m; k++) {
+			into[k] = (int) keys[k];
+		}
+	}
+}
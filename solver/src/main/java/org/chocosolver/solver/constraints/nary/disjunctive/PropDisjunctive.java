@@ -0,0 +1,370 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Propagator for the disjunctive (unary resource) constraint: tasks do not overlap in time.
+ * <p>
+ * Based on "O(n log n) Filtering Algorithms for Unary Resource Constraint", P. Vilím, CPAIOR 2004,
+ * and on "Unary Resource Constraint with Optional Activities", P. Vilím, R. Barták and O. Čepek, CP 2004.
+ * The following rules are applied, each in O(n log n) with a {@link ThetaLambdaTree}:
+ * <ul>
+ *     <li>overload checking, which also excludes the optional tasks that cannot fit,</li>
+ *     <li>detectable precedences,</li>
+ *     <li>not-first/not-last,</li>
+ *     <li>edge-finding.</li>
+ * </ul>
+ * Each rule updates earliest starting times and latest completion times, the latter on the mirrored tasks.
+ * Rules are applied until a fixpoint is reached.
+ * </p>
+ * <p>
+ * An optional task is performed if its presence variable is set to 1.
+ * An optional task does not restrict the other tasks until it is known to be performed, and its bounds are not
+ * filtered until then: it is only excluded when it cannot be performed.
+ * The minimum duration of a task is used, and tasks whose minimum duration is 0 are ignored.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    // null when all tasks are performed
+    private final BoolVar[] presences;
+    private final ThetaLambdaTree tree;
+    // index of the task of each slot
+    private final int[] task;
+    // number of slots, compulsory tasks come first
+    private int m, nbCompulsory;
+    private final int[] est, lct, p;
+    // the same tasks, mirrored on the time axis
+    private final int[] mest, mlct;
+    // bounds deduced on the tasks, and their mirror
+    private final int[] newEst, newLct;
+    private final boolean[] excluded;
+    // sorting
+    private final long[] keys;
+    private final int[] byEst, byLct, byLst, byEct;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Create a disjunctive propagator
+     *
+     * @param s         start variables
+     * @param d         duration variables
+     * @param e         end variables
+     * @param presences presence of each task, or <i>null</i> if all the tasks are performed
+     */
+    public PropDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e, BoolVar[] presences) {
+        super(presences == null ? ArrayUtils.append(s, d, e) : ArrayUtils.append(s, d, e, presences),
+                PropagatorPriority.LINEAR, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length && (presences == null || n == presences.length))) {
+            throw new IllegalArgumentException("Arrays of start, duration, end and presence variables should have the same size");
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, 2 * n);
+        this.e = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+        this.presences = presences == null ? null : presences.clone();
+        this.tree = new ThetaLambdaTree(n);
+        this.task = new int[n];
+        this.est = new int[n];
+        this.lct = new int[n];
+        this.p = new int[n];
+        this.mest = new int[n];
+        this.mlct = new int[n];
+        this.newEst = new int[n];
+        this.newLct = new int[n];
+        this.excluded = new boolean[n];
+        this.keys = new long[n];
+        this.byEst = new int[n];
+        this.byLct = new int[n];
+        this.byLst = new int[n];
+        this.byEct = new int[n];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    //***********************************************************************************
+    // FILTERING
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean changed;
+        do {
+            collect();
+            if (m == 0) {
+                return;
+            }
+            for (int k = 0; k < m; k++) {
+                newEst[k] = est[k];
+                newLct[k] = lct[k];
+                excluded[k] = false;
+                mest[k] = -lct[k];
+                mlct[k] = -est[k];
+            }
+            // earliest starting times
+            filter(est, lct, newEst, newLct, false);
+            // latest completion times, on the mirrored tasks
+            filter(mest, mlct, newLct, newEst, true);
+            changed = apply();
+        } while (changed);
+    }
+
+    /**
+     * Read the tasks to consider: first the compulsory ones, then the optional ones.
+     */
+    private void collect() {
+        m = 0;
+        for (int i = 0; i < n; i++) {
+            if (d[i].getLB() > 0 && (presences == null || presences[i].isInstantiatedTo(1))) {
+                store(i);
+            }
+        }
+        nbCompulsory = m;
+        if (presences != null) {
+            for (int i = 0; i < n; i++) {
+                if (d[i].getLB() > 0 && !presences[i].isInstantiated()) {
+                    store(i);
+                }
+            }
+        }
+    }
+
+    private void store(int i) {
+        task[m] = i;
+        est[m] = s[i].getLB();
+        lct[m] = e[i].getUB();
+        p[m] = d[i].getLB();
+        m++;
+    }
+
+    /**
+     * Apply all the rules on tasks whose time windows are given by <i>est</i> and <i>lct</i>.
+     * When <i>mirror</i> is set to <i>true</i>, the windows are mirrored, and so are the bounds to update.
+     */
+    private void filter(int[] est, int[] lct, int[] toEst, int[] toLct, boolean mirror) throws ContradictionException {
+        sort(byEst, m, est, null, 1);
+        tree.reset(byEst, m, est, p);
+        overloadChecking(lct);
+        if (nbCompulsory == 0) {
+            return;
+        }
+        // compulsory tasks only from now on
+        sort(byEst, nbCompulsory, est, null, 1);
+        tree.reset(byEst, nbCompulsory, est, p);
+        detectablePrecedences(est, lct, toEst, mirror);
+        tree.reset(byEst, nbCompulsory, est, p);
+        notLast(lct, toLct, mirror);
+        tree.reset(byEst, nbCompulsory, est, p);
+        edgeFinding(lct, toEst, mirror);
+    }
+
+    /**
+     * Sort the first <i>size</i> slots by increasing value of <i>a + coef * b</i>, or of <i>a</i> if <i>b</i> is null.
+     */
+    private void sort(int[] into, int size, int[] a, int[] b, int coef) {
+        for (int k = 0; k < size; k++) {
+            long key = a[k];
+            if (b != null) {
+                key += (long) coef * b[k];
+            }
+            keys[k] = key << 32 | k;
+        }
+        Arrays.sort(keys, 0, size);
+        for (int k = 0; k < size; k++) {
+            into[k] = (int) keys[k];
+        }
+    }
+
+    private void overloadChecking(int[] lct) throws ContradictionException {
+        sort(byLct, m, lct, null, 1);
+        for (int q = 0; q < m; q++) {
+            int j = byLct[q];
+            if (j < nbCompulsory) {
+                tree.addToTheta(j);
+                if (tree.ect() > lct[j]) {
+                    fails();
+                }
+            } else if (!excluded[j]) {
+                tree.addToLambda(j);
+            }
+            while (tree.ectBar() > lct[j]) {
+                // an optional task cannot be performed with the compulsory ones, as lct_i <= lct_j
+                int i = tree.responsible();
+                excluded[i] = true;
+                tree.remove(i);
+            }
+        }
+    }
+
+    private void detectablePrecedences(int[] est, int[] lct, int[] toEst, boolean mirror) {
+        sort(byEct, nbCompulsory, est, p, 1);
+        sort(byLst, nbCompulsory, lct, p, -1);
+        int q = 0;
+        for (int k = 0; k < nbCompulsory; k++) {
+            int i = byEct[k];
+            int ecti = est[i] + p[i];
+            // the tasks j such that lst_j < ect_i are before i
+            while (q < nbCompulsory && lct[byLst[q]] - p[byLst[q]] < ecti) {
+                tree.addToTheta(byLst[q++]);
+            }
+            boolean in = lct[i] - p[i] < ecti;
+            if (in) {
+                tree.remove(i);
+            }
+            update(toEst, i, tree.ect(), mirror);
+            if (in) {
+                tree.addToTheta(i);
+            }
+        }
+    }
+
+    private void notLast(int[] lct, int[] toLct, boolean mirror) {
+        sort(byLct, nbCompulsory, lct, null, 1);
+        sort(byLst, nbCompulsory, lct, p, -1);
+        int q = 0;
+        // the two tasks of the tree with the largest latest starting times
+        int last = -1, previous = -1;
+        for (int k = 0; k < nbCompulsory; k++) {
+            int i = byLct[k];
+            while (q < nbCompulsory && lct[i] > lct[byLst[q]] - p[byLst[q]]) {
+                previous = last;
+                last = byLst[q++];
+                tree.addToTheta(last);
+            }
+            // as lst_i < lct_i, i is in the tree
+            int j = last == i ? previous : last;
+            tree.remove(i);
+            if (j >= 0 && tree.ect() > lct[i] - p[i]) {
+                // i cannot be the last one, it ends before the last start of the others
+                updateUpper(toLct, i, lct[j] - p[j], mirror);
+            }
+            tree.addToTheta(i);
+        }
+    }
+
+    private void edgeFinding(int[] lct, int[] toEst, boolean mirror) throws ContradictionException {
+        sort(byLct, nbCompulsory, lct, null, 1);
+        for (int k = 0; k < nbCompulsory; k++) {
+            tree.addToTheta(byLct[k]);
+        }
+        for (int k = nbCompulsory - 1; k > 0; k--) {
+            int j = byLct[k];
+            // j is moved to Λ, the next task gives the new latest completion time of Θ
+            tree.addToLambda(j);
+            int lctj = lct[byLct[k - 1]];
+            if (tree.ect() > lctj) {
+                fails();
+            }
+            while (tree.ectBar() > lctj) {
+                int i = tree.responsible();
+                // i ends after all the tasks of Θ
+                update(toEst, i, tree.ect(), mirror);
+                tree.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Increase the earliest starting time of <i>i</i> (in the mirrored tasks if <i>mirror</i> is set).
+     */
+    private void update(int[] toEst, int i, int value, boolean mirror) {
+        if (mirror) {
+            toEst[i] = Math.min(toEst[i], -value);
+        } else {
+            toEst[i] = Math.max(toEst[i], value);
+        }
+    }
+
+    /**
+     * Decrease the latest completion time of <i>i</i> (in the mirrored tasks if <i>mirror</i> is set).
+     */
+    private void updateUpper(int[] toLct, int i, int value, boolean mirror) {
+        if (mirror) {
+            toLct[i] = Math.max(toLct[i], -value);
+        } else {
+            toLct[i] = Math.min(toLct[i], value);
+        }
+    }
+
+    private boolean apply() throws ContradictionException {
+        boolean changed = false;
+        for (int k = 0; k < m; k++) {
+            int i = task[k];
+            if (k >= nbCompulsory) {
+                if (excluded[k]) {
+                    changed |= presences[i].setToFalse(this);
+                }
+            } else {
+                changed |= s[i].updateLowerBound(newEst[k], this);
+                changed |= e[i].updateLowerBound(newEst[k] + p[k], this);
+                changed |= e[i].updateUpperBound(newLct[k], this);
+                changed |= s[i].updateUpperBound(newLct[k] - p[k], this);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            if (presences != null && !presences[i].isInstantiated()) {
+                return ESat.UNDEFINED;
+            }
+            if (presences == null || presences[i].getValue() == 1) {
+                if (!s[i].isInstantiated() || !d[i].isInstantiated() || !e[i].isInstantiated()) {
+                    return ESat.UNDEFINED;
+                }
+                if (d[i].getValue() > 0) {
+                    keys[size++] = (long) s[i].getValue() << 32 | i;
+                }
+            }
+        }
+        Arrays.sort(keys, 0, size);
+        for (int k = 1; k < size; k++) {
+            int i = (int) keys[k - 1];
+            if (e[i].getValue() > s[(int) keys[k]].getValue()) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+
+    @Override
+    public String toString() {
+        return "PropDisjunctive(" + n + " tasks)";
+    }
+}
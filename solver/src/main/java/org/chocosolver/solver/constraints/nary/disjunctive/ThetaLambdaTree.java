@@ -0,0 +1,177 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+import java.util.Arrays;
+
+/**
+ * A Theta-Lambda tree, as defined in "O(n log n) Filtering Algorithms for Unary Resource Constraint",
+ * P. Vilím, CPAIOR 2004.
+ * <p>
+ * The leaves are the tasks, sorted by earliest starting time.
+ * Each task is either out of the tree, in Θ (white) or in Λ (gray).
+ * The root gives in O(1) the earliest completion time of Θ, and the largest earliest completion time
+ * of Θ with at most one task of Λ, together with the gray task responsible for it.
+ * Adding or removing a task costs O(log n).
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+final class ThetaLambdaTree {
+
+    /**
+     * Earliest completion time of an empty set, small enough to stay negative once durations are added
+     */
+    static final int NEG_INF = Integer.MIN_VALUE / 4;
+
+    // number of leaves, a power of 2
+    private final int size;
+    private final int[] sumP;
+    private final int[] ect;
+    private final int[] sumPBar;
+    private final int[] ectBar;
+    // gray leaf responsible for sumPBar, resp. ectBar, -1 if none
+    private final int[] respP;
+    private final int[] respE;
+    // leaf of each task
+    private final int[] leafOf;
+    private int[] est;
+    private int[] p;
+
+    /**
+     * @param capacity maximum number of tasks
+     */
+    ThetaLambdaTree(int capacity) {
+        size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        sumP = new int[2 * size];
+        ect = new int[2 * size];
+        sumPBar = new int[2 * size];
+        ectBar = new int[2 * size];
+        respP = new int[2 * size];
+        respE = new int[2 * size];
+        leafOf = new int[capacity];
+    }
+
+    /**
+     * Empty the tree and order the leaves.
+     *
+     * @param byEst the <i>m</i> tasks sorted by increasing earliest starting time
+     * @param m     number of tasks
+     * @param est   earliest starting time of each task
+     * @param p     processing time of each task
+     */
+    void reset(int[] byEst, int m, int[] est, int[] p) {
+        this.est = est;
+        this.p = p;
+        for (int l = 0; l < m; l++) {
+            leafOf[byEst[l]] = l;
+        }
+        Arrays.fill(sumP, 0);
+        Arrays.fill(ect, NEG_INF);
+        Arrays.fill(sumPBar, 0);
+        Arrays.fill(ectBar, NEG_INF);
+        Arrays.fill(respP, -1);
+        Arrays.fill(respE, -1);
+    }
+
+    /**
+     * Add the task <i>i</i> to Θ, or move it from Λ to Θ.
+     */
+    void addToTheta(int i) {
+        int node = size + leafOf[i];
+        sumP[node] = p[i];
+        ect[node] = est[i] + p[i];
+        sumPBar[node] = p[i];
+        ectBar[node] = est[i] + p[i];
+        respP[node] = -1;
+        respE[node] = -1;
+        update(node >> 1);
+    }
+
+    /**
+     * Add the task <i>i</i> to Λ, or move it from Θ to Λ.
+     */
+    void addToLambda(int i) {
+        int node = size + leafOf[i];
+        sumP[node] = 0;
+        ect[node] = NEG_INF;
+        sumPBar[node] = p[i];
+        ectBar[node] = est[i] + p[i];
+        respP[node] = i;
+        respE[node] = i;
+        update(node >> 1);
+    }
+
+    /**
+     * Remove the task <i>i</i> from the tree.
+     */
+    void remove(int i) {
+        int node = size + leafOf[i];
+        sumP[node] = 0;
+        ect[node] = NEG_INF;
+        sumPBar[node] = 0;
+        ectBar[node] = NEG_INF;
+        respP[node] = -1;
+        respE[node] = -1;
+        update(node >> 1);
+    }
+
+    private void update(int node) {
+        while (node > 0) {
+            int l = node << 1;
+            int r = l + 1;
+            sumP[node] = sumP[l] + sumP[r];
+            ect[node] = Math.max(ect[r], ect[l] + sumP[r]);
+            if (sumPBar[l] + sumP[r] >= sumP[l] + sumPBar[r]) {
+                sumPBar[node] = sumPBar[l] + sumP[r];
+                respP[node] = respP[l];
+            } else {
+                sumPBar[node] = sumP[l] + sumPBar[r];
+                respP[node] = respP[r];
+            }
+            int viaR = ectBar[r];
+            int viaL = ectBar[l] + sumP[r];
+            int viaP = ect[l] + sumPBar[r];
+            if (viaR >= viaL && viaR >= viaP) {
+                ectBar[node] = viaR;
+                respE[node] = respE[r];
+            } else if (viaL >= viaP) {
+                ectBar[node] = viaL;
+                respE[node] = respE[l];
+            } else {
+                ectBar[node] = viaP;
+                respE[node] = respP[r];
+            }
+            node >>= 1;
+        }
+    }
+
+    /**
+     * @return the earliest completion time of Θ
+     */
+    int ect() {
+        return ect[1];
+    }
+
+    /**
+     * @return the largest earliest completion time of Θ with at most one task of Λ
+     */
+    int ectBar() {
+        return ectBar[1];
+    }
+
+    /**
+     * @return the task of Λ responsible for {@link #ectBar()}, -1 if Λ is not involved
+     */
+    int responsible() {
+        return respE[1];
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sat;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class manages clause sharing among models involved in a {@link
+ * org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Contrary to {@link NogoodStealer}, which reads the decision path of the other workers,
+ * each worker publishes the nogoods it learns on restarts in a bounded ring buffer,
+ * and imports, on its next restart, the ones published by the other workers since its last visit.
+ * Publishing and importing are lock-free: when the buffer is full, the oldest clauses are
+ * overwritten and lost for workers that did not read them yet.
+ * <p>
+ * A clause is exchanged as a sequence of triplets (variable ID, operator, value),
+ * each of them being converted back into a literal of the importing worker
+ * (see {@link NogoodFromRestarts#importNogood(int[])}).
+ * As for {@link NogoodStealer}, all models are assumed to be created following the very same steps,
+ * so that a variable has the same ID in all models.
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class ClauseExchange extends NogoodStealer {
+
+    /**
+     * A published clause.
+     */
+    private static final class Entry {
+        /**
+         * Sequence number of the clause
+         */
+        final long seq;
+        /**
+         * The model that publishes the clause
+         */
+        final Model producer;
+        /**
+         * The clause, as triplets (variable ID, operator, value)
+         */
+        final int[] codes;
+
+        Entry(long seq, Model producer, int[] codes) {
+            this.seq = seq;
+            this.producer = producer;
+            this.codes = codes;
+        }
+    }
+
+    /**
+     * The ring buffer
+     */
+    private final AtomicReferenceArray<Entry> ring;
+    /**
+     * To compute position in the ring buffer
+     */
+    private final int mask;
+    /**
+     * Sequence number of the next clause to publish
+     */
+    private final AtomicLong head;
+    /**
+     * Maximum number of literals of a clause to be published
+     */
+    private final int maxLength;
+    /**
+     * For each model, sequence number of the next clause to import
+     */
+    private final Map<Model, long[]> cursors;
+    /**
+     * Models that are not allowed to publish clauses
+     */
+    private final Set<Model> muted;
+    /**
+     * Number of clauses published
+     */
+    private final LongAdder exported = new LongAdder();
+    /**
+     * Number of clauses imported
+     */
+    private final LongAdder imported = new LongAdder();
+    /**
+     * Number of unit clauses imported, that is, permanent domain reductions
+     */
+    private final LongAdder unitImported = new LongAdder();
+    /**
+     * Number of clauses overwritten before being imported
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Create a class that shares clauses among models through a ring buffer.
+     *
+     * @param capacity  maximum number of clauses stored in the ring buffer,
+     *                  rounded up to the next power of 2
+     * @param maxLength maximum number of literals of a clause to be shared
+     */
+    public ClauseExchange(int capacity, int maxLength) {
+        super();
+        if (capacity < 1 || maxLength < 1) {
+            throw new IllegalArgumentException("Capacity and max length must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.head = new AtomicLong();
+        this.maxLength = maxLength;
+        this.cursors = new IdentityHashMap<>();
+        this.muted = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Create a class that shares clauses of size at most 8 among models,
+     * through a ring buffer of 4096 clauses.
+     */
+    public ClauseExchange() {
+        this(4096, 8);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Models are expected to be added before the resolution starts.
+     */
+    @Override
+    public void add(Model model) {
+        if (!cursors.containsKey(model)) {
+            super.add(model);
+            cursors.put(model, new long[]{head.get()});
+        }
+    }
+
+    /**
+     * Prevent <i>model</i> from publishing clauses, it can only import clauses from the other models.
+     * This is the case of models that are not reliable.
+     *
+     * @param model a model
+     * @implNote Models are expected to be muted before the resolution starts.
+     */
+    public void mute(Model model) {
+        muted.add(model);
+    }
+
+    @Override
+    public void publish(Model model, int[] codes, int length) {
+        if (length <= maxLength && !muted.contains(model)) {
+            long seq = head.getAndIncrement();
+            ring.set((int) (seq & mask), new Entry(seq, model, Arrays.copyOf(codes, 3 * length)));
+            exported.increment();
+        }
+    }
+
+    /**
+     * Import in <i>model</i> the clauses published by the other models since its last call.
+     *
+     * @param model  the model to import clauses in
+     * @param caller nogoods extractor of <i>model</i>
+     */
+    @Override
+    public void nogoodStealing(Model model, NogoodFromRestarts caller) {
+        long[] cursor = cursors.get(model);
+        long to = head.get();
+        long from = Math.max(cursor[0], to - ring.length());
+        if (from > cursor[0]) {
+            dropped.add(from - cursor[0]);
+        }
+        long seq = from;
+        for (; seq < to; seq++) {
+            Entry e = ring.get((int) (seq & mask));
+            if (e == null || e.seq < seq) {
+                // not written yet, try again on next restart
+                break;
+            } else if (e.seq > seq) {
+                // overwritten in the meantime
+                dropped.increment();
+            } else if (e.producer != model) {
+                caller.importNogood(e.codes);
+                imported.increment();
+                if (e.codes.length == 3) {
+                    unitImported.increment();
+                }
+            }
+        }
+        cursor[0] = seq;
+    }
+
+    /**
+     * @return the number of clauses published by the workers
+     */
+    public long getNbExported() {
+        return exported.sum();
+    }
+
+    /**
+     * @return the number of clauses imported by the workers
+     */
+    public long getNbImported() {
+        return imported.sum();
+    }
+
+    /**
+     * @return the number of unit clauses imported by the workers, which led to permanent domain reductions
+     */
+    public long getNbUnitImported() {
+        return unitImported.sum();
+    }
+
+    /**
+     * @return the number of clauses overwritten before a worker could import them
+     */
+    public long getNbDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Clauses exchange: %d exported, %d imported (%d units), %d dropped",
+                getNbExported(), getNbImported(), getNbUnitImported(), getNbDropped());
+    }
+}
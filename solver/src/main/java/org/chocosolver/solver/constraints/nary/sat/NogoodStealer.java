@@ -113,6 +113,19 @@ public class NogoodStealer {
         }
     }
 
+    /**
+     * Make a nogood learnt by <i>model</i> available to the other models.
+     * By default, nothing is done since nogoods are extracted from decision paths of the other models.
+     *
+     * @param model  the model that learnt the nogood
+     * @param codes  the nogood, as triplets (variable ID, operator, value)
+     * @param length number of literals in the nogood
+     * @see NogoodFromRestarts#importNogood(int[])
+     */
+    public void publish(Model model, int[] codes, int length) {
+        // void
+    }
+
     /**
      * @param <V> type of variable to find
      * @param var variable to look for (based on its ID)
@@ -121,12 +134,21 @@ public class NogoodStealer {
      * (ie, from another model)
      */
     public <V extends Variable> V getById(V var, Model model) {
-        int p = id2pos.get(var.getId());
+        //noinspection unchecked
+        return (V) getById(var.getId(), model);
+    }
+
+    /**
+     * @param id    ID of the variable to look for
+     * @param model prop
+     * @return the variable with ID <i>id</i> declared in <i>model</i>
+     */
+    public Variable getById(int id, Model model) {
+        int p = id2pos.get(id);
         if(p == -1){
-            p = binarySearch(model, var.getId());
+            p = binarySearch(model, id);
         }
-        //noinspection unchecked
-        return (V) model.getVar(p);
+        return model.getVar(p);
     }
 
     /**
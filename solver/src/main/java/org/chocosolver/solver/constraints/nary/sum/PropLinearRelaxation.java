@@ -0,0 +1,272 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.lp.LinearProgram;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A propagator which maintains the linear relaxation of a model.
+ * <p>
+ * The linear constraints posted in the model when this propagator is created
+ * (that is, the ones based on {@link PropSum}, {@link PropScalar} and their variants)
+ * are collected in a {@link LinearProgram} whose variables are bounded by the domains of the integer variables.
+ * On propagation, the bounds of the linear program are updated and the linear program is re-solved,
+ * warm-started from the previous optimal basis (hence running the dual Simplex most of the time).
+ * Then:
+ * <ul>
+ *     <li>if the linear program is infeasible, so is the model,</li>
+ *     <li>the optimal value of the linear program bounds the objective variable,</li>
+ *     <li>a reduced-cost fixing is applied on each variable with a nonzero reduced cost <i>d</i>:
+ *     moving it away from its value in the optimal solution by more than <i>(z - lb)/|d|</i>,
+ *     where <i>z</i> is the optimal value and <i>lb</i> the worst value the objective can take,
+ *     cannot lead to an improving solution.</li>
+ * </ul>
+ * Since solving a linear program is costly, this propagator has the lowest priority
+ * and the linear program is solved at most once every <i>k</i> nodes.
+ * <br/>
+ * This propagator is redundant: it does not replace the linear constraints it relaxes.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    /**
+     * Tolerance used when rounding values computed by the linear program
+     */
+    private static final double TOLERANCE = 1e-6;
+
+    /**
+     * The linear relaxation, its variables are {@link #vars}, in the same order
+     */
+    private final LinearProgram lp;
+
+    /**
+     * Index of the objective variable in {@link #vars}
+     */
+    private final int obj;
+
+    /**
+     * Set to <i>true</i> if the objective variable is maximized
+     */
+    private final boolean maximize;
+
+    /**
+     * The linear program is solved at most once every <i>frequency</i> nodes
+     */
+    private final int frequency;
+
+    /**
+     * Number of nodes when the linear program was last solved
+     */
+    private long lastNode = -1;
+
+    /**
+     * Number of linear programs solved
+     */
+    private long nbSolves;
+
+    /**
+     * Create a propagator that maintains the linear relaxation of the linear constraints posted in <i>model</i>.
+     *
+     * @param model     the model to relax
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> to maximize the objective variable, <i>false</i> to minimize it
+     * @param frequency the linear program is solved at most once every <i>frequency</i> nodes
+     */
+    public PropLinearRelaxation(Model model, IntVar objective, boolean maximize, int frequency) {
+        super(collectVariables(collect(model), objective), PropagatorPriority.VERY_SLOW, false);
+        if (frequency < 1) {
+            throw new IllegalArgumentException("The frequency must be positive");
+        }
+        this.maximize = maximize;
+        this.frequency = frequency;
+        TIntIntHashMap idx = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        for (int j = 0; j < vars.length; j++) {
+            idx.put(vars[j].getId(), j);
+        }
+        this.obj = idx.get(objective.getId());
+        this.lp = new LinearProgram(false);
+        lp.makeVariables(vars.length);
+        for (Propagator<?> p : collect(model)) {
+            if (p instanceof PropSum) {
+                PropSum s = (PropSum) p;
+                HashMap<Integer, Double> row = new HashMap<>();
+                for (int i = 0; i < s.l; i++) {
+                    row.merge(idx.get(s.getVar(i).getId()), (double) s.coefficient(i), Double::sum);
+                }
+                addRow(row, s.o, s.b);
+            } else {
+                PropSumWithLong s = (PropSumWithLong) p;
+                HashMap<Integer, Double> row = new HashMap<>();
+                for (int i = 0; i < s.l; i++) {
+                    row.merge(idx.get(s.getVar(i).getId()), (double) s.coefficient(i), Double::sum);
+                }
+                addRow(row, s.o, s.b);
+            }
+        }
+        double[] c = new double[vars.length];
+        c[obj] = 1.;
+        lp.setObjective(maximize, c);
+    }
+
+    /**
+     * @param model a model
+     * @return the propagators of the linear constraints posted in <i>model</i>
+     */
+    private static List<Propagator<?>> collect(Model model) {
+        List<Propagator<?>> props = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            if (c.getStatus() != Constraint.Status.POSTED) {
+                continue;
+            }
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p instanceof PropSum && ((PropSum) p).o != Operator.NQ
+                        || p instanceof PropSumWithLong && ((PropSumWithLong) p).o != Operator.NQ) {
+                    props.add(p);
+                }
+            }
+        }
+        return props;
+    }
+
+    /**
+     * @param props     linear propagators
+     * @param objective the objective variable
+     * @return the variables involved in <i>props</i> and the objective variable, without duplicates
+     */
+    private static IntVar[] collectVariables(List<Propagator<?>> props, IntVar objective) {
+        List<IntVar> vars = new ArrayList<>();
+        TIntIntHashMap known = new TIntIntHashMap();
+        vars.add(objective);
+        known.put(objective.getId(), 0);
+        for (Propagator<?> p : props) {
+            for (int i = 0; i < p.getNbVars(); i++) {
+                IntVar v = (IntVar) p.getVar(i);
+                if (!known.containsKey(v.getId())) {
+                    known.put(v.getId(), vars.size());
+                    vars.add(v);
+                }
+            }
+        }
+        return vars.toArray(new IntVar[0]);
+    }
+
+    private void addRow(HashMap<Integer, Double> row, Operator o, double b) {
+        switch (o) {
+            case LE:
+                lp.addLeq(row, b);
+                break;
+            case LT:
+                lp.addLeq(row, b - 1);
+                break;
+            case GE:
+                lp.addGeq(row, b);
+                break;
+            case GT:
+                lp.addGeq(row, b + 1);
+                break;
+            default:
+                lp.addEq(row, b);
+                break;
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        long nodes = model.getSolver().getNodeCount();
+        if (lastNode >= 0 && nodes - lastNode < frequency) {
+            return;
+        }
+        lastNode = nodes;
+        for (int j = 0; j < vars.length; j++) {
+            lp.setBounds(j, vars[j].getLB(), vars[j].getUB());
+        }
+        nbSolves++;
+        switch (lp.simplex()) {
+            case INFEASIBLE:
+                fails();
+                break;
+            case FEASIBLE:
+                filter();
+                break;
+            default:
+                // unbounded cannot happen since all variables are bounded, do nothing otherwise
+                break;
+        }
+    }
+
+    /**
+     * Bound the objective variable with the optimal value of the linear program
+     * then apply reduced-cost fixing.
+     *
+     * @throws ContradictionException if a domain becomes empty
+     */
+    private void filter() throws ContradictionException {
+        double z = lp.objective();
+        int bound = (int) Math.floor(z + TOLERANCE);
+        double worst;
+        if (maximize) {
+            vars[obj].updateUpperBound(bound, this);
+            worst = vars[obj].getLB();
+        } else {
+            vars[obj].updateLowerBound(-bound, this);
+            worst = -vars[obj].getUB();
+        }
+        double gap = z - worst;
+        for (int j = 0; j < vars.length; j++) {
+            double d = lp.reducedCost(j);
+            if (d > TOLERANCE) {
+                // decreasing the variable by one unit degrades the objective by d
+                vars[j].updateLowerBound((int) Math.ceil(lp.value(j) - gap / d - TOLERANCE), this);
+            } else if (d < -TOLERANCE) {
+                // increasing the variable by one unit degrades the objective by -d
+                vars[j].updateUpperBound((int) Math.floor(lp.value(j) - gap / d + TOLERANCE), this);
+            }
+        }
+    }
+
+    /**
+     * @return the number of linear programs solved so far
+     */
+    public long getNbSolves() {
+        return nbSolves;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // the relaxed constraints are checked on their own
+        return isCompletelyInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        return "LinearRelaxation(" + (maximize ? "max " : "min ") + vars[obj].getName() + ")";
+    }
+}
@@ -484,6 +484,11 @@ public class PropScalar extends PropSum {
         }
     }
 
+    @Override
+    int coefficient(int i) {
+        return c[i];
+    }
+
     @Override
     protected PropSum opposite(){
         return new PropScalar(vars, c, pos, nop(o), b + nb(o));
@@ -313,6 +313,11 @@ public class PropScalarWithLong extends PropSumWithLong {
         }
     }
 
+    @Override
+    long coefficient(int i) {
+        return c[i];
+    }
+
     @Override
     protected PropScalarWithLong opposite(){
         return new PropScalarWithLong(vars, c, pos, nop(o), b + nb(o));
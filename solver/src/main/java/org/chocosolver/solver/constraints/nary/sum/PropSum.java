@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.memory.structure.StoredLongArray;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -74,6 +75,18 @@ public class PropSum extends Propagator<IntVar> {
      */
     protected final Operator o;
 
+    /**
+     * Minimum number of variables from which this propagator is advised
+     */
+    private static final int ADVISOR_MIN_CARD = 32;
+
+    /**
+     * When advised, bounds of the contributions c_i*x_i as seen by the advisor:
+     * lower ones in [0,l), upper ones in [l,2l), then their sums in 2l and 2l+1 and the maximal variability in 2l+2.
+     * Created on first filtering.
+     */
+    private StoredLongArray seen;
+
 
     /**
      * Creates a sum propagator: SUM(x_i) o b
@@ -193,6 +206,81 @@ public class PropSum extends Propagator<IntVar> {
                 filterOnEq();
                 break;
         }
+        if (seen != null || useAdvisor()) {
+            synchronize();
+        }
+    }
+
+    /**
+     * @return <i>true</i> if this propagator can be skipped when a modification cannot trigger filtering
+     * (see {@link #advise(int, int)})
+     */
+    protected boolean useAdvisor() {
+        return !reactToFineEvt && o != NQ && l >= ADVISOR_MIN_CARD;
+    }
+
+    /**
+     * Record the bounds of the contributions once filtering is done,
+     * to be updated by {@link #advise(int, int)}.
+     */
+    private void synchronize() {
+        if (seen == null) {
+            // on backtrack before the first synchronization, the maximal variability is unknown, this is always scheduled
+            seen = new StoredLongArray(model.getEnvironment(), 2 * l + 3, Long.MAX_VALUE);
+            enableAdvisor();
+        }
+        long sumLo = 0, sumHi = 0, max = 0;
+        for (int i = 0; i < l; i++) {
+            long lo = lo(i), hi = hi(i);
+            seen.set(i, lo);
+            seen.set(l + i, hi);
+            sumLo += lo;
+            sumHi += hi;
+            max = Math.max(max, hi - lo);
+        }
+        seen.set(2 * l, sumLo);
+        seen.set(2 * l + 1, sumHi);
+        seen.set(2 * l + 2, max);
+    }
+
+    private long lo(int i) {
+        int c = coefficient(i);
+        return c > 0 ? (long) c * vars[i].getLB() : (long) c * vars[i].getUB();
+    }
+
+    private long hi(int i) {
+        int c = coefficient(i);
+        return c > 0 ? (long) c * vars[i].getUB() : (long) c * vars[i].getLB();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The sums of the bounds of the contributions are updated wrt the modified variable.
+     * Since the variabilities only decrease, filtering can only occur when the slack
+     * (b - sum of lower bounds, or sum of upper bounds - b) becomes smaller than the maximal variability
+     * recorded after the last filtering.
+     * All the modifications are trailed, so this holds on backtrack.
+     * </p>
+     */
+    @Override
+    public boolean advise(int idxVarInProp, int mask) {
+        long lo = lo(idxVarInProp), hi = hi(idxVarInProp);
+        long sumLo = seen.get(2 * l) + lo - seen.get(idxVarInProp);
+        long sumHi = seen.get(2 * l + 1) + hi - seen.get(l + idxVarInProp);
+        seen.set(idxVarInProp, lo);
+        seen.set(l + idxVarInProp, hi);
+        seen.set(2 * l, sumLo);
+        seen.set(2 * l + 1, sumHi);
+        long max = seen.get(2 * l + 2);
+        switch (o) {
+            case LE:
+                return b - sumLo < max;
+            case GE:
+                return sumHi - b < max;
+            default:
+                return b - sumLo < max || sumHi - b < max;
+        }
     }
 
     /**
@@ -702,6 +790,14 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>th variable, in SUM(c_i*x_i) o b
+     */
+    int coefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
     protected PropSum opposite(){
         return new PropSum(vars, pos, nop(o), b + nb(o));
     }
@@ -91,6 +91,12 @@ public class PropSumBool extends PropSum {
         }
     }
 
+    @Override
+    protected boolean useAdvisor() {
+        // boolean sums are cheap to propagate
+        return false;
+    }
+
     @Override
     protected void prepare() {
         int i = 0, k;
@@ -61,6 +61,12 @@ public class PropSumFullBool extends PropSum {
         return IntEventType.INSTANTIATE.getMask();
     }
 
+    @Override
+    protected boolean useAdvisor() {
+        // boolean sums are cheap to propagate
+        return false;
+    }
+
     @Override
     protected void prepare() {
         int i = 0, k;
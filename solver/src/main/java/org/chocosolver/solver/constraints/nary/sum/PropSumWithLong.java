@@ -497,6 +497,14 @@ public class PropSumWithLong extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>th variable, in SUM(c_i*x_i) o b
+     */
+    long coefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
     protected PropSumWithLong opposite() {
         return new PropSumWithLong(vars, pos, nop(o), b + nb(o));
     }
@@ -13,6 +13,8 @@ import gnu.trove.map.hash.TIntIntHashMap;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.expression.continuous.relational.PropEquation;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
 
@@ -24,7 +26,7 @@ import java.util.regex.Pattern;
 import static org.chocosolver.solver.constraints.ConstraintsName.REALCONSTRAINT;
 
 /**
- * A constraint on real variables, solved using IBEX. <br/>
+ * A constraint on real variables, solved using IBEX, or with HC4 and BC when IBEX is disabled. <br/>
  *
  * @author Charles Prud'homme, Jean-Guillaume Fages
  * @since 18/07/12
@@ -39,12 +41,13 @@ public class RealConstraint extends Constraint {
     //***********************************************************************************
 
     /**
-     * Make a new RealConstraint defined as a set of RealPropagators
+     * Make a new RealConstraint defined as a set of propagators,
+     * either {@link RealPropagator}s or {@link PropEquation}s.
      *
      * @param name        name of the constraint
      * @param propagators set of propagators defining the constraint
      */
-    private RealConstraint(String name, RealPropagator... propagators) {
+    private RealConstraint(String name, Propagator<?>... propagators) {
         super(name, propagators);
     }
 
@@ -81,7 +84,9 @@ public class RealConstraint extends Constraint {
 
     /**
      * Creates a RealPropagator to propagate one or more continuous functions, separated with
-     * semi-colon ";" Each function is set to a single propagator. <br/> A function is a string
+     * semi-colon ";" Each function is set to a single propagator.
+     * When Ibex is disabled (see {@link org.chocosolver.solver.Settings#enableIbex()}),
+     * each function is parsed and propagated by a {@link PropEquation} instead. <br/> A function is a string
      * declared using the following format: <br/>- the '{i}' tag defines a variable, where 'i' is an
      * explicit index the array of variables <code>vars</code>, <br/>- one or more operators
      * :'+,-,*,/,=,<,>,<=,>=,exp( ),ln( ),max( ),min( ),abs( ),cos( ), sin( ),...' <br/> A complete
@@ -99,9 +104,17 @@ public class RealConstraint extends Constraint {
      * @param rvars     a list of real variables
      * @return a RealPropagator to propagate the given functions over given variable domains
      */
-    private static RealPropagator[] createPropagator(String functions, double contractionRatio, Variable... rvars) {
+    private static Propagator<?>[] createPropagator(String functions, double contractionRatio, Variable... rvars) {
         // split functions to correctly maintain indices of contractors
         String[] theFunctions = functions.split(";");
+        if (!rvars[0].getModel().getSettings().enableIbex()) {
+            RealFunctionParser parser = new RealFunctionParser(rvars);
+            PropEquation[] props = new PropEquation[theFunctions.length];
+            for (int i = 0; i < props.length; i++) {
+                props[i] = parser.parse(theFunctions[i]);
+            }
+            return props;
+        }
         RealPropagator[] props = new RealPropagator[theFunctions.length];
         List<Variable> vars = new ArrayList<>();
         TIntIntHashMap sidx = new TIntIntHashMap();
@@ -140,6 +153,10 @@ public class RealConstraint extends Constraint {
      * @param bool the variable to reify with
      */
     public void reifyWith(BoolVar bool) {
+        if (!(propagators[0] instanceof RealPropagator)) {
+            super.reifyWith(bool);
+            return;
+        }
         Model s = propagators[0].getModel();
         getOpposite();
         if (boolReif == null) {
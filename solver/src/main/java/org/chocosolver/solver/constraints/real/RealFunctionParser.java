@@ -0,0 +1,385 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.real;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
+import org.chocosolver.solver.expression.continuous.relational.CReExpression;
+import org.chocosolver.solver.expression.continuous.relational.PropEquation;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.impl.FixedRealVarImpl;
+import org.chocosolver.solver.variables.view.RealView;
+import org.chocosolver.util.tools.RealUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A parser that turns a function declared with the IBEX syntax into a {@link PropEquation},
+ * that is, a pure-Java propagator based on HC4 and BC.
+ * <br/>
+ * The following grammar is supported:
+ * <pre>
+ * function := expr ('=' | '&lt;=' | '&gt;=' | '&lt;' | '&gt;') expr
+ * expr     := term (('+' | '-') term)*
+ * term     := unary (('*' | '/') unary)*
+ * unary    := ('-' | '+') unary | power
+ * power    := primary ('^' unary)?
+ * primary  := number | '{' index '}' | '[' number ',' number ']' | 'pi' | name '(' expr (',' expr)* ')' | '(' expr ')'
+ * </pre>
+ * where <i>name</i> is one of: exp, ln, log, sqr, sqrt, abs, min, max, cos, sin, tan, acos, asin, atan,
+ * cosh, sinh, tanh, acosh, asinh, atanh or atan2.
+ * A number which is not exactly representable as a double is enclosed by its two closest doubles.
+ * Integer variables are viewed as real variables.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+final class RealFunctionParser {
+
+    /**
+     * Precision of the real views created over integer variables
+     */
+    private static final double PRECISION = 1e-8;
+
+    private final Model model;
+    private final Variable[] vars;
+    /**
+     * Lazily created real variables, or views, matching {@link #vars}
+     */
+    private final RealVar[] leaves;
+
+    private String fct;
+    private int pos;
+
+    /**
+     * @param vars the variables referenced in functions with the '{i}' tag
+     */
+    RealFunctionParser(Variable... vars) {
+        this.model = vars[0].getModel();
+        this.vars = vars;
+        this.leaves = new RealVar[vars.length];
+    }
+
+    /**
+     * Parses a single function, that is, one without any semi-colon.
+     *
+     * @param function a function declared with the IBEX syntax
+     * @return a propagator for <i>function</i>
+     * @throws SolverException if <i>function</i> cannot be parsed
+     */
+    PropEquation parse(String function) {
+        this.fct = function;
+        this.pos = 0;
+        CArExpression left = expr();
+        CReExpression.Operator op = relation();
+        CArExpression right = expr();
+        skipSpaces();
+        if (pos < fct.length()) {
+            throw error("unexpected character");
+        }
+        CArExpression exp = left.sub(right);
+        TreeSet<RealVar> involved = new TreeSet<>();
+        exp.collectVariables(involved);
+        return new PropEquation(involved.toArray(new RealVar[0]), exp, op);
+    }
+
+    private CReExpression.Operator relation() {
+        skipSpaces();
+        if (eat('=')) {
+            return CReExpression.Operator.EQ;
+        } else if (eat('<')) {
+            return eat('=') ? CReExpression.Operator.LE : CReExpression.Operator.LT;
+        } else if (eat('>')) {
+            return eat('=') ? CReExpression.Operator.GE : CReExpression.Operator.GT;
+        }
+        throw error("relation expected");
+    }
+
+    private CArExpression expr() {
+        CArExpression e = term();
+        while (true) {
+            skipSpaces();
+            if (eat('+')) {
+                e = e.add(term());
+            } else if (eat('-')) {
+                e = e.sub(term());
+            } else {
+                return e;
+            }
+        }
+    }
+
+    private CArExpression term() {
+        CArExpression e = unary();
+        while (true) {
+            skipSpaces();
+            if (eat('*')) {
+                e = e.mul(unary());
+            } else if (eat('/')) {
+                e = e.div(unary());
+            } else {
+                return e;
+            }
+        }
+    }
+
+    private CArExpression unary() {
+        skipSpaces();
+        if (eat('-')) {
+            return unary().neg();
+        } else if (eat('+')) {
+            return unary();
+        }
+        return power();
+    }
+
+    private CArExpression power() {
+        CArExpression e = primary();
+        skipSpaces();
+        if (eat('^')) {
+            return e.pow(unary());
+        }
+        return e;
+    }
+
+    private CArExpression primary() {
+        skipSpaces();
+        if (pos == fct.length()) {
+            throw error("unexpected end of function");
+        }
+        char c = fct.charAt(pos);
+        if (eat('(')) {
+            CArExpression e = expr();
+            expect(')');
+            return e;
+        } else if (eat('{')) {
+            int start = pos;
+            while (pos < fct.length() && Character.isDigit(fct.charAt(pos))) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("variable index expected");
+            }
+            int idx = Integer.parseInt(fct.substring(start, pos));
+            expect('}');
+            return leaf(idx);
+        } else if (eat('[')) {
+            double lb = signedNumber(false);
+            expect(',');
+            double ub = signedNumber(true);
+            expect(']');
+            return new FixedRealVarImpl("[" + lb + "," + ub + "]", lb, ub, model);
+        } else if (Character.isDigit(c) || c == '.') {
+            BigDecimal exact = number();
+            double lb = round(exact, false);
+            double ub = round(exact, true);
+            return lb == ub ? model.realVar(lb) : new FixedRealVarImpl(exact.toString(), lb, ub, model);
+        } else if (Character.isLetter(c)) {
+            return function(name());
+        }
+        throw error("unexpected character");
+    }
+
+    private CArExpression function(String name) {
+        if (name.equals("pi")) {
+            return new FixedRealVarImpl("pi", RealUtils.prevFloat(Math.PI), RealUtils.nextFloat(Math.PI), model);
+        }
+        if (name.equals("oo")) {
+            return model.realVar(Double.POSITIVE_INFINITY);
+        }
+        List<CArExpression> args = new ArrayList<>();
+        expect('(');
+        args.add(expr());
+        skipSpaces();
+        while (eat(',')) {
+            args.add(expr());
+            skipSpaces();
+        }
+        expect(')');
+        CArExpression x = args.get(0);
+        switch (name) {
+            case "min":
+                return x.min(arg(args, 1, name));
+            case "max":
+                return x.max(arg(args, 1, name));
+            case "atan2":
+                return x.atan2(arg(args, 1, name));
+        }
+        if (args.size() != 1) {
+            throw error(name + " expects one argument");
+        }
+        switch (name) {
+            case "exp":
+                return x.exp();
+            case "ln":
+            case "log":
+                return x.ln();
+            case "sqr":
+                return x.sqr();
+            case "sqrt":
+                return x.sqrt();
+            case "abs":
+                return x.abs();
+            case "cos":
+                return x.cos();
+            case "sin":
+                return x.sin();
+            case "tan":
+                return x.tan();
+            case "acos":
+                return x.acos();
+            case "asin":
+                return x.asin();
+            case "atan":
+                return x.atan();
+            case "cosh":
+                return x.cosh();
+            case "sinh":
+                return x.sinh();
+            case "tanh":
+                return x.tanh();
+            case "acosh":
+                return x.acosh();
+            case "asinh":
+                return x.asinh();
+            case "atanh":
+                return x.atanh();
+            default:
+                throw error("unknown function " + name);
+        }
+    }
+
+    private CArExpression arg(List<CArExpression> args, int i, String name) {
+        if (args.size() != 2) {
+            throw error(name + " expects two arguments");
+        }
+        return args.get(i);
+    }
+
+    private RealVar leaf(int idx) {
+        if (idx >= vars.length) {
+            throw error("unknown variable {" + idx + "}");
+        }
+        if (leaves[idx] == null) {
+            if (vars[idx] instanceof RealVar) {
+                leaves[idx] = (RealVar) vars[idx];
+            } else if (vars[idx] instanceof IntVar) {
+                // the view is created directly, Model#realIntView() may rely on this parser otherwise
+                leaves[idx] = new RealView<>((IntVar) vars[idx], PRECISION);
+            } else {
+                throw error("{" + idx + "} is neither a real nor an integer variable");
+            }
+        }
+        return leaves[idx];
+    }
+
+    /**
+     * @param up set to <i>true</i> to round the number up, <i>false</i> to round it down
+     */
+    private double signedNumber(boolean up) {
+        skipSpaces();
+        boolean neg = eat('-');
+        if (!neg) {
+            eat('+');
+        }
+        skipSpaces();
+        if (pos < fct.length() && Character.isLetter(fct.charAt(pos))) {
+            String n = name();
+            if (!n.equals("oo")) {
+                throw error("number expected");
+            }
+            return neg ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        BigDecimal exact = number();
+        return round(neg ? exact.negate() : exact, up);
+    }
+
+    /**
+     * @param exact a decimal number
+     * @param up    set to <i>true</i> to round the number up, <i>false</i> to round it down
+     * @return the smallest double greater than or equal to <i>exact</i> if <i>up</i> is set,
+     * the greatest double lower than or equal to <i>exact</i> otherwise
+     */
+    private static double round(BigDecimal exact, boolean up) {
+        double v = exact.doubleValue();
+        if (Double.isInfinite(v)) {
+            return up == v > 0 ? v : Math.copySign(Double.MAX_VALUE, v);
+        }
+        int cmp = new BigDecimal(v).compareTo(exact);
+        if (up && cmp < 0) {
+            return RealUtils.nextFloat(v);
+        }
+        if (!up && cmp > 0) {
+            return RealUtils.prevFloat(v);
+        }
+        return v;
+    }
+
+    private BigDecimal number() {
+        skipSpaces();
+        int start = pos;
+        while (pos < fct.length() && (Character.isDigit(fct.charAt(pos)) || fct.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < fct.length() && (fct.charAt(pos) == 'e' || fct.charAt(pos) == 'E')) {
+            pos++;
+            if (pos < fct.length() && (fct.charAt(pos) == '-' || fct.charAt(pos) == '+')) {
+                pos++;
+            }
+            while (pos < fct.length() && Character.isDigit(fct.charAt(pos))) {
+                pos++;
+            }
+        }
+        try {
+            return new BigDecimal(fct.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("number expected");
+        }
+    }
+
+    private String name() {
+        int start = pos;
+        while (pos < fct.length() && Character.isLetterOrDigit(fct.charAt(pos))) {
+            pos++;
+        }
+        return fct.substring(start, pos);
+    }
+
+    private void skipSpaces() {
+        while (pos < fct.length() && Character.isWhitespace(fct.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private boolean eat(char c) {
+        if (pos < fct.length() && fct.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        skipSpaces();
+        if (!eat(c)) {
+            throw error("'" + c + "' expected");
+        }
+    }
+
+    private SolverException error(String msg) {
+        return new SolverException("Unable to parse \"" + fct + "\" at position " + pos + ": " + msg);
+    }
+}
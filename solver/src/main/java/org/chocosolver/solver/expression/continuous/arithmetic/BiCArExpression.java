@@ -69,7 +69,7 @@ public class BiCArExpression implements CArExpression {
         this.op = op;
         this.e1 = e1;
         this.e2 = e2;
-        this.model = e1.getModel();
+        this.model = e1.getModel() != null ? e1.getModel() : e2.getModel();
     }
 
     @Override
@@ -169,7 +169,15 @@ public class BiCArExpression implements CArExpression {
                 );
                 break;
             case POW:
+                if (isIntegerConstant(e2)) {
+                    res = RealUtils.pow(e1, (int) e2.getLB());
+                } else {
+                    res = RealUtils.pow(e1, e2);
+                }
+                break;
             case ATAN2:
+                res = RealUtils.atan2(e1, e2);
+                break;
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
@@ -217,12 +225,63 @@ public class BiCArExpression implements CArExpression {
                 }
                 break;
             case POW:
+                if (isIntegerConstant(e2)) {
+                    projectIntegerPower((int) e2.getLB(), cause);
+                } else {
+                    // x^y = exp(y * ln(x)), defined for positive x only
+                    e1.intersect(0., Double.POSITIVE_INFINITY, cause);
+                    RealInterval ln = RealUtils.ln(this);
+                    if (e2.getLB() > 0. || e2.getUB() < 0.) {
+                        e1.intersect(RealUtils.exp(RealUtils.odiv(ln, e2)), cause);
+                    }
+                    RealInterval lx = RealUtils.ln(e1);
+                    if (lx.getLB() > 0. || lx.getUB() < 0.) {
+                        e2.intersect(RealUtils.odiv(ln, lx), cause);
+                    }
+                }
+                break;
             case ATAN2:
+                // only the right half-plane is handled: y = x * tan(atan2(y,x))
+                if (e2.getLB() > 0.) {
+                    e1.intersect(RealUtils.mul(e2, RealUtils.tan(this)), cause);
+                }
+                break;
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
     }
 
+    /**
+     * Project this = e1^p on e1, where p is an integer.
+     *
+     * @param p     the exponent
+     * @param cause the cause of the modification
+     * @throws ContradictionException if e1 becomes empty
+     */
+    private void projectIntegerPower(int p, ICause cause) throws ContradictionException {
+        RealInterval res = this;
+        if (p == 0) {
+            return;
+        } else if (p < 0) {
+            res = RealUtils.pow(this, -1);
+            p = -p;
+        }
+        if (res.getLB() > res.getUB()) {
+            model.getSolver().throwsException(cause, null, "");
+        }
+        if (p == 1) {
+            e1.intersect(res, cause);
+        } else if (p % 2 == 0) {
+            if (res.getUB() < 0.) {
+                // an even power cannot be negative
+                model.getSolver().throwsException(cause, null, "");
+            }
+            e1.intersect(RealUtils.iRoot(res, p, e1), cause);
+        } else {
+            e1.intersect(RealUtils.iRoot(res, p), cause);
+        }
+    }
+
     @Override
     public void collectVariables(TreeSet<RealVar> set) {
         e1.collectVariables(set);
@@ -288,4 +347,8 @@ public class BiCArExpression implements CArExpression {
     private boolean isIntegerConstant(RealVar realVar) {
         return realVar.isAConstant() && Math.rint(realVar.getLB()) == realVar.getLB();
     }
+
+    private static boolean isIntegerConstant(CArExpression e) {
+        return e.getLB() == e.getUB() && Math.rint(e.getLB()) == e.getLB();
+    }
 }
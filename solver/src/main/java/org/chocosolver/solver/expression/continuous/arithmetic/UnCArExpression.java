@@ -205,17 +205,41 @@ public class UnCArExpression implements CArExpression {
                 }
                 break;
             case EXP:
+                res = RealUtils.exp(e);
+                break;
             case LN:
+                res = RealUtils.ln(e);
+                break;
             case TAN:
+                res = RealUtils.tan(e);
+                break;
             case ACOS:
+                res = RealUtils.acos(e);
+                break;
             case ASIN:
+                res = RealUtils.asin(e);
+                break;
             case ATAN:
+                res = RealUtils.atan(e);
+                break;
             case COSH:
+                res = RealUtils.cosh(e);
+                break;
             case SINH:
+                res = RealUtils.sinh(e);
+                break;
             case TANH:
+                res = RealUtils.tanh(e);
+                break;
             case ACOSH:
+                res = RealUtils.acosh(e);
+                break;
             case ASINH:
+                res = RealUtils.asinh(e);
+                break;
             case ATANH:
+                res = RealUtils.atanh(e);
+                break;
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
@@ -252,17 +276,41 @@ public class UnCArExpression implements CArExpression {
                 res = new RealIntervalConstant(-this.getUB(), this.getUB());
                 break;
             case EXP:
+                res = RealUtils.ln(this);
+                break;
             case LN:
+                res = RealUtils.exp(this);
+                break;
             case TAN:
+                res = RealUtils.atan_wrt(this, e);
+                break;
             case ACOS:
+                res = RealUtils.cos(new RealIntervalConstant(Math.max(0., getLB()), Math.min(Math.PI, getUB())));
+                break;
             case ASIN:
+                res = RealUtils.sin(new RealIntervalConstant(Math.max(-Math.PI / 2, getLB()), Math.min(Math.PI / 2, getUB())));
+                break;
             case ATAN:
+                res = RealUtils.tan(this);
+                break;
             case COSH:
+                res = RealUtils.acosh_wrt(this, e);
+                break;
             case SINH:
+                res = RealUtils.asinh(this);
+                break;
             case TANH:
+                res = RealUtils.atanh(this);
+                break;
             case ACOSH:
+                res = RealUtils.cosh(new RealIntervalConstant(Math.max(0., getLB()), getUB()));
+                break;
             case ASINH:
+                res = RealUtils.sinh(this);
+                break;
             case ATANH:
+                res = RealUtils.tanh(this);
+                break;
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
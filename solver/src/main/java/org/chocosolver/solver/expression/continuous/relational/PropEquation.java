@@ -15,6 +15,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
 import org.chocosolver.solver.expression.continuous.arithmetic.RealIntervalConstant;
 import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.view.RealView;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.RealInterval;
 import org.chocosolver.util.tools.RealUtils;
@@ -68,7 +69,10 @@ public class PropEquation extends Propagator<RealVar> {
 
         for (int i = 0; i < vars.length; i++) {
             RealVar var = vars[i];
-            this.addBoxedVar(var);
+            // box consistency relies on silent assignments, which neither constants nor views support
+            if (!var.isAConstant() && !(var instanceof RealView)) {
+                this.addBoxedVar(var);
+            }
         }
 
         exp.init();
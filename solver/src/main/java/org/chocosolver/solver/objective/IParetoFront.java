@@ -0,0 +1,94 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A set of mutually non-dominated points (to be maximized), each of them being attached to a payload.
+ * <p>
+ * A point <i>a</i> weakly dominates a point <i>b</i> when <i>a[j] &ge; b[j]</i> for every objective <i>j</i>.
+ * </p>
+ *
+ * @param <T> type of the payload attached to each point
+ * @author agent
+ * @since 18/10/2026
+ */
+public interface IParetoFront<T> {
+
+    /**
+     * Insert <i>point</i> in the front, unless it is strictly dominated by a point of the front.
+     * All the points of the front weakly dominated by <i>point</i> (including an equal one) are removed first
+     * and their payload is passed to <i>onRemoval</i>.
+     * <p>
+     * The front keeps a reference to <i>point</i>, which must not be modified afterwards.
+     * </p>
+     *
+     * @param point     the point to insert
+     * @param payload   the object attached to <i>point</i>
+     * @param onRemoval called on each payload removed from the front
+     * @return <i>true</i> if <i>point</i> has been added to the front,
+     * <i>false</i> if it is strictly dominated by a point of the front (the front is then unchanged)
+     */
+    boolean add(int[] point, T payload, Consumer<T> onRemoval);
+
+    /**
+     * @param point a point
+     * @return <i>true</i> if a point of the front weakly dominates <i>point</i>
+     */
+    boolean dominates(int[] point);
+
+    /**
+     * Compute the tightest point for objective <i>i</i> with respect to <i>dp</i>.
+     * Consider each point <i>p</i> of the front which dominates <i>dp</i> (<i>p &ge; dp</i> and <i>p &ne; dp</i>):
+     * its value is <i>p[i]</i> if <i>p[j] = dp[j]</i> for all <i>j &ne; i</i>, <i>p[i] + 1</i> otherwise.
+     *
+     * @param dp a point, typically (obj_1_max,...,obj_i_min,...,obj_m_max)
+     * @param i  index of the objective
+     * @return the largest value over the points dominating <i>dp</i>,
+     * or {@link Integer#MIN_VALUE} if no point of the front dominates <i>dp</i>
+     */
+    int tightestPoint(int[] dp, int i);
+
+    /**
+     * @return the number of points in the front
+     */
+    int size();
+
+    /**
+     * @return <i>true</i> if the front contains no point
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Perform <i>action</i> on each point of the front and its payload, in no particular order.
+     *
+     * @param action action to perform
+     */
+    void forEach(BiConsumer<int[], T> action);
+
+    /**
+     * Create the most suitable front for <i>n</i> objectives:
+     * a {@link SkylineParetoFront} for two objectives, a {@link NDTreeParetoFront} otherwise.
+     *
+     * @param n   number of objectives
+     * @param <T> type of the payloads
+     * @return a new empty front
+     */
+    static <T> IParetoFront<T> make(int n) {
+        if (n == 2) {
+            return new SkylineParetoFront<>();
+        }
+        return new NDTreeParetoFront<>(n);
+    }
+}
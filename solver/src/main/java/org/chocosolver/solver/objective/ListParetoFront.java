@@ -0,0 +1,83 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A Pareto front stored in a list and scanned linearly on each query.
+ * Fine for small fronts, and used as a reference to the indexed ones.
+ *
+ * @param <T> type of the payload attached to each point
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ListParetoFront<T> implements IParetoFront<T> {
+
+    private final List<int[]> points = new ArrayList<>();
+    private final List<T> payloads = new ArrayList<>();
+
+    @Override
+    public boolean add(int[] point, T payload, Consumer<T> onRemoval) {
+        for (int[] p : points) {
+            if (ParetoUtils.strictlyDominates(p, point)) {
+                return false;
+            }
+        }
+        int k = 0;
+        for (int i = 0; i < points.size(); i++) {
+            if (ParetoUtils.weaklyDominates(point, points.get(i))) {
+                onRemoval.accept(payloads.get(i));
+            } else {
+                points.set(k, points.get(i));
+                payloads.set(k++, payloads.get(i));
+            }
+        }
+        points.subList(k, points.size()).clear();
+        payloads.subList(k, payloads.size()).clear();
+        points.add(point);
+        payloads.add(payload);
+        return true;
+    }
+
+    @Override
+    public boolean dominates(int[] point) {
+        for (int[] p : points) {
+            if (ParetoUtils.weaklyDominates(p, point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int tightestPoint(int[] dp, int i) {
+        int tightestPoint = Integer.MIN_VALUE;
+        for (int[] p : points) {
+            tightestPoint = Math.max(tightestPoint, ParetoUtils.tightestValue(p, dp, i));
+        }
+        return tightestPoint;
+    }
+
+    @Override
+    public int size() {
+        return points.size();
+    }
+
+    @Override
+    public void forEach(BiConsumer<int[], T> action) {
+        for (int i = 0; i < points.size(); i++) {
+            action.accept(points.get(i), payloads.get(i));
+        }
+    }
+}
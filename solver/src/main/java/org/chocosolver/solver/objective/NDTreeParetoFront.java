@@ -0,0 +1,416 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A Pareto front of any number of objectives indexed by a ND-tree.
+ * <p>
+ * Based on "ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance Problem",
+ * A. Jaszkiewicz, T. Lust (IEEE Transactions on Evolutionary Computation, 2018).
+ * </p>
+ * <p>
+ * Each node maintains the ideal (component-wise maximum) and the nadir (component-wise minimum)
+ * of the points of its subtree.
+ * A subtree is skipped as soon as its ideal point cannot dominate the query point,
+ * or its nadir point cannot be dominated by it, and is entirely removed when the new point dominates its ideal point.
+ * Leaves hold at most {@code maxLeafSize} points; a full leaf is split into <i>n + 1</i> leaves,
+ * gathered around points far from each other.
+ * </p>
+ *
+ * @param <T> type of the payload attached to each point
+ * @author agent
+ * @since 18/10/2026
+ */
+public class NDTreeParetoFront<T> implements IParetoFront<T> {
+
+    private final int n;
+    private final int maxLeafSize;
+    private final int nbChildren;
+    private final Node root;
+    private int size;
+
+    /**
+     * @param n number of objectives
+     */
+    public NDTreeParetoFront(int n) {
+        this(n, 20);
+    }
+
+    /**
+     * @param n           number of objectives
+     * @param maxLeafSize maximum number of points in a leaf
+     */
+    public NDTreeParetoFront(int n, int maxLeafSize) {
+        if (maxLeafSize < 2) {
+            throw new IllegalArgumentException("A leaf should be able to store at least 2 points");
+        }
+        this.n = n;
+        this.maxLeafSize = maxLeafSize;
+        this.nbChildren = Math.min(n + 1, maxLeafSize + 1);
+        this.root = newNode();
+    }
+
+    private Node newNode() {
+        return new Node(n, maxLeafSize + 1);
+    }
+
+    @Override
+    public boolean add(int[] point, T payload, Consumer<T> onRemoval) {
+        if (isStrictlyDominated(root, point)) {
+            return false;
+        }
+        removeDominated(root, point, onRemoval);
+        insert(point, payload);
+        return true;
+    }
+
+    @Override
+    public boolean dominates(int[] point) {
+        return isWeaklyDominated(root, point);
+    }
+
+    @Override
+    public int tightestPoint(int[] dp, int i) {
+        return tightestPoint(root, dp, i, Integer.MIN_VALUE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(BiConsumer<int[], T> action) {
+        forEach(root, action);
+    }
+
+    private boolean isStrictlyDominated(Node node, int[] point) {
+        if (node.isEmpty() || !ParetoUtils.weaklyDominates(node.ideal, point)) {
+            return false;
+        }
+        if (ParetoUtils.strictlyDominates(node.nadir, point)) {
+            return true;
+        }
+        if (node.isLeaf()) {
+            for (int p = 0; p < node.size; p++) {
+                if (ParetoUtils.strictlyDominates(node.points[p], point)) {
+                    return true;
+                }
+            }
+        } else {
+            for (int c = 0; c < node.size; c++) {
+                if (isStrictlyDominated(node.children[c], point)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isWeaklyDominated(Node node, int[] point) {
+        if (node.isEmpty() || !ParetoUtils.weaklyDominates(node.ideal, point)) {
+            return false;
+        }
+        if (ParetoUtils.weaklyDominates(node.nadir, point)) {
+            return true;
+        }
+        if (node.isLeaf()) {
+            for (int p = 0; p < node.size; p++) {
+                if (ParetoUtils.weaklyDominates(node.points[p], point)) {
+                    return true;
+                }
+            }
+        } else {
+            for (int c = 0; c < node.size; c++) {
+                if (isWeaklyDominated(node.children[c], point)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove from the subtree rooted in <i>node</i> the points weakly dominated by <i>point</i>.
+     *
+     * @return <i>true</i> if at least one point has been removed
+     */
+    @SuppressWarnings("unchecked")
+    private boolean removeDominated(Node node, int[] point, Consumer<T> onRemoval) {
+        if (node.isEmpty() || !ParetoUtils.weaklyDominates(point, node.nadir)) {
+            return false;
+        }
+        if (ParetoUtils.weaklyDominates(point, node.ideal)) {
+            forEach(node, (p, t) -> onRemoval.accept(t));
+            size -= count(node);
+            if (node == root) {
+                node.clear();
+            } else {
+                // the parent drops it
+                node.size = 0;
+            }
+            return true;
+        }
+        int k = 0;
+        boolean changed = false;
+        if (node.isLeaf()) {
+            for (int p = 0; p < node.size; p++) {
+                if (ParetoUtils.weaklyDominates(point, node.points[p])) {
+                    onRemoval.accept((T) node.payloads[p]);
+                } else {
+                    node.points[k] = node.points[p];
+                    node.payloads[k++] = node.payloads[p];
+                }
+            }
+            Arrays.fill(node.points, k, node.size, null);
+            Arrays.fill(node.payloads, k, node.size, null);
+            size -= node.size - k;
+            changed = k < node.size;
+        } else {
+            for (int c = 0; c < node.size; c++) {
+                Node child = node.children[c];
+                changed |= removeDominated(child, point, onRemoval);
+                if (!child.isEmpty()) {
+                    node.children[k++] = child;
+                }
+            }
+            Arrays.fill(node.children, k, node.size, null);
+        }
+        node.size = k;
+        if (k == 0 && node == root) {
+            node.clear();
+        } else if (changed) {
+            node.updateBounds();
+        }
+        return changed;
+    }
+
+    private void insert(int[] point, T payload) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node.extendBounds(point);
+            Node closest = node.children[0];
+            double best = closest.distance(point);
+            for (int c = 1; c < node.size; c++) {
+                double d = node.children[c].distance(point);
+                if (d < best) {
+                    best = d;
+                    closest = node.children[c];
+                }
+            }
+            node = closest;
+        }
+        node.extendBounds(point);
+        node.points[node.size] = point;
+        node.payloads[node.size++] = payload;
+        size++;
+        if (node.size > maxLeafSize) {
+            split(node);
+        }
+    }
+
+    /**
+     * Turn the leaf <i>node</i> into an internal node with {@link #nbChildren} leaves.
+     * The first seed is the point with the largest distance to the others,
+     * each next seed is the point the farthest from the seeds already selected.
+     * The other points then go to the closest leaf.
+     */
+    private void split(Node node) {
+        int m = node.size;
+        int[][] points = node.points;
+        Object[] payloads = node.payloads;
+        double[] dist = new double[m];
+        for (int p = 0; p < m; p++) {
+            for (int q = p + 1; q < m; q++) {
+                double d = distance(points[p], points[q]);
+                dist[p] += d;
+                dist[q] += d;
+            }
+        }
+        boolean[] seed = new boolean[m];
+        int s = argmax(dist, seed);
+        Node[] children = new Node[nbChildren];
+        for (int c = 0; c < nbChildren; c++) {
+            seed[s] = true;
+            children[c] = newNode();
+            children[c].add(points[s], payloads[s]);
+            if (c + 1 < nbChildren) {
+                for (int p = 0; p < m; p++) {
+                    double d = distance(points[p], points[s]);
+                    dist[p] = c == 0 ? d : Math.min(dist[p], d);
+                }
+                s = argmax(dist, seed);
+            }
+        }
+        for (int p = 0; p < m; p++) {
+            if (!seed[p]) {
+                Node closest = children[0];
+                double best = closest.distance(points[p]);
+                for (int c = 1; c < nbChildren; c++) {
+                    double d = children[c].distance(points[p]);
+                    if (d < best) {
+                        best = d;
+                        closest = children[c];
+                    }
+                }
+                closest.add(points[p], payloads[p]);
+            }
+        }
+        node.points = null;
+        node.payloads = null;
+        node.children = children;
+        node.size = nbChildren;
+    }
+
+    private static int argmax(double[] values, boolean[] excluded) {
+        int best = -1;
+        for (int p = 0; p < values.length; p++) {
+            if (!excluded[p] && (best == -1 || values[p] > values[best])) {
+                best = p;
+            }
+        }
+        return best;
+    }
+
+    private static double distance(int[] a, int[] b) {
+        double d = 0;
+        for (int j = 0; j < a.length; j++) {
+            double delta = (double) a[j] - b[j];
+            d += delta * delta;
+        }
+        return d;
+    }
+
+    private int tightestPoint(Node node, int[] dp, int i, int best) {
+        // no point of the subtree can exceed ideal[i] + 1
+        if (node.isEmpty() || node.ideal[i] < best || !ParetoUtils.weaklyDominates(node.ideal, dp)) {
+            return best;
+        }
+        if (node.isLeaf()) {
+            for (int p = 0; p < node.size; p++) {
+                best = Math.max(best, ParetoUtils.tightestValue(node.points[p], dp, i));
+            }
+        } else {
+            for (int c = 0; c < node.size; c++) {
+                best = tightestPoint(node.children[c], dp, i, best);
+            }
+        }
+        return best;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEach(Node node, BiConsumer<int[], T> action) {
+        if (node.isLeaf()) {
+            for (int p = 0; p < node.size; p++) {
+                action.accept(node.points[p], (T) node.payloads[p]);
+            }
+        } else {
+            for (int c = 0; c < node.size; c++) {
+                forEach(node.children[c], action);
+            }
+        }
+    }
+
+    private int count(Node node) {
+        if (node.isLeaf()) {
+            return node.size;
+        }
+        int cnt = 0;
+        for (int c = 0; c < node.size; c++) {
+            cnt += count(node.children[c]);
+        }
+        return cnt;
+    }
+
+    /**
+     * A node of the ND-tree, either a leaf storing points or an internal node storing children.
+     */
+    private static final class Node {
+        private final int[] ideal;
+        private final int[] nadir;
+        private final int capacity;
+        // internal node only
+        private Node[] children;
+        // leaf only
+        private int[][] points;
+        private Object[] payloads;
+        // number of points of a leaf, or number of children of an internal node
+        private int size;
+
+        Node(int n, int capacity) {
+            this.ideal = new int[n];
+            this.nadir = new int[n];
+            this.capacity = capacity;
+            clear();
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Turn this node into an empty leaf.
+         */
+        void clear() {
+            children = null;
+            points = new int[capacity][];
+            payloads = new Object[capacity];
+            size = 0;
+            Arrays.fill(ideal, Integer.MIN_VALUE);
+            Arrays.fill(nadir, Integer.MAX_VALUE);
+        }
+
+        void add(int[] point, Object payload) {
+            extendBounds(point);
+            points[size] = point;
+            payloads[size++] = payload;
+        }
+
+        void extendBounds(int[] point) {
+            for (int j = 0; j < ideal.length; j++) {
+                ideal[j] = Math.max(ideal[j], point[j]);
+                nadir[j] = Math.min(nadir[j], point[j]);
+            }
+        }
+
+        void updateBounds() {
+            Arrays.fill(ideal, Integer.MIN_VALUE);
+            Arrays.fill(nadir, Integer.MAX_VALUE);
+            for (int c = 0; c < size; c++) {
+                if (isLeaf()) {
+                    extendBounds(points[c]);
+                } else {
+                    extendBounds(children[c].ideal);
+                    extendBounds(children[c].nadir);
+                }
+            }
+        }
+
+        /**
+         * @return the squared distance between <i>point</i> and the middle of the bounding box of this node
+         */
+        double distance(int[] point) {
+            double d = 0;
+            for (int j = 0; j < ideal.length; j++) {
+                double delta = ((double) ideal[j] + nadir[j]) / 2 - point[j];
+                d += delta * delta;
+            }
+            return d;
+        }
+    }
+}
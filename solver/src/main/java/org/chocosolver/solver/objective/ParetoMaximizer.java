@@ -38,9 +38,8 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     // VARIABLES
     //***********************************************************************************
 
-    // Set of incomparable and Pareto-best solutions
-    private final List<Solution> paretoSolutions;
-    private final List<int[]> paretoFront;
+    // Set of incomparable and Pareto-best solutions, indexed by their objective values
+    private final IParetoFront<Solution> paretoFront;
 
     private final Model model;
 
@@ -49,9 +48,9 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
 
     // objective function
     private final IntVar[] objectives;
-    private final int n;
 
-    //private final int[] vals;
+    // the dominated point DP_i, reused from one objective to the other
+    private final int[] dominatedPoint;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -70,13 +69,23 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoMaximizer(final IntVar[] objectives) {
+        this(objectives, IParetoFront.make(objectives.length));
+    }
+
+    /**
+     * Create an object to compute the Pareto front of a multi-objective problem,
+     * the front being stored in <i>paretoFront</i>.
+     *
+     * @param objectives  objective variables (must all be optimized in the same direction)
+     * @param paretoFront an empty structure to store the front in
+     * @see #ParetoMaximizer(IntVar[])
+     */
+    public ParetoMaximizer(final IntVar[] objectives, final IParetoFront<Solution> paretoFront) {
         super(objectives, PropagatorPriority.QUADRATIC, false);
-        this.paretoSolutions = new ArrayList<>();
-        this.paretoFront = new ArrayList<>();
+        this.paretoFront = paretoFront;
         this.objectives = objectives.clone();
-        n = objectives.length;
+        this.dominatedPoint = new int[objectives.length];
         model = objectives[0].getModel();
-        //vals = new int[n];
     }
 
     //***********************************************************************************
@@ -84,10 +93,13 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     //***********************************************************************************
 
     /**
-     * @return the set of Pareto-best (possibly optimal) solutions found so far
+     * @return the set of Pareto-best (possibly optimal) solutions found so far, in no particular order.
+     * The list is a snapshot of the front: it is not updated on new solutions.
      */
     public List<Solution> getParetoFront() {
-        return paretoSolutions;
+        List<Solution> solutions = new ArrayList<>(paretoFront.size());
+        paretoFront.forEach((p, s) -> solutions.add(s));
+        return solutions;
     }
 
     @Override
@@ -97,38 +109,22 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
         for (int i = 0; i < objectives.length; i++) {
             vals[i] = objectives[i].getValue();
         }
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoSolutions.get(i), vals)) {
-                poolSols.add(paretoSolutions.remove(i));
-                paretoFront.remove(i);
-            }
-        }
-        // store current solution
+        // store current solution, dominated solutions are recycled
         Solution solution;
         if (poolSols.isEmpty()) {
             solution = new Solution(model);
         } else {
-            solution = poolSols.remove(0);
+            solution = poolSols.remove(poolSols.size() - 1);
         }
         solution.record();
-        paretoSolutions.add(solution);
-        paretoFront.add(vals);
-    }
-
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if (delta > 0) {
-                return false;
-            }
+        if (!paretoFront.add(vals, solution, poolSols::add)) {
+            poolSols.add(solution);
         }
-        return true;
     }
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        if (paretoFront.size() > 0) {
+        if (!paretoFront.isEmpty()) {
             for (int i = 0; i < objectives.length; i++) {
                 computeTightestPoint(i);
             }
@@ -142,22 +138,9 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @param i index of the variable
      */
     private void computeTightestPoint(int i) throws ContradictionException {
-        // tightest point can not be calculated if paretoFront is empty
-        if (paretoFront.size() > 0) {
-            int tightestPoint = Integer.MIN_VALUE;
-            int[] dominatedPoint = computeDominatedPoint(i);
-            for (int[] sol : paretoFront) {
-                int dominates = dominates(sol, dominatedPoint, i);
-                if (dominates > 0) {
-                    int currentPoint = dominates == 1 ? sol[i] : sol[i] + 1;
-                    if (tightestPoint < currentPoint) {
-                        tightestPoint = currentPoint;
-                    }
-                }
-            }
-            if (tightestPoint > Integer.MIN_VALUE) {
-                objectives[i].updateLowerBound(tightestPoint, this);
-            }
+        int tightestPoint = paretoFront.tightestPoint(computeDominatedPoint(i), i);
+        if (tightestPoint > Integer.MIN_VALUE) {
+            objectives[i].updateLowerBound(tightestPoint, this);
         }
     }
 
@@ -169,35 +152,11 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @return dominated point
      */
     private int[] computeDominatedPoint(int i) {
-        int[] dp = new int[objectives.length];
-        for (int j = 0; j < objectives.length; j++) {
-            dp[j] = objectives[j].getUB();
-        }
-        dp[i] = objectives[i].getLB();
-        return dp;
-    }
-
-    /**
-     * Return an int :
-     * 0 if a doesn't dominate b
-     * 1 if a dominates b and a = b if we don't take into account index i
-     * 2 if a dominates b and a dominates b if we don't take into account index i
-     *
-     * @param a vector
-     * @param b vector
-     * @param i index
-     * @return an int representing the fact that a dominates b
-     */
-    private int dominates(int[] a, int[] b, int i) {
-        int dominates = 0;
         for (int j = 0; j < objectives.length; j++) {
-            if (a[j] < b[j]) return 0;
-            if (a[j] > b[j]) {
-                if (dominates == 0) dominates = 1;
-                if (j != i) dominates = 2;
-            }
+            dominatedPoint[j] = objectives[j].getUB();
         }
-        return dominates;
+        dominatedPoint[i] = objectives[i].getLB();
+        return dominatedPoint;
     }
 
     @Override
@@ -0,0 +1,69 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+/**
+ * Dominance tests shared by the {@link IParetoFront} implementations.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+final class ParetoUtils {
+
+    private ParetoUtils() {
+    }
+
+    /**
+     * @return <i>true</i> if <i>a[j] &ge; b[j]</i> for every <i>j</i>
+     */
+    static boolean weaklyDominates(int[] a, int[] b) {
+        for (int j = 0; j < a.length; j++) {
+            if (a[j] < b[j]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return <i>true</i> if <i>a</i> weakly dominates <i>b</i> and <i>a &ne; b</i>
+     */
+    static boolean strictlyDominates(int[] a, int[] b) {
+        boolean strict = false;
+        for (int j = 0; j < a.length; j++) {
+            if (a[j] < b[j]) return false;
+            strict |= a[j] > b[j];
+        }
+        return strict;
+    }
+
+    /**
+     * Value of the point <i>p</i> in the computation of the tightest point for objective <i>i</i>,
+     * see {@link IParetoFront#tightestPoint(int[], int)}.
+     *
+     * @return <i>p[i]</i> or <i>p[i] + 1</i> if <i>p</i> dominates <i>dp</i>, {@link Integer#MIN_VALUE} otherwise
+     */
+    static int tightestValue(int[] p, int[] dp, int i) {
+        int dominates = 0;
+        for (int j = 0; j < p.length; j++) {
+            if (p[j] < dp[j]) return Integer.MIN_VALUE;
+            if (p[j] > dp[j]) {
+                if (dominates == 0) dominates = 1;
+                if (j != i) dominates = 2;
+            }
+        }
+        switch (dominates) {
+            case 1:
+                return p[i];
+            case 2:
+                return p[i] + 1;
+            default:
+                return Integer.MIN_VALUE;
+        }
+    }
+}
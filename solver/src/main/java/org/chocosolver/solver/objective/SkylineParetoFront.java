@@ -0,0 +1,169 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A Pareto front of two objectives stored as a skyline.
+ * <p>
+ * Points are kept sorted by increasing first objective, which, as they are mutually non-dominated,
+ * sorts them by strictly decreasing second objective.
+ * Then, dominance and tightest point queries are answered by binary search, in <i>O(log n)</i>.
+ * An insertion removes the dominated points, which form a contiguous range, and shifts the tail of the arrays.
+ * </p>
+ *
+ * @param <T> type of the payload attached to each point
+ * @author agent
+ * @since 18/10/2026
+ */
+public class SkylineParetoFront<T> implements IParetoFront<T> {
+
+    // first objective, increasing
+    private int[] xs;
+    // second objective, decreasing
+    private int[] ys;
+    private int[][] points;
+    private Object[] payloads;
+    private int size;
+
+    public SkylineParetoFront() {
+        this(16);
+    }
+
+    /**
+     * @param capacity initial capacity
+     */
+    public SkylineParetoFront(int capacity) {
+        capacity = Math.max(capacity, 1);
+        xs = new int[capacity];
+        ys = new int[capacity];
+        points = new int[capacity][];
+        payloads = new Object[capacity];
+    }
+
+    /**
+     * @return the index of the first point whose first objective is greater than or equal to <i>x</i>
+     */
+    private int firstXGeq(int x) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] < x) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return the index of the first point whose second objective is strictly less than <i>y</i>
+     */
+    private int firstYLt(int y) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ys[mid] >= y) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return the index of the first point whose second objective is less than or equal to <i>y</i>
+     */
+    private int firstYLeq(int y) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ys[mid] > y) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean add(int[] point, T payload, Consumer<T> onRemoval) {
+        int x = point[0], y = point[1];
+        // the point with the largest second objective among those with x' >= x
+        int j = firstXGeq(x);
+        if (j < size && ys[j] >= y && (xs[j] > x || ys[j] > y)) {
+            return false;
+        }
+        // dominated points have x' <= x and y' <= y, they form the range [l, k)
+        int k = j < size && xs[j] == x ? j + 1 : j;
+        int l = Math.min(firstYLeq(y), k);
+        for (int p = l; p < k; p++) {
+            onRemoval.accept((T) payloads[p]);
+        }
+        int shift = 1 - (k - l);
+        if (size + shift > xs.length) {
+            int cap = Math.max(xs.length * 3 / 2 + 1, size + shift);
+            xs = Arrays.copyOf(xs, cap);
+            ys = Arrays.copyOf(ys, cap);
+            points = Arrays.copyOf(points, cap);
+            payloads = Arrays.copyOf(payloads, cap);
+        }
+        if (shift != 0) {
+            System.arraycopy(xs, k, xs, l + 1, size - k);
+            System.arraycopy(ys, k, ys, l + 1, size - k);
+            System.arraycopy(points, k, points, l + 1, size - k);
+            System.arraycopy(payloads, k, payloads, l + 1, size - k);
+        }
+        size += shift;
+        for (int p = size; p < size - shift; p++) {
+            points[p] = null;
+            payloads[p] = null;
+        }
+        xs[l] = x;
+        ys[l] = y;
+        points[l] = point;
+        payloads[l] = payload;
+        return true;
+    }
+
+    @Override
+    public boolean dominates(int[] point) {
+        int j = firstXGeq(point[0]);
+        return j < size && ys[j] >= point[1];
+    }
+
+    @Override
+    public int tightestPoint(int[] dp, int i) {
+        int p;
+        if (i == 0) {
+            // among the points with y' >= dp[1], the last one has the largest x'
+            p = firstYLt(dp[1]) - 1;
+        } else {
+            // among the points with x' >= dp[0], the first one has the largest y'
+            p = firstXGeq(dp[0]);
+        }
+        // any other candidate is at least one unit below on objective i, so it cannot do better
+        if (p < 0 || p >= size) {
+            return Integer.MIN_VALUE;
+        }
+        return ParetoUtils.tightestValue(points[p], dp, i);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<int[], T> action) {
+        for (int p = 0; p < size; p++) {
+            action.accept(points[p], (T) payloads[p]);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.util.Arrays;
+
+/**
+ * Adapts the queue in which each propagator is scheduled to its measured cost and yield.
+ * <p>
+ * For each propagator, the time spent in its executions and whether they filter something (or fail)
+ * are smoothed with exponential moving averages.
+ * Every {@link #PERIOD} executions of a propagator, its queue is reassigned:
+ * <ul>
+ *     <li>an expensive propagator which rarely filters is moved to the last queue,
+ *     so that it is only executed once the other propagators reach a fixpoint,</li>
+ *     <li>a cheap propagator which often filters is moved one queue before its declared priority,</li>
+ *     <li>otherwise, it gets back to its declared priority.</li>
+ * </ul>
+ * A propagator is expensive (resp. cheap) when its average cost is greater (resp. lower)
+ * than {@link #RATIO} times (resp. divided by) the average cost of all executions.
+ * </p>
+ *
+ * @author agent
+ * @see org.chocosolver.solver.Settings#setAdaptPropagatorPriority(boolean)
+ * @since 18/10/2026
+ */
+final class AdaptivePriority {
+
+    /**
+     * Number of executions of a propagator between two reassignments of its queue
+     */
+    private static final int PERIOD = 32;
+    /**
+     * Smoothing factor of the averages of each propagator
+     */
+    private static final double ALPHA = 1. / 8;
+    /**
+     * Smoothing factor of the average cost of all executions
+     */
+    private static final double GLOBAL_ALPHA = 1. / 256;
+    /**
+     * How much more (or less) than the average an expensive (or cheap) propagator costs
+     */
+    private static final double RATIO = 4.;
+    /**
+     * Below this yield, a propagator rarely filters
+     */
+    private static final double LOW_YIELD = .05;
+    /**
+     * Above this yield, a propagator often filters
+     */
+    private static final double HIGH_YIELD = .5;
+
+    /**
+     * Index of the last queue
+     */
+    private final int last;
+    /**
+     * Average cost, in nanoseconds, of each propagator, indexed by id
+     */
+    private double[] costs;
+    /**
+     * Average yield, in [0,1], of each propagator, indexed by id
+     */
+    private double[] yields;
+    /**
+     * Number of executions of each propagator, indexed by id
+     */
+    private int[] runs;
+    /**
+     * Average cost of all executions
+     */
+    private double cost;
+    /**
+     * Time at which the current execution started
+     */
+    private long start;
+    /**
+     * Number of modifications when the current execution started
+     */
+    private long modifications;
+
+    /**
+     * @param nbQueues number of queues of the propagation engine
+     */
+    AdaptivePriority(int nbQueues) {
+        this.last = nbQueues - 1;
+        this.costs = new double[16];
+        this.yields = new double[16];
+        this.runs = new int[16];
+    }
+
+    /**
+     * Called before a propagator is executed.
+     *
+     * @param modifications number of variable modifications so far
+     */
+    void before(long modifications) {
+        this.modifications = modifications;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Called after a propagator is executed, measures it and, periodically, reassigns its queue.
+     *
+     * @param propagator    the executed propagator, not scheduled
+     * @param modifications number of variable modifications so far
+     * @param failure       set to <i>true</i> if the propagator failed
+     */
+    void after(Propagator<?> propagator, long modifications, boolean failure) {
+        double elapsed = System.nanoTime() - start;
+        double yield = failure || modifications > this.modifications ? 1. : 0.;
+        int id = propagator.getId();
+        if (id >= runs.length) {
+            int size = Math.max(id + 1, runs.length * 2);
+            costs = Arrays.copyOf(costs, size);
+            yields = Arrays.copyOf(yields, size);
+            runs = Arrays.copyOf(runs, size);
+        }
+        if (runs[id] == 0) {
+            costs[id] = elapsed;
+            yields[id] = yield;
+        } else {
+            costs[id] += (elapsed - costs[id]) * ALPHA;
+            yields[id] += (yield - yields[id]) * ALPHA;
+        }
+        cost = cost == 0 ? elapsed : cost + (elapsed - cost) * GLOBAL_ALPHA;
+        if (++runs[id] % PERIOD == 0 && !propagator.isScheduled()) {
+            reassign(propagator, costs[id], yields[id]);
+        }
+    }
+
+    private void reassign(Propagator<?> propagator, double pcost, double pyield) {
+        int queue = propagator.getPriority().getValue();
+        if (pcost > RATIO * cost && pyield < LOW_YIELD) {
+            queue = last;
+        } else if (pcost * RATIO < cost && pyield > HIGH_YIELD) {
+            queue = Math.max(0, queue - 1);
+        }
+        propagator.setSchedulingPriority(queue);
+    }
+}
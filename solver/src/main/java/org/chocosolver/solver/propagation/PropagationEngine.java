@@ -31,6 +31,9 @@ import java.util.function.Consumer;
  * This engine is priority-driven constraint-oriented seven queues engine.
  * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and schedules the propagator in
  * one of the 7 queues wrt to its priority for future revision.
+ * A propagator with an advisor is first asked whether the modification can trigger filtering,
+ * and is not scheduled otherwise (see {@link Propagator#advise(int, int)}).
+ * Optionally, the queue of a propagator is adapted to its measured cost and yield (see {@link AdaptivePriority}).
  * <p>
  * <br/>
  *
@@ -105,6 +108,14 @@ public class PropagationEngine {
      * A propagation insight to collect information about the propagation
      */
     private PropagationInsight insight = PropagationInsight.VOID;
+    /**
+     * Adapts the priority of propagators to their cost and yield, <i>null</i> when disabled
+     */
+    private final AdaptivePriority adaptive;
+    /**
+     * Number of variable modifications so far
+     */
+    private long modifications;
 
     /**
      * A seven-queue propagation engine.
@@ -129,6 +140,7 @@ public class PropagationEngine {
         //0b00: cstr-ori
         //0b10: var-ori
         this.hybrid = model.getSettings().enableHybridizationOfPropagationEngine();
+        this.adaptive = model.getSettings().adaptPropagatorPriority() ? new AdaptivePriority(nbQueues) : null;
     }
 
     /**
@@ -174,11 +186,24 @@ public class PropagationEngine {
                                     "or decrease the propagator priority.");
                 }
                 propagator.setPosition(i);
+                restorePriority(propagator);
                 awake_queue.addLast(propagator);
             }
         }
     }
 
+    /**
+     * When priorities are not adapted, schedule a propagator in the queue of its declared priority,
+     * even if another engine adapted it before.
+     *
+     * @param propagator a propagator to add to this engine
+     */
+    private void restorePriority(Propagator<?> propagator) {
+        if (adaptive == null && !propagator.isScheduled()) {
+            propagator.setSchedulingPriority(propagator.getPriority().getValue());
+        }
+    }
+
     /**
      * Is the engine initialized?
      * Important for dynamic addition of constraints
@@ -209,13 +234,22 @@ public class PropagationEngine {
                 // revision of the variable
                 lastProp.unschedule();
                 delayedPropagationType = 0;
+                if (adaptive != null) {
+                    adaptive.before(modifications);
+                }
                 try {
                     propagateEvents();
                     insight.update(lastProp, lastVar, false);
                 } catch (ContradictionException cex) {
                     insight.update(lastProp, lastVar, true);
+                    if (adaptive != null) {
+                        adaptive.after(lastProp, modifications, true);
+                    }
                     throw cex;
                 }
+                if (adaptive != null) {
+                    adaptive.after(lastProp, modifications, false);
+                }
                 if (hybrid < 0b01) {
                     manageModifications();
                 }
@@ -319,6 +353,7 @@ public class PropagationEngine {
             assert found : variable + " not in scope of " + cause;
         }
         insight.modifiy(variable);
+        modifications++;
         if (!variable.isScheduled()) {
             var_queue.addLast(variable);
             variable.schedule();
@@ -417,6 +452,7 @@ public class PropagationEngine {
         for (int i = 0; i < nbp; i++) {
             if (permanent) {
                 ps[i].setPosition(propagators.size());
+                restorePriority(ps[i]);
                 propagators.add(ps[i]);
                 dynPropagators.add(ps[i]);
             }
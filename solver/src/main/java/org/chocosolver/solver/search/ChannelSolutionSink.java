@@ -0,0 +1,109 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link ISolutionSink} which writes each solution to a channel, as a sequence of big-endian <code>int</code>s
+ * (the format of {@link java.io.DataOutput#writeInt(int)}), with no separator.
+ * Writes are buffered, the buffer is flushed when full and on {@link #flush()} or {@link #close()}.
+ * <p>
+ * An {@link IOException} raised by the channel while solving is rethrown as an {@link UncheckedIOException}.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * SolutionLayout layout = new SolutionLayout(vars);
+ * try (ChannelSolutionSink sink = ChannelSolutionSink.toFile(Paths.get("solutions.bin"))) {
+ *     model.getSolver().findAllSolutions(layout, sink);
+ * }
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ChannelSolutionSink implements ISolutionSink, Flushable, Closeable {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * @param channel    the channel to write solutions to, closed on {@link #close()}
+     * @param bufferSize size of the buffer, in bytes
+     */
+    public ChannelSolutionSink(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, Integer.BYTES));
+    }
+
+    /**
+     * @param channel the channel to write solutions to, closed on {@link #close()}
+     */
+    public ChannelSolutionSink(WritableByteChannel channel) {
+        this(channel, 1 << 16);
+    }
+
+    /**
+     * @param path file to write solutions to, created or truncated
+     * @return a sink writing into <code>path</code>
+     * @throws IOException if the file cannot be opened
+     */
+    public static ChannelSolutionSink toFile(Path path) throws IOException {
+        return new ChannelSolutionSink(FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    @Override
+    public boolean accept(int[] values) {
+        try {
+            for (int value : values) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    drain();
+                }
+                buffer.putInt(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -12,6 +12,7 @@ package org.chocosolver.solver.search;
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.SolutionLayout;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -138,7 +139,9 @@ public interface IResolutionHelper extends ISelf<Solver> {
      *     }
      * </pre>
      * <p>
-     * Note that all variables will be recorded
+     * Note that all variables will be recorded.
+     * The solutions share the same {@link SolutionLayout}.
+     * To enumerate many solutions without retaining them, see {@link #findAllSolutions(SolutionLayout, ISolutionSink, Criterion...)}.
      * <p>
      * Note that it clears the current objective function, if any
      *
@@ -149,13 +152,59 @@ public interface IResolutionHelper extends ISelf<Solver> {
         ref().getModel().clearObjective();
         ref().addStopCriterion(stop);
         List<Solution> solutions = new ArrayList<>();
+        SolutionLayout layout = null;
         while (ref().solve()) {
-            solutions.add(new Solution(ref().getModel()).record());
+            if (layout == null) {
+                layout = new SolutionLayout(ref().getModel().getVars());
+            }
+            solutions.add(new Solution(ref().getModel(), layout).record());
         }
         ref().removeStopCriterion(stop);
         return solutions;
     }
 
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem, and passes each of them to <i>sink</i>
+     * as it is found.
+     * Each solution is recorded in the same <code>int[]</code>, over the integer variables of <i>layout</i>,
+     * so the memory footprint does not depend on the number of solutions.
+     * The enumeration stops when the search is complete, when a stop criterion is met,
+     * or when <i>sink</i> returns <i>false</i>.
+     * <p>
+     * This method run the following instructions:
+     * <pre>
+     *     {@code
+     *     int[] values = layout.newSnapshot();
+     *     while (model.getSolver().solve()){
+     *          layout.record(values);
+     *          if(!sink.accept(values))break;
+     *     }
+     *     }
+     * </pre>
+     * <p>
+     * Note that it clears the current objective function, if any
+     *
+     * @param layout the variables to record
+     * @param sink   receiver of the solutions, for instance a {@link ChannelSolutionSink}
+     * @param stop   optional criterion to stop the search before finding all solutions
+     * @return the number of solutions passed to <i>sink</i>
+     */
+    default long findAllSolutions(SolutionLayout layout, ISolutionSink sink, Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        int[] values = layout.newSnapshot();
+        long count = 0;
+        while (ref().solve()) {
+            layout.record(values);
+            count++;
+            if (!sink.accept(values)) {
+                break;
+            }
+        }
+        ref().removeStopCriterion(stop);
+        return count;
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
@@ -193,10 +242,15 @@ public interface IResolutionHelper extends ISelf<Solver> {
         /*CPRU cannot infer type arguments for java.util.Spliterator<T>*/
         Spliterator<Solution> it = new Spliterator<Solution>() {
 
+            SolutionLayout layout;
+
             @Override
             public boolean tryAdvance(Consumer<? super Solution> action) {
                 if (ref().solve()) {
-                    action.accept(new Solution(ref().getModel()).record());
+                    if (layout == null) {
+                        layout = new SolutionLayout(ref().getModel().getVars());
+                    }
+                    action.accept(new Solution(ref().getModel(), layout).record());
                     return true;
                 }
                 ref().removeStopCriterion(stop);
@@ -222,6 +276,62 @@ public interface IResolutionHelper extends ISelf<Solver> {
         return StreamSupport.stream(it, false);
     }
 
+    /**
+     * Attempts to find all solutions of the declared problem, as a lazy stream of snapshots recorded on <i>layout</i>.
+     * A solution is searched for only when the stream pulls the next element, and each element is a new
+     * <code>int[]</code> which stores the value of the integer variables of <i>layout</i>, indexed by their slot.
+     * <p>
+     * Basically, this method runs the following instructions:
+     * <p>
+     * <pre>
+     * {@code
+     * 	while (model.getSolver().solve()) {
+     * 		int[] values = layout.newSnapshot();
+     * 		layout.record(values);
+     * 		action.accept(values);
+     *    }
+     * }
+     * </pre>
+     *
+     * @param layout the variables to record
+     * @param stop   optional criterion to stop the search before finding all/best solution
+     * @return a stream of solutions
+     */
+    default Stream<int[]> streamSolutions(SolutionLayout layout, Criterion... stop) {
+        ref().addStopCriterion(stop);
+        Spliterator<int[]> it = new Spliterator<int[]>() {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super int[]> action) {
+                if (ref().solve()) {
+                    int[] values = layout.newSnapshot();
+                    layout.record(values);
+                    action.accept(values);
+                    return true;
+                }
+                ref().removeStopCriterion(stop);
+                return false;
+            }
+
+            @Override
+            public Spliterator<int[]> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.NONNULL;
+            }
+
+        };
+        return StreamSupport.stream(it, false);
+    }
+
     /**
      * Attempt to find the solution that optimizes the mono-objective problem defined by a unique objective variable and
      * an optimization criteria.
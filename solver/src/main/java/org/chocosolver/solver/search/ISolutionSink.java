@@ -0,0 +1,34 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search;
+
+/**
+ * Receiver of the solutions enumerated by
+ * {@link IResolutionHelper#findAllSolutions(org.chocosolver.solver.SolutionLayout, ISolutionSink, org.chocosolver.util.criteria.Criterion...)}.
+ * <p>
+ * Solutions are passed as snapshots recorded on a {@link org.chocosolver.solver.SolutionLayout}.
+ * Nothing is retained by the enumeration, so the memory footprint does not depend on the number of solutions.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@FunctionalInterface
+public interface ISolutionSink {
+
+    /**
+     * Called on each solution.
+     * The array is reused from one solution to the other: it must be copied to be retained.
+     *
+     * @param values the value of each variable of the layout, indexed by its slot
+     * @return <i>true</i> to go on with the next solution, <i>false</i> to stop the enumeration
+     */
+    boolean accept(int[] values);
+}
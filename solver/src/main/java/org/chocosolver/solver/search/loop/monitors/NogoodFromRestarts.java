@@ -42,6 +42,11 @@ import java.util.Arrays;
  */
 public class NogoodFromRestarts implements IMonitorRestart {
 
+    /**
+     * Operator codes of shared literals
+     */
+    private static final int INT_EQ = 0, INT_NEQ = 1, INT_LE = 2, INT_GT = 3, SET_IN = 4, SET_OUT = 5;
+
     /**
      * Stores the decision path before
      */
@@ -80,21 +85,32 @@ public class NogoodFromRestarts implements IMonitorRestart {
 
     @Override
     public void beforeRestart() {
-        extractNogoodFromPath(png.getModel().getSolver().getDecisionPath());
+        extractNogoodFromPath(png.getModel().getSolver().getDecisionPath(), true);
         nogoodStealer.nogoodStealing(png.getModel(), this);
     }
 
-    @SuppressWarnings("unchecked")
     public void extractNogoodFromPath(DecisionPath decisionPath) {
+        extractNogoodFromPath(decisionPath, false);
+    }
+
+    /**
+     * Extract nogoods from <i>decisionPath</i> and add them to the no-good store.
+     * @param decisionPath a decision path
+     * @param share set to <i>true</i> to publish the nogoods to the {@link NogoodStealer}
+     */
+    @SuppressWarnings("unchecked")
+    private void extractNogoodFromPath(DecisionPath decisionPath, boolean share) {
         assert decisions.isEmpty();
         decisionPath.transferInto(decisions, false);
         int d = decisions.size();
         Decision<Variable> decision;
         int[] lits = new int[d];
+        int[] codes = new int[3 * d];
         int i = 0;
         while (!decisions.isEmpty()) {
             decision = decisions.pollFirst();
-            int lit = asLit(decision);
+            Variable var = encode(decision, codes, 3 * i);
+            int lit = asLit(var, codes[3 * i + 1], codes[3 * i + 2]);
             if (decision.hasNext() || decision.getArity() == 1) {
                 lits[i++] = lit;
             } else {
@@ -105,63 +121,98 @@ public class NogoodFromRestarts implements IMonitorRestart {
                     lits[i] = lit;
                     png.addLearnt(Arrays.copyOf(lits, i + 1));
                 }
+                if (share) {
+                    nogoodStealer.publish(png.getModel(), codes, i + 1);
+                }
             }
         }
     }
 
     /**
-     * Transform this decision into a literal to be used in {@link PropSat}.
+     * Add a nogood published by another (equivalent) model to the no-good store.
+     *
+     * @param codes the nogood, as triplets (variable ID, operator, value)
+     * @see NogoodStealer#publish(Model, int[], int)
+     */
+    public void importNogood(int[] codes) {
+        int[] lits = new int[codes.length / 3];
+        for (int i = 0; i < lits.length; i++) {
+            Variable var = nogoodStealer.getById(codes[3 * i], png.getModel());
+            lits[i] = asLit(var, codes[3 * i + 1], codes[3 * i + 2]);
+        }
+        png.addLearnt(lits);
+    }
+
+    /**
+     * Store, from <i>pos</i> in <i>codes</i>, the ID of the decision variable,
+     * the code of the decision operator and the decision value.
      *
      * @param decision a decision
-     * @return the literal corresponding to this decision
+     * @param codes    where to store the decision
+     * @param pos      position in <i>codes</i>
+     * @return the variable of this model that corresponds to the decision variable
      */
-    private <V extends Variable> int asLit(Decision<V> decision) {
+    private <V extends Variable> V encode(Decision<V> decision, int[] codes, int pos) {
+        V var = nogoodStealer.getById(decision.getDecisionVariable(), png.getModel());
+        codes[pos] = var.getId();
         if (decision instanceof IntDecision) {
             IntDecision id = (IntDecision) decision;
-            return asLit(
-                nogoodStealer.getById(id.getDecisionVariable(), png.getModel()), 
-                id.getDecOp(),
-                id.getDecisionValue()
-            );
+            codes[pos + 1] = asCode(id.getDecOp());
+            codes[pos + 2] = id.getDecisionValue();
         } else if (decision instanceof SetDecision) {
             SetDecision id = (SetDecision) decision;
-            return asLit(
-                nogoodStealer.getById(id.getDecisionVariable(), png.getModel()), 
-                id.getDecOp(),
-                id.getDecisionValue()
-            );
+            codes[pos + 1] = asCode(id.getDecOp());
+            codes[pos + 2] = id.getDecisionValue();
         } else {
             throw new UnsupportedOperationException("Cannot deal with such decision: " + decision);
         }
+        return var;
     }
 
-    private int asLit(IntVar var, DecisionOperator<IntVar> op, int val) {
-        int l;
+    private static int asCode(DecisionOperator<?> op) {
         if (DecisionOperatorFactory.makeIntEq().equals(op)) {
-            l = MiniSat.makeLiteral(png.makeIntEq(var, val), false);
+            return INT_EQ;
         } else if (DecisionOperatorFactory.makeIntNeq().equals(op)) {
-            l = MiniSat.makeLiteral(png.makeIntEq(var, val), true);
+            return INT_NEQ;
         } else if (DecisionOperatorFactory.makeIntSplit().equals(op)
                 || op instanceof ObjectiveStrategy.BottomUpDecisionOperator) {
-            l = MiniSat.makeLiteral(png.makeIntLe(var, val), false);
+            return INT_LE;
         } else if (DecisionOperatorFactory.makeIntReverseSplit().equals(op)
                 || op instanceof ObjectiveStrategy.TopDownDecisionOperator) {
-            l = MiniSat.makeLiteral(png.makeIntLe(var, val), true);
+            return INT_GT;
+        } else if (DecisionOperatorFactory.makeSetForce().equals(op)) {
+            return SET_IN;
+        } else if (DecisionOperatorFactory.makeSetRemove().equals(op)) {
+            return SET_OUT;
         } else {
             throw new UnsupportedOperationException("Cannot deal with such operator: " + op);
         }
-        return l;
     }
 
-    private int asLit(SetVar var, DecisionOperator<SetVar> op, int val) {
-        int l;
-        if (DecisionOperatorFactory.makeSetForce().equals(op)) {
-            l = MiniSat.makeLiteral(png.makeSetIn(var, val), false);
-        } else if (DecisionOperatorFactory.makeSetRemove().equals(op)) {
-            l = MiniSat.makeLiteral(png.makeSetIn(var, val), true);
-        } else {
-            throw new UnsupportedOperationException("Cannot deal with such operator: " + op);
+    /**
+     * Transform a decision into a literal to be used in {@link PropSat}.
+     *
+     * @param var  the decision variable
+     * @param code the code of the decision operator
+     * @param val  the decision value
+     * @return the literal corresponding to this decision
+     */
+    private int asLit(Variable var, int code, int val) {
+        switch (code) {
+            case INT_EQ:
+                return MiniSat.makeLiteral(png.makeIntEq((IntVar) var, val), false);
+            case INT_NEQ:
+                return MiniSat.makeLiteral(png.makeIntEq((IntVar) var, val), true);
+            case INT_LE:
+                return MiniSat.makeLiteral(png.makeIntLe((IntVar) var, val), false);
+            case INT_GT:
+                return MiniSat.makeLiteral(png.makeIntLe((IntVar) var, val), true);
+            case SET_IN:
+                return MiniSat.makeLiteral(png.makeSetIn((SetVar) var, val), false);
+            case SET_OUT:
+                return MiniSat.makeLiteral(png.makeSetIn((SetVar) var, val), true);
+            default:
+                throw new UnsupportedOperationException("Cannot deal with such operator: " + code);
         }
-        return l;
     }
 }
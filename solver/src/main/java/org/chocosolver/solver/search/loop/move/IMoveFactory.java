@@ -182,6 +182,17 @@ public interface IMoveFactory extends ISelf<Solver> {
                 Integer.MAX_VALUE, true));
     }
 
+    /**
+     * Creates a restart strategy that restarts every time the trails of the environment store
+     * at least <i>capacity</i> entries, instead of growing them further.
+     *
+     * @param capacity maximum number of entries stored in the trails
+     * @see TrailRestart
+     */
+    default void setTrailCapacity(long capacity) {
+        ref().addRestarter(new TrailRestart(capacity));
+    }
+
     /**
      * Creates a Move object based on Large Neighborhood Search.
      * It encapsulates the current move within a LNS move.
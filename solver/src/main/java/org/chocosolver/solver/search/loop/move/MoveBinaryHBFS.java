@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.loop.move;
 
+import org.chocosolver.memory.Checkpoint;
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.Solver;
@@ -33,6 +35,13 @@ import java.util.PriorityQueue;
  * <p>
  * It restarts anytime a backtrack limit is reached and a new open right branch needs to be selected.
  * <p>
+ * An open right branch is reached again by replaying the decisions that lead to it.
+ * When the environment can copy its state (see {@link IEnvironment#checkpoint(int)}),
+ * each open right branch is explored on its own, its ancestors are not revisited on backtrack,
+ * and it may store a {@link Checkpoint} of its node which is restored in a single step instead of replaying the decisions.
+ * The choice is adaptive: a checkpoint is kept when restoring it is expected to be cheaper than replaying the decisions,
+ * according to the costs measured so far, and as long as checkpoints do not exceed a given capacity.
+ * <p>
  * Created by cprudhom on 02/11/2015.
  * Project: choco.
  * @author Charles Prud'homme
@@ -98,6 +107,11 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
      */
     private final List<Decision> _unkopen;
 
+    /**
+     * Checkpoint to restore before replaying copen, can be <i>null</i>
+     */
+    private Checkpoint ccheckpoint;
+
     /**
      * Current decision in copen
      */
@@ -108,6 +122,51 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
      */
     private final Model mModel;
 
+    /**
+     * Set to <i>true</i> when the environment can take checkpoints.
+     */
+    private final boolean checkpoints;
+
+    /**
+     * Maximum number of values and operations kept in the checkpoints of the open right branches.
+     */
+    private static final long CHECKPOINT_CAPACITY = 1 << 22;
+
+    /**
+     * Number of values and operations currently kept in the checkpoints of the open right branches.
+     */
+    private long kept;
+
+    /**
+     * Time at which the current open right branch was selected, 0 when it is reached.
+     */
+    private long jumpStart;
+
+    /**
+     * Number of decisions replayed to reach open right branches without checkpoint.
+     */
+    private long recomputedDecisions;
+
+    /**
+     * Time, in nanoseconds, spent to reach open right branches without checkpoint.
+     */
+    private long recomputationTime;
+
+    /**
+     * Number of checkpoints restored to reach open right branches.
+     */
+    private long restorations;
+
+    /**
+     * Time, in nanoseconds, spent to take checkpoints and to reach open right branches with a checkpoint.
+     */
+    private long restorationTime;
+
+    /**
+     * Number of values and operations in the checkpoints taken so far.
+     */
+    private long checkpointed;
+
     /**
      * Create a move dedicated to run an Hybrid Best-First Search[1] (HBFS) with binary decisions.
      * @param model a model
@@ -129,6 +188,8 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
         this.a = a;
         this.b = b;
         this._unkopen = new ArrayList<>();
+        IEnvironment environment = model.getEnvironment();
+        this.checkpoints = environment.checkpoint(environment.getWorldIndex()) != null;
     }
 
     @Override
@@ -145,6 +206,9 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
     @Override
     public boolean extend(Solver solver) {
         boolean extend;
+        if (jumpStart > 0 && current == copen.length) {
+            reached();
+        }
         // as we observe the number of backtracks, no limit can be reached on extend()
         if (current < copen.length) {
             solver.getDecisionPath().pushDecision(copen[current++]);
@@ -159,12 +223,18 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
     @Override
     public boolean repair(Solver solver) {
         boolean repair;
+        if (jumpStart > 0) {
+            reached();
+        }
         if (!dfslimit.isMet(limit)) {
             current = copen.length;
             repair = super.repair(solver);
+            if (!repair && checkpoints) {
+                // the subtree of the open right branch is closed, keep up with the next one
+                repair = selectNextOpenRightBranch(solver);
+            }
         } else {
-            extractOpenRightBranches(solver);
-            repair = true;
+            repair = extractOpenRightBranches(solver);
         }
         return repair;
     }
@@ -172,8 +242,9 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
     /**
      * This methods extracts and stores all open right branches for future exploration
      * @param solver reference to the solver
+     * @return <i>false</i> if the search is over
      */
-    protected void extractOpenRightBranches(Solver solver) {
+    protected boolean extractOpenRightBranches(Solver solver) {
         // update parameters for restarts
         if (nodesRecompute > 0) {
             double ratio = nodesRecompute * 1.d / solver.getNodeCount();
@@ -186,26 +257,109 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
         limit += Z;
         // then start the extraction of open right branches
         int i = compareSubpath(solver);
+        if (checkpoints) {
+            // the ancestors will not be revisited, extract all the open right branches
+            i = 0;
+        }
         if(i < _unkopen.size()) {
             extractOB(solver, i);
         }
-        // finally, get the best ORB to keep up the search
-        Open next = opens.poll();
+        return selectNextOpenRightBranch(solver);
+    }
+
+    /**
+     * Get the best open right branch to keep up the search, and restart.
+     * @param solver reference to the solver
+     * @return <i>false</i> if the search is over
+     */
+    private boolean selectNextOpenRightBranch(Solver solver) {
+        Open next = poll();
         while (next != null && !isValid(next.currentBound())) {
-            next = opens.poll();
+            next = poll();
         }
         if (next != null) {
             copen = next.toArray();
             // the decision in 0 is the last taken, then the array us reversed
             ArrayUtils.reverse(copen);
+            ccheckpoint = next.checkpoint;
             current = 0;
             nodesRecompute = solver.getNodeCount() + copen.length;
+        } else if (checkpoints) {
+            // all open right branches have been explored
+            return false;
         } else{
             // to be sure not to use the previous path
             current = copen.length;
         }
         // then do the restart
         solver.restart();
+        jumpStart = current < copen.length ? System.nanoTime() : 0;
+        if (ccheckpoint != null && current < copen.length) {
+            // the checkpoint is relative to the root node, before the propagation of the restart,
+            // the cut is posted again on extension
+            IEnvironment environment = solver.getEnvironment();
+            environment.worldPop();
+            environment.worldPush();
+            ccheckpoint.restore();
+        }
+        return true;
+    }
+
+    private Open poll() {
+        Open next = opens.poll();
+        if (next != null && next.checkpoint != null) {
+            kept -= next.checkpoint.size();
+        }
+        return next;
+    }
+
+    /**
+     * Measure the time spent to reach the current open right branch.
+     */
+    private void reached() {
+        long time = System.nanoTime() - jumpStart;
+        jumpStart = 0;
+        if (ccheckpoint != null) {
+            restorations++;
+            restorationTime += time;
+        } else {
+            recomputedDecisions += copen.length;
+            recomputationTime += time;
+        }
+    }
+
+    /**
+     * Take a checkpoint of the current state, to reach again an open right branch of <i>depth</i> decisions.
+     * @param solver reference to the solver
+     * @param depth number of decisions to replay to reach the open right branch
+     * @return a checkpoint, or <i>null</i> if replaying the decisions is expected to be cheaper
+     * or if the state cannot be copied
+     */
+    private Checkpoint checkpoint(Solver solver, int depth) {
+        if (depth <= 2 || kept >= CHECKPOINT_CAPACITY) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Checkpoint checkpoint = solver.getEnvironment().checkpoint(solver.getSearchWorldIndex());
+        restorationTime += System.nanoTime() - start;
+        if (checkpoint == null) {
+            return null;
+        }
+        solver.getDecisionPath().preserve(checkpoint);
+        boolean keep;
+        if (checkpointed == 0) {
+            // measure the cost of checkpoints first
+            keep = true;
+        } else if (recomputedDecisions == 0) {
+            // then the one of replaying decisions
+            keep = false;
+        } else {
+            double restoration = checkpoint.size() * (double) restorationTime / checkpointed;
+            double recomputation = depth * (double) recomputationTime / recomputedDecisions;
+            keep = restoration < recomputation;
+        }
+        checkpointed += checkpoint.size();
+        return keep ? checkpoint : null;
     }
 
     /**
@@ -252,7 +406,14 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
                     objectiveManager.getObjective().getLB() :
                     objectiveManager.getObjective().getUB();
             if (decision.hasNext() && isValid(bound)) {
-                opens.add(new Open(decision, dp, bound, isMinimization));
+                Open open = new Open(decision, dp, bound, isMinimization, checkpoints);
+                if (checkpoints) {
+                    open.collapse(checkpoint(solver, open.depth));
+                    if (open.checkpoint != null) {
+                        kept += open.checkpoint.size();
+                    }
+                }
+                opens.add(open);
             }
             dp.synchronize();
             decision = dp.getLastDecision();
@@ -271,6 +432,34 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
                 bound > objectiveManager.getBestLB().intValue();
     }
 
+    /**
+     * @return the number of decisions replayed to reach open right branches without checkpoint
+     */
+    public long getRecomputedDecisions() {
+        return recomputedDecisions;
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent to reach open right branches without checkpoint
+     */
+    public long getRecomputationTime() {
+        return recomputationTime;
+    }
+
+    /**
+     * @return the number of checkpoints restored to reach open right branches
+     */
+    public long getRestoredCheckpoints() {
+        return restorations;
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent to take checkpoints and to reach open right branches with a checkpoint
+     */
+    public long getRestorationTime() {
+        return restorationTime;
+    }
+
     /**
      * A class to represent an open right branch, from which the search can be kept up.
      */
@@ -288,6 +477,14 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
          * 1 for minimization, -1 for maximization
          */
         private final byte minimization;
+        /**
+         * Number of decisions from the root node
+         */
+        private final int depth;
+        /**
+         * Checkpoint to restore before replaying the decisions, can be <i>null</i>
+         */
+        private Checkpoint checkpoint;
 
         /**
          * Create an open right branch for HBFS
@@ -296,19 +493,49 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
          * @param decisionPath  the current decision path
          * @param currentBound current lower (resp. upper) bound of the objective value for mimimization (resp. maximization)
          * @param minimization set to <tt>true</tt> for minimization
+         * @param exact set to <tt>true</tt> to only explore the right branch of <i>decision</i>,
+         *              otherwise <i>decision</i> and its ancestors are revisited as usual
          */
-        public Open(Decision decision, DecisionPath decisionPath, int currentBound, boolean minimization) {
+        public Open(Decision decision, DecisionPath decisionPath, int currentBound, boolean minimization, boolean exact) {
             this.path = new ArrayList<>();
+            int next = 1;
             while (decision.getPosition() != topDecisionPosition) {
                 Decision d = decision.duplicate();
-                while (decision.triesLeft() != d.triesLeft() - 1) {
-                    d.buildNext();
+                if (exact) {
+                    // the open decision is refuted, the ancestors are applied as they are and cannot be refuted
+                    int branch = decision.getArity() - decision.triesLeft() - 1 + next;
+                    while (d.getArity() - d.triesLeft() < branch) {
+                        d.buildNext();
+                    }
+                    if (branch == 0) {
+                        d.setRefutable(false);
+                    }
+                    next = 0;
+                } else {
+                    while (decision.triesLeft() != d.triesLeft() - 1) {
+                        d.buildNext();
+                    }
                 }
                 path.add(d);
                 decision = decisionPath.getDecision(decision.getPosition() -1);
             }
             this.currentBound = currentBound;
             this.minimization = (byte) (minimization ? 1 : -1);
+            this.depth = path.size();
+            this.checkpoint = ccheckpoint;
+        }
+
+        /**
+         * Replace the decisions above the open one by a checkpoint, if any
+         * @param checkpoint a copy of the state of the open node, can be <i>null</i>
+         */
+        private void collapse(Checkpoint checkpoint) {
+            if (checkpoint != null) {
+                this.checkpoint = checkpoint;
+                for (int i = path.size() - 1; i > 0; i--) {
+                    path.remove(i).free();
+                }
+            }
         }
 
         /**
@@ -333,7 +560,7 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
             int clb = minimization * (currentBound - o.currentBound);
             if (clb == 0) {
                 // the maximum depth
-                return (o.path.size() - path.size());
+                return (o.depth - depth);
             } else {
                 return clb;
             }
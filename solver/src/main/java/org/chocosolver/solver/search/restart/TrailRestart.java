@@ -0,0 +1,71 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Solver;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A restart policy that caps the memory used by the trails of the environment.
+ * The search restarts anytime the trails store at least a given number of entries,
+ * instead of growing them until an {@link OutOfMemoryError} is thrown.
+ * <p>
+ * On restart, the trails can then be compacted (see {@link org.chocosolver.solver.Settings#setTrailCompactionRatio(double)}).
+ * Note that, if every dive requires more entries than the capacity,
+ * the search may restart endlessly unless something is learnt from restarts
+ * (e.g., {@link org.chocosolver.solver.search.loop.monitors.ISearchMonitorFactory#setNoGoodRecordingFromRestarts()}).
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class TrailRestart extends AbstractRestart {
+
+    /**
+     * Maximum number of entries stored in the trails
+     */
+    private final long capacity;
+
+    /**
+     * @param capacity maximum number of entries stored in the trails
+     */
+    public TrailRestart(long capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void init() {
+        this.next.init();
+    }
+
+    /**
+     * Check conditions for restarting
+     *
+     * @param solver the caller
+     * @return true if restarting is required
+     */
+    @Override
+    public boolean mustRestart(Solver solver) {
+        IEnvironment environment = solver.getEnvironment();
+        // nothing to release when the search is at the root node
+        if (environment.getWorldIndex() > solver.getSearchWorldIndex() + 1
+                && environment.getTrailOccupancy() >= capacity) {
+            return true;
+        }
+        return next.mustRestart(solver);
+    }
+
+    @Override
+    public void setGrower(IntSupplier grower) {
+        this.next.setGrower(grower);
+    }
+}
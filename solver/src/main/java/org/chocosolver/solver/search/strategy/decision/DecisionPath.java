@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.decision;
 
+import org.chocosolver.memory.Checkpoint;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -120,6 +121,15 @@ public class DecisionPath extends DecisionMaker implements Serializable {
         }
     }
 
+    /**
+     * Make sure that restoring <i>checkpoint</i> leaves this decision path unchanged.
+     *
+     * @param checkpoint a checkpoint of the environment
+     */
+    public void preserve(Checkpoint checkpoint) {
+        checkpoint.ignore(last);
+    }
+
     /**
      * Retrieves, but not removes, the last decision of the decision path.
      * Recall that the very first decision of this decision path is {@link RootDecision#ROOT}.
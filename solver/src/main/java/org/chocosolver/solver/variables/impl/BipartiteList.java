@@ -178,7 +178,8 @@ final class BipartiteList implements IBipartiteList {
         }
         for (int p = s; p < last; p++) {
             Propagator<?> prop = propagators[p];
-            if (prop.isActive() && cause != prop) {
+            if (prop.isActive() && cause != prop
+                    && (!prop.isAdvised() || prop.advise(pindices[p], mask))) {
                 engine.schedule(prop, pindices[p], mask);
             }
         }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.structure.IRedoableOperation;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -42,9 +43,25 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
      */
     private int mValue;
     /**
-     * To roll back mValue to its initial value
+     * To roll back mValue to its initial value, or to set it back when a checkpoint is restored
      */
-    private final IOperation status = () -> mValue = kUNDEF;
+    private final IOperation status = new IRedoableOperation() {
+        @Override
+        public void undo() {
+            mValue = kUNDEF;
+        }
+
+        @Override
+        public Runnable redo() {
+            final int value = mValue;
+            return () -> {
+                if (mValue == kUNDEF) {
+                    model.getEnvironment().save(this);
+                    mValue = value;
+                }
+            };
+        }
+    };
     /**
      * To iterate over removed values
      */
@@ -186,31 +186,29 @@ public class RealView<I extends IntVar> extends AbstractView<I> implements RealV
 
     @Override
     public void tighten() {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
     }
 
     @Override
     public void project(ICause cause) throws ContradictionException {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
     }
 
     @Override
     public void collectVariables(TreeSet<RealVar> set) {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        set.add(this);
     }
 
     @Override
     public void subExps(List<CArExpression> list) {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        list.add(this);
     }
 
     @Override
     public boolean isolate(RealVar var, List<CArExpression> wx, List<CArExpression> wox) {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        return var == this;
     }
 
     @Override
     public void init() {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        // void
     }
 }
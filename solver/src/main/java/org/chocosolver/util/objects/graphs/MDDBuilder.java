@@ -0,0 +1,241 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.graphs;
+
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * A streaming builder of reduced {@link MultivaluedDecisionDiagram}.
+ * <p>
+ * Tuples must be added in increasing lexicographic order, duplicates are ignored.
+ * Only the path of the last tuple is kept open: when a new tuple diverges from it,
+ * the nodes below the divergence can no longer change, so they are merged with an identical node if one
+ * exists (hash-consing over a unique table per layer) or appended to the diagram otherwise.
+ * This way, the diagram is reduced as it is built and is never larger than the reduced MDD,
+ * which is not the case when tuples are first inserted in a trie and then compacted.
+ * </p>
+ * <p>
+ * The diagram has the same layout as the one built by {@link MultivaluedDecisionDiagram}:
+ * a single array in which a node of layer <i>i</i> is made of consecutive cells, one per value of the
+ * initial domain of the <i>i</i>-th variable, and the root node starts at 0.
+ * The built MDD is not modified afterwards, so it can be shared between propagators and between models.
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class MDDBuilder {
+
+    private final int nbLayers;
+    private final int[] sizes;
+    private final int[] offsets;
+    // the reduced nodes, the root node is reserved at 0
+    private int[] mdd;
+    private int nextFreeCell;
+    // the nodes of the last tuple, not yet reduced
+    private final int[][] open;
+    // position of the values of the last tuple
+    private final int[] last;
+    private final int[] pos;
+    private boolean empty = true;
+    // unique table of each layer: open addressing over the first cells of the nodes, 0 when free
+    private final int[][] unique;
+    private final int[] nbUnique;
+    private int[] row;
+
+    /**
+     * Create an MDD builder for variables whose initial domains are given.
+     *
+     * @param VARIABLES the variables, in the order of the layers
+     */
+    public MDDBuilder(IntVar[] VARIABLES) {
+        this(bounds(VARIABLES));
+    }
+
+    /**
+     * Create an MDD builder for variables whose initial domains are given.
+     *
+     * @param FLATDOM array of flatten domains, in the order of the layers
+     */
+    public MDDBuilder(int[][] FLATDOM) {
+        nbLayers = FLATDOM.length;
+        sizes = new int[nbLayers];
+        offsets = new int[nbLayers];
+        open = new int[nbLayers][];
+        unique = new int[nbLayers][];
+        nbUnique = new int[nbLayers];
+        for (int i = 0; i < nbLayers; i++) {
+            offsets[i] = FLATDOM[i][0];
+            sizes[i] = FLATDOM[i][FLATDOM[i].length - 1] - FLATDOM[i][0] + 1;
+            open[i] = new int[sizes[i]];
+            unique[i] = new int[16];
+        }
+        last = new int[nbLayers];
+        pos = new int[nbLayers];
+        mdd = new int[Math.max(16, sizes[0] * 2)];
+        nextFreeCell = sizes[0];
+    }
+
+    private static int[][] bounds(IntVar[] VARIABLES) {
+        int[][] FLATDOM = new int[VARIABLES.length][];
+        for (int i = 0; i < VARIABLES.length; i++) {
+            FLATDOM[i] = new int[]{VARIABLES[i].getLB(), VARIABLES[i].getUB()};
+        }
+        return FLATDOM;
+    }
+
+    /**
+     * Add all tuples, sorting them first.
+     *
+     * @param TUPLES set of (allowed) tuples, sorted in place
+     * @return this builder
+     */
+    public MDDBuilder addTuples(Tuples TUPLES) {
+        TUPLES.sort();
+        if (row == null) {
+            row = new int[nbLayers];
+        }
+        for (int t = 0; t < TUPLES.nbTuples(); t++) {
+            for (int i = 0; i < nbLayers; i++) {
+                row[i] = TUPLES.get(t, i);
+            }
+            addTuple(row);
+        }
+        return this;
+    }
+
+    /**
+     * Add a tuple to the MDD.
+     * The tuple has to be lexicographically greater than or equal to the previous one.
+     *
+     * @param TUPLE tuple to add
+     * @return <i>false</i> if the tuple is out of the initial domains or already added, <i>true</i> otherwise
+     * @throws SolverException if the tuple is smaller than the previous one
+     */
+    public boolean addTuple(int[] TUPLE) {
+        for (int i = 0; i < nbLayers; i++) {
+            if (TUPLE[i] < offsets[i] || TUPLE[i] >= offsets[i] + sizes[i]) {
+                return false;
+            }
+            pos[i] = TUPLE[i] - offsets[i];
+        }
+        int c = 0;
+        if (!empty) {
+            while (c < nbLayers && pos[c] == last[c]) {
+                c++;
+            }
+            if (c == nbLayers) {
+                return false;
+            }
+            if (pos[c] < last[c]) {
+                throw new SolverException("MDDBuilder: tuples must be added in increasing order, " +
+                        Arrays.toString(TUPLE) + " comes too late");
+            }
+            reduce(c + 1);
+        }
+        empty = false;
+        System.arraycopy(pos, c, last, c, nbLayers - c);
+        open[nbLayers - 1][pos[nbLayers - 1]] = MultivaluedDecisionDiagram.TERMINAL;
+        return true;
+    }
+
+    /**
+     * Reduce the open nodes of the layers greater than or equal to <i>from</i>, bottom-up.
+     */
+    private void reduce(int from) {
+        for (int l = nbLayers - 1; l >= from; l--) {
+            open[l - 1][last[l - 1]] = register(l, open[l]);
+            Arrays.fill(open[l], MultivaluedDecisionDiagram.EMPTY);
+        }
+    }
+
+    /**
+     * @return the first cell of the node of layer <i>l</i> identical to <i>node</i>, added if none exists
+     */
+    private int register(int l, int[] node) {
+        int[] table = unique[l];
+        int mask = table.length - 1;
+        int h = hash(node, 0, sizes[l]) & mask;
+        while (table[h] != 0) {
+            if (equals(table[h], node, sizes[l])) {
+                return table[h];
+            }
+            h = (h + 1) & mask;
+        }
+        int id = nextFreeCell;
+        ensureCapacity(id + sizes[l]);
+        System.arraycopy(node, 0, mdd, id, sizes[l]);
+        nextFreeCell += sizes[l];
+        table[h] = id;
+        if (++nbUnique[l] * 2 > table.length) {
+            rehash(l);
+        }
+        return id;
+    }
+
+    private void rehash(int l) {
+        int[] table = new int[unique[l].length * 2];
+        int mask = table.length - 1;
+        for (int id : unique[l]) {
+            if (id != 0) {
+                int h = hash(mdd, id, sizes[l]) & mask;
+                while (table[h] != 0) {
+                    h = (h + 1) & mask;
+                }
+                table[h] = id;
+            }
+        }
+        unique[l] = table;
+    }
+
+    private static int hash(int[] cells, int from, int size) {
+        int h = 1;
+        for (int k = from; k < from + size; k++) {
+            h = 31 * h + cells[k];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private boolean equals(int id, int[] node, int size) {
+        for (int k = 0; k < size; k++) {
+            if (mdd[id + k] != node[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int nsize) {
+        if (nsize > mdd.length) {
+            mdd = Arrays.copyOf(mdd, Math.max(nsize, mdd.length * 3 / 2 + 1));
+        }
+    }
+
+    /**
+     * Reduce the remaining open nodes and return the MDD.
+     * The builder must not be used afterwards.
+     *
+     * @return a reduced MDD storing the added tuples
+     */
+    public MultivaluedDecisionDiagram build() {
+        if (!empty) {
+            reduce(1);
+        }
+        System.arraycopy(open[0], 0, mdd, 0, sizes[0]);
+        int[] diagram = Arrays.copyOf(mdd, nextFreeCell);
+        mdd = null;
+        Arrays.fill(unique, null);
+        return new MultivaluedDecisionDiagram(sizes, offsets, diagram);
+    }
+}
@@ -194,6 +194,23 @@ public class MultivaluedDecisionDiagram {
         init(TRANSITIONS);
     }
 
+    /**
+     * Create an MDD from a diagram already reduced, see {@link MDDBuilder}.
+     *
+     * @param sizes   initial domain size of each layer
+     * @param offsets initial domain offset of each layer
+     * @param diagram the diagram
+     */
+    MultivaluedDecisionDiagram(int[] sizes, int[] offsets, int[] diagram) {
+        this.nbLayers = sizes.length;
+        this.sizes = sizes;
+        this.offsets = offsets;
+        this.compact = Compact.NEVER;
+        this.sortTuples = true;
+        this.mdd = diagram;
+        this.nextFreeCell = diagram.length;
+    }
+
     @SuppressWarnings("unchecked")
     private void init(Tuples TUPLES) {
         nextFreeCell = sizes[0];
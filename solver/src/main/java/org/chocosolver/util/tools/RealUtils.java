@@ -729,4 +729,409 @@ public class RealUtils {
         return new RealIntervalConstant(retInf, retSup);
     }
 
+
+    /**
+     * Returns the empty interval, that is, an interval whose lower bound is greater than its upper bound.
+     * @return an empty interval
+     */
+    private static RealInterval empty() {
+        return new RealIntervalConstant(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Returns an interval that represents the result of 'exp(i)'.
+     * @param i an interval
+     * @return the result of 'exp(i)'
+     */
+    public static RealInterval exp(RealInterval i) {
+        return new RealIntervalConstant(
+                Math.max(ZERO, prevFloat(Math.exp(i.getLB()))),
+                nextFloat(Math.exp(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'ln(i)'.
+     * Only the positive part of 'i' is considered, the resulting interval is empty if there is none.
+     * @param i an interval
+     * @return the result of 'ln(i)'
+     */
+    public static RealInterval ln(RealInterval i) {
+        if (i.getUB() <= 0.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                i.getLB() <= 0. ? Double.NEGATIVE_INFINITY : prevFloat(Math.log(i.getLB())),
+                nextFloat(Math.log(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'i^p', where 'p' is an integer, possibly negative.
+     * @param i an interval
+     * @param p an integer
+     * @return an interval that represents the result of : 'i^p'.
+     */
+    public static RealInterval pow(RealInterval i, int p) {
+        if (p == 0) {
+            return new RealIntervalConstant(1., 1.);
+        } else if (p == 1) {
+            return new RealIntervalConstant(i);
+        } else if (p > 1) {
+            return iPower(i, p);
+        } else {
+            RealInterval d = p == -1 ? i : iPower(i, -p);
+            if (d.getLB() >= 0. && d.getUB() <= 0.) {
+                return empty();
+            }
+            if (d.getLB() < 0. && d.getUB() > 0.) {
+                return new RealIntervalConstant(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            }
+            return odiv(new RealIntervalConstant(1., 1.), d);
+        }
+    }
+
+    /**
+     * Returns an interval that represents the result of 'x^y', that is 'exp(y * ln(x))'.
+     * Only the positive part of 'x' is considered.
+     * @param x an interval
+     * @param y an interval
+     * @return an interval that represents the result of : 'x^y'.
+     */
+    public static RealInterval pow(RealInterval x, RealInterval y) {
+        RealInterval l = ln(x);
+        if (l.getLB() > l.getUB()) {
+            return l;
+        }
+        return exp(mul(y, l));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'tan(i)'.
+     * @param i an interval
+     * @return the result of 'tan(i)'
+     */
+    public static RealInterval tan(RealInterval i) {
+        double l = i.getLB(), u = i.getUB();
+        if (u - l >= Math.PI || Double.isInfinite(l) || Double.isInfinite(u)) {
+            return new RealIntervalConstant(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        // 'i' must be included in one branch ]k.pi - pi/2, k.pi + pi/2[
+        double kl = Math.floor(prevFloat(prevFloat(l / Math.PI) + 0.5));
+        double ku = Math.floor(nextFloat(nextFloat(u / Math.PI) + 0.5));
+        if (kl != ku) {
+            return new RealIntervalConstant(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        return new RealIntervalConstant(prevFloat(Math.tan(l)), nextFloat(Math.tan(u)));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'atan(i)'.
+     * @param i an interval
+     * @return the result of 'atan(i)'
+     */
+    public static RealInterval atan(RealInterval i) {
+        return new RealIntervalConstant(
+                Math.max(prevFloat(-Math.PI / 2), prevFloat(Math.atan(i.getLB()))),
+                Math.min(nextFloat(Math.PI / 2), nextFloat(Math.atan(i.getUB()))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'acos(i)'.
+     * Only the part of 'i' in [-1,1] is considered, the resulting interval is empty if there is none.
+     * @param i an interval
+     * @return the result of 'acos(i)'
+     */
+    public static RealInterval acos(RealInterval i) {
+        if (i.getLB() > 1. || i.getUB() < -1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                Math.max(ZERO, prevFloat(Math.acos(Math.min(1., i.getUB())))),
+                nextFloat(Math.acos(Math.max(-1., i.getLB()))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'asin(i)'.
+     * Only the part of 'i' in [-1,1] is considered, the resulting interval is empty if there is none.
+     * @param i an interval
+     * @return the result of 'asin(i)'
+     */
+    public static RealInterval asin(RealInterval i) {
+        if (i.getLB() > 1. || i.getUB() < -1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                prevFloat(Math.asin(Math.max(-1., i.getLB()))),
+                nextFloat(Math.asin(Math.min(1., i.getUB()))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'cosh(i)'.
+     * @param i an interval
+     * @return the result of 'cosh(i)'
+     */
+    public static RealInterval cosh(RealInterval i) {
+        double l = i.getLB(), u = i.getUB();
+        double inf;
+        if (l >= 0.) {
+            inf = prevFloat(Math.cosh(l));
+        } else if (u <= 0.) {
+            inf = prevFloat(Math.cosh(u));
+        } else {
+            inf = 1.;
+        }
+        return new RealIntervalConstant(Math.max(1., inf),
+                nextFloat(Math.max(Math.cosh(l), Math.cosh(u))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'sinh(i)'.
+     * @param i an interval
+     * @return the result of 'sinh(i)'
+     */
+    public static RealInterval sinh(RealInterval i) {
+        return new RealIntervalConstant(prevFloat(Math.sinh(i.getLB())), nextFloat(Math.sinh(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'tanh(i)'.
+     * @param i an interval
+     * @return the result of 'tanh(i)'
+     */
+    public static RealInterval tanh(RealInterval i) {
+        return new RealIntervalConstant(
+                Math.max(-1., prevFloat(Math.tanh(i.getLB()))),
+                Math.min(1., nextFloat(Math.tanh(i.getUB()))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'acosh(i)'.
+     * Only the part of 'i' greater than or equal to 1 is considered,
+     * the resulting interval is empty if there is none.
+     * @param i an interval
+     * @return the result of 'acosh(i)'
+     */
+    public static RealInterval acosh(RealInterval i) {
+        if (i.getUB() < 1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                Math.max(ZERO, down(acosh(Math.max(1., i.getLB())))),
+                up(acosh(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'asinh(i)'.
+     * @param i an interval
+     * @return the result of 'asinh(i)'
+     */
+    public static RealInterval asinh(RealInterval i) {
+        return new RealIntervalConstant(asinhDown(i.getLB()), -asinhDown(-i.getUB()));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'atanh(i)'.
+     * Only the part of 'i' in ]-1,1[ is considered, the resulting interval is empty if there is none.
+     * @param i an interval
+     * @return the result of 'atanh(i)'
+     */
+    public static RealInterval atanh(RealInterval i) {
+        if (i.getLB() >= 1. || i.getUB() <= -1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                i.getLB() <= -1. ? Double.NEGATIVE_INFINITY : atanhDown(i.getLB()),
+                i.getUB() >= 1. ? Double.POSITIVE_INFINITY : -atanhDown(-i.getUB()));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'atan2(y, x)'.
+     * @param y an interval
+     * @param x an interval
+     * @return the result of 'atan2(y, x)'
+     */
+    public static RealInterval atan2(RealInterval y, RealInterval x) {
+        if (x.getLB() > 0.) {
+            // right half-plane: atan2(y,x) = atan(y/x)
+            return atan(odiv(y, x));
+        }
+        if (y.getLB() < 0. && y.getUB() >= 0.) {
+            // the branch cut may be crossed
+            return new RealIntervalConstant(prevFloat(-Math.PI), nextFloat(Math.PI));
+        }
+        // 'y' does not overlap 0.0: the extrema are reached on the corners
+        double inf = Double.POSITIVE_INFINITY, sup = Double.NEGATIVE_INFINITY;
+        for (double yy : new double[]{y.getLB(), y.getUB()}) {
+            for (double xx : new double[]{x.getLB(), x.getUB()}) {
+                double a = Math.atan2(yy, xx);
+                inf = Math.min(inf, a);
+                sup = Math.max(sup, a);
+            }
+        }
+        return new RealIntervalConstant(
+                Math.max(prevFloat(-Math.PI), prevFloat(inf)),
+                Math.min(nextFloat(Math.PI), nextFloat(sup)));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'k.pi + atan(i)', on the branches of the tangent function
+     * 'res' overlaps, that is, the hull of the solutions of 'tan(x) = i' within 'res'.
+     * 'res' is the one that will intersect the resulting interval.
+     * If 'res' overlaps too many branches, 'res' itself is returned.
+     * @param i an interval
+     * @param res an interval
+     * @return an interval that represents the result of : 'atan(i)'.
+     */
+    public static RealInterval atan_wrt(RealInterval i, RealInterval res) {
+        double l = res.getLB(), u = res.getUB();
+        if (Double.isInfinite(l) || Double.isInfinite(u) || u - l >= 8 * Math.PI) {
+            return new RealIntervalConstant(res);
+        }
+        int kl = (int) Math.floor(prevFloat(prevFloat(l / Math.PI) + 0.5));
+        int ku = (int) Math.floor(nextFloat(nextFloat(u / Math.PI) + 0.5));
+        RealInterval a = atan(i);
+        double inf = Double.POSITIVE_INFINITY, sup = Double.NEGATIVE_INFINITY;
+        for (int k = kl; k <= ku; k++) {
+            double bl = prevFloat(a.getLB() + k * Math.PI);
+            double bu = nextFloat(a.getUB() + k * Math.PI);
+            if (bl <= u && bu >= l) {
+                inf = Math.min(inf, Math.max(bl, l));
+                sup = Math.max(sup, Math.min(bu, u));
+            }
+        }
+        return new RealIntervalConstant(inf, sup);
+    }
+
+    /**
+     * Returns an interval that represents the result of 'acosh(i)', with a sign that depends on 'res'.
+     * 'res' is the one that will intersect the resulting interval
+     * and is given to provide sharpest interval when 0.0 is overlapped.
+     * @param i an interval
+     * @param res an interval
+     * @return an interval that represents the result of : '&plusmn;acosh(i)'.
+     */
+    public static RealInterval acosh_wrt(RealInterval i, RealInterval res) {
+        RealInterval a = acosh(i);
+        if (a.getLB() > a.getUB()) {
+            return a;
+        }
+        if (res.getUB() < a.getLB()) {
+            return new RealIntervalConstant(-a.getUB(), -a.getLB());
+        } else if (res.getLB() > -a.getLB()) {
+            return a;
+        } else {
+            return new RealIntervalConstant(-a.getUB(), a.getUB());
+        }
+    }
+
+    /**
+     * Bound on the relative error of {@link #acosh(double)}, {@link #asinh(double)} and {@link #atanh(double)}.
+     * Each of them rounds at most six basic operations, all on non-negative values,
+     * and calls {@link Math#log1p(double)} or {@link Math#log(double)}, which are within 1 ulp.
+     * Their relative error is thus lower than 10 units of roundoff (2<sup>-53</sup>), rounded up here to 16.
+     */
+    private static final double REL_ERROR = 0x1p-49;
+
+    /**
+     * Below this value, asinh(x) and atanh(x) are within one ulp of x.
+     */
+    private static final double TINY = 0x1p-26;
+
+    /**
+     * Above this value, acosh(x) and asinh(x) are log(2x) up to a relative error lower than 2<sup>-56</sup>.
+     */
+    private static final double HUGE = 0x1p28;
+
+    private static final double LN2 = Math.log(2.);
+
+    /**
+     * @param r an approximation of a value with a relative error lower than {@link #REL_ERROR}
+     * @return a lower bound of the value
+     */
+    private static double down(double r) {
+        return prevFloat(r - Math.abs(r) * REL_ERROR);
+    }
+
+    /**
+     * @param r an approximation of a value with a relative error lower than {@link #REL_ERROR}
+     * @return an upper bound of the value
+     */
+    private static double up(double r) {
+        return nextFloat(r + Math.abs(r) * REL_ERROR);
+    }
+
+    /**
+     * @param x a value greater than or equal to 1
+     * @return acosh(x), with a relative error lower than {@link #REL_ERROR}
+     */
+    private static double acosh(double x) {
+        if (x >= HUGE) {
+            return Math.log(x) + LN2;
+        }
+        // x - 1 is exact up to 2, where acosh(x) = log(x + sqrt(x^2 - 1)) cancels
+        double t = x - 1.;
+        return Math.log1p(t + Math.sqrt(t * (t + 2.)));
+    }
+
+    /**
+     * @param a a non-negative value
+     * @return asinh(a), with a relative error lower than {@link #REL_ERROR}
+     */
+    private static double asinh(double a) {
+        if (a >= HUGE) {
+            return Math.log(a) + LN2;
+        }
+        double a2 = a * a;
+        return Math.log1p(a + a2 / (1. + Math.sqrt(1. + a2)));
+    }
+
+    /**
+     * @param a a value in [0,1[
+     * @return atanh(a), with a relative error lower than {@link #REL_ERROR}
+     */
+    private static double atanh(double a) {
+        return 0.5 * Math.log1p(2. * a / (1. - a));
+    }
+
+    /**
+     * @param x a value
+     * @return a lower bound of asinh(x)
+     */
+    private static double asinhDown(double x) {
+        if (Double.isInfinite(x)) {
+            return x;
+        }
+        if (x < 0.) {
+            return -asinhUp(-x);
+        }
+        // x - x^3/6 < asinh(x) <= x
+        return x < TINY ? prevFloat(x) : down(asinh(x));
+    }
+
+    /**
+     * @param x a non-negative value
+     * @return an upper bound of asinh(x)
+     */
+    private static double asinhUp(double x) {
+        return x < TINY || Double.isInfinite(x) ? x : up(asinh(x));
+    }
+
+    /**
+     * @param x a value in ]-1,1[
+     * @return a lower bound of atanh(x)
+     */
+    private static double atanhDown(double x) {
+        if (x < 0.) {
+            return -atanhUp(-x);
+        }
+        // x <= atanh(x) < x + x^3/(3(1-x^2))
+        return x < TINY ? x : down(atanh(x));
+    }
+
+    /**
+     * @param x a value in [0,1[
+     * @return an upper bound of atanh(x)
+     */
+    private static double atanhUp(double x) {
+        return x < TINY ? nextFloat(x) : up(atanh(x));
+    }
 }
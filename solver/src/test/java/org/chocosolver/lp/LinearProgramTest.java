@@ -12,7 +12,9 @@ package org.chocosolver.lp;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Random;
 
 /**
  * <br/>
@@ -384,4 +386,204 @@ public class LinearProgramTest {
         lp.setObjective(true, new double[]{1});
     }
 
-}
\ No newline at end of file
+    @Test(groups = "1s")
+    public void testBounds1() {
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(2);
+        lp.addLeq(new double[]{4, 3}, 36);
+        lp.addLeq(new double[]{2, 3}, 48);
+        lp.setObjective(true, new double[]{5, 7});
+        lp.setBounds(1, 0, 10);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 1.5, 1e-8);
+        Assert.assertEquals(lp.value(1), 10., 1e-8);
+        Assert.assertEquals(lp.objective(), 77.5, 1e-8);
+        Assert.assertEquals(lp.reducedCost(1), 7 - 3 * 5 / 4., 1e-8);
+        Assert.assertEquals(lp.dual(0), 5 / 4., 1e-8);
+        Assert.assertEquals(lp.dual(1), 0., 1e-8);
+        lp.setBounds(0, 2, 10);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 2., 1e-8);
+        Assert.assertEquals(lp.value(1), 28 / 3., 1e-8);
+        Assert.assertEquals(lp.objective(), 10 + 196 / 3., 1e-8);
+        lp.setBounds(0, 10, 10);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+        lp.setBounds(0, 3, 2);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+        lp.setBounds(0, 0, Double.POSITIVE_INFINITY);
+        lp.setBounds(1, 0, Double.POSITIVE_INFINITY);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 84, 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testBounds2() {
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(2);
+        lp.setBounds(0, -5, 5);
+        lp.setBounds(1, -5, 5);
+        lp.addGeq(new double[]{1, 1}, -2);
+        lp.setObjective(false, new double[]{1, 2});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 3., 1e-8);
+        Assert.assertEquals(lp.value(1), -5., 1e-8);
+        Assert.assertEquals(lp.objective(), 7., 1e-8);
+        Assert.assertEquals(lp.toString(),
+                "Maximize\n" +
+                        "\\ v = 0.0\n" +
+                        " obj: -1.0 x1 -2.0 x2\n" +
+                        "Subject to\n" +
+                        " c1: -1.0 x1 -1.0 x2 <= 2.0\n" +
+                        "Bounds\n" +
+                        " -5.0 <= x1 <= 5.0\n" +
+                        " -5.0 <= x2 <= 5.0\n" +
+                        "End");
+    }
+
+    @Test(groups = "1s")
+    public void testWarmStart1() {
+        // 29.3-5
+        double[] c = {18, 12.5};
+        double[][] A = {{1, 1}, {1, 0}, {0, 1}};
+        double[] b = {20, 12, 16};
+        LinearProgram lp = new LinearProgram(A, b, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 316., 1e-8);
+        // the optimal basis becomes infeasible
+        lp.addLeq(new double[]{2, 1}, 25);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 5., 1e-8);
+        Assert.assertEquals(lp.value(1), 15., 1e-8);
+        Assert.assertEquals(lp.objective(), 277.5, 1e-8);
+        lp.dropLast();
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 316., 1e-8);
+        lp.setObjective(true, new double[]{1, 2});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 4., 1e-8);
+        Assert.assertEquals(lp.value(1), 16., 1e-8);
+        Assert.assertEquals(lp.objective(), 36., 1e-8);
+        lp.addGeq(new double[]{1, 0}, 13);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+    }
+
+    @Test(groups = "1s")
+    public void testSparse1() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 10; k++) {
+            checkSparse(rnd, 60 + rnd.nextInt(60), 80 + rnd.nextInt(80), .05);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSparse2() {
+        Random rnd = new Random(0);
+        checkSparse(rnd, 1000, 1500, .004);
+    }
+
+    /**
+     * Generate a sparse LP, feasible and bounded by construction, solve it, check the optimality
+     * of the solution with the dual values, and then re-optimize it after bound changes,
+     * comparing with a cold resolution.
+     */
+    private static void checkSparse(Random rnd, int m, int n, double density) {
+        int[][] idx = new int[m][];
+        double[][] val = new double[m][];
+        double[] b = new double[m];
+        double[] c = new double[n];
+        double[] x0 = new double[n];
+        for (int j = 0; j < n; j++) {
+            x0[j] = rnd.nextInt(5);
+            c[j] = rnd.nextInt(21) - 5;
+        }
+        for (int i = 0; i < m; i++) {
+            int size = 1 + rnd.nextInt(Math.max(1, (int) (2 * density * n)));
+            idx[i] = rnd.ints(0, n).distinct().limit(size).toArray();
+            val[i] = new double[size];
+            for (int k = 0; k < size; k++) {
+                val[i][k] = rnd.nextInt(19) - 9;
+                b[i] += val[i][k] * x0[idx[i][k]];
+            }
+            b[i] += rnd.nextInt(3);
+        }
+        double[] lb = new double[n];
+        double[] ub = new double[n];
+        Arrays.fill(ub, 10);
+        LinearProgram warm = makeSparse(idx, val, b, c, lb, ub);
+        Assert.assertEquals(warm.simplex(), LinearProgram.Status.FEASIBLE);
+        checkOptimality(warm, idx, val, b, c, lb, ub);
+        // branch-like bound modifications
+        for (int t = 0; t < 5; t++) {
+            int j = rnd.nextInt(n);
+            double v = Math.floor(warm.value(j));
+            if (rnd.nextBoolean()) {
+                ub[j] = v;
+            } else {
+                lb[j] = Math.min(v + 1, ub[j]);
+            }
+            warm.setBounds(j, lb[j], ub[j]);
+            LinearProgram.Status st = warm.simplex();
+            LinearProgram cold = makeSparse(idx, val, b, c, lb, ub);
+            Assert.assertEquals(st, cold.simplex());
+            if (st == LinearProgram.Status.FEASIBLE) {
+                Assert.assertEquals(warm.objective(), cold.objective(), 1e-6 * Math.max(1, Math.abs(cold.objective())));
+                checkOptimality(warm, idx, val, b, c, lb, ub);
+            } else {
+                break;
+            }
+        }
+    }
+
+    private static LinearProgram makeSparse(int[][] idx, double[][] val, double[] b, double[] c,
+                                            double[] lb, double[] ub) {
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(c.length);
+        for (int j = 0; j < c.length; j++) {
+            lp.setBounds(j, lb[j], ub[j]);
+        }
+        for (int i = 0; i < b.length; i++) {
+            HashMap<Integer, Double> map = new HashMap<>();
+            for (int k = 0; k < idx[i].length; k++) {
+                map.put(idx[i][k], val[i][k]);
+            }
+            lp.addLeq(map, b[i]);
+        }
+        lp.setObjective(true, c);
+        return lp;
+    }
+
+    private static void checkOptimality(LinearProgram lp, int[][] idx, double[][] val, double[] b, double[] c,
+                                        double[] lb, double[] ub) {
+        double tol = 1e-6;
+        int n = c.length;
+        double[] d = c.clone();
+        double dualObj = 0.;
+        for (int i = 0; i < b.length; i++) {
+            double ax = 0.;
+            for (int k = 0; k < idx[i].length; k++) {
+                ax += val[i][k] * lp.value(idx[i][k]);
+                d[idx[i][k]] -= lp.dual(i) * val[i][k];
+            }
+            // primal feasibility
+            Assert.assertTrue(ax <= b[i] + tol, "row " + i);
+            // dual feasibility and complementary slackness
+            Assert.assertTrue(lp.dual(i) >= -tol, "dual " + i);
+            Assert.assertTrue(lp.dual(i) * (b[i] - ax) <= tol, "slackness " + i);
+            dualObj += lp.dual(i) * b[i];
+        }
+        for (int j = 0; j < n; j++) {
+            double xj = lp.value(j);
+            Assert.assertTrue(xj >= lb[j] - tol && xj <= ub[j] + tol, "bounds " + j);
+            Assert.assertEquals(lp.reducedCost(j), d[j], tol);
+            if (xj > lb[j] + tol) {
+                Assert.assertTrue(d[j] >= -tol, "reduced cost " + j);
+            }
+            if (xj < ub[j] - tol) {
+                Assert.assertTrue(d[j] <= tol, "reduced cost " + j);
+            }
+            dualObj += d[j] * xj;
+        }
+        // strong duality
+        Assert.assertEquals(lp.objective(), dualObj, tol * Math.max(1, Math.abs(dualObj)));
+    }
+}
@@ -38,7 +38,8 @@ public class EnvironmentTest {
     public Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromUnified().build()}
         };
     }
 
@@ -310,6 +311,95 @@ public class EnvironmentTest {
         Assert.assertEquals(val[0], 0);
     }
 
+    @Test(groups = "1s")
+    public void testUnified() {
+        EnvironmentTrailing env = new EnvironmentBuilder().setWorldSize(2).setWorldNumber(2).fromUnified().build();
+        IStateInt i = env.makeInt(0);
+        IStateBool b = env.makeBool(false);
+        IStateLong l = env.makeLong(0L);
+        IStateDouble d = env.makeFloat(0.5d);
+        final int[] val = {0};
+        for (int w = 1; w <= 4; w++) {
+            env.worldPush();
+            i.set(w);
+            b.set(w % 2 == 1);
+            l.set(-w);
+            d.set(w + .5d);
+            int p = val[0];
+            env.save(() -> val[0] = p);
+            val[0] = w;
+        }
+        env.worldCommit();
+        Assert.assertEquals(i.get(), 4);
+        Assert.assertFalse(b.get());
+        Assert.assertEquals(l.get(), -4L);
+        Assert.assertEquals(d.get(), 4.5d);
+        Assert.assertEquals(val[0], 4);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 2);
+        Assert.assertFalse(b.get());
+        Assert.assertEquals(l.get(), -2L);
+        Assert.assertEquals(d.get(), 2.5d);
+        Assert.assertEquals(val[0], 2);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 1);
+        Assert.assertTrue(b.get());
+        Assert.assertEquals(l.get(), -1L);
+        Assert.assertEquals(d.get(), 1.5d);
+        Assert.assertEquals(val[0], 1);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 0);
+        Assert.assertFalse(b.get());
+        Assert.assertEquals(l.get(), 0L);
+        Assert.assertEquals(d.get(), 0.5d);
+        Assert.assertEquals(val[0], 0);
+        Assert.assertEquals(env.getWorldIndex(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testCheckpoint() {
+        EnvironmentTrailing env = new EnvironmentBuilder().fromUnified().build();
+        IStateInt i = env.makeInt(0);
+        IStateBool b = env.makeBool(false);
+        IStateDouble d = env.makeFloat(0.5d);
+        final int[] val = {0};
+        env.worldPush();
+        i.set(1);
+        int base = env.getWorldIndex();
+        env.worldPush();
+        i.set(2);
+        b.set(true);
+        env.worldPush();
+        d.set(2.5d);
+        i.set(3);
+        Checkpoint cp = env.checkpoint(base);
+        Assert.assertNotNull(cp);
+        Assert.assertEquals(cp.size(), 3);
+        env.worldPopUntil(base);
+        Assert.assertEquals(i.get(), 1);
+        env.worldPush();
+        cp.restore();
+        Assert.assertEquals(i.get(), 3);
+        Assert.assertTrue(b.get());
+        Assert.assertEquals(d.get(), 2.5d);
+        env.worldPop();
+        env.worldPush();
+        cp.ignore(b);
+        cp.restore();
+        Assert.assertEquals(i.get(), 3);
+        Assert.assertFalse(b.get());
+        env.worldPop();
+        Assert.assertEquals(i.get(), 1);
+        Assert.assertFalse(b.get());
+        Assert.assertEquals(d.get(), 0.5d);
+        // operations that cannot be redone prevent from taking a checkpoint
+        env.worldPush();
+        env.save(() -> val[0] = 0);
+        Assert.assertNull(env.checkpoint(base));
+        // other trails cannot take checkpoints
+        Assert.assertNull(new EnvironmentBuilder().fromFlat().build().checkpoint(0));
+    }
+
     @Test(groups = "1s")
     public void testWorldCommit() {
         Model model = new Model();
@@ -350,6 +440,68 @@ public class EnvironmentTest {
         }
     }
 
+    @Test(groups = "1s", dataProvider = "env")
+    public void testOccupancy(IEnvironment env) {
+        IStateInt i = env.makeInt(0);
+        IStateLong l = env.makeLong(0);
+        long[] occupancies = new long[100];
+        for (int k = 0; k < occupancies.length; k++) {
+            occupancies[k] = env.getTrailOccupancy();
+            env.worldPush();
+            for (int j = 0; j < k % 7; j++) {
+                i.set(i.get() + 1);
+                l.set(l.get() + 1);
+            }
+            Assert.assertTrue(env.getTrailOccupancy() >= occupancies[k]);
+        }
+        for (int k = occupancies.length - 1; k >= 0; k--) {
+            env.worldPop();
+            Assert.assertEquals(env.getTrailOccupancy(), occupancies[k]);
+        }
+    }
+
+    @Test(groups = "1s", dataProvider = "env")
+    public void testCompact(IEnvironment env) {
+        IStateInt i = env.makeInt(0);
+        IStateLong l = env.makeLong(0);
+        final int[] val = {0};
+        env.worldPush();
+        i.set(1);
+        long initial = env.getTrailAllocation();
+        for (int k = 2; k < 5000; k++) {
+            env.worldPush();
+            i.set(k);
+            l.set(k);
+            final int v = val[0];
+            val[0] = k;
+            env.save(() -> val[0] = v);
+        }
+        Assert.assertTrue(env.getTrailOccupancy() >= 3 * 4998);
+        long allocated = env.getTrailAllocation();
+        Assert.assertTrue(allocated > initial);
+        env.worldPopUntil(1);
+        Assert.assertEquals(i.get(), 1);
+        Assert.assertEquals(val[0], 0);
+        Assert.assertTrue(env.getPeakTrailOccupancy() >= 3 * 4998);
+        // the dive may still be the recent peak, then the occupancy stays low
+        env.compact(4.);
+        Assert.assertTrue(env.compact(4.));
+        Assert.assertTrue(env.getTrailAllocation() < allocated);
+        // the trails keep working after compaction
+        env.worldPush();
+        i.set(7);
+        l.set(7);
+        env.worldPush();
+        i.set(8);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 7);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 1);
+        Assert.assertEquals(l.get(), 0);
+        env.worldPop();
+        Assert.assertEquals(i.get(), 0);
+    }
+
     @Test(groups = "1s", dataProvider = "env")
     public void testSave(IEnvironment env) {
         final int[] val = {0};
@@ -0,0 +1,99 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link StoredLongArray}.
+ */
+public class StoredLongArrayTest {
+
+    @DataProvider(name = "env")
+    public Object[][] getEnvs() {
+        return new IEnvironment[][]{
+                {new EnvironmentBuilder().fromFlat().build()},
+                {new EnvironmentBuilder().fromChunk().build()}
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testPushPop(IEnvironment env) {
+        StoredLongArray array = new StoredLongArray(env, 3, -1L);
+        Assert.assertEquals(array.length(), 3);
+        Assert.assertEquals(array.get(1), -1L);
+        env.worldPush();
+        array.set(1, 5L);
+        array.set(1, 6L);
+        env.worldPush();
+        array.set(0, 7L);
+        array.set(1, 8L);
+        Assert.assertEquals(array.get(0), 7L);
+        Assert.assertEquals(array.get(1), 8L);
+        env.worldPop();
+        Assert.assertEquals(array.get(0), -1L);
+        Assert.assertEquals(array.get(1), 6L);
+        env.worldPush();
+        array.set(2, 9L);
+        env.worldPop();
+        Assert.assertEquals(array.get(2), -1L);
+        env.worldPop();
+        Assert.assertEquals(array.get(1), -1L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testEnsureCapacity(IEnvironment env) {
+        StoredLongArray array = new StoredLongArray(env, 1, 0L);
+        env.worldPush();
+        array.ensureCapacity(4, 3L);
+        Assert.assertEquals(array.length(), 4);
+        Assert.assertEquals(array.get(3), 3L);
+        array.set(3, 1L);
+        env.worldPush();
+        array.set(3, 2L);
+        env.worldPop();
+        Assert.assertEquals(array.get(3), 1L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testRandom(IEnvironment env) {
+        Random rnd = new Random(0);
+        int n = 50;
+        StoredLongArray array = new StoredLongArray(env, n, 0L);
+        long[] ref = new long[n];
+        Deque<long[]> saved = new ArrayDeque<>();
+        for (int k = 0; k < 10_000; k++) {
+            int op = rnd.nextInt(10);
+            if (op < 2) {
+                saved.push(ref.clone());
+                env.worldPush();
+            } else if (op < 4 && !saved.isEmpty()) {
+                env.worldPop();
+                ref = saved.pop();
+            } else {
+                int i = rnd.nextInt(n);
+                long v = rnd.nextLong();
+                array.set(i, v);
+                ref[i] = v;
+            }
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(array.get(i), ref[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class EmbarrassinglyParallelSearchTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        int n = 4;
+        for (int i = 0; i < n; i++) {
+            eps.addModel(ProblemMaker.makeGolombRuler(8));
+        }
+        Assert.assertTrue(eps.solve());
+        Assert.assertTrue(eps.getNbSubproblems() > 1);
+        Assert.assertNotNull(eps.getBestModel());
+        IntVar obj = (IntVar) eps.getBestModel().getObjective();
+        Assert.assertEquals(eps.getBestSolution().getIntVal(obj), 34);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(10);
+        int n = 3;
+        for (int i = 0; i < n; i++) {
+            eps.addModel(knapsack());
+        }
+        Assert.assertTrue(eps.solve());
+        IntVar obj = (IntVar) eps.getBestModel().getObjective();
+        Assert.assertEquals(eps.getBestSolution().getIntVal(obj), 51);
+        Assert.assertFalse(eps.hasReachedLimit());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSatisfaction() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        int n = 4;
+        for (int i = 0; i < n; i++) {
+            eps.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(12));
+        }
+        Assert.assertTrue(eps.solve());
+        Model finder = eps.getBestModel();
+        Solution sol = eps.getBestSolution();
+        IntVar[] qs = (IntVar[]) finder.getHook("vars");
+        for (int i = 0; i < qs.length; i++) {
+            for (int j = i + 1; j < qs.length; j++) {
+                int vi = sol.getIntVal(qs[i]);
+                int vj = sol.getIntVal(qs[j]);
+                Assert.assertNotEquals(vi, vj);
+                Assert.assertNotEquals(Math.abs(vi - vj), j - i);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUnsatisfiable() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        int n = 2;
+        for (int i = 0; i < n; i++) {
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("p", 7, 1, 6);
+            for (int j = 0; j < vars.length; j++) {
+                for (int k = j + 1; k < vars.length; k++) {
+                    model.arithm(vars[j], "!=", vars[k]).post();
+                }
+            }
+            model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+            eps.addModel(model);
+        }
+        Assert.assertFalse(eps.solve());
+        Assert.assertNull(eps.getBestSolution());
+        Assert.assertTrue(eps.getNbSubproblems() > 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeLimit() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        int n = 2;
+        for (int i = 0; i < n; i++) {
+            eps.addModel(ProblemMaker.makeGolombRuler(11));
+        }
+        eps.limitTime("1s");
+        long start = System.currentTimeMillis();
+        eps.solve();
+        Assert.assertTrue(System.currentTimeMillis() - start < 10_000);
+        Assert.assertTrue(eps.hasReachedLimit());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNodeLimit() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        int n = 2;
+        for (int i = 0; i < n; i++) {
+            eps.addModel(ProblemMaker.makeGolombRuler(11));
+        }
+        eps.limitNode(1000);
+        Assert.assertTrue(eps.solve());
+        Assert.assertTrue(eps.hasReachedLimit());
+        Assert.assertTrue(eps.getNodeCount() >= 1000);
+        Assert.assertTrue(eps.getNodeCount() <= n * 1000);
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.constraints.nary.sat.ClauseExchange;
 import org.chocosolver.solver.search.restart.MonotonicCutoff;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
@@ -63,6 +64,27 @@ public class PortFolioTest {
         Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 44);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testP12() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        int n = 4; // number of solvers to use
+        for (int i = 0; i < n; i++) {
+            pares.addModel(ProblemMaker.makeGolombRuler(8));
+        }
+        ClauseExchange exchange = new ClauseExchange(64, 4);
+        pares.shareClausesOnRestarts(exchange);
+        int nbSols = 0;
+        while (pares.solve()) {
+            nbSols++;
+        }
+        Model finder = pares.getBestModel();
+        Assert.assertTrue(nbSols > 0);
+        Assert.assertNotNull(finder);
+        Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 34);
+        Assert.assertTrue(exchange.getNbExported() > 0);
+        Assert.assertTrue(exchange.getNbImported() + exchange.getNbDropped() <= exchange.getNbExported() * n);
+    }
+
     @Test(groups = "10s", timeOut = 60000)
     public void testParBug() {
         for (int iter = 0; iter < 50; iter++) {
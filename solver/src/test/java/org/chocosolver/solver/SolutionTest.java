@@ -9,9 +9,22 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.search.ChannelSolutionSink;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public class SolutionTest {
 
     @Test
@@ -19,4 +32,106 @@ public class SolutionTest {
         final Solution emptySolution = new Solution(null);
         Assert.assertNotSame(emptySolution, emptySolution.copySolution());
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedLayout() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        BoolVar b = model.boolVar("b");
+        IntVar c = model.intVar(5);
+        model.allDifferent(x).post();
+        List<Solution> solutions = model.getSolver().findAllSolutions();
+        Assert.assertEquals(solutions.size(), 12);
+        SolutionLayout layout = solutions.get(0).getLayout();
+        Assert.assertEquals(layout.slotOf(c), -1);
+        Set<String> distinct = new HashSet<>();
+        for (Solution s : solutions) {
+            Assert.assertSame(s.getLayout(), layout);
+            Assert.assertEquals(s.getIntVal(c), 5);
+            StringBuilder st = new StringBuilder();
+            for (IntVar v : x) {
+                st.append(s.getIntVal(v));
+            }
+            distinct.add(st.append(s.getIntVal(b)).toString());
+        }
+        Assert.assertEquals(distinct.size(), 12);
+        Solution copy = solutions.get(3).copySolution();
+        copy.setIntVal(x[0], 7);
+        Assert.assertEquals(copy.getIntVal(x[0]), 7);
+        Assert.assertNotEquals(solutions.get(3).getIntVal(x[0]), 7);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSetIntValOnLayout() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 2, 0, 2);
+        Solution solution = new Solution(model, new SolutionLayout(x));
+        solution.setIntVal(x[1], 2);
+        Assert.assertEquals(solution.getIntVal(x[1]), 2);
+        Assert.assertThrows(() -> solution.getIntVal(x[0]));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSink() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        SolutionLayout layout = new SolutionLayout(x);
+        Set<String> distinct = new HashSet<>();
+        long count = model.getSolver().findAllSolutions(layout, values -> {
+            Assert.assertEquals(values.length, 4);
+            Assert.assertEquals(values[layout.slotOf(x[2])], x[2].getValue());
+            distinct.add(Arrays.toString(values));
+            return true;
+        });
+        Assert.assertEquals(count, 24);
+        Assert.assertEquals(distinct.size(), 24);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSinkStop() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        int[] calls = {0};
+        long count = model.getSolver().findAllSolutions(new SolutionLayout(x), values -> ++calls[0] < 5);
+        Assert.assertEquals(count, 5);
+        Assert.assertEquals(calls[0], 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testChannelSink() throws Exception {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, -1, 1);
+        model.allDifferent(x).post();
+        SolutionLayout layout = new SolutionLayout(x);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long count;
+        // a small buffer to force intermediate writes
+        try (ChannelSolutionSink sink = new ChannelSolutionSink(Channels.newChannel(bytes), 5)) {
+            count = model.getSolver().findAllSolutions(layout, sink);
+        }
+        Assert.assertEquals(count, 6);
+        Assert.assertEquals(bytes.size(), 6 * 3 * Integer.BYTES);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Set<String> distinct = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            int a = in.readInt(), b = in.readInt(), c = in.readInt();
+            Assert.assertEquals(a + b + c, 0);
+            distinct.add(a + "," + b + "," + c);
+        }
+        Assert.assertEquals(distinct.size(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStreamSnapshots() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        model.allDifferent(x).post();
+        SolutionLayout layout = new SolutionLayout(x);
+        Set<String> distinct = model.getSolver().streamSolutions(layout)
+                .map(Arrays::toString)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(distinct.size(), 6);
+    }
 }
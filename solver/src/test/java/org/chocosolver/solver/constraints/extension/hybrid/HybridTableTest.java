@@ -11,6 +11,9 @@ package org.chocosolver.solver.constraints.extension.hybrid;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTableSmart;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.BoolVar;
@@ -19,6 +22,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.chocosolver.solver.constraints.extension.hybrid.HybridTuples.*;
 
@@ -405,4 +409,64 @@ public class HybridTableTest {
         solver.findAllSolutions();
         Assert.assertEquals(solver.getSolutionCount(), 0);
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBasicSmart() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            HybridTuples tuples = new HybridTuples();
+            for (int t = 0; t < 30; t++) {
+                ISupportable[] tuple = new ISupportable[5];
+                for (int i = 0; i < tuple.length; i++) {
+                    int v = rnd.nextInt(6);
+                    switch (rnd.nextInt(seed % 2 == 0 ? 2 : 8)) {
+                        case 0:
+                            tuple[i] = eq(v);
+                            break;
+                        case 1:
+                            tuple[i] = any();
+                            break;
+                        case 2:
+                            tuple[i] = ne(v);
+                            break;
+                        case 3:
+                            tuple[i] = le(v);
+                            break;
+                        case 4:
+                            tuple[i] = gt(v);
+                            break;
+                        case 5:
+                            tuple[i] = in(v, v + 2);
+                            break;
+                        case 6:
+                            tuple[i] = nin(v, v + 1);
+                            break;
+                        default:
+                            tuple[i] = lt(v);
+                            break;
+                    }
+                }
+                tuples.add(tuple);
+            }
+            Assert.assertTrue(tuples.isBasic());
+            long[][] counts = new long[2][];
+            for (int k = 0; k < 2; k++) {
+                Model model = new Model();
+                IntVar[] vars = seed % 3 == 0 ?
+                        model.intVarArray("x", 5, 0, 5, true) :
+                        model.intVarArray("x", 5, 0, 5);
+                Constraint c = k == 0 ?
+                        new Constraint(ConstraintsName.TABLE, new PropHybridTable(vars, tuples)) :
+                        model.table(vars, tuples);
+                Assert.assertEquals(c.getPropagator(0) instanceof PropCompactTableSmart, k == 1);
+                c.post();
+                model.allDifferent(vars[1], vars[2], vars[3]).post();
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.inputOrderLBSearch(vars));
+                solver.findAllSolutions();
+                counts[k] = new long[]{solver.getSolutionCount(), solver.getNodeCount()};
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed " + seed);
+        }
+    }
 }
@@ -15,11 +15,15 @@ import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 
@@ -209,4 +213,78 @@ public class CumulativeTest {
             }
         }
 	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testProfileFilters(){
+		for (int seed = 0; seed < 50; seed++) {
+			long ref = countSolutions(seed, Cumulative.Filter.TIME);
+			Assert.assertEquals(countSolutions(seed, Cumulative.Filter.PROFILE), ref, "seed " + seed);
+			Assert.assertEquals(countSolutions(seed, Cumulative.Filter.TTEF), ref, "seed " + seed);
+		}
+	}
+
+	private static long countSolutions(long seed, Cumulative.Filter filter) {
+		Random rnd = new Random(seed);
+		int n = 2 + rnd.nextInt(2);
+		int horizon = 4 + rnd.nextInt(4);
+		Model model = new Model();
+		IntVar[] s = new IntVar[n];
+		IntVar[] d = new IntVar[n];
+		IntVar[] h = new IntVar[n];
+		Task[] tasks = new Task[n];
+		for (int i = 0; i < n; i++) {
+			s[i] = model.intVar("s" + i, rnd.nextInt(2), horizon);
+			int dmin = rnd.nextInt(3);
+			d[i] = model.intVar("d" + i, dmin, dmin + rnd.nextInt(2));
+			int hmin = rnd.nextInt(3);
+			h[i] = model.intVar("h" + i, hmin, hmin + rnd.nextInt(2));
+			tasks[i] = new Task(s[i], d[i], model.intVar("e" + i, 0, horizon));
+		}
+		IntVar capa = model.intVar("capa", 1, 2 + rnd.nextInt(2));
+		model.cumulative(tasks, h, capa, false, filter).post();
+		Solver solver = model.getSolver();
+		solver.setSearch(inputOrderLBSearch(ArrayUtils.append(s, d, h, new IntVar[]{capa})));
+		while (solver.solve()) ;
+		return solver.getSolutionCount();
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testTTEF() throws ContradictionException {
+		for (Cumulative.Filter filter : new Cumulative.Filter[]{Cumulative.Filter.PROFILE, Cumulative.Filter.TTEF}) {
+			Model model = new Model();
+			Task a = new Task(model.intVar("a", 0, 5), 5);
+			Task b = new Task(model.intVar("b", 0, 5), 5);
+			Task c = new Task(model.intVar("c", 2, 27), 3);
+			model.cumulative(new Task[]{a, b, c},
+					new IntVar[]{model.intVar(2), model.intVar(2), model.intVar(1)},
+					model.intVar(2), false, filter).post();
+			model.getSolver().propagate();
+			// a and b fill [0, 10) together, c cannot start before
+			Assert.assertEquals(c.getStart().getLB(), filter == Cumulative.Filter.TTEF ? 10 : 2);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testLargeHorizon() {
+		// minute granularity over a year
+		int horizon = 365 * 24 * 60;
+		for (Cumulative.Filter filter : new Cumulative.Filter[]{Cumulative.Filter.PROFILE, Cumulative.Filter.TTEF}) {
+			Model model = new Model();
+			int n = 50;
+			Random rnd = new Random(0);
+			Task[] tasks = new Task[n];
+			IntVar[] heights = new IntVar[n];
+			IntVar[] starts = new IntVar[n];
+			for (int i = 0; i < n; i++) {
+				starts[i] = model.intVar("s" + i, 0, horizon, true);
+				tasks[i] = new Task(starts[i], 100 + rnd.nextInt(10_000));
+				heights[i] = model.intVar(1 + rnd.nextInt(3));
+			}
+			model.cumulative(tasks, heights, model.intVar(4), false, filter).post();
+			Solver solver = model.getSolver();
+			solver.setSearch(inputOrderLBSearch(starts));
+			Assert.assertTrue(solver.solve());
+			Assert.assertEquals(model.getSolver().isSatisfied(), ESat.TRUE);
+		}
+	}
 }
@@ -0,0 +1,148 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests the diffN constraint
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DiffNTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweep() throws ContradictionException {
+        Model model = new Model(Settings.init().setEnableSweepInDiffN(true));
+        // two fixed squares leave no room for a 2x2 square at x = 0 or x = 1
+        IntVar[] x = {model.intVar(0), model.intVar(0), model.intVar("x", 0, 6)};
+        IntVar[] y = {model.intVar(0), model.intVar(2), model.intVar("y", 0, 2)};
+        IntVar[] w = {model.intVar(3), model.intVar(3), model.intVar(2)};
+        IntVar[] h = {model.intVar(2), model.intVar(2), model.intVar(2)};
+        model.diffN(x, y, w, h, false).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x[2].getLB(), 3);
+        Assert.assertEquals(x[2].getUB(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweepUpper() throws ContradictionException {
+        Model model = new Model(Settings.init().setEnableSweepInDiffN(true));
+        IntVar[] x = {model.intVar(4), model.intVar(4), model.intVar("x", 0, 5)};
+        IntVar[] y = {model.intVar(0), model.intVar(2), model.intVar("y", 0, 2)};
+        IntVar[] w = {model.intVar(3), model.intVar(3), model.intVar(2)};
+        IntVar[] h = {model.intVar(2), model.intVar(2), model.intVar(2)};
+        model.diffN(x, y, w, h, false).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x[2].getUB(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSweepByDefault() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = {model.intVar(0), model.intVar(0), model.intVar("x", 0, 6)};
+        IntVar[] y = {model.intVar(0), model.intVar(2), model.intVar("y", 0, 2)};
+        IntVar[] w = {model.intVar(3), model.intVar(3), model.intVar(2)};
+        IntVar[] h = {model.intVar(2), model.intVar(2), model.intVar(2)};
+        model.diffN(x, y, w, h, false).post();
+        model.getSolver().propagate();
+        // no rectangle is filtered pairwise, since y is not fixed
+        Assert.assertEquals(x[2].getLB(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 40; seed++) {
+            long[] counts = new long[3];
+            for (int k = 0; k < 3; k++) {
+                Random rnd = new Random(seed);
+                int n = 2 + rnd.nextInt(2);
+                int size = 2 + rnd.nextInt(3);
+                Model model = new Model(Settings.init().setEnableSweepInDiffN(k == 1));
+                IntVar[] x = new IntVar[n];
+                IntVar[] y = new IntVar[n];
+                IntVar[] w = new IntVar[n];
+                IntVar[] h = new IntVar[n];
+                for (int i = 0; i < n; i++) {
+                    x[i] = model.intVar("x" + i, 0, size);
+                    y[i] = model.intVar("y" + i, 0, size);
+                    int wmin = rnd.nextInt(3);
+                    w[i] = model.intVar("w" + i, wmin, wmin + rnd.nextInt(2));
+                    int hmin = 1 + rnd.nextInt(2);
+                    h[i] = model.intVar("h" + i, hmin, hmin + rnd.nextInt(2));
+                }
+                if (k < 2) {
+                    model.diffN(x, y, w, h, false).post();
+                } else {
+                    for (int i = 0; i < n; i++) {
+                        for (int j = i + 1; j < n; j++) {
+                            model.or(
+                                    model.arithm(x[i], "+", w[i], ">", x[j]).reify().not(),
+                                    model.arithm(x[j], "+", w[j], ">", x[i]).reify().not(),
+                                    model.arithm(y[i], "+", h[i], ">", y[j]).reify().not(),
+                                    model.arithm(y[j], "+", h[j], ">", y[i]).reify().not()
+                            ).post();
+                        }
+                    }
+                }
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.randomSearch(ArrayUtils.append(x, y, w, h), seed));
+                while (solver.solve()) ;
+                counts[k] = solver.getSolutionCount();
+            }
+            Assert.assertEquals(counts[0], counts[2], "seed " + seed);
+            Assert.assertEquals(counts[1], counts[2], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testManyRectangles() {
+        // a grid of bays, each bay holds a few rectangles
+        int bays = 25;
+        int perBay = 4;
+        int n = bays * bays * perBay;
+        Model model = new Model(Settings.init().setEnableSweepInDiffN(true));
+        IntVar[] x = new IntVar[n];
+        IntVar[] y = new IntVar[n];
+        IntVar[] w = new IntVar[n];
+        IntVar[] h = new IntVar[n];
+        for (int bx = 0, i = 0; bx < bays; bx++) {
+            for (int by = 0; by < bays; by++) {
+                for (int k = 0; k < perBay; k++, i++) {
+                    x[i] = model.intVar("x" + i, 10 * bx, 10 * bx + 5);
+                    y[i] = model.intVar("y" + i, 10 * by, 10 * by + 5);
+                    w[i] = model.intVar(5);
+                    h[i] = model.intVar(5);
+                }
+            }
+        }
+        model.diffN(x, y, w, h, false).post();
+        IntVar[] decisions = new IntVar[2 * n];
+        for (int i = 0; i < n; i++) {
+            decisions[2 * i] = x[i];
+            decisions[2 * i + 1] = y[i];
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(decisions));
+        Assert.assertTrue(solver.solve());
+        Assert.assertEquals(solver.getFailCount(), 0);
+    }
+}
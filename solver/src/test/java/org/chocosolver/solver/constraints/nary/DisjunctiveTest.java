@@ -0,0 +1,170 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests the disjunctive constraint
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DisjunctiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverload() {
+        Model model = new Model();
+        Task[] tasks = new Task[3];
+        for (int i = 0; i < 3; i++) {
+            tasks[i] = new Task(model.intVar("s" + i, 0, 5), 3);
+        }
+        model.disjunctive(tasks).post();
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getNodeCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        Model model = new Model();
+        Task a = new Task(model.intVar("a", 0, 16), 4);
+        Task b = new Task(model.intVar("b", 0, 7), 3);
+        Task c = new Task(model.intVar("c", 0, 6), 4);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        // a cannot be processed before b and c end
+        Assert.assertEquals(a.getStart().getLB(), 7);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNotLast() throws ContradictionException {
+        Model model = new Model();
+        Task a = new Task(model.intVar("a", 0, 10), 2);
+        Task b = new Task(model.intVar("b", 5, 10), 3);
+        Task c = new Task(model.intVar("c", 5, 10), 3);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        // a cannot end after both b and c
+        Assert.assertEquals(a.getStart().getUB(), 8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptionalExcluded() throws ContradictionException {
+        Model model = new Model();
+        Task a = new Task(model.intVar("a", 0, 1), 9);
+        Task b = new Task(model.intVar("b", 2, 5), 3);
+        BoolVar pa = model.boolVar("pa", true);
+        BoolVar pb = model.boolVar("pb");
+        model.disjunctive(new Task[]{a, b}, new BoolVar[]{pa, pb}).post();
+        model.getSolver().propagate();
+        Assert.assertTrue(pb.isInstantiatedTo(0));
+        Assert.assertEquals(b.getStart().getLB(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDur0() {
+        Model model = new Model();
+        Task a = new Task(model.intVar("a", 0, 3), 0);
+        Task b = new Task(model.intVar("b", 0, 3), 0);
+        Assert.assertEquals(model.disjunctive(new Task[]{a, b}).isSatisfied(), ESat.TRUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 40; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(3);
+            int horizon = 3 + rnd.nextInt(n + 3);
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                rnd.setSeed(seed);
+                Model model = new Model();
+                IntVar[] s = new IntVar[n];
+                IntVar[] d = new IntVar[n];
+                Task[] tasks = new Task[n];
+                for (int i = 0; i < n; i++) {
+                    int dmin = rnd.nextInt(3);
+                    s[i] = model.intVar("s" + i, rnd.nextInt(3), horizon);
+                    d[i] = model.intVar("d" + i, dmin, dmin + rnd.nextInt(3));
+                    tasks[i] = new Task(s[i], d[i], model.intVar("e" + i, 0, horizon));
+                }
+                if (k == 0) {
+                    model.disjunctive(tasks).post();
+                } else {
+                    IntVar one = model.intVar(1);
+                    IntVar[] h = new IntVar[n];
+                    for (int i = 0; i < n; i++) {
+                        h[i] = one;
+                    }
+                    model.cumulative(tasks, h, one).post();
+                }
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.append(s, d)));
+                while (solver.solve()) ;
+                counts[k] = solver.getSolutionCount();
+            }
+            Assert.assertEquals(counts[0], counts[1], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandomOptional() {
+        for (int seed = 0; seed < 30; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(2);
+            int horizon = 3 + rnd.nextInt(n + 3);
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                rnd.setSeed(seed);
+                Model model = new Model();
+                IntVar[] s = new IntVar[n];
+                IntVar[] d = new IntVar[n];
+                BoolVar[] p = model.boolVarArray("p", n);
+                Task[] tasks = new Task[n];
+                for (int i = 0; i < n; i++) {
+                    int dmin = rnd.nextInt(3);
+                    s[i] = model.intVar("s" + i, rnd.nextInt(3), horizon);
+                    d[i] = model.intVar("d" + i, dmin, dmin + rnd.nextInt(3));
+                    tasks[i] = new Task(s[i], d[i], model.intVar("e" + i, 0, horizon));
+                }
+                if (k == 0) {
+                    model.disjunctive(tasks, p).post();
+                } else {
+                    for (int i = 0; i < n; i++) {
+                        for (int j = i + 1; j < n; j++) {
+                            model.or(p[i].not(), p[j].not(),
+                                    model.arithm(d[i], "=", 0).reify(),
+                                    model.arithm(d[j], "=", 0).reify(),
+                                    model.arithm(tasks[i].getEnd(), "<=", s[j]).reify(),
+                                    model.arithm(tasks[j].getEnd(), "<=", s[i]).reify()).post();
+                        }
+                    }
+                }
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.append(p, s, d)));
+                while (solver.solve()) ;
+                counts[k] = solver.getSolutionCount();
+            }
+            Assert.assertEquals(counts[0], counts[1], "seed " + seed);
+        }
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
@@ -663,6 +664,22 @@ public class SumTest {
         }
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAdvisor() {
+        String[] ops = {"=", "<=", ">="};
+        int[] rhs = {2, 2, 106};
+        int[] expected = {666, 703, 703};
+        for (int k = 0; k < ops.length; k++) {
+            model = new Model();
+            IntVar[] vars = model.intVarArray(36, 0, 3);
+            Constraint sum = model.sum(vars, ops[k], rhs[k]);
+            sum.post();
+            model.getSolver().setSearch(Search.randomSearch(vars, k));
+            assertEquals(model.getSolver().streamSolutions().count(), expected[k], ops[k]);
+            assertTrue(sum.getPropagator(0).isAdvised());
+        }
+    }
+
     @Test(groups = "10s")
     public void testBigCoeffs2() throws ContradictionException {
         for (int i = 0; i < 70; i++) {
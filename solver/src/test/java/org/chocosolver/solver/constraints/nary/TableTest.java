@@ -16,6 +16,7 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.*;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.ColumnarTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
@@ -34,8 +35,12 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -964,4 +969,80 @@ public class TableTest {
         }
     }
 
-}
\ No newline at end of file
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testColumnarStore() throws IOException {
+        Random rnd = new Random(0);
+        List<int[]> rows = new ArrayList<>();
+        for (int k = 0; k < 500; k++) {
+            // the last column has a sparse range
+            rows.add(new int[]{rnd.nextInt(10) - 5, rnd.nextInt(3), rnd.nextInt(1_000_000) * (rnd.nextBoolean() ? 1 : -1)});
+        }
+        ColumnarTuples store = ColumnarTuples.of(3, rows);
+        Path path = Files.createTempFile("tuples", ".bin");
+        try {
+            store.write(path);
+            for (boolean mapped : new boolean[]{true, false}) {
+                ColumnarTuples read = ColumnarTuples.read(path, mapped);
+                Assert.assertEquals(read.arity(), 3);
+                Assert.assertEquals(read.nbTuples(), rows.size());
+                for (int c = 0; c < 3; c++) {
+                    Assert.assertEquals(read.min(c), store.min(c));
+                    Assert.assertEquals(read.max(c), store.max(c));
+                    ColumnarTuples.ValueIndex index = read.index(c);
+                    int count = 0;
+                    for (int r = 0; r < rows.size(); r++) {
+                        Assert.assertEquals(read.get(r, c), rows.get(r)[c]);
+                        int k = index.find(rows.get(r)[c]);
+                        Assert.assertTrue(k >= 0);
+                        for (int j = index.start(k); j < index.end(k); j++) {
+                            Assert.assertEquals(read.get(index.row(j), c), rows.get(r)[c]);
+                        }
+                    }
+                    for (int k = 0; index.start(k) < rows.size(); k++) {
+                        count += index.end(k) - index.start(k);
+                    }
+                    Assert.assertEquals(count, rows.size());
+                    Assert.assertTrue(index.find(Integer.MAX_VALUE) < 0);
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "algos")
+    public void testColumnarTable(String a) throws IOException {
+        Tuples tuples = new Tuples(true);
+        Random rnd = new Random(a.hashCode());
+        for (int k = 0; k < 200; k++) {
+            tuples.add(rnd.nextInt(6) - 1, rnd.nextInt(6) - 1, rnd.nextInt(6) - 1, rnd.nextInt(6) - 1);
+        }
+        Path path = Files.createTempFile("tuples", ".bin");
+        try {
+            TuplesFactory.save(tuples, path);
+            long[] counts = new long[3];
+            for (int i = 0; i < 3; i++) {
+                Model model = new Model();
+                // initial domains exclude some tuples
+                IntVar[] vars = model.intVarArray(4, 0, 3);
+                Tuples ts = i == 0 ? tuples : TuplesFactory.load(path, true, i == 1);
+                model.table(vars, ts, a).post();
+                model.allDifferent(vars[0], vars[1]).post();
+                counts[i] = model.getSolver().streamSolutions().count();
+            }
+            Assert.assertEquals(counts[1], counts[0]);
+            Assert.assertEquals(counts[2], counts[0]);
+            Assert.assertTrue(counts[0] > 0);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testColumnarReadOnly() {
+        Tuples tuples = new Tuples(ColumnarTuples.of(2, Collections.singletonList(new int[]{1, 2})), true);
+        Assert.assertEquals(tuples.nbTuples(), 1);
+        tuples.add(3, 4);
+    }
+}
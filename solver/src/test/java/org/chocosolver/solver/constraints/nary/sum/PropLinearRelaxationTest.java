@@ -0,0 +1,144 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropLinearRelaxationTest {
+
+    private static Model knapsack(long seed, int n, int m, boolean relax, int frequency) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", n, 0, 3);
+        IntVar obj = model.intVar("obj", 0, 10_000, true);
+        int[] c = new int[n];
+        for (int j = 0; j < n; j++) {
+            c[j] = 1 + rnd.nextInt(30);
+        }
+        model.scalar(x, c, "=", obj).post();
+        for (int i = 0; i < m; i++) {
+            int[] a = new int[n];
+            int s = 0;
+            for (int j = 0; j < n; j++) {
+                a[j] = 1 + rnd.nextInt(20);
+                s += a[j];
+            }
+            model.scalar(x, a, "<=", s).post();
+        }
+        if (relax) {
+            model.linearRelaxation(obj, true, frequency).post();
+        }
+        model.setObjective(Model.MAXIMIZE, obj);
+        model.getSolver().setSearch(Search.inputOrderUBSearch(x));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        for (int seed = 0; seed < 5; seed++) {
+            Model m1 = knapsack(seed, 12, 3, false, 1);
+            Model m2 = knapsack(seed, 12, 3, true, 1);
+            Solution s1 = m1.getSolver().findOptimalSolution((IntVar) m1.getObjective(), true);
+            Solution s2 = m2.getSolver().findOptimalSolution((IntVar) m2.getObjective(), true);
+            Assert.assertNotNull(s1);
+            Assert.assertNotNull(s2);
+            Assert.assertEquals(s2.getIntVal((IntVar) m2.getObjective()), s1.getIntVal((IntVar) m1.getObjective()));
+            Assert.assertTrue(m2.getSolver().getNodeCount() <= m1.getSolver().getNodeCount(),
+                    m2.getSolver().getNodeCount() + " > " + m1.getSolver().getNodeCount());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFrequency() {
+        Model m1 = knapsack(7, 12, 3, true, 1);
+        Model m2 = knapsack(7, 12, 3, true, 10);
+        Solution s1 = m1.getSolver().findOptimalSolution((IntVar) m1.getObjective(), true);
+        Solution s2 = m2.getSolver().findOptimalSolution((IntVar) m2.getObjective(), true);
+        Assert.assertEquals(s2.getIntVal((IntVar) m2.getObjective()), s1.getIntVal((IntVar) m1.getObjective()));
+        PropLinearRelaxation p1 = relaxation(m1);
+        PropLinearRelaxation p2 = relaxation(m2);
+        Assert.assertTrue(p2.getNbSolves() * 10 <= m2.getSolver().getNodeCount() + 10);
+        Assert.assertTrue(p1.getNbSolves() > p2.getNbSolves());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMinimize() throws ContradictionException {
+        // minimize 3x + 5y + 4z s.t. 2x + 3y + 3z >= 17, x + 2y + z >= 8
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 100);
+        IntVar y = model.intVar("y", 0, 100);
+        IntVar z = model.intVar("z", 0, 100);
+        IntVar obj = model.intVar("obj", 0, 10_000, true);
+        IntVar[] vars = {x, y, z};
+        model.scalar(vars, new int[]{3, 5, 4}, "=", obj).post();
+        model.scalar(vars, new int[]{2, 3, 3}, ">=", 17).post();
+        model.scalar(vars, new int[]{1, 2, 1}, ">=", 8).post();
+        model.linearRelaxation(obj, false, 1).post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        // the LP optimum is 25, reached with x = 7, z = 1
+        Assert.assertEquals(obj.getLB(), 25);
+        Solution s = solver.findOptimalSolution(obj, false);
+        Assert.assertEquals(s.getIntVal(obj), 25);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasible() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 100_000, true);
+        model.scalar(x, new int[]{1, 1, -1, -1}, ">=", 3).post();
+        model.scalar(x, new int[]{-1, -1, 1, 1}, ">=", 3).post();
+        IntVar obj = model.intVar("obj", 0, 1_000_000, true);
+        model.sum(x, "=", obj).post();
+        model.linearRelaxation(obj, true, 1).post();
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getNodeCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReducedCostFixing() throws ContradictionException {
+        // maximize 10a + 2b + c, with a + b + c <= 3 and obj >= 25 (as an incumbent cut would do)
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        IntVar obj = model.intVar("obj", 25, 100, true);
+        model.scalar(x, new int[]{10, 2, 1}, "=", obj).post();
+        model.sum(x, "<=", 3).post();
+        model.linearRelaxation(obj, true, 1).post();
+        model.getSolver().propagate();
+        // the LP optimum is 30 (a = 3); each unit of a left degrades it by 8, hence a = 3
+        Assert.assertEquals(obj.getUB(), 30);
+        Assert.assertTrue(x[0].isInstantiatedTo(3));
+    }
+
+    private static PropLinearRelaxation relaxation(Model model) {
+        for (Constraint c : model.getCstrs()) {
+            if (c.getPropagator(0) instanceof PropLinearRelaxation) {
+                return (PropLinearRelaxation) c.getPropagator(0);
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.real;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.continuous.relational.PropEquation;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.chocosolver.util.tools.RealUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * Tests of real constraints declared with functions, when Ibex is disabled.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class RealFunctionParserTest {
+
+    private static Model model() {
+        return new Model(Settings.init().setEnableIbex(false));
+    }
+
+    private static long count(String function, double lb, double ub) {
+        Model model = model();
+        RealVar x = model.realVar("x", lb, ub, 1e-1);
+        model.realIbexGenericConstraint(function, x).post();
+        return model.getSolver().streamSolutions().count();
+    }
+
+    @DataProvider(name = "functions")
+    public Object[][] functions() {
+        return new Object[][]{
+                {"{0} = 1", 0., 5., 1},
+                {"{0} < 2", 2.15, 5., 0},
+                {"{0} >= 5", 0., 5., 1},
+                {"-{0} = 3", -5., 5., 1},
+                {"2 * {0} + 1 = 4", 0., 5., 1},
+                {"{0}^2 = 4", -5., 5., 2},
+                {"{0}^3 = -8", -5., 5., 1},
+                {"{0}^-1 = 0.5", 0.5, 5., 1},
+                {"sqr({0}) = 9", -5., 5., 2},
+                {"sqrt({0}) = 2", 0., 9., 1},
+                {"abs({0}) = 2", -5., 5., 2},
+                {"exp({0}) = 1", -5., 5., 1},
+                {"ln({0}) = 0", 0.5, 5., 1},
+                {"log({0}) = 1", 0.5, 5., 1},
+                {"cos({0}) = 1", 0., 4 * Math.PI, 3},
+                {"sin({0}) = 0", 0., 4 * Math.PI, 5},
+                {"tan({0}) = 0", 0., 5., 2},
+                {"acos({0}) = 0", -10., 10., 1},
+                {"asin({0}) = pi/2", -10., 10., 1},
+                {"atan({0}) = 0", -10., 10., 1},
+                {"cosh({0}) = 1", -5., 5., 1},
+                {"sinh({0}) = 0", -5., 5., 1},
+                {"tanh({0}) = 0", -5., 5., 1},
+                {"acosh({0}) = 0", -5., 5., 1},
+                {"asinh({0}) = 0", -5., 5., 1},
+                {"atanh({0}) = 0", -.9, .9, 1},
+                {"atan2({0}, 1) = 0", -5., 5., 1},
+                {"min({0}, 2) = 3", 0., 5., 0},
+                {"max({0}, 2) = 3", 0., 5., 1},
+                {"{0} + [-0.01,0.01] = 1.5e0", 0., 5., 1},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "functions")
+    public void testFunctions(String function, double lb, double ub, int nbSol) {
+        Assert.assertEquals(count(function, lb, ub), nbSol, function);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPropagators() {
+        Model model = model();
+        RealVar x = model.realVar("x", 0, 5, 1e-1);
+        RealVar y = model.realVar("y", 0, 5, 1e-1);
+        RealConstraint c = new RealConstraint("{0} + {1} = 3;{0} - {1} = 1", x, y);
+        Assert.assertEquals(c.getPropagators().length, 2);
+        Assert.assertTrue(c.getPropagator(0) instanceof PropEquation);
+        c.post();
+        Solver solver = model.getSolver();
+        Assert.assertTrue(solver.solve());
+        Assert.assertEquals(x.getLB(), 2., 1e-1);
+        Assert.assertEquals(y.getLB(), 1., 1e-1);
+        Assert.assertFalse(solver.solve());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCycloHexan() {
+        Model model = model();
+        RealVar x = model.realVar("x", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1e-4);
+        RealVar y = model.realVar("y", -1.0e8, 1.0e8, 1e-4);
+        RealVar z = model.realVar("z", -1.0e8, 1.0e8, 1e-4);
+        RealVar[] vars = {x, y, z};
+        model.realIbexGenericConstraint(
+                "{1}^2 * (1 + {2}^2) + {2} * ({2} - 24 * {1}) = -13;" +
+                        "{0}^2 * (1 + {1}^2) + {1} * ({1} - 24 * {0}) = -13;" +
+                        "{2}^2 * (1 + {0}^2) + {0} * ({0} - 24 * {2}) = -13",
+                vars).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.realVarSearch(vars));
+        while (solver.solve()) {
+            for (RealVar v : vars) {
+                // solutions are symmetric with respect to the origin
+                double a = Math.abs(v.getLB());
+                Assert.assertTrue(Math.abs(a - 0.3320731) < 1e-3
+                        || Math.abs(a - 4.6251816) < 1e-3
+                        || Math.abs(a - 0.7795480) < 1e-3
+                        || Math.abs(a - 10.857704) < 1e-3, v.toString());
+            }
+        }
+        Assert.assertTrue(solver.getSolutionCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSantaClaude() {
+        int n_gifts = 8, n_kids = 4, max_price = 25;
+        Model model = model();
+        Random rand = new Random(29091981);
+        IntVar[] kid_gift = model.intVarArray("g2k", n_kids, 0, n_gifts, false);
+        IntVar[] kid_price = model.intVarArray("p2k", n_kids, 0, max_price, false);
+        RealVar average = model.realVar("average", 0, max_price * n_kids, 1e-6);
+        int[] gift_price = new int[n_gifts];
+        for (int i = 0; i < n_gifts; i++) {
+            gift_price[i] = rand.nextInt(max_price) + 1;
+        }
+        model.allDifferent(kid_gift, "BC").post();
+        for (int i = 0; i < n_kids; i++) {
+            model.element(kid_price[i], gift_price, kid_gift[i], 0).post();
+        }
+        StringBuilder fun = new StringBuilder("(");
+        for (int i = 0; i < n_kids; i++) {
+            fun.append("+{").append(i).append('}');
+        }
+        fun.append(")/").append(n_kids).append("=").append('{').append(n_kids).append('}');
+        model.realIbexGenericConstraint(fun.toString(),
+                ArrayUtils.append(model.realIntViewArray(kid_price, 1e-6), new RealVar[]{average})).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(kid_gift));
+        while (solver.solve()) {
+            int sum = 0;
+            for (IntVar p : kid_price) {
+                sum += p.getValue();
+            }
+            Assert.assertEquals(average.getLB(), sum / (double) n_kids, 1e-6);
+        }
+        // each kid receives a distinct gift among the 8 available
+        Assert.assertEquals(solver.getSolutionCount(), 8 * 7 * 6 * 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIntVars() {
+        Model model = model();
+        IntVar foo = model.intVar("foo", 0, 20);
+        IntVar wow = model.intVar("wow", new int[]{1, 2, 4});
+        model.realIbexGenericConstraint("{0} / {1} = 4.5", foo, wow).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(foo, wow));
+        Assert.assertEquals(solver.streamSolutions().count(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReify() {
+        Model model = model();
+        RealVar x = model.realVar("x", 0, 5, 1e-1);
+        BoolVar b = new RealConstraint("{0} >= 3", x).reify();
+        model.arithm(b, "=", 0).post();
+        Solver solver = model.getSolver();
+        while (solver.solve()) {
+            Assert.assertTrue(x.getUB() <= 3.);
+        }
+        Assert.assertTrue(solver.getSolutionCount() > 0);
+    }
+
+    @DataProvider(name = "literals")
+    public Object[][] literals() {
+        return new Object[][]{
+                {"0.1"}, {"0.3"}, {"1e-310"}, {"3.14159265358979323846"}, {"0.5"}, {"4.5"}, {"1e308"}, {"2.5e-3"},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "literals")
+    public void testLiterals(String literal) {
+        Model model = model();
+        RealVar x = model.realVar("x", 0., 1., 1e-3);
+        new RealFunctionParser(x).parse("{0} = " + literal);
+        Assert.assertEquals(model.getNbRealVar(), 2);
+        RealVar cst = model.getVar(1).asRealVar();
+        BigDecimal exact = new BigDecimal(literal);
+        double d = exact.doubleValue();
+        if (new BigDecimal(d).compareTo(exact) == 0) {
+            Assert.assertEquals(cst.getLB(), d);
+            Assert.assertEquals(cst.getUB(), d);
+        } else {
+            Assert.assertTrue(new BigDecimal(cst.getLB()).compareTo(exact) < 0, cst.toString());
+            Assert.assertTrue(new BigDecimal(cst.getUB()).compareTo(exact) > 0, cst.toString());
+            Assert.assertEquals(RealUtils.nextFloat(cst.getLB()), cst.getUB());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testSyntaxError1() {
+        count("{0} + = 1", 0., 5.);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testSyntaxError2() {
+        count("foo({0}) = 1", 0., 5.);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testSyntaxError3() {
+        count("{1} = 1", 0., 5.);
+    }
+}
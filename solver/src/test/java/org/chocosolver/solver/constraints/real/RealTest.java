@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.real;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -303,7 +304,7 @@ public class RealTest {
         solver.solve();
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
         public void testHM2a() {
         Model model = new Model("Default model");
         double precision = 1.e-1;
@@ -807,9 +808,9 @@ public class RealTest {
         Assert.assertEquals(solver.getSolutionCount(), 8);
     }
 
-    @Test(groups = "1s", expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
         public void testMove4a() {
-        Model model = new Model();
+        Model model = new Model(Settings.init().setEnableIbex(false));
         RealVar[] y = model.realVarArray(3, -10., 10., 1.E-5);
         y[0].pow(2).mul(y[1]).pow(2).mul(y[2]).pow(2).eq(1).post();
         y[0].pow(2).eq(y[1].pow(2)).post();
@@ -903,7 +904,7 @@ public class RealTest {
         Assert.assertEquals(solver.getSolutionCount(), 0);
     }
 
-    @Test(groups="1s", timeOut=60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups="1s", timeOut=60000)
     public void testJuha2b() {
         Model model = new Model("model");
         IntVar foo = model.intVar("foo", 0, 20);
@@ -915,7 +916,8 @@ public class RealTest {
         Solver solver = model.getSolver();
         solver.setSearch(Search.inputOrderLBSearch(foo, wow));
         solver.findAllSolutions();
-        Assert.assertEquals(solver.getSolutionCount(), 0);
+        // foo = 9, wow = 2 and foo = 18, wow = 4
+        Assert.assertEquals(solver.getSolutionCount(), 2);
     }
 
     @Test(groups="ibex", timeOut=60000, threadPoolSize = 4, invocationCount = 10, priority = 10)
@@ -207,16 +207,16 @@ public class ExpressionTest {
         eval(model, x.neg().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test16() {
         Model model = new Model();
         RealVar x = model.realVar("x", -2, 2, 0.1d);
         RealVar y = model.realVar("y", 4, 5, 0.1d);
-        // note: pow(2.0d) does not recognize that d is exactly an even integer
-        eval(model, x.pow(2.0d).eq(y), 1);
+        // note: pow(2.0d) is recognized as an even power, hence x = -2 and x = 2
+        eval(model, x.pow(2.0d).eq(y), 2);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test17() {
         Model model = new Model();
         RealVar x = model.realVar("x", -2, 2, 0.1d);
@@ -224,7 +224,7 @@ public class ExpressionTest {
         eval(model, x.pow(3).eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test18() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -232,7 +232,7 @@ public class ExpressionTest {
         eval(model, x.atan2(3).eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test19() {
         Model model = new Model();
         RealVar x = model.realVar("x", 1, 10, 0.1d);
@@ -289,7 +289,7 @@ public class ExpressionTest {
         eval(model, x.sin().eq(y), 2);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test23() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -297,7 +297,7 @@ public class ExpressionTest {
         eval(model, x.tan().eq(y), 2);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test24() {
         Model model = new Model();
         RealVar x = model.realVar("x", -10, 10, 0.1d);
@@ -305,7 +305,7 @@ public class ExpressionTest {
         eval(model, x.acos().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test25() {
         Model model = new Model();
         RealVar x = model.realVar("x", -10, 10, 0.1d);
@@ -313,7 +313,7 @@ public class ExpressionTest {
         eval(model, x.asin().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test26() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 10, 0.1d);
@@ -321,7 +321,7 @@ public class ExpressionTest {
         eval(model, x.atan().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test27() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -329,7 +329,7 @@ public class ExpressionTest {
         eval(model, x.cosh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test27a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -337,7 +337,7 @@ public class ExpressionTest {
         eval(model, x.cosh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test28() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -345,7 +345,7 @@ public class ExpressionTest {
         eval(model, x.sinh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test28a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -353,7 +353,7 @@ public class ExpressionTest {
         eval(model, x.sinh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test29() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -361,7 +361,7 @@ public class ExpressionTest {
         eval(model, x.tanh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test29a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -369,7 +369,7 @@ public class ExpressionTest {
         eval(model, x.tanh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test30() {
         Model model = new Model();
         RealVar x = model.realVar("x", -5, 5, 0.1d);
@@ -377,7 +377,7 @@ public class ExpressionTest {
         eval(model, x.acosh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test30a() {
         Model model = new Model();
         RealVar x = model.realVar("x", -5, 5, 0.1d);
@@ -385,7 +385,7 @@ public class ExpressionTest {
         eval(model, x.acosh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test31() {
         Model model = new Model();
         RealVar x = model.realVar("x", 5, 5, 0.1d);
@@ -393,7 +393,7 @@ public class ExpressionTest {
         eval(model, x.asinh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test31a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 2, 3, 0.1d);
@@ -401,7 +401,7 @@ public class ExpressionTest {
         eval(model, x.asinh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test32() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 1, 0.1d);
@@ -0,0 +1,97 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Unit tests for {@link SkylineParetoFront} and {@link NDTreeParetoFront},
+ * checked against {@link ListParetoFront}.
+ */
+public class ParetoFrontTest {
+
+    @DataProvider(name = "fronts")
+    public Object[][] getFronts() {
+        return new Object[][]{
+                {2, new SkylineParetoFront<Integer>(2)},
+                {2, new NDTreeParetoFront<Integer>(2, 3)},
+                {3, new NDTreeParetoFront<Integer>(3)},
+                {4, new NDTreeParetoFront<Integer>(4, 4)},
+                {1, new NDTreeParetoFront<Integer>(1, 2)},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSkyline() {
+        IParetoFront<Integer> front = new SkylineParetoFront<>();
+        List<Integer> removed = new ArrayList<>();
+        Assert.assertTrue(front.add(new int[]{1, 5}, 0, removed::add));
+        Assert.assertTrue(front.add(new int[]{5, 1}, 1, removed::add));
+        Assert.assertTrue(front.add(new int[]{3, 3}, 2, removed::add));
+        Assert.assertFalse(front.add(new int[]{2, 2}, 3, removed::add));
+        Assert.assertTrue(removed.isEmpty());
+        Assert.assertEquals(front.size(), 3);
+        Assert.assertTrue(front.dominates(new int[]{3, 3}));
+        Assert.assertFalse(front.dominates(new int[]{4, 3}));
+        // replaces (3,3)
+        Assert.assertTrue(front.add(new int[]{3, 3}, 4, removed::add));
+        Assert.assertEquals(removed, Arrays.asList(2));
+        // dominates (3,3) and (5,1)
+        Assert.assertTrue(front.add(new int[]{5, 3}, 5, removed::add));
+        Assert.assertEquals(removed, Arrays.asList(2, 4, 1));
+        Assert.assertEquals(front.size(), 2);
+        // obj_0 >= 3, obj_1 >= 2 : (5,3) dominates (3,2)
+        Assert.assertEquals(front.tightestPoint(new int[]{3, 2}, 0), 6);
+        Assert.assertEquals(front.tightestPoint(new int[]{3, 3}, 0), 5);
+        Assert.assertEquals(front.tightestPoint(new int[]{5, 3}, 0), Integer.MIN_VALUE);
+        Assert.assertEquals(front.tightestPoint(new int[]{0, 4}, 0), 2);
+        Assert.assertEquals(front.tightestPoint(new int[]{6, 0}, 1), Integer.MIN_VALUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "fronts")
+    public void testRandom(int n, IParetoFront<Integer> front) {
+        Random rnd = new Random(n);
+        IParetoFront<Integer> reference = new ListParetoFront<>();
+        Set<Integer> removed = new TreeSet<>();
+        Set<Integer> expected = new TreeSet<>();
+        for (int k = 0; k < 3000; k++) {
+            // a drift towards the upper bounds so that the front gets both insertions and removals
+            int[] point = new int[n];
+            for (int j = 0; j < n; j++) {
+                point[j] = rnd.nextInt(100) + k / 100;
+            }
+            Assert.assertEquals(front.dominates(point), reference.dominates(point));
+            Assert.assertEquals(front.add(point, k, removed::add), reference.add(point, k, expected::add));
+            Assert.assertEquals(removed, expected);
+            Assert.assertEquals(front.size(), reference.size());
+            int[] dp = new int[n];
+            for (int j = 0; j < n; j++) {
+                dp[j] = rnd.nextInt(100) + k / 100;
+            }
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(front.tightestPoint(dp, i), reference.tightestPoint(dp, i));
+            }
+        }
+        Set<Integer> payloads = new TreeSet<>();
+        front.forEach((p, t) -> payloads.add(t));
+        Set<Integer> refPayloads = new TreeSet<>();
+        reference.forEach((p, t) -> refPayloads.add(t));
+        Assert.assertEquals(payloads, refPayloads);
+    }
+}
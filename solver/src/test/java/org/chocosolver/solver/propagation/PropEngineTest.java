@@ -9,7 +9,10 @@
  */
 package org.chocosolver.solver.propagation;
 
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -21,6 +24,8 @@ import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
 import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
@@ -192,4 +197,171 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    /**
+     * A propagator which costs about 100 microseconds per execution and never filters
+     */
+    private static Propagator<IntVar> expensive(IntVar[] vars) {
+        return new Propagator<IntVar>(vars, UNARY, false) {
+            @Override
+            public void propagate(int evtmask) {
+                long end = System.nanoTime() + 100_000;
+                //noinspection StatementWithEmptyBody
+                while (System.nanoTime() < end) ;
+            }
+
+            @Override
+            public ESat isEntailed() {
+                return TRUE;
+            }
+        };
+    }
+
+    /**
+     * 9-queens, with three allDifferent constraints or with binary constraints only
+     */
+    private static Model queens(Settings settings, boolean ac) {
+        Model model = new Model("queens", settings);
+        IntVar[] q = model.intVarArray("Q", 9, 1, 9, false);
+        if (ac) {
+            IntVar[] d1 = new IntVar[9];
+            IntVar[] d2 = new IntVar[9];
+            for (int i = 0; i < 9; i++) {
+                d1[i] = model.intOffsetView(q[i], i);
+                d2[i] = model.intOffsetView(q[i], -i);
+            }
+            model.allDifferent(q, "AC").post();
+            model.allDifferent(d1, "AC").post();
+            model.allDifferent(d2, "AC").post();
+        } else {
+            for (int i = 0; i < 8; i++) {
+                for (int j = i + 1; j < 9; j++) {
+                    model.arithm(q[i], "!=", q[j]).post();
+                    model.arithm(q[i], "!=", q[j], "+", i - j).post();
+                    model.arithm(q[i], "!=", q[j], "+", j - i).post();
+                }
+            }
+        }
+        model.getSolver().setSearch(minDomLBSearch(q));
+        model.addHook("vars", q);
+        return model;
+    }
+
+    private static boolean adapted(Model model) {
+        return Arrays.stream(model.getCstrs())
+                .flatMap(c -> Arrays.stream(c.getPropagators()))
+                .anyMatch(p -> p.getSchedulingPriority() != p.getPriority().getValue());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptivePriority() {
+        for (boolean adapt : new boolean[]{false, true}) {
+            Model model = queens(Settings.init().setAdaptPropagatorPriority(adapt), true);
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), 352);
+            if (!adapt) {
+                Assert.assertFalse(adapted(model));
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptivePriorityDelaysExpensive() {
+        Settings settings = Settings.init().setAdaptPropagatorPriority(true);
+        Model model = queens(settings, false);
+        Propagator<IntVar> expensive = expensive((IntVar[]) model.getHook("vars"));
+        new Constraint("expensive", expensive).post();
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 352);
+        Assert.assertTrue(adapted(model));
+        Assert.assertEquals(expensive.getSchedulingPriority(), settings.getMaxPropagatorPriority());
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testAdaptivePriorityOff() {
+        Settings settings = Settings.init().setAdaptPropagatorPriority(true);
+        Model model = queens(settings, false);
+        new Constraint("expensive", expensive((IntVar[]) model.getHook("vars"))).post();
+        Solver solver = model.getSolver();
+        Assert.assertEquals(solver.findAllSolutions().size(), 352);
+        Assert.assertTrue(adapted(model));
+        solver.reset();
+        settings.setAdaptPropagatorPriority(false);
+        solver.setEngine(new PropagationEngine(model));
+        Assert.assertEquals(solver.findAllSolutions().size(), 352);
+        Assert.assertFalse(adapted(model));
+    }
+
+    /**
+     * A propagator which counts its executions and exposes its bound thresholds
+     */
+    private static class Watcher extends Propagator<IntVar> {
+
+        int runs;
+
+        Watcher(IntVar var) {
+            super(new IntVar[]{var}, UNARY, false);
+        }
+
+        void watch(int lb, int ub) {
+            watchBounds(0, lb, ub);
+        }
+
+        @Override
+        public void propagate(int evtmask) {
+            runs++;
+        }
+
+        @Override
+        public ESat isEntailed() {
+            return TRUE;
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWatchBounds() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        Watcher watcher = new Watcher(x);
+        new Constraint("watcher", watcher).post();
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        solver.propagate();
+        Assert.assertFalse(watcher.isAdvised());
+        assertEquals(watcher.runs, 1);
+        watcher.watch(3, 7);
+        Assert.assertTrue(watcher.isAdvised());
+
+        env.worldPush();
+        x.updateLowerBound(2, Cause.Null);
+        solver.propagate();
+        assertEquals(watcher.runs, 1);
+        x.updateLowerBound(4, Cause.Null);
+        solver.propagate();
+        assertEquals(watcher.runs, 2);
+        watcher.watch(5, 7);
+
+        env.worldPush();
+        x.updateUpperBound(8, Cause.Null);
+        solver.propagate();
+        assertEquals(watcher.runs, 2);
+        x.updateUpperBound(6, Cause.Null);
+        solver.propagate();
+        assertEquals(watcher.runs, 3);
+        env.worldPop();
+        env.worldPop();
+
+        // thresholds declared in a popped world are restored
+        env.worldPush();
+        x.updateLowerBound(4, Cause.Null);
+        solver.propagate();
+        assertEquals(watcher.runs, 4);
+        env.worldPop();
+
+        // removing the restriction schedules the propagator on any modification
+        watcher.watch(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        env.worldPush();
+        x.removeValue(5, Cause.Null);
+        solver.propagate();
+        assertEquals(watcher.runs, 5);
+        env.worldPop();
+    }
 }
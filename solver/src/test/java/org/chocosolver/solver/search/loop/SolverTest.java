@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.loop;
 
+import org.chocosolver.memory.EnvironmentBuilder;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
@@ -18,7 +19,9 @@ import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.monitors.SolvingStatisticsFlow;
+import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.loop.move.MoveBinaryHBFS;
 import org.chocosolver.solver.search.loop.move.MoveBinaryLDS;
 import org.chocosolver.solver.search.restart.LubyCutoff;
 import org.chocosolver.solver.search.strategy.Search;
@@ -125,6 +128,22 @@ public class SolverTest {
         assertEquals(model.getSolver().getNodeCount(), 4542);
     }
 
+    @Test(groups = "10s", timeOut = 60000)
+    public void test1HBFSWithCheckpoints() {
+        Model model = makeGolombRuler(new Model(new EnvironmentBuilder().fromUnified().build(), "golomb"), 8);
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(model.retrieveIntVars(false)));
+        r.setHBFS(.05, .1, 32);
+        int best = -1;
+        while (model.getSolver().solve()) {
+            best = ((IntVar) model.getObjective()).getValue();
+        }
+        assertEquals(best, 34);
+        assertEquals(model.getSolver().getSearchState(), SearchState.TERMINATED);
+        // keeping checkpoints depends on the measured costs, only make sure some were taken
+        Assert.assertTrue(((MoveBinaryHBFS) r.getMove()).getRestorationTime() > 0);
+    }
+
     @Test(groups = "1s", timeOut = 60000)
     public void test2DFS() {
         Model model = makeNQueenWithOneAlldifferent(8);
@@ -12,11 +12,15 @@ package org.chocosolver.util;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MDDBuilder;
 import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 import static org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram.Compact.*;
 
 /**
@@ -252,4 +256,88 @@ public class MDDTest {
         Assert.assertEquals(mdd.getDiagram(), new int[]{3, 11, 19, 0, 0, 6, 0, 0, -1, 0, 0, 0, 0, 14, 0, 0, -1, 0, 0, 22, 0, 0, 0, 0, -1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBuilder() {
+        Model model = new Model();
+        IntVar[] vars = new IntVar[3];
+        vars[0] = model.intVar("X", 0, 2, false);
+        vars[1] = model.intVar("Y", new int[]{0, 2});
+        vars[2] = model.intVar("Z", new int[]{-2, 0, 2});
+        Tuples tuples = new Tuples();
+        tuples.add(2, 0, 0);
+        tuples.add(0, 2, 0);
+        tuples.add(1, 2, 0);
+
+        MultivaluedDecisionDiagram mdd = new MDDBuilder(vars).addTuples(tuples).build();
+        model.mddc(vars, mdd).post();
+
+        Solver solver = model.getSolver();
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 3);
+        Assert.assertEquals(mdd.getDiagram(), new int[]{8, 8, 11, 0, 0, -1, 0, 0, 0, 0, 3, 3, 0, 0});
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testBuilderUnsorted() {
+        MDDBuilder builder = new MDDBuilder(new int[][]{{0, 1, 2}, {0, 1, 2}});
+        Assert.assertTrue(builder.addTuple(new int[]{1, 0}));
+        Assert.assertFalse(builder.addTuple(new int[]{1, 0}));
+        Assert.assertFalse(builder.addTuple(new int[]{1, 3}));
+        builder.addTuple(new int[]{0, 2});
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBuilderRandom() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(4);
+            int d = 2 + rnd.nextInt(3);
+            int[][] doms = new int[n][d];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < d; j++) {
+                    doms[i][j] = j - 1;
+                }
+            }
+            Tuples tuples = new Tuples();
+            int nb = rnd.nextInt(60);
+            for (int t = 0; t < nb; t++) {
+                int[] tuple = new int[n];
+                for (int i = 0; i < n; i++) {
+                    tuple[i] = rnd.nextInt(d + 1) - 1;
+                }
+                tuples.add(tuple);
+            }
+            MultivaluedDecisionDiagram trie = new MultivaluedDecisionDiagram(doms, tuples, NEVER, true);
+            MultivaluedDecisionDiagram compacted = new MultivaluedDecisionDiagram(doms, tuples, ONCE, true);
+            MultivaluedDecisionDiagram mdd = new MDDBuilder(doms).addTuples(tuples).build();
+            Assert.assertTrue(mdd.getDiagram().length <= compacted.getDiagram().length, "seed " + seed);
+            int[] path = new int[n];
+            for (int k = 0; k < Math.pow(d, n); k++) {
+                for (int i = 0, r = k; i < n; i++, r /= d) {
+                    path[i] = r % d - 1;
+                }
+                Assert.assertEquals(mdd.exists(path), trie.exists(path), "seed " + seed);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBuilderShared() {
+        Tuples tuples = new Tuples();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                if ((i + j) % 3 == 0) {
+                    tuples.add(i, j, (i * j) % 4);
+                }
+            }
+        }
+        MultivaluedDecisionDiagram mdd = new MDDBuilder(new int[][]{{0, 3}, {0, 3}, {0, 3}}).addTuples(tuples).build();
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("X", 3, 0, 3, false);
+            model.mddc(vars, mdd).post();
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), tuples.nbTuples());
+        }
+    }
+
 }
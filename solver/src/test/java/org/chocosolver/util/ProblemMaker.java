@@ -121,9 +121,19 @@ public class ProblemMaker {
      * @param m size of the rule
      * @return a solve-ready solver
      */
-    @SuppressWarnings("Duplicates")
     public static Model makeGolombRuler(int m) {
-        Model model = new Model();
+        return makeGolombRuler(new Model(), m);
+    }
+
+    /**
+     * Creates a Golomb ruler problem of size m in <i>model</i>
+     *
+     * @param model the model to fill
+     * @param m size of the rule
+     * @return the model
+     */
+    @SuppressWarnings("Duplicates")
+    public static Model makeGolombRuler(Model model, int m) {
         IntVar[] ticks = model.intVarArray("a", m, 0, (m < 31) ? (1 << (m + 1)) - 1 : 9999, false);
         model.addHook("ticks", ticks);
         IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, (m < 31) ? (1 << (m + 1)) - 1 : 9999, false);
@@ -15,6 +15,9 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
+
 /**
  * <br/>
  *
@@ -80,4 +83,37 @@ public class RealUtilsTest {
         Assert.assertEquals(RealUtils.prevFloat(rl), r.getLB());
         Assert.assertEquals(RealUtils.nextFloat(rh), r.getUB());
     }
-}
\ No newline at end of file
+
+    @DataProvider
+    public Object[][] forHyperbolic() {
+        UnaryOperator<RealInterval> asinh = RealUtils::asinh;
+        UnaryOperator<RealInterval> atanh = RealUtils::atanh;
+        UnaryOperator<RealInterval> acosh = RealUtils::acosh;
+        // exact values, rounded to 40 digits
+        return new Object[][]{
+                {asinh, 1e-300, "1.000000000000000025059091835208759685696E-300"},
+                {asinh, 1e-10, "1.000000000000000036430530648831074912317E-10"},
+                {asinh, -1e-8, "-1.000000000000000004255894163461805712532E-8"},
+                {asinh, 1e-5, "0.000009999999999833334151371372432744455409437"},
+                {asinh, .75, "0.6931471805599453094172321214581765680755"},
+                {asinh, 1e200, "461.2101657793690820827486452708413792897"},
+                {atanh, 1e-9, "1.000000000000000062614924791113189814712E-9"},
+                {atanh, -1e-6, "-0.000001000000000000333288081445359174340130916"},
+                {atanh, .5, "0.5493061443340548456976226184612628523237"},
+                {atanh, 0x1.fffffffffffp-1, "15.94238515287873501116898119248571525656"},
+                {acosh, 0x1.0000000000001p0, "2.107342425544701550354780375182800088393E-8"},
+                {acosh, 1.0000000001, "0.00001414213620867586135459355823496006784301"},
+                {acosh, 1.5, "0.9624236501192068949955178268487368462704"},
+                {acosh, 1e300, "691.4686750787736505673194287819718577187"},
+        };
+    }
+
+    @Test(groups = "1s", dataProvider = "forHyperbolic")
+    public void testHyperbolic(UnaryOperator<RealInterval> f, double x, String value) {
+        RealInterval r = f.apply(new RealIntervalConstant(x, x));
+        BigDecimal exact = new BigDecimal(value);
+        Assert.assertTrue(new BigDecimal(r.getLB()).compareTo(exact) < 0, r.getLB() + " > " + value);
+        Assert.assertTrue(new BigDecimal(r.getUB()).compareTo(exact) > 0, r.getUB() + " < " + value);
+        Assert.assertTrue(r.getUB() - r.getLB() <= 64 * Math.ulp(r.getUB()));
+    }
+}